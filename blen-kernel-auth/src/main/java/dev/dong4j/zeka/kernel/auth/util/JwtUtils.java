@@ -10,11 +10,17 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
 
 import dev.dong4j.zeka.kernel.auth.constant.AuthConstant;
 import dev.dong4j.zeka.kernel.auth.entity.AuthorizationRole;
@@ -24,9 +30,10 @@ import dev.dong4j.zeka.kernel.common.enums.SerializeEnum;
 import dev.dong4j.zeka.kernel.common.enums.serialize.EntityEnumDeserializer;
 import dev.dong4j.zeka.kernel.common.enums.serialize.EntityEnumSerializer;
 import dev.dong4j.zeka.kernel.common.util.Jsons;
+import dev.dong4j.zeka.kernel.common.util.LRUCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -56,6 +63,10 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * 基于 JJWT 0.12.6 版本，支持最新的 JWT 标准和安全特性
  * 使用 HMAC-SHA 签名算法，支持多种签名密钥格式
+ * <p>
+ * 签名模式下每个签名密钥只创建一次 {@link SecretKey} 与 {@link JwtParser}, 验证通过的 Claims 以令牌摘要为 key 缓存,
+ * 缓存在令牌过期时或最多 {@link #CLAIMS_CACHE_TTL} 后失效, 同一请求多次读取声明只会验证一次签名.
+ * 需要读取多个声明时优先使用 {@link #getZekaClaims(String, String)} 一次性转换
  *
  * @author dong4j
  * @version 1.0.0
@@ -72,6 +83,21 @@ public class JwtUtils {
     public static final ObjectMapper MAPPER;
     /** 错误信息模板 */
     private static final String ERROR_MESSAGE = "解析 token 失败: {}, token = [{}]";
+    /** 每个签名密钥缓存的 Claims 数量上限 */
+    public static final int CLAIMS_CACHE_SIZE = 4096;
+    /** 缓存的 Claims 最长存活时间, 令牌过期时间更早时以过期时间为准 */
+    public static final long CLAIMS_CACHE_TTL = TimeUnit.MINUTES.toMillis(5);
+    /** 角色列表类型 */
+    private static final TypeReference<List<AuthorizationRole>> ROLE_LIST = new TypeReference<>() {
+    };
+    /** 字符串列表类型 */
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+    /** 按签名密钥缓存的解析器 */
+    private static final Map<String, SignedClaimsParser> PARSERS = new ConcurrentHashMap<>(4);
+    /** 计算令牌摘要的 MessageDigest, 非线程安全 */
+    @SuppressWarnings("PMD.ThreadLocalShouldRemoveRule")
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtUtils::sha256);
 
     static {
         MAPPER = Jsons.getCopyMapper();
@@ -173,6 +199,7 @@ public class JwtUtils {
      * <p>
      * 该方法会验证 JWT 令牌的签名和过期时间，确保令牌的安全性和有效性
      * 解密失败或令牌过期都会抛出相应的异常
+     * 验证通过的 Claims 会被缓存, 返回的是共享实例, 调用方不应修改
      *
      * @param key   签名密钥，用于验证令牌的真实性
      * @param token JWT 令牌字符串
@@ -191,11 +218,183 @@ public class JwtUtils {
         SignatureException,
         IllegalArgumentException {
 
-        Jws<Claims> jws = Jwts.parser()
-            .verifyWith(Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8)))
-            .build()
-            .parseSignedClaims(token);
-        return jws.getPayload();
+        return PARSERS.computeIfAbsent(key, SignedClaimsParser::new).parse(token);
+    }
+
+    /**
+     * 验证签名后一次性转换为 {@link ZekaClaims}
+     *
+     * @param key   签名密钥
+     * @param token JWT 令牌
+     * @return the zeka claims
+     * @since 1.0.0
+     */
+    public static @NotNull ZekaClaims getZekaClaims(@NotNull String key, String token) {
+        return toZekaClaims(Objects.requireNonNull(getClaims(key, token)));
+    }
+
+    /**
+     * 不验证签名一次性转换为 {@link ZekaClaims}
+     *
+     * @param token JWT 令牌
+     * @return the zeka claims
+     * @since 1.0.0
+     */
+    public static @NotNull ZekaClaims getUnsignedZekaClaims(String token) {
+        return toZekaClaims(getUnsignedClaims(token));
+    }
+
+    /**
+     * 将 Claims 转换为 {@link ZekaClaims}, 兼容签名解析与无签名解析两种结果 (user 可能是 JSON 字符串或对象, exp 可能是 Date 或秒数)
+     *
+     * @param claims claims
+     * @return the zeka claims
+     * @since 1.0.0
+     */
+    @SneakyThrows
+    public static @NotNull ZekaClaims toZekaClaims(@NotNull Claims claims) {
+        Object user = claims.get(ZekaClaims.USER);
+        Object exp = claims.get(ZekaClaims.EXP);
+        Object appId = claims.get(ZekaClaims.TENANT_APP_ID);
+        return ZekaClaims.builder()
+            .user(user instanceof String json ? MAPPER.readValue(json, AuthorizationUser.class)
+                : MAPPER.convertValue(user, AuthorizationUser.class))
+            .roles(MAPPER.convertValue(claims.get(ZekaClaims.ROLES), ROLE_LIST))
+            .authorities(MAPPER.convertValue(claims.get(ZekaClaims.AUTHORITIES), STRING_LIST))
+            .scope(MAPPER.convertValue(claims.get(ZekaClaims.SCOPE), STRING_LIST))
+            .clientId(asString(claims.get(ZekaClaims.CLIENT_ID)))
+            .clientType(asString(claims.get(ZekaClaims.CLIENT_TYPE)))
+            .appId(appId == null ? null : appId instanceof Number number ? number.longValue() : Long.parseLong(appId.toString()))
+            .exp(exp instanceof Number seconds ? new Date(seconds.longValue() * 1000L) : (Date) exp)
+            .jti(asString(claims.get(ZekaClaims.JTI)))
+            .build();
+    }
+
+    /**
+     * 清空所有签名密钥的 Claims 缓存, 令牌被吊销等场景使用
+     *
+     * @since 1.0.0
+     */
+    public static void clearClaimsCache() {
+        PARSERS.values().forEach(parser -> parser.cache.clear());
+    }
+
+    /**
+     * As string
+     *
+     * @param value value
+     * @return the string
+     * @since 1.0.0
+     */
+    @Contract("null -> null; !null -> !null")
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Sha 256
+     *
+     * @return the message digest
+     * @since 1.0.0
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 一个签名密钥对应的 {@link SecretKey}, {@link JwtParser} 与已验证的 Claims 缓存
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 17:40
+     * @since 1.0.0
+     */
+    private static final class SignedClaimsParser {
+        /** Secret key */
+        private final SecretKey secretKey;
+        /** Parser */
+        private final JwtParser parser;
+        /** 以令牌摘要为 key 的 Claims 缓存 */
+        private final LRUCache<TokenDigest, CachedClaims> cache = new LRUCache<>(CLAIMS_CACHE_SIZE);
+
+        /**
+         * Signed claims parser
+         *
+         * @param key key
+         * @since 1.0.0
+         */
+        private SignedClaimsParser(@NotNull String key) {
+            this.secretKey = Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));
+            this.parser = Jwts.parser().verifyWith(this.secretKey).build();
+        }
+
+        /**
+         * 命中缓存且未过期时直接返回, 否则验证签名并写入缓存. 验证失败不缓存, 异常与未缓存时一致
+         *
+         * @param token token
+         * @return the claims
+         * @since 1.0.0
+         */
+        private Claims parse(String token) {
+            if (token == null || token.isEmpty()) {
+                return this.parser.parseSignedClaims(token).getPayload();
+            }
+            TokenDigest digest = TokenDigest.of(token);
+            long now = System.currentTimeMillis();
+            CachedClaims cached = this.cache.get(digest);
+            if (cached != null) {
+                if (now < cached.expiresAt()) {
+                    return cached.claims();
+                }
+                this.cache.remove(digest);
+            }
+            Claims claims = this.parser.parseSignedClaims(token).getPayload();
+            long expiresAt = now + CLAIMS_CACHE_TTL;
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                expiresAt = Math.min(expiresAt, expiration.getTime());
+            }
+            this.cache.put(digest, new CachedClaims(claims, expiresAt));
+            return claims;
+        }
+    }
+
+    /**
+     * 令牌 SHA-256 摘要的前 128 位, 缓存中不保存令牌原文
+     *
+     * @param high high
+     * @param low  low
+     * @since 1.0.0
+     */
+    private record TokenDigest(long high, long low) {
+
+        /**
+         * Of
+         *
+         * @param token token
+         * @return the token digest
+         * @since 1.0.0
+         */
+        private static @NotNull TokenDigest of(@NotNull String token) {
+            MessageDigest digest = SHA_256.get();
+            ByteBuffer buffer = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    /**
+     * 缓存的 Claims
+     *
+     * @param claims    claims
+     * @param expiresAt 缓存失效时间 (毫秒)
+     * @since 1.0.0
+     */
+    private record CachedClaims(Claims claims, long expiresAt) {
     }
 
 
@@ -328,8 +527,7 @@ public class JwtUtils {
             if (claims == null) {
                 return null;
             }
-            return MAPPER.convertValue(claims.get(ZekaClaims.ROLES), new TypeReference<List<AuthorizationRole>>() {
-            });
+            return MAPPER.convertValue(claims.get(ZekaClaims.ROLES), ROLE_LIST);
         }
 
         /**
@@ -348,8 +546,7 @@ public class JwtUtils {
             try {
                 Claims claims = getUnsignedClaims(token);
                 Object roles = claims.get(ZekaClaims.ROLES);
-                return MAPPER.convertValue(roles, new TypeReference<List<AuthorizationRole>>() {
-                });
+                return MAPPER.convertValue(roles, ROLE_LIST);
             } catch (Exception e) {
                 log.error(ERROR_MESSAGE, e.getMessage(), token);
             }
@@ -446,8 +643,7 @@ public class JwtUtils {
             if (claims == null) {
                 return null;
             }
-            return MAPPER.convertValue(claims.get(ZekaClaims.AUTHORITIES), new TypeReference<List<String>>() {
-            });
+            return MAPPER.convertValue(claims.get(ZekaClaims.AUTHORITIES), STRING_LIST);
         }
 
         /**
@@ -465,8 +661,7 @@ public class JwtUtils {
             try {
                 Claims claims = getUnsignedClaims(token);
                 Object authorities = claims.get(ZekaClaims.AUTHORITIES);
-                return MAPPER.convertValue(authorities, new TypeReference<List<String>>() {
-                });
+                return MAPPER.convertValue(authorities, STRING_LIST);
             } catch (Exception e) {
                 log.error(ERROR_MESSAGE, e.getMessage(), token);
             }
@@ -482,14 +677,7 @@ public class JwtUtils {
          * @since 1.0.0
          */
         public static ZekaClaims convert(String key, String token) {
-            return ZekaClaims.builder().user(getUser(key, token))
-                .roles(getRoles(key, token))
-                .authorities(getAuthorities(key, token))
-                .clientId(getClientId(key, token))
-                .exp(getExpiration(key, token))
-                .scope(getScope(key, token))
-                .jti(getJti(key, token))
-                .build();
+            return getZekaClaims(key, token);
         }
 
     }
@@ -546,8 +734,7 @@ public class JwtUtils {
         if (claims == null) {
             return null;
         }
-        return MAPPER.convertValue(claims.get(ZekaClaims.SCOPE), new TypeReference<List<String>>() {
-        });
+        return MAPPER.convertValue(claims.get(ZekaClaims.SCOPE), STRING_LIST);
     }
 
     /**
@@ -566,8 +753,7 @@ public class JwtUtils {
         try {
             Claims claims = getUnsignedClaims(token);
             Object scope = claims.get(ZekaClaims.SCOPE);
-            return MAPPER.convertValue(scope, new TypeReference<List<String>>() {
-            });
+            return MAPPER.convertValue(scope, STRING_LIST);
         } catch (Exception e) {
             log.error(ERROR_MESSAGE, e.getMessage(), token);
         }
@@ -681,7 +867,11 @@ public class JwtUtils {
      * @since 1.0.0
      */
     public static String generateToken(Map<String, Object> claims, @NotNull String signKey, Date expiration) {
-        return generateToken(claims, signKey.getBytes(StandardCharsets.UTF_8), expiration);
+        return Jwts.builder()
+            .claims(claims)
+            .expiration(expiration)
+            .signWith(PARSERS.computeIfAbsent(signKey, SignedClaimsParser::new).secretKey)
+            .compact();
     }
 
     /**
@@ -711,7 +901,10 @@ public class JwtUtils {
      * @since 1.0.0
      */
     public static String generateToken(Map<String, Object> claims, @NotNull String signKey) {
-        return generateToken(claims, signKey.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+            .claims(claims)
+            .signWith(PARSERS.computeIfAbsent(signKey, SignedClaimsParser::new).secretKey)
+            .compact();
     }
 
     /**
@@ -31,7 +31,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -589,4 +591,33 @@ class JwtUtilsTest {
         log.info("{}", JwtUtils.getJwtToken("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9" +
             ".eyJ1c2VyX25hbWUiOiJkb25nNGoiLCJzY29wZSI6WyJhbGwiXSwicm9sZXMiOlt7ImlkIjoxLCJyb2xlTmFtZSI6bnVsbH1dLCJjbGllbnRfdHlwZSI6IntcInZhbHVlXCI6MyxcImRlc2NcIjpcIuWkmuenn-aIt-WtkOW6lOeUqC3kuJrliqHns7vnu59cIn0iLCJleHAiOjE1OTQwNjY3MTgsInVzZXIiOiJ7XCJpZFwiOjEsXCJ1c2VybmFtZVwiOlwiZG9uZzRqXCIsXCJtb2JpbGVcIjpcIjE4NjI4MzYyOTA2XCIsXCJlbWFpbFwiOlwiYXJyYXlkc2pAMTYzLmNvbVwiLFwidXNlclR5cGVcIjp7XCJ2YWx1ZVwiOjIsXCJkZXNjXCI6XCLlubPlj7DnlKjmiLct6am-6am25ZGYXCJ9LFwidGVuYW50SWRcIjowfSIsImFwcF9pZCI6MywiYXV0aG9yaXRpZXMiOltudWxsXSwianRpIjoiMjYwYWU0NmItYWE3OC00ZGViLWFiYzctMThiOTVjYzYwOTkyIiwiY2xpZW50X2lkIjoidGVzdF9jbGllbnQifQ.kMtTwE7Qm3EnIPvoxU_dRO4sXtmc920PCD2LZXVLm7o"));
     }
+
+    /**
+     * 同一个令牌只验证一次签名, 后续读取命中缓存
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_claims_cache() {
+        String signKey = "0123456789abcdef0123456789abcdef";
+        Map<String, Object> claims = new HashMap<>(4);
+        claims.put(ZekaClaims.CLIENT_ID, "zeka-client");
+        claims.put(ZekaClaims.TENANT_APP_ID, 3);
+        claims.put(ZekaClaims.AUTHORITIES, Collections.singletonList("admin"));
+        String token = JwtUtils.generateToken(claims, signKey, new Date(System.currentTimeMillis() + 60 * 1000L));
+
+        Claims first = JwtUtils.getClaims(signKey, token);
+        assertSame(first, JwtUtils.getClaims(signKey, token));
+
+        ZekaClaims zekaClaims = JwtUtils.getZekaClaims(signKey, token);
+        assertEquals("zeka-client", zekaClaims.getClientId());
+        assertEquals(3L, zekaClaims.getAppId());
+        assertEquals(Collections.singletonList("admin"), zekaClaims.getAuthorities());
+        assertEquals(zekaClaims.getClientId(), JwtUtils.getUnsignedZekaClaims(token).getClientId());
+
+        JwtUtils.clearClaimsCache();
+        assertNotSame(first, JwtUtils.getClaims(signKey, token));
+        // 其他密钥不能命中缓存
+        assertThrows(SignatureException.class, () -> JwtUtils.getClaims(signKey.toUpperCase(), token));
+    }
 }
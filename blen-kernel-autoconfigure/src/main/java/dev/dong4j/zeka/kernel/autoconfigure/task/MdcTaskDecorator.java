@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.kernel.autoconfigure.task;
 
+import com.alibaba.ttl.TtlRunnable;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.MDC;
@@ -14,6 +15,7 @@ import org.springframework.core.task.TaskDecorator;
  *     <li>在任务提交时，获取当前线程的 MDC 上下文</li>
  *     <li>将 MDC 上下文传递给子线程</li>
  *     <li>在子线程执行完成后，清理 MDC 上下文</li>
+ *     <li>同时使用 {@link TtlRunnable} 包装任务，Trace、ExpandIdsContext 等 TTL 上下文随任务一起传递</li>
  * </ul>
  * <p>适用场景：异步任务、线程池任务、需要保持请求链路追踪的场景.
  *
@@ -37,12 +39,14 @@ public class MdcTaskDecorator implements TaskDecorator {
         // 获取父线程 MDC 中的内容，必须在 run 方法之前获取
         // 避免在异步线程执行时 MDC 中的值被清空，导致返回 null
         Map<String, String> context = MDC.getCopyOfContextMap();
+        // 提交时捕获 TTL 上下文, 线程池未使用 TtlExecutors 包装时也能传递; 已经包装过的任务不会重复包装
+        Runnable task = TtlRunnable.get(runnable, false, true);
         return () -> {
             // 将父线程的 MDC 内容传给子线程
             MDC.setContextMap(context);
             try {
                 // 执行异步操作
-                runnable.run();
+                task.run();
             } finally {
                 // 清空 MDC 内容，避免内存泄漏
                 MDC.clear();
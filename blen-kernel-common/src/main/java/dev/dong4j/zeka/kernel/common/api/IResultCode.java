@@ -59,4 +59,17 @@ public interface IResultCode extends Serializable {
         return "FAILURE";
     }
 
+    /**
+     * 使用该返回码的 {@link dev.dong4j.zeka.kernel.common.exception.LowestException} 是否不采集堆栈
+     * <p>
+     * 适用于参数校验, 数据不存在等业务规则拒绝, 这类异常的堆栈没有排查价值, 采集堆栈的开销却不小.
+     * 也可以通过 {@link dev.dong4j.zeka.kernel.common.exception.ExceptionStackTraces} 统一配置
+     *
+     * @return 是否不采集堆栈
+     * @since 1.0.0
+     */
+    default boolean stackless() {
+        return false;
+    }
+
 }
@@ -8,16 +8,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import cn.hutool.core.util.StrUtil;
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 配置文件监听运行器类
  * <p>
  * 负责监听配置文件的变化, 并在配置变更时加载最新配置并通知相关处理器进行处理. 适用于需要动态加载和响应配置变更的场景.
+ * <p>
+ * 编辑器保存文件时通常会产生多次 ENTRY_MODIFY 事件, 监听到的变更先进入待处理集合, 在静默 {@link #setDebounceMillis(long)}
+ * 毫秒后统一处理一次: 只重新解析发生变更的文件, 计算一次差异, 所有处理器收到同一份最新配置.
  *
  * @author zeka.stack.team
  * @version 1.0.0
@@ -28,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ConfigFileWatcherRunner {
 
+    /** 默认的静默时间 (毫秒) */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500L;
     /**
      * 被监视的项目集合
      * <p>
@@ -53,6 +63,18 @@ public class ConfigFileWatcherRunner {
      * 用于线程安全地存储和更新配置数据
      */
     private final AtomicReference<Map<String, Object>> currentConfig = new AtomicReference<>();
+    /**
+     * 等待处理的变更文件
+     * <p>
+     * 静默期内重复变更的文件只保留一份
+     */
+    private final Set<String> pendingFiles = ConcurrentHashMap.newKeySet();
+    /** 静默时间 (毫秒), 小于等于 0 时每次变更立即处理 */
+    private volatile long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+    /** 合并变更事件并串行执行刷新的调度线程, 启动时创建 */
+    private ScheduledExecutorService debouncer;
+    /** 已调度但尚未执行的刷新任务 */
+    private ScheduledFuture<?> scheduledFlush;
     /** 标记服务是否已启动 */
     private volatile boolean started = false;
 
@@ -88,6 +110,7 @@ public class ConfigFileWatcherRunner {
 
         // 初始化当前配置
         currentConfig.set(loader.loadCurrentEnvironmentConfig());
+        debouncer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("refresh-scope-debounce", true));
         // 启动监听线程
         final Thread watcherThread = new Thread(new ConfigFileWatcher(watched, this::handleChanged), "refresh-scope-watcher");
         watcherThread.setDaemon(true);
@@ -109,15 +132,52 @@ public class ConfigFileWatcherRunner {
     }
 
     /**
-     * 处理配置文件变更
+     * 设置配置变更的静默时间
+     * <p>
+     * 最后一次变更事件之后经过该时间才会加载配置并通知处理器, 可通过 {@link ConfigFileWatcherCustomizer} 调整
+     *
+     * @param debounceMillis 静默时间 (毫秒), 小于等于 0 时不合并变更事件
+     */
+    public void setDebounceMillis(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * 记录发生变更的配置文件
      * <p>
-     * 加载当前环境的最新配置, 与当前配置进行比较. 如果存在差异, 则更新当前配置, 并通知所有配置变更处理器进行处理.
+     * 将文件加入待处理集合, 并将刷新任务推迟到静默时间之后, 静默期内的多次变更只触发一次刷新
      *
-     * @param changedFile 发生变更的配置文件路径
-     * @throws Exception 如果处理配置变更过程中发生异常, 将记录错误日志但不会中断处理流程
+     * @param changedFile 发生变更的配置文件名
      */
-    private void handleChanged(String changedFile) {
-        Map<String, Object> latest = loader.loadCurrentEnvironmentConfig();
+    synchronized void handleChanged(String changedFile) {
+        pendingFiles.add(changedFile);
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        scheduledFlush = debouncer.schedule(this::flush, Math.max(debounceMillis, 0L), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 处理配置文件变更
+     * <p>
+     * 取出所有待处理的文件, 只重新解析这些文件并与当前配置进行比较. 如果存在差异, 则更新当前配置,
+     * 并通知所有配置变更处理器进行处理. 在调度线程中串行执行.
+     */
+    private void flush() {
+        List<String> changedFiles = new ArrayList<>(pendingFiles);
+        if (changedFiles.isEmpty()) {
+            return;
+        }
+        pendingFiles.removeAll(changedFiles);
+        String changedFile = String.join(",", changedFiles);
+
+        Map<String, Object> latest;
+        try {
+            latest = loader.reload(changedFiles);
+        } catch (Exception e) {
+            log.error("加载配置文件失败: {}", changedFile, e);
+            return;
+        }
         ConfigDiffer.DiffResult diff = ConfigDiffer.diff(currentConfig.get(), latest);
 
         if (!diff.hasDiff) {
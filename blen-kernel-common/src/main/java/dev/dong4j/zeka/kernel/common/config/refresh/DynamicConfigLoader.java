@@ -8,9 +8,11 @@ import org.springframework.core.io.support.EncodedResource;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import dev.dong4j.zeka.kernel.common.support.StrFormatter;
 import dev.dong4j.zeka.kernel.common.util.ConfigKit;
@@ -46,6 +48,18 @@ public class DynamicConfigLoader {
      * 用于获取和管理应用程序运行时的环境变量和配置信息
      */
     private final Environment environment;
+    /**
+     * 按配置文件缓存的展平结果
+     * <p>
+     * 配置文件变更时只重新解析发生变化的文件, 其余文件直接使用缓存合并
+     */
+    private final Map<String, Map<String, Object>> fileCache = new ConcurrentHashMap<>();
+    /**
+     * 最近一次合并后的配置快照
+     * <p>
+     * 只读, 每次加载都会替换为新的实例
+     */
+    private volatile Map<String, Object> snapshot;
 
     /**
      * 初始化动态配置加载器
@@ -62,23 +76,74 @@ public class DynamicConfigLoader {
      * 加载当前环境的配置信息
      * <p>
      * 该方法首先加载基础配置, 然后合并所有激活环境的配置文件, 最终返回一个包含所有配置项的 Map.
+     * 所有配置文件都会被重新解析.
      *
-     * @return 包含当前环境所有配置项的 Map, 键为配置项名称, 值为对应的配置值
+     * @return 包含当前环境所有配置项的只读 Map, 键为配置项名称, 值为对应的配置值
      */
-    public Map<String, Object> loadCurrentEnvironmentConfig() {
+    public synchronized Map<String, Object> loadCurrentEnvironmentConfig() {
+        fileCache.clear();
+        return merge(null);
+    }
+
+    /**
+     * 重新加载发生变更的配置文件
+     * <p>
+     * 只重新解析 changedFiles 中的文件 (以及尚未缓存的文件), 其余配置文件使用上一次解析的结果, 合并顺序与
+     * {@link #loadCurrentEnvironmentConfig()} 一致.
+     *
+     * @param changedFiles 发生变更的配置文件名, 与监听到的文件名一致, 如 application.yml
+     * @return 包含当前环境所有配置项的只读 Map
+     */
+    public synchronized Map<String, Object> reload(Collection<String> changedFiles) {
+        return merge(changedFiles);
+    }
+
+    /**
+     * 获取最近一次加载的配置快照
+     * <p>
+     * 不会读取配置文件, 尚未加载过时执行一次完整加载
+     *
+     * @return 包含当前环境所有配置项的只读 Map
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> current = snapshot;
+        return current != null ? current : loadCurrentEnvironmentConfig();
+    }
+
+    /**
+     * 合并基础配置与激活环境的配置
+     *
+     * @param changedFiles 需要重新解析的配置文件, 为 null 时只解析缓存中不存在的文件
+     * @return 合并后的只读 Map
+     */
+    private Map<String, Object> merge(Collection<String> changedFiles) {
         // 1. 读取 application.yml
-        Map<String, Object> base = load(BASE_CONFIG);
-        Map<String, Object> merged = new LinkedHashMap<>(flattenMap(base));
+        Map<String, Object> merged = new LinkedHashMap<>(loadCached(BASE_CONFIG, changedFiles));
 
         // 2. 获取当前激活的 profile（如 dev、prod）
         String[] profiles = environment.getActiveProfiles();
         for (String profile : profiles) {
             String profilePath = StrFormatter.format(PROFILE_CONFIG_FORMAT, profile);
-            Map<String, Object> profileData = load(profilePath);
-            merged.putAll(flattenMap(profileData));
+            merged.putAll(loadCached(profilePath, changedFiles));
         }
 
-        return merged;
+        Map<String, Object> latest = Collections.unmodifiableMap(merged);
+        snapshot = latest;
+        return latest;
+    }
+
+    /**
+     * 获取单个配置文件展平后的内容, 文件未变更且已缓存时不重新解析
+     *
+     * @param configName   配置文件名称
+     * @param changedFiles 发生变更的配置文件
+     * @return 展平后的配置
+     */
+    private Map<String, Object> loadCached(String configName, Collection<String> changedFiles) {
+        if (changedFiles != null && changedFiles.contains(configName)) {
+            fileCache.remove(configName);
+        }
+        return fileCache.computeIfAbsent(configName, name -> flattenMap(load(name)));
     }
 
     /**
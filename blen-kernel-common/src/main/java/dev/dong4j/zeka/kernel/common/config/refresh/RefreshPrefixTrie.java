@@ -0,0 +1,94 @@
+package dev.dong4j.zeka.kernel.common.config.refresh;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 配置前缀字典树
+ * <p>
+ * 按 "." 分段保存 {@link RefreshScopeRegistry.BindableTarget} 的前缀, 变更的配置键只需沿自身的分段走一遍,
+ * 路径上挂载的目标即为受影响的配置类, 与 {@code key.startsWith(prefix)} 的判断结果一致,
+ * 但匹配开销只与配置键的层级有关, 与注册的配置类数量无关.
+ * <p>
+ * 构建完成后不再修改, 可以在线程间共享.
+ *
+ * @author zeka.stack.team
+ * @version 1.0.0
+ * @email "mailto:zeka.stack@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+final class RefreshPrefixTrie {
+
+    /** 根节点, 挂载前缀为空 (监听所有配置) 的目标 */
+    private final Node root = new Node();
+
+    /**
+     * 根据可绑定目标构建字典树
+     *
+     * @param targets 可绑定目标, 前缀为空或以 "." 结尾
+     */
+    RefreshPrefixTrie(Collection<RefreshScopeRegistry.BindableTarget> targets) {
+        for (RefreshScopeRegistry.BindableTarget target : targets) {
+            Node node = root;
+            String prefix = target.prefix();
+            int start = 0;
+            int dot;
+            while ((dot = prefix.indexOf('.', start)) >= 0) {
+                node = node.children.computeIfAbsent(prefix.substring(start, dot), k -> new Node());
+                start = dot + 1;
+            }
+            node.targets.add(target);
+        }
+    }
+
+    /**
+     * 匹配受变更配置键影响的目标
+     * <p>
+     * 配置键 {@code a.b.c} 会命中前缀 {@code ""}, {@code a.}, {@code a.b.}, 结果按首次命中的顺序去重
+     *
+     * @param changedKeys 变更的配置键
+     * @return 受影响的目标, 没有命中时返回空集合
+     */
+    Set<RefreshScopeRegistry.BindableTarget> match(Collection<String> changedKeys) {
+        Set<RefreshScopeRegistry.BindableTarget> matched = new LinkedHashSet<>();
+        for (String key : changedKeys) {
+            Node node = root;
+            matched.addAll(node.targets);
+            int start = 0;
+            int dot;
+            // 最后一段是配置项本身, 不会是某个前缀的结尾
+            while ((dot = key.indexOf('.', start)) >= 0) {
+                node = node.children.get(key.substring(start, dot));
+                if (node == null) {
+                    break;
+                }
+                matched.addAll(node.targets);
+                start = dot + 1;
+            }
+        }
+        return matched.isEmpty() ? Collections.emptySet() : matched;
+    }
+
+    /**
+     * 字典树节点
+     *
+     * @author zeka.stack.team
+     * @version 1.0.0
+     * @email "mailto:zeka.stack@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class Node {
+        /** 下一段配置键对应的子节点 */
+        private final Map<String, Node> children = new HashMap<>(4);
+        /** 前缀在此结束的目标 */
+        private final List<RefreshScopeRegistry.BindableTarget> targets = new ArrayList<>(1);
+    }
+}
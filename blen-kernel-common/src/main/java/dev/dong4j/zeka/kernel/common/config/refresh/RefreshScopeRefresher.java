@@ -20,6 +20,13 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * 负责根据配置项的变化触发对应的配置刷新操作, 主要处理配置前缀匹配的 Bean, 并更新其配置值.
  * 该类通过动态加载配置, 扁平化处理配置数据, 并将最新配置绑定到对应的 Bean 实例上, 实现配置的动态刷新功能.
+ * <p>
+ * 一次刷新只会替换一次 refresh-overrides 属性源, 所有受影响的 Bean 绑定同一份配置快照;
+ * 注册为 {@link ConfigChangedHandler} 后直接使用 {@link ConfigFileWatcherRunner} 已加载的配置, 不再重复解析配置文件;
+ * {@link #onChanged(String, Set, Map)} 是唯一的刷新入口, 一次变更只会刷新一次.
+ * <p>
+ * 本模块不注册该类, 需要由使用方声明为 Bean: {@link ConfigFileWatcherRunner} 从容器中收集 {@link ConfigChangedHandler},
+ * 声明为 Bean 后自动生效. 仍在自定义的 handler 中调用 {@link #refreshByChangedKeys(Set)} 的使用方应改为直接注册本类, 否则同一次变更会刷新两次.
  *
  * @author zeka.stack.team
  * @version 1.0.0
@@ -28,7 +35,7 @@ import lombok.extern.slf4j.Slf4j;
  * @since 2.0.0
  */
 @Slf4j
-public class RefreshScopeRefresher {
+public class RefreshScopeRefresher implements ConfigChangedHandler {
 
     /**
      * 应用程序的环境配置
@@ -36,13 +43,6 @@ public class RefreshScopeRefresher {
      * 用于获取和管理应用程序运行时的环境变量和配置信息
      */
     private final Environment environment;
-    /**
-     * 动态配置加载器
-     * <p>
-     * 用于加载和管理动态配置信息
-     */
-    private final DynamicConfigLoader dynamicConfigLoader;
-
     /**
      * 注册表, 用于管理刷新作用域
      * <p>
@@ -51,16 +51,33 @@ public class RefreshScopeRefresher {
      * @see RefreshScopeRegistry
      */
     private final RefreshScopeRegistry registry;
+    /**
+     * 动态配置加载器, 仅供已废弃的 {@link #refreshByChangedKeys(Set)} 读取配置快照
+     */
+    private final DynamicConfigLoader dynamicConfigLoader;
 
     /**
      * 初始化 RefreshScopeRefresher 实例
      * <p>
-     * 通过传入的环境, 刷新作用域注册表和动态配置加载器来初始化对象
+     * 通过传入的环境和刷新作用域注册表来初始化对象
+     *
+     * @param environment 环境配置对象
+     * @param registry    刷新作用域注册表
+     */
+    public RefreshScopeRefresher(Environment environment,
+                                 RefreshScopeRegistry registry) {
+        this(environment, registry, null);
+    }
+
+    /**
+     * 初始化 RefreshScopeRefresher 实例
      *
      * @param environment         环境配置对象
      * @param registry            刷新作用域注册表
      * @param dynamicConfigLoader 动态配置加载器
+     * @deprecated 注册为 {@link ConfigChangedHandler} 后不需要 {@link DynamicConfigLoader}, 使用 {@link #RefreshScopeRefresher(Environment, RefreshScopeRegistry)}
      */
+    @Deprecated
     public RefreshScopeRefresher(Environment environment,
                                  RefreshScopeRegistry registry,
                                  DynamicConfigLoader dynamicConfigLoader) {
@@ -72,37 +89,67 @@ public class RefreshScopeRefresher {
     /**
      * 根据变更的配置键刷新对应的配置对象
      * <p>
-     * 遍历所有可绑定的目标对象, 检查是否有配置键以目标对象的前缀开头. 如果有, 则加载最新的配置并刷新该对象.
+     * 使用最近一次加载的配置快照刷新受影响的配置对象, 不会重新读取配置文件.
      *
      * @param changedKeys 已变更的配置键集合, 用于判断哪些配置对象需要刷新
+     * @deprecated 将本类注册为 {@link ConfigChangedHandler}, 由 {@link #onChanged(String, Set, Map)} 刷新;
+     *     同时使用两者会导致同一次变更刷新两次
      */
+    @Deprecated
     public void refreshByChangedKeys(Set<String> changedKeys) {
+        if (dynamicConfigLoader == null) {
+            throw new IllegalStateException("未指定 DynamicConfigLoader, 请将 RefreshScopeRefresher 注册为 ConfigChangedHandler");
+        }
+        refresh(changedKeys, dynamicConfigLoader.snapshot());
+    }
+
+    /**
+     * 配置文件变更后刷新受影响的配置对象
+     *
+     * @param changedFile 发生变化的文件名
+     * @param changedKeys 发生变化的键集合
+     * @param latest      最新的配置
+     */
+    @Override
+    public void onChanged(String changedFile, Set<String> changedKeys, Map<String, Object> latest) {
+        refresh(changedKeys, latest);
+    }
+
+    /**
+     * 使用指定的配置刷新受影响的配置对象
+     * <p>
+     * 通过前缀字典树找出受变更配置键影响的目标, 将最新配置写入环境一次, 然后逐个重新绑定. 单个 Bean 绑定失败不影响其他 Bean.
+     *
+     * @param changedKeys 已变更的配置键集合
+     * @param latest      最新的配置
+     */
+    private void refresh(Set<String> changedKeys, Map<String, Object> latest) {
         if (changedKeys == null || changedKeys.isEmpty()) {
             return;
         }
 
-        for (RefreshScopeRegistry.BindableTarget target : registry.getBindableTargets()) {
+        Set<RefreshScopeRegistry.BindableTarget> targets = registry.match(changedKeys);
+        if (targets.isEmpty()) {
+            log.trace("不满足配置动态刷新要求,被修改的配置前缀: {}", changedKeys);
+            return;
+        }
+
+        updateEnvironmentWithLatestConfig(flattenAndClean(latest));
+        Binder binder = Binder.get(environment);
+
+        for (RefreshScopeRegistry.BindableTarget target : targets) {
             String prefix = target.prefix();
             Object bean = target.bean();
+            log.info("[Refresher] 刷新配置类 {}（前缀：{})", bean.getClass().getSimpleName(), prefix);
 
-            boolean affected = changedKeys.stream().anyMatch(k -> k.startsWith(prefix));
-            if (!affected) {
-                log.trace("不满足配置动态刷新要求,被修改的配置前缀: {}", changedKeys);
+            try {
+                // 将最新配置重新绑定到配置类上
+                binder.bind(prefix.substring(0, prefix.length() - 1), Bindable.ofInstance(bean));
+            } catch (Exception e) {
+                log.error("[Refresher] 刷新配置类失败: {}", bean.getClass().getName(), e);
                 continue;
             }
 
-            log.info("[Refresher] 刷新配置类 {}（前缀：{})", bean.getClass().getSimpleName(), prefix);
-
-            Map<String, Object> latest = dynamicConfigLoader.loadCurrentEnvironmentConfig();
-            Map<String, Object> flat = flattenAndClean(latest);
-            updateEnvironmentWithLatestConfig(flat);
-
-            // 将最新配置重新绑定到配置类上
-            Binder.get(environment).bind(
-                prefix.substring(0, prefix.length() - 1),
-                Bindable.ofInstance(bean)
-            );
-
             log.debug("刷新后的配置类: {}", Jsons.toJson(bean, true));
         }
     }
@@ -7,6 +7,7 @@ import org.springframework.context.ApplicationContext;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import dev.dong4j.zeka.kernel.common.util.StringUtils;
@@ -47,6 +48,12 @@ public class RefreshScopeRegistry {
      * 用于访问 Spring 容器中的 Bean 和其他应用资源
      */
     private final ApplicationContext context;
+    /**
+     * 按配置前缀构建的字典树
+     * <p>
+     * 用于根据变更的配置键快速找到受影响的可绑定目标
+     */
+    private final RefreshPrefixTrie prefixTrie;
 
     /**
      * 初始化 RefreshScope 注册表
@@ -58,6 +65,7 @@ public class RefreshScopeRegistry {
     public RefreshScopeRegistry(ApplicationContext context) {
         this.context = context;
         initialize();
+        this.prefixTrie = new RefreshPrefixTrie(prefixBindableMap.values());
     }
 
     /**
@@ -120,6 +128,18 @@ public class RefreshScopeRegistry {
         return prefixBindableMap.values();
     }
 
+    /**
+     * 获取受变更配置键影响的可绑定目标
+     * <p>
+     * 配置键以目标前缀开头即视为受影响, 通过前缀字典树匹配, 每个目标最多返回一次
+     *
+     * @param changedKeys 已变更的配置键集合
+     * @return 受影响的可绑定目标集合, 没有命中时返回空集合
+     */
+    public Set<BindableTarget> match(Set<String> changedKeys) {
+        return prefixTrie.match(changedKeys);
+    }
+
     /**
      * 对前缀进行标准化处理
      * <p>
@@ -0,0 +1,363 @@
+package dev.dong4j.zeka.kernel.common.context;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+import dev.dong4j.zeka.kernel.common.util.PropertiesUtils;
+import dev.dong4j.zeka.kernel.common.util.StringPool;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 无垃圾的 ThreadContext 映射 </p>
+ * 与 {@link DefaultThreadContextMap} 每次修改都复制整个 map 不同, 每个线程持有一个 {@link SortedArrayStringMap} 并原地修改,
+ * put/remove/clear 在稳定状态下不分配对象.
+ * 只有在需要把上下文交给其他线程时才生成快照:
+ * 1. 子线程继承 ({@link InheritableThreadLocal#childValue})
+ * 2. {@link TransmittableThreadLocal} capture 时 ({@link TransmittableThreadLocal#copy})
+ * 3. {@link #getImmutableMapOrNull()} 与 {@link #getCopy()} 被调用时
+ * 通过 {@code zeka-stack.garbageFreeThreadContextMap=true} 或 {@code zeka-stack.threadContextMap} 指定本类启用
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:50
+ * @since 1.0.0
+ */
+public class GarbageFreeThreadContextMap implements ThreadContextMap {
+
+    /** Local map */
+    @SuppressWarnings("PMD.ThreadLocalShouldRemoveRule")
+    private final ThreadLocal<SortedArrayStringMap> localMap;
+
+    /** inheritableMap */
+    private static boolean inheritableMap;
+
+    static {
+        init();
+    }
+
+    /**
+     * 创建 ThreadLocal, 可继承时子线程与 TTL 传递的都是快照, 避免多个线程原地修改同一个 map
+     *
+     * @return the thread local
+     * @since 1.0.0
+     */
+    static @NotNull ThreadLocal<SortedArrayStringMap> createThreadLocalMap() {
+        if (inheritableMap) {
+            return new TransmittableThreadLocal<>() {
+                @Override
+                protected SortedArrayStringMap childValue(SortedArrayStringMap parentValue) {
+                    return snapshot(parentValue);
+                }
+
+                @Override
+                public SortedArrayStringMap copy(SortedArrayStringMap parentValue) {
+                    return snapshot(parentValue);
+                }
+            };
+        }
+        return new ThreadLocal<>();
+    }
+
+    /**
+     * Snapshot
+     *
+     * @param value value
+     * @return the sorted array string map
+     * @since 1.0.0
+     */
+    @Contract("null -> null")
+    private static SortedArrayStringMap snapshot(SortedArrayStringMap value) {
+        return value == null || value.isEmpty() ? null : new SortedArrayStringMap(value);
+    }
+
+    /**
+     * Init
+     *
+     * @since 1.0.0
+     */
+    static void init() {
+        inheritableMap = PropertiesUtils.getProperties().getBooleanProperty(DefaultThreadContextMap.INHERITABLE_MAP);
+    }
+
+    /**
+     * Garbage free thread context map
+     *
+     * @since 1.0.0
+     */
+    public GarbageFreeThreadContextMap() {
+        this.localMap = createThreadLocalMap();
+    }
+
+    /**
+     * 获取当前线程的 map, 不存在时创建
+     *
+     * @return the thread local map
+     * @since 1.0.0
+     */
+    private @NotNull SortedArrayStringMap getThreadLocalMap() {
+        SortedArrayStringMap map = this.localMap.get();
+        if (map == null) {
+            map = new SortedArrayStringMap();
+            this.localMap.set(map);
+        }
+        return map;
+    }
+
+    /**
+     * Put
+     *
+     * @param key   key
+     * @param value value
+     * @since 1.0.0
+     */
+    @Override
+    public void put(String key, String value) {
+        this.getThreadLocalMap().putValue(key, value);
+    }
+
+    /**
+     * Put all
+     *
+     * @param m m
+     * @since 1.0.0
+     */
+    public void putAll(@NotNull Map<String, String> m) {
+        this.getThreadLocalMap().putAll(m);
+    }
+
+    /**
+     * Get
+     *
+     * @param key key
+     * @return the string
+     * @since 1.0.0
+     */
+    @Override
+    public String get(String key) {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null ? null : map.getValue(key);
+    }
+
+    /**
+     * Remove
+     *
+     * @param key key
+     * @since 1.0.0
+     */
+    @Override
+    public void remove(String key) {
+        SortedArrayStringMap map = this.localMap.get();
+        if (map != null) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Remove all
+     *
+     * @param keys keys
+     * @since 1.0.0
+     */
+    public void removeAll(@NotNull Iterable<String> keys) {
+        SortedArrayStringMap map = this.localMap.get();
+        if (map != null) {
+            for (String key : keys) {
+                map.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 清空当前线程的 map, 保留已分配的数组供后续请求复用
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void clear() {
+        SortedArrayStringMap map = this.localMap.get();
+        if (map != null) {
+            map.clear();
+        }
+    }
+
+    /**
+     * 彻底移除当前线程的 map, 线程结束使用前调用以释放内存
+     *
+     * @since 1.0.0
+     */
+    public void removeThreadLocal() {
+        this.localMap.remove();
+    }
+
+    /**
+     * To map
+     *
+     * @return the map
+     * @since 1.0.0
+     */
+    public Map<String, String> toMap() {
+        return this.getCopy();
+    }
+
+    /**
+     * Contains key
+     *
+     * @param key key
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean containsKey(String key) {
+        SortedArrayStringMap map = this.localMap.get();
+        return map != null && map.containsKey(key);
+    }
+
+    /**
+     * For each
+     *
+     * @param <V>    parameter
+     * @param action action
+     * @since 1.0.0
+     */
+    public <V> void forEach(BiConsumer<String, ? super V> action) {
+        SortedArrayStringMap map = this.localMap.get();
+        if (map != null) {
+            map.forEach(action);
+        }
+    }
+
+    /**
+     * For each
+     *
+     * @param <V>    parameter
+     * @param <S>    parameter
+     * @param action action
+     * @param state  state
+     * @since 1.0.0
+     */
+    public <V, S> void forEach(TriConsumer<String, ? super V, S> action, S state) {
+        SortedArrayStringMap map = this.localMap.get();
+        if (map != null) {
+            map.forEach(action, state);
+        }
+    }
+
+    /**
+     * Gets value *
+     *
+     * @param <V> parameter
+     * @param key key
+     * @return the value
+     * @since 1.0.0
+     */
+    public <V> V getValue(String key) {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null ? null : map.getValue(key);
+    }
+
+    /**
+     * 当前线程的只读视图, 不复制, 仅在当前线程内使用
+     *
+     * @return the read only context data
+     * @since 1.0.0
+     */
+    public ReadOnlyStringMap getReadOnlyContextData() {
+        return this.getThreadLocalMap();
+    }
+
+    /**
+     * Gets copy *
+     *
+     * @return the copy
+     * @since 1.0.0
+     */
+    @Override
+    public Map<String, String> getCopy() {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null ? new HashMap<>(1) : map.toMap();
+    }
+
+    /**
+     * 返回快照, map 会被原地修改, 不能直接暴露
+     *
+     * @return the immutable map or null
+     * @since 1.0.0
+     */
+    @Override
+    public Map<String, String> getImmutableMapOrNull() {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null || map.isEmpty() ? null : Collections.unmodifiableMap(map.toMap());
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean isEmpty() {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * Size
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    public int size() {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null ? 0 : map.size();
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @Override
+    public String toString() {
+        SortedArrayStringMap map = this.localMap.get();
+        return map == null ? StringPool.EMPTY_JSON : map.toString();
+    }
+
+    /**
+     * Hash code
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    @Override
+    public int hashCode() {
+        return this.getCopy().hashCode();
+    }
+
+    /**
+     * Equals
+     *
+     * @param obj obj
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Contract(value = "null -> false", pure = true)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ThreadContextMap other)) {
+            return false;
+        }
+        Map<String, String> map = this.getImmutableMapOrNull();
+        Map<String, String> otherMap = other.getImmutableMapOrNull();
+        return Objects.equals(map, otherMap);
+    }
+}
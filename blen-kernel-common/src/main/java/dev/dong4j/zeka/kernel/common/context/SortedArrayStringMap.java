@@ -0,0 +1,380 @@
+package dev.dong4j.zeka.kernel.common.context;
+
+import dev.dong4j.zeka.kernel.common.util.StringPool;
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 基于有序数组的可变字符串 map </p>
+ * key 按字典序保存在数组中, 通过二分查找定位, 修改时直接在数组上移动元素, 只有容量不足时才会扩容.
+ * MDC 通常只有少量 key, 二分查找的成本低于 {@link HashMap} 的哈希与 Entry 分配, 且 put/remove/clear 不产生垃圾.
+ * 非线程安全, 遍历过程中修改会抛出 {@link ConcurrentModificationException}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:50
+ * @since 1.0.0
+ */
+public class SortedArrayStringMap implements ReadOnlyStringMap {
+
+    @Serial
+    private static final long serialVersionUID = -5748905872274478116L;
+    /** DEFAULT_INITIAL_CAPACITY */
+    private static final int DEFAULT_INITIAL_CAPACITY = 4;
+    /** EMPTY */
+    private static final String[] EMPTY = {};
+
+    /** Keys, 前 size 个元素有序 */
+    private String[] keys = EMPTY;
+    /** Values, 与 keys 下标一一对应 */
+    private String[] values = EMPTY;
+    /** Size */
+    private int size;
+    /** 初始容量, 第一次写入时才分配数组 */
+    private final int initialCapacity;
+    /** 是否正在遍历 */
+    private transient boolean iterating;
+
+    /**
+     * Sorted array string map
+     *
+     * @since 1.0.0
+     */
+    public SortedArrayStringMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Sorted array string map
+     *
+     * @param initialCapacity initial capacity
+     * @since 1.0.0
+     */
+    public SortedArrayStringMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must be at least zero but was " + initialCapacity);
+        }
+        this.initialCapacity = Math.max(1, initialCapacity);
+    }
+
+    /**
+     * 复制构造器, 用于生成快照
+     *
+     * @param other other
+     * @since 1.0.0
+     */
+    public SortedArrayStringMap(@NotNull SortedArrayStringMap other) {
+        this.initialCapacity = other.initialCapacity;
+        if (other.size > 0) {
+            this.keys = Arrays.copyOf(other.keys, other.size);
+            this.values = Arrays.copyOf(other.values, other.size);
+            this.size = other.size;
+        }
+    }
+
+    /**
+     * 写入或覆盖
+     *
+     * @param key   key
+     * @param value value
+     * @since 1.0.0
+     */
+    public void putValue(@NotNull String key, String value) {
+        this.assertNotIterating();
+        int index = this.indexOfKey(key);
+        if (index >= 0) {
+            this.values[index] = value;
+            return;
+        }
+        this.insertAt(~index, key, value);
+    }
+
+    /**
+     * 批量写入
+     *
+     * @param map map
+     * @since 1.0.0
+     */
+    public void putAll(@NotNull Map<String, String> map) {
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            this.putValue(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 删除 key, 后续元素前移
+     *
+     * @param key key
+     * @since 1.0.0
+     */
+    public void remove(String key) {
+        if (key == null) {
+            return;
+        }
+        this.assertNotIterating();
+        int index = this.indexOfKey(key);
+        if (index < 0) {
+            return;
+        }
+        int moved = this.size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+            System.arraycopy(this.values, index + 1, this.values, index, moved);
+        }
+        this.size--;
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+    }
+
+    /**
+     * 清空但保留已分配的数组
+     *
+     * @since 1.0.0
+     */
+    public void clear() {
+        this.assertNotIterating();
+        Arrays.fill(this.keys, 0, this.size, null);
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * To map
+     *
+     * @return the map
+     * @since 1.0.0
+     */
+    @Override
+    public Map<String, String> toMap() {
+        Map<String, String> result = new HashMap<>(Math.max(16, (int) (this.size / 0.75F) + 1));
+        for (int i = 0; i < this.size; i++) {
+            result.put(this.keys[i], this.values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Contains key
+     *
+     * @param key key
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean containsKey(String key) {
+        return key != null && this.indexOfKey(key) >= 0;
+    }
+
+    /**
+     * For each
+     *
+     * @param <V>    parameter
+     * @param action action
+     * @since 1.0.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> void forEach(BiConsumer<String, ? super V> action) {
+        this.iterating = true;
+        try {
+            for (int i = 0; i < this.size; i++) {
+                action.accept(this.keys[i], (V) this.values[i]);
+            }
+        } finally {
+            this.iterating = false;
+        }
+    }
+
+    /**
+     * For each
+     *
+     * @param <V>    parameter
+     * @param <S>    parameter
+     * @param action action
+     * @param state  state
+     * @since 1.0.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V, S> void forEach(TriConsumer<String, ? super V, S> action, S state) {
+        this.iterating = true;
+        try {
+            for (int i = 0; i < this.size; i++) {
+                action.accept(this.keys[i], (V) this.values[i], state);
+            }
+        } finally {
+            this.iterating = false;
+        }
+    }
+
+    /**
+     * Gets value *
+     *
+     * @param <V> parameter
+     * @param key key
+     * @return the value
+     * @since 1.0.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> V getValue(String key) {
+        if (key == null) {
+            return null;
+        }
+        int index = this.indexOfKey(key);
+        return index < 0 ? null : (V) this.values[index];
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Size
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * 二分查找, 不存在时返回 (-(插入位置) - 1)
+     *
+     * @param key key
+     * @return the int
+     * @since 1.0.0
+     */
+    int indexOfKey(@NotNull String key) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = this.keys[mid].compareTo(key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return ~low;
+    }
+
+    /**
+     * Insert at
+     *
+     * @param index index
+     * @param key   key
+     * @param value value
+     * @since 1.0.0
+     */
+    private void insertAt(int index, @NotNull String key, String value) {
+        if (this.keys == EMPTY) {
+            this.keys = new String[this.initialCapacity];
+            this.values = new String[this.initialCapacity];
+        } else if (this.size == this.keys.length) {
+            int capacity = this.keys.length << 1;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+        int moved = this.size - index;
+        if (moved > 0) {
+            System.arraycopy(this.keys, index, this.keys, index + 1, moved);
+            System.arraycopy(this.values, index, this.values, index + 1, moved);
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+    }
+
+    /**
+     * Assert not iterating
+     *
+     * @since 1.0.0
+     */
+    private void assertNotIterating() {
+        if (this.iterating) {
+            throw new ConcurrentModificationException("Cannot mutate SortedArrayStringMap while iterating");
+        }
+    }
+
+    /**
+     * Equals
+     *
+     * @param obj obj
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Contract(value = "null -> false", pure = true)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SortedArrayStringMap other) || this.size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (!this.keys[i].equals(other.keys[i]) || !Objects.equals(this.values[i], other.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hash code
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    @Override
+    public int hashCode() {
+        int result = 37;
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + this.keys[i].hashCode();
+            result = 31 * result + Objects.hashCode(this.values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @Override
+    public String toString() {
+        if (this.size == 0) {
+            return StringPool.EMPTY_JSON;
+        }
+        StringBuilder sb = new StringBuilder(16 * this.size).append('{');
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(this.keys[i]).append('=').append(this.values[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -19,8 +19,12 @@ import org.jetbrains.annotations.NotNull;
 public final class ThreadContextMapFactory {
     /** THREAD_CONTEXT_KEY */
     private static final String THREAD_CONTEXT_KEY = ConfigKey.PREFIX + "threadContextMap";
+    /** GARBAGE_FREE_KEY */
+    private static final String GARBAGE_FREE_KEY = ConfigKey.PREFIX + "garbageFreeThreadContextMap";
     /** ThreadContextMapName */
     private static String threadContextMapName;
+    /** 未指定 threadContextMapName 时是否使用 {@link GarbageFreeThreadContextMap} */
+    private static boolean garbageFree;
 
     static {
         initPrivate();
@@ -34,6 +38,7 @@ public final class ThreadContextMapFactory {
      */
     public static void init() {
         DefaultThreadContextMap.init();
+        GarbageFreeThreadContextMap.init();
         initPrivate();
     }
 
@@ -46,6 +51,7 @@ public final class ThreadContextMapFactory {
     private static void initPrivate() {
         PropertiesUtils properties = PropertiesUtils.getProperties();
         threadContextMapName = properties.getStringProperty(THREAD_CONTEXT_KEY);
+        garbageFree = properties.getBooleanProperty(GARBAGE_FREE_KEY);
     }
 
     /**
@@ -93,6 +99,9 @@ public final class ThreadContextMapFactory {
      */
     @Contract(" -> new")
     private static @NotNull ThreadContextMap createDefaultThreadContextMap() {
+        if (garbageFree) {
+            return new GarbageFreeThreadContextMap();
+        }
         return new DefaultThreadContextMap(true);
     }
 
@@ -1,11 +1,7 @@
 package dev.dong4j.zeka.kernel.common.enums;
 
-import dev.dong4j.zeka.ZekaStack;
-import dev.dong4j.zeka.kernel.common.constant.App;
+import dev.dong4j.zeka.kernel.common.support.ClassIndex;
 import java.util.Set;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.reflections.util.ConfigurationBuilder;
 
 /**
  * 缓存实现的此接口的枚举类, 目前在 EnumController 和 SubLauncherInitiation#advance 被用到
@@ -23,15 +19,8 @@ public class SerializeEnumCache {
     public static final Set<Class<? extends SerializeEnum>> SUB_ENUMS;
 
     static {
-        // 查找 SerializeEnum 的实现类 (扫描框架包和业务包)
-        ConfigurationBuilder build = ConfigurationBuilder.build(ZekaStack.class.getPackageName(),
-            App.BASE_PACKAGES,
-            Scanners.SubTypes);
-
-        build.setExpandSuperTypes(false);
-        Reflections reflections = new Reflections(build);
-
-        SUB_ENUMS = reflections.getSubTypesOf(SerializeEnum.class);
+        // 查找 SerializeEnum 的实现类, 优先读取编译期索引, 没有索引时扫描框架包和业务包
+        SUB_ENUMS = ClassIndex.serializeEnums();
     }
 
 }
@@ -0,0 +1,131 @@
+package dev.dong4j.zeka.kernel.common.event;
+
+import com.alibaba.ttl.TtlRunnable;
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * <p>Description: 通过有界队列异步发布事件 </p>
+ * 单个守护线程按顺序发布, 调用方只做一次入队, 不会被监听器阻塞.
+ * 队列满时直接丢弃并计数, 异常风暴期间宁可丢事件也不能拖慢请求线程.
+ * 入队时捕获调用线程的 MDC 与 TTL 上下文 ({@link dev.dong4j.zeka.kernel.common.context.Trace} 等), 监听器看到的是触发事件的请求的上下文
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:30
+ * @since 1.0.0
+ */
+@Slf4j
+public class AsyncEventPublisher {
+
+    /** 默认队列容量 */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Executor */
+    private final ThreadPoolExecutor executor;
+    /** Delegate */
+    private final Consumer<ApplicationEvent> delegate;
+    /** Published */
+    private final LongAdder published = new LongAdder();
+    /** Dropped */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Async event publisher
+     *
+     * @param name     线程名前缀
+     * @param capacity 队列容量
+     * @param delegate 实际的发布逻辑
+     * @since 1.0.0
+     */
+    public AsyncEventPublisher(String name, int capacity, @NotNull Consumer<ApplicationEvent> delegate) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(1, 1,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacity),
+            new NamedThreadFactory(name, true),
+            (task, executor) -> this.dropped.increment());
+    }
+
+    /**
+     * 连同调用线程的上下文一起入队, 队列已满或已关闭时丢弃
+     *
+     * @param event event
+     * @since 1.0.0
+     */
+    public void publish(@NotNull ApplicationEvent event) {
+        // 必须在入队前获取, 发布线程执行时调用线程的上下文可能已经被清空或属于下一个请求
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        this.executor.execute(TtlRunnable.get(() -> this.deliver(event, context), false, true));
+    }
+
+    /**
+     * 在发布线程中恢复调用线程的 MDC 后发布, 发布完成后清空
+     *
+     * @param event   event
+     * @param context 调用线程的 MDC, 可能为 null
+     * @since 1.0.0
+     */
+    private void deliver(@NotNull ApplicationEvent event, Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        }
+        try {
+            this.delegate.accept(event);
+            this.published.increment();
+        } catch (Throwable e) {
+            log.debug("发布事件失败: {}", event.getClass().getName(), e);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 已发布的事件数
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long publishedCount() {
+        return this.published.sum();
+    }
+
+    /**
+     * 因队列已满被丢弃的事件数
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long droppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * 队列中等待发布的事件数
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    public int pendingCount() {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * 停止接收新事件, 已入队的事件继续发布
+     *
+     * @since 1.0.0
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.dong4j.zeka.kernel.common.exception;
+
+import dev.dong4j.zeka.kernel.common.api.IResultCode;
+import dev.dong4j.zeka.kernel.common.context.Trace;
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 预分配的不可变业务异常 </p>
+ * 用于固定返回码 (枚举) 的业务拒绝, 同一个返回码始终返回同一个实例, 抛出时没有任何分配:
+ * 1. 不采集堆栈, 不记录 suppressed 异常, 不允许 initCause
+ * 2. 实例在线程间共享, traceId 在调用 {@link #getTraceId()} 时从当前线程读取
+ * 3. 没有占位符参数, 需要格式化消息时使用 {@link LowestException}
+ * 非枚举的返回码不缓存, 每次返回新的无堆栈实例
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:50
+ * @since 1.0.0
+ */
+public final class ConstantException extends LowestException {
+
+    /** serialVersionUID */
+    @Serial
+    private static final long serialVersionUID = -1830562406722316543L;
+    /** 枚举返回码对应的实例 */
+    private static final Map<IResultCode, ConstantException> INSTANCES = new ConcurrentHashMap<>(64);
+
+    /**
+     * Constant exception
+     *
+     * @param resultCode result code
+     * @since 1.0.0
+     */
+    private ConstantException(@NotNull IResultCode resultCode) {
+        super(resultCode, resultCode.getMessage(), null, false, false);
+        this.traceId = null;
+    }
+
+    /**
+     * 获取返回码对应的异常实例
+     *
+     * @param resultCode result code
+     * @return the constant exception
+     * @since 1.0.0
+     */
+    public static ConstantException of(@NotNull IResultCode resultCode) {
+        if (resultCode instanceof Enum<?>) {
+            return INSTANCES.computeIfAbsent(resultCode, ConstantException::new);
+        }
+        return new ConstantException(resultCode);
+    }
+
+    /**
+     * 实例是共享的, 只能返回当前线程的 traceId
+     *
+     * @return the trace id
+     * @since 1.0.0
+     */
+    @Override
+    public String getTraceId() {
+        return Trace.context().get();
+    }
+
+    /**
+     * 共享实例不允许修改
+     *
+     * @param cause cause
+     * @return the throwable
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        throw new IllegalStateException("ConstantException is immutable");
+    }
+}
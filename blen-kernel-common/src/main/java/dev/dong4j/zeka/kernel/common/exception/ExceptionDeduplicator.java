@@ -0,0 +1,238 @@
+package dev.dong4j.zeka.kernel.common.exception;
+
+import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
+import dev.dong4j.zeka.kernel.common.util.PropertiesUtils;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 按异常指纹限制日志输出 </p>
+ * 指纹由异常类型与栈顶帧组成, 同一指纹在一个时间窗口内只允许输出前 N 次, 之后只计数.
+ * 下一个窗口第一次输出时通过 {@link #tryAcquire(Throwable)} 的返回值带出上个窗口被抑制的次数.
+ * 指纹数量有上限, 超过后新的指纹统一计入 {@link #OVERFLOW}, 避免异常信息中的动态内容撑爆内存.
+ * 配置 (系统属性或 zeka-stack.properties):
+ * 1. {@code zeka-stack.exception.log-limit}: 每个窗口内输出的次数, 默认 5, 小于 0 表示不限制
+ * 2. {@code zeka-stack.exception.log-window}: 窗口长度 (毫秒), 默认 60000
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:30
+ * @since 1.0.0
+ */
+public class ExceptionDeduplicator {
+
+    /** 每个窗口内输出的次数 */
+    public static final String LOG_LIMIT = ConfigKey.PREFIX + "exception.log-limit";
+    /** 窗口长度 (毫秒) */
+    public static final String LOG_WINDOW = ConfigKey.PREFIX + "exception.log-window";
+    /** 超过指纹上限后使用的指纹 */
+    public static final String OVERFLOW = "<overflow>";
+    /** 不输出日志 */
+    public static final long SUPPRESSED = -1L;
+    /** 最大指纹数量 */
+    private static final int MAX_FINGERPRINTS = 1024;
+
+    /** Limit */
+    private final int limit;
+    /** Window nanos */
+    private final long windowNanos;
+    /** Counters */
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>(64);
+
+    /**
+     * 从配置中读取限制
+     *
+     * @since 1.0.0
+     */
+    public ExceptionDeduplicator() {
+        this(PropertiesUtils.getProperties().getIntegerProperty(LOG_LIMIT, 5),
+            PropertiesUtils.getProperties().getLongProperty(LOG_WINDOW, TimeUnit.MINUTES.toMillis(1)),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Exception deduplicator
+     *
+     * @param limit  每个窗口内输出的次数, 小于 0 表示不限制
+     * @param window 窗口长度
+     * @param unit   unit
+     * @since 1.0.0
+     */
+    public ExceptionDeduplicator(int limit, long window, @NotNull TimeUnit unit) {
+        this.limit = limit;
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * 记录一次异常并判断是否需要输出日志
+     *
+     * @param e e
+     * @return 需要输出时返回上次输出之后被抑制的次数 (大于等于 0), 否则返回 {@link #SUPPRESSED}
+     * @since 1.0.0
+     */
+    public long tryAcquire(@NotNull Throwable e) {
+        return this.counter(fingerprint(e)).tryAcquire(this.limit, this.windowNanos, System.nanoTime());
+    }
+
+    /**
+     * 指定指纹的累计次数
+     *
+     * @param fingerprint fingerprint
+     * @return the long
+     * @since 1.0.0
+     */
+    public long count(String fingerprint) {
+        Counter counter = this.counters.get(fingerprint);
+        return counter == null ? 0 : counter.total.get();
+    }
+
+    /**
+     * 所有指纹的累计次数快照, 按次数降序
+     *
+     * @return the map
+     * @since 1.0.0
+     */
+    public Map<String, Long> counters() {
+        Map<String, Long> snapshot = new LinkedHashMap<>(this.counters.size() * 2);
+        this.counters.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().total.get(), a.getValue().total.get()))
+            .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().total.get()));
+        return snapshot;
+    }
+
+    /**
+     * 清空所有计数
+     *
+     * @since 1.0.0
+     */
+    public void reset() {
+        this.counters.clear();
+    }
+
+    /**
+     * 异常类型 + 栈顶帧, 没有堆栈时只使用异常类型
+     *
+     * @param e e
+     * @return the string
+     * @since 1.0.0
+     */
+    public static @NotNull String fingerprint(@NotNull Throwable e) {
+        StackTraceElement[] stackTrace = e.getStackTrace();
+        if (stackTrace.length == 0) {
+            return e.getClass().getName();
+        }
+        StackTraceElement top = stackTrace[0];
+        return e.getClass().getName() + '@' + top.getClassName() + '.' + top.getMethodName() + ':' + top.getLineNumber();
+    }
+
+    /**
+     * Counter
+     *
+     * @param fingerprint fingerprint
+     * @return the counter
+     * @since 1.0.0
+     */
+    private Counter counter(String fingerprint) {
+        Counter counter = this.counters.get(fingerprint);
+        if (counter != null) {
+            return counter;
+        }
+        if (this.counters.size() >= MAX_FINGERPRINTS) {
+            return this.counters.computeIfAbsent(OVERFLOW, key -> new Counter());
+        }
+        return this.counters.computeIfAbsent(fingerprint, key -> new Counter());
+    }
+
+    /**
+     * <p>Description: 单个指纹的计数 </p>
+     * 窗口的开始时间与窗口内的次数放在同一个不可变的 {@link Window} 中, 通过 CAS 整体替换.
+     * 只有一个线程能把过期窗口替换成新窗口, 其他线程重新读取, 不会出现新窗口的计数被迟到的重置清零
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 19:30
+     * @since 1.0.0
+     */
+    private static final class Counter {
+        /** 累计次数 */
+        private final AtomicLong total = new AtomicLong();
+        /** 自上次输出以来被抑制的次数 */
+        private final AtomicLong suppressed = new AtomicLong();
+        /** 当前窗口 */
+        private final AtomicReference<Window> window = new AtomicReference<>(new Window(System.nanoTime()));
+
+        /**
+         * Try acquire
+         *
+         * @param limit       limit
+         * @param windowNanos window nanos
+         * @param now         now
+         * @return the long
+         * @since 1.0.0
+         */
+        private long tryAcquire(int limit, long windowNanos, long now) {
+            this.total.incrementAndGet();
+            if (limit < 0) {
+                return 0;
+            }
+            if (this.current(windowNanos, now).count.incrementAndGet() <= limit) {
+                return this.suppressed.getAndSet(0);
+            }
+            this.suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+
+        /**
+         * 当前窗口, 已过期时通过 CAS 切换到从 now 开始的新窗口
+         *
+         * @param windowNanos window nanos
+         * @param now         now
+         * @return the window
+         * @since 1.0.0
+         */
+        private Window current(long windowNanos, long now) {
+            Window current = this.window.get();
+            while (now - current.start >= windowNanos) {
+                Window next = new Window(now);
+                if (this.window.compareAndSet(current, next)) {
+                    return next;
+                }
+                current = this.window.get();
+            }
+            return current;
+        }
+    }
+
+    /**
+     * <p>Description: 计数窗口 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 19:30
+     * @since 1.0.0
+     */
+    private static final class Window {
+        /** 窗口的开始时间 */
+        private final long start;
+        /** 窗口内的次数 */
+        private final AtomicLong count = new AtomicLong();
+
+        /**
+         * Window
+         *
+         * @param start start
+         * @since 1.0.0
+         */
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
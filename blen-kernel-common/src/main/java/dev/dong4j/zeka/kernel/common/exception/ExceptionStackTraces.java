@@ -0,0 +1,139 @@
+package dev.dong4j.zeka.kernel.common.exception;
+
+import dev.dong4j.zeka.kernel.common.api.IResultCode;
+import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
+import dev.dong4j.zeka.kernel.common.util.PropertiesUtils;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Description: 业务异常是否采集堆栈 </p>
+ * 业务规则拒绝 (参数校验, 数据不存在等) 的异常堆栈没有排查价值, 但每次抛出都要调用 {@link Throwable#fillInStackTrace()},
+ * 在很深的 Spring 调用栈中开销可达数微秒. 开启后对应的异常不再采集堆栈:
+ * 1. 全局: {@code zeka-stack.exception.stackless=true} 或 {@link #setStackless(boolean)},
+ *    作用于 {@link LowestException} 和 {@link ServiceInternalException} (包括断言失败的 {@link AssertionFailedException})
+ * 2. 按返回码: {@link IResultCode#stackless()} 返回 true, 或通过 {@code zeka-stack.exception.stackless-codes=4000,4001}
+ *    与 {@link #register(IResultCode...)} 指定, 只作用于携带返回码的 {@link LowestException}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:50
+ * @since 1.0.0
+ */
+@UtilityClass
+public class ExceptionStackTraces {
+
+    /** 全局开关 */
+    public static final String STACKLESS = ConfigKey.PREFIX + "exception.stackless";
+    /** 不采集堆栈的返回码, 逗号分隔 */
+    public static final String STACKLESS_CODES = ConfigKey.PREFIX + "exception.stackless-codes";
+
+    /** 不采集堆栈的返回码 */
+    private static final Set<Integer> CODES = ConcurrentHashMap.newKeySet();
+    /** 全局开关, 第一次使用时读取配置 */
+    private static volatile Boolean stackless;
+
+    /**
+     * 全局是否不采集堆栈
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public static boolean isStackless() {
+        Boolean value = stackless;
+        return value == null ? load() : value;
+    }
+
+    /**
+     * 指定返回码的异常是否不采集堆栈
+     *
+     * @param resultCode result code
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public static boolean isStackless(@Nullable IResultCode resultCode) {
+        if (isStackless()) {
+            return true;
+        }
+        if (resultCode == null) {
+            return false;
+        }
+        if (resultCode.stackless()) {
+            return true;
+        }
+        Integer code = resultCode.getCode();
+        return code != null && !CODES.isEmpty() && CODES.contains(code);
+    }
+
+    /**
+     * 运行时修改全局开关, 优先于配置
+     *
+     * @param value value
+     * @since 1.0.0
+     */
+    public static void setStackless(boolean value) {
+        // 先读取一次配置, 保证配置中的返回码不会因为开关被提前赋值而丢失
+        load();
+        stackless = value;
+    }
+
+    /**
+     * 指定返回码不采集堆栈
+     *
+     * @param resultCodes result codes
+     * @since 1.0.0
+     */
+    public static void register(IResultCode... resultCodes) {
+        for (IResultCode resultCode : resultCodes) {
+            if (resultCode.getCode() != null) {
+                CODES.add(resultCode.getCode());
+            }
+        }
+    }
+
+    /**
+     * 取消指定返回码的配置
+     *
+     * @param resultCodes result codes
+     * @since 1.0.0
+     */
+    public static void unregister(IResultCode... resultCodes) {
+        for (IResultCode resultCode : resultCodes) {
+            if (resultCode.getCode() != null) {
+                CODES.remove(resultCode.getCode());
+            }
+        }
+    }
+
+    /**
+     * 读取配置. PropertiesUtils 自身初始化失败时也会抛出 {@link LowestException} 的子类,
+     * 此时配置还不可用, 按默认值处理且不缓存, 下次再读取
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private static synchronized boolean load() {
+        if (stackless != null) {
+            return stackless;
+        }
+        PropertiesUtils properties = PropertiesUtils.getProperties();
+        if (properties == null) {
+            return false;
+        }
+        String codes = properties.getStringProperty(STACKLESS_CODES);
+        if (codes != null) {
+            for (String code : codes.split(",")) {
+                String trimmed = code.trim();
+                if (trimmed.matches("-?\\d+")) {
+                    CODES.add(Integer.valueOf(trimmed));
+                }
+            }
+        }
+        boolean value = properties.getBooleanProperty(STACKLESS);
+        stackless = value;
+        return value;
+    }
+}
@@ -9,6 +9,7 @@ import dev.dong4j.zeka.kernel.common.context.SpringContext;
 import dev.dong4j.zeka.kernel.common.context.Trace;
 import dev.dong4j.zeka.kernel.common.enums.ServletCodeEnum;
 import dev.dong4j.zeka.kernel.common.enums.ZekaEnv;
+import dev.dong4j.zeka.kernel.common.event.AsyncEventPublisher;
 import dev.dong4j.zeka.kernel.common.event.ExceptionEvent;
 import dev.dong4j.zeka.kernel.common.start.ZekaAutoConfiguration;
 import dev.dong4j.zeka.kernel.common.util.ConfigKit;
@@ -60,6 +61,12 @@ public class GlobalExceptionHandler implements ZekaAutoConfiguration {
     public static String hyperLink = StringUtils.format("{}?env={}&traceId={}",
         System.getProperty(ConfigKey.LogcatConfigKey.ADMIN_URL,
             "http://logcat.server:5555/"));
+    /** 按异常指纹限制兜底异常的日志输出 */
+    private static final ExceptionDeduplicator DEDUPLICATOR = new ExceptionDeduplicator();
+    /** 异常事件通过有界队列异步发布, 避免监听器拖慢请求线程; 监听器中仍能读取到请求线程的 MDC 与 Trace */
+    private static final AsyncEventPublisher EVENT_PUBLISHER = new AsyncEventPublisher("exception-event",
+        AsyncEventPublisher.DEFAULT_CAPACITY,
+        SpringContext::publishEvent);
 
     /**
      * Build result result
@@ -312,25 +319,24 @@ public class GlobalExceptionHandler implements ZekaAutoConfiguration {
      * @since 1.0.0
      */
     public static @NotNull Result<?> backstopHandle(Throwable e, HttpServletRequest request) {
-        String hyperlink = buildErrorLink();
-
-        if (e instanceof ServiceInternalException exception) {
-            if (exception.isRpc()) {
-                hyperlink = hyperlink + "\n\t--> " + StringUtils.format(hyperLink,
-                    exception.getEnv(),
-                    exception.getTraceId());
-            }
+        boolean prod = ConfigKit.isProd();
+        long suppressed = DEDUPLICATOR.tryAcquire(e);
+        // 生产环境下被抑制的异常既不输出日志也不返回链接, 不需要构建
+        String hyperlink = suppressed == ExceptionDeduplicator.SUPPRESSED && prod ? null : buildHyperlink(e);
+
+        if (suppressed > 0) {
+            log.error("{}\n\t--> 同类异常在此之前被抑制 {} 次", hyperlink, suppressed, e);
+        } else if (suppressed == 0) {
+            log.error(hyperlink, e);
         }
-
-        log.error(hyperlink, e);
-        SpringContext.publishEvent(new ExceptionEvent(e));
+        EVENT_PUBLISHER.publish(new ExceptionEvent(e));
 
         String message = BaseCodes.SERVER_ERROR.getMessage();
         if (RPC_ECEPTION.equals(e.getClass().getName())) {
             message = BaseCodes.RPC_ERROR.getMessage();
         }
 
-        if (ConfigKit.isProd()) {
+        if (prod) {
             // 当为生产环境,不适合把具体的异常信息展示给用户,比如数据库异常信息.
             return R.failed(BaseCodes.SERVER_ERROR, message);
         }
@@ -342,6 +348,43 @@ public class GlobalExceptionHandler implements ZekaAutoConfiguration {
         return failed;
     }
 
+    /**
+     * 当前请求的日志链接, RPC 异常追加远端服务的日志链接
+     *
+     * @param e e
+     * @return the string
+     * @since 1.0.0
+     */
+    private static String buildHyperlink(Throwable e) {
+        String hyperlink = buildErrorLink();
+        if (e instanceof ServiceInternalException exception && exception.isRpc()) {
+            hyperlink = hyperlink + "\n\t--> " + StringUtils.format(hyperLink,
+                exception.getEnv(),
+                exception.getTraceId());
+        }
+        return hyperlink;
+    }
+
+    /**
+     * 兜底异常的日志去重器, 可用于查看各类异常的累计次数
+     *
+     * @return the exception deduplicator
+     * @since 1.0.0
+     */
+    public static ExceptionDeduplicator deduplicator() {
+        return DEDUPLICATOR;
+    }
+
+    /**
+     * 异常事件发布器, 可用于查看发布与丢弃的事件数
+     *
+     * @return the async event publisher
+     * @since 1.0.0
+     */
+    public static AsyncEventPublisher eventPublisher() {
+        return EVENT_PUBLISHER;
+    }
+
     /**
      * Build error link
      *
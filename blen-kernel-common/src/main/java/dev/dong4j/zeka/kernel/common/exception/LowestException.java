@@ -6,8 +6,10 @@ import dev.dong4j.zeka.kernel.common.context.Trace;
 import dev.dong4j.zeka.kernel.common.support.StrFormatter;
 import java.io.PrintStream;
 import java.io.Serial;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -34,6 +36,9 @@ public class LowestException extends RuntimeException {
     /** Trace id */
     @Getter
     protected String traceId;
+    /** 通过 initCause 设置的 cause, 父类的 cause 在构造时已经确定 */
+    @Getter(AccessLevel.NONE)
+    private Throwable lateCause;
 
     /**
      * Instantiates a new Base exception.
@@ -41,9 +46,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException() {
-        super(BaseCodes.FAILURE.getMessage());
-        this.resultCode = BaseCodes.FAILURE;
-        this.traceId = Trace.context().get();
+        this(BaseCodes.FAILURE, BaseCodes.FAILURE.getMessage(), null);
     }
 
     /**
@@ -53,9 +56,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(String msg) {
-        super(msg);
-        this.resultCode = BaseCodes.FAILURE;
-        this.traceId = Trace.context().get();
+        this(BaseCodes.FAILURE, msg, null);
     }
 
     /**
@@ -66,22 +67,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(int code, String msg) {
-        super(msg);
-        this.traceId = Trace.context().get();
-        this.resultCode = new IResultCode() {
-            @Serial
-            private static final long serialVersionUID = 2590640370242410124L;
-
-            @Override
-            public String getMessage() {
-                return msg;
-            }
-
-            @Override
-            public Integer getCode() {
-                return code;
-            }
-        };
+        this(resultCode(code, msg), msg, null);
     }
 
     /**
@@ -92,9 +78,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(String msg, Object... args) {
-        super(StrFormatter.mergeFormat(msg, args));
-        this.resultCode = BaseCodes.FAILURE;
-        this.traceId = Trace.context().get();
+        this(BaseCodes.FAILURE, StrFormatter.mergeFormat(msg, args), null);
     }
 
     /**
@@ -104,9 +88,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(Throwable cause) {
-        super(cause);
-        this.resultCode = BaseCodes.FAILURE;
-        this.traceId = Trace.context().get();
+        this(BaseCodes.FAILURE, cause == null ? null : cause.toString(), cause);
     }
 
     /**
@@ -117,9 +99,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(String msg, Throwable cause) {
-        super(msg, cause);
-        this.resultCode = BaseCodes.FAILURE;
-        this.traceId = Trace.context().get();
+        this(BaseCodes.FAILURE, msg, cause);
     }
 
     /**
@@ -129,9 +109,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(@NotNull IResultCode resultCode) {
-        super(resultCode.getMessage());
-        this.resultCode = resultCode;
-        this.traceId = Trace.context().get();
+        this(resultCode, resultCode.getMessage(), null);
     }
 
     /**
@@ -142,9 +120,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(@NotNull IResultCode resultCode, Throwable cause) {
-        super(resultCode.getMessage(), cause);
-        this.resultCode = resultCode;
-        this.traceId = Trace.context().get();
+        this(resultCode, resultCode.getMessage(), cause);
     }
 
     /**
@@ -156,22 +132,7 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(int code, String msg, Throwable cause) {
-        super(msg, cause);
-        this.traceId = Trace.context().get();
-        this.resultCode = new IResultCode() {
-            @Serial
-            private static final long serialVersionUID = 2590640370242410124L;
-
-            @Override
-            public String getMessage() {
-                return msg;
-            }
-
-            @Override
-            public Integer getCode() {
-                return code;
-            }
-        };
+        this(resultCode(code, msg), msg, cause);
     }
 
     /**
@@ -183,10 +144,8 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(IResultCode resultCode, Object[] args, String msg) {
-        super(StrFormatter.mergeFormat(msg, args));
-        this.resultCode = resultCode;
+        this(resultCode, StrFormatter.mergeFormat(msg, args), null);
         this.args = args;
-        this.traceId = Trace.context().get();
     }
 
     /**
@@ -199,12 +158,106 @@ public class LowestException extends RuntimeException {
      * @since 1.0.0
      */
     public LowestException(IResultCode resultCode, Object[] args, String msg, Throwable cause) {
-        super(StrFormatter.mergeFormat(msg, args), cause);
-        this.resultCode = resultCode;
+        this(resultCode, StrFormatter.mergeFormat(msg, args), cause);
         this.args = args;
+    }
+
+    /**
+     * 按返回码决定是否采集堆栈
+     *
+     * @param resultCode result code
+     * @param msg        msg
+     * @param cause      cause
+     * @since 1.0.0
+     */
+    private LowestException(IResultCode resultCode, String msg, Throwable cause) {
+        this(resultCode, msg, cause, true, writable(resultCode));
+    }
+
+    /**
+     * 所有构造方法最终都会调用此方法
+     *
+     * @param resultCode         result code
+     * @param msg                msg
+     * @param cause              cause
+     * @param enableSuppression  为 false 时 {@link #addSuppressed(Throwable)} 不生效
+     * @param writableStackTrace 为 false 时不采集堆栈, {@link #getStackTrace()} 返回空数组
+     * @since 1.0.0
+     */
+    protected LowestException(IResultCode resultCode,
+                              String msg,
+                              Throwable cause,
+                              boolean enableSuppression,
+                              boolean writableStackTrace) {
+        super(msg, cause, enableSuppression, writableStackTrace);
+        this.resultCode = resultCode;
         this.traceId = Trace.context().get();
     }
 
+    /**
+     * Writable
+     *
+     * @param resultCode result code
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private static boolean writable(IResultCode resultCode) {
+        return !ExceptionStackTraces.isStackless(resultCode);
+    }
+
+    /**
+     * 只有 code 和 msg 时构造的返回码
+     *
+     * @param code code
+     * @param msg  msg
+     * @return the result code
+     * @since 1.0.0
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    private static @NotNull IResultCode resultCode(int code, String msg) {
+        return new IResultCode() {
+            @Serial
+            private static final long serialVersionUID = 2590640370242410124L;
+
+            @Override
+            public String getMessage() {
+                return msg;
+            }
+
+            @Override
+            public Integer getCode() {
+                return code;
+            }
+        };
+    }
+
+    /**
+     * 构造时没有传入 cause 的异常, 仍然允许通过 initCause 设置一次 (与 {@link Throwable} 的默认行为一致)
+     *
+     * @param cause cause
+     * @return the throwable
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if (this.lateCause == null && super.getCause() == null && cause != this) {
+            this.lateCause = cause;
+            return this;
+        }
+        return super.initCause(cause);
+    }
+
+    /**
+     * Gets cause *
+     *
+     * @return the cause
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized Throwable getCause() {
+        return this.lateCause != null ? this.lateCause : super.getCause();
+    }
+
     /**
      * 重写打印异常堆栈, 转为日志输出.
      *
@@ -91,6 +91,18 @@ public class ServiceInternalException extends RuntimeException {
         super(message, throwable);
     }
 
+    /**
+     * 全局开启无堆栈模式时跳过堆栈采集, 断言失败等业务拒绝不再承担采集堆栈的开销
+     *
+     * @return the throwable
+     * @see ExceptionStackTraces
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.isStackless() ? this : super.fillInStackTrace();
+    }
+
     /**
      * 重写打印异常堆栈, 转为日志输出.
      *
@@ -0,0 +1,37 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+/**
+ * <p>Description: long 类型 id 生成器 </p>
+ * 实现类都是线程安全的, 应当作为单例使用, 默认实例见 {@link Ids}.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+public interface IdGenerator {
+
+    /**
+     * 生成一个 id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    long nextId();
+
+    /**
+     * 批量生成 id, 实现类可以一次预留整段 id 以减少竞争
+     *
+     * @param size 数量
+     * @return the long [ ]
+     * @since 1.0.0
+     */
+    default long[] nextIds(int size) {
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = this.nextId();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,205 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
+import dev.dong4j.zeka.kernel.common.util.NetUtils;
+import dev.dong4j.zeka.kernel.common.util.PropertiesUtils;
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>Description: 进程内唯一的 id 服务 </p>
+ * 首次使用时按配置创建单例:
+ * 1. {@code zeka-stack.id.worker-id}: 显式指定 worker id (0-1023), 多机部署时推荐
+ * 2. 未指定时在 {@code zeka-stack.id.lease-dir} (默认 {@code java.io.tmpdir/zeka-id}) 中租用 worker id,
+ * 从本机 IP 地址的低 10 位开始尝试, 并定期记录时间戳, 重启后据此检查时钟回拨
+ * 3. {@code zeka-stack.id.max-backward-millis}: 容忍的时钟回拨, 默认 10 毫秒
+ * 4. {@code zeka-stack.id.batch-size}: {@link #batched()} 每个线程每次预留的 id 数, 默认 64
+ * <pre>{@code
+ * long id = Ids.nextId();
+ * String uuid = Ids.nextUuidString();
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+@Slf4j
+@UtilityClass
+public class Ids {
+
+    /** 显式指定的 worker id */
+    public static final String WORKER_ID = ConfigKey.PREFIX + "id.worker-id";
+    /** Worker id 租约目录 */
+    public static final String LEASE_DIR = ConfigKey.PREFIX + "id.lease-dir";
+    /** 容忍的时钟回拨 (毫秒) */
+    public static final String MAX_BACKWARD_MILLIS = ConfigKey.PREFIX + "id.max-backward-millis";
+    /** 每个线程每次预留的 id 数 */
+    public static final String BATCH_SIZE = ConfigKey.PREFIX + "id.batch-size";
+
+    /** 默认容忍的时钟回拨 */
+    private static final long DEFAULT_MAX_BACKWARD_MILLIS = 10L;
+    /** 默认每个线程每次预留的 id 数 */
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    /** 记录时间戳的间隔 (毫秒) */
+    private static final long CHECKPOINT_INTERVAL_MILLIS = 500L;
+    /** 记录的时间戳比实际使用的提前的毫秒数, 覆盖两次记录之间发放的 id */
+    private static final long CHECKPOINT_AHEAD_MILLIS = 1000L;
+    /** UUIDv7 不依赖配置, 不需要延迟初始化 */
+    private static final UuidV7Generator UUID_V7 = new UuidV7Generator();
+
+    /**
+     * 雪花算法 id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public static long nextId() {
+        return Holder.SNOWFLAKE.nextId();
+    }
+
+    /**
+     * 批量生成雪花算法 id
+     *
+     * @param size size
+     * @return the long [ ]
+     * @since 1.0.0
+     */
+    public static long[] nextIds(int size) {
+        return Holder.SNOWFLAKE.nextIds(size);
+    }
+
+    /**
+     * 单例的雪花算法生成器
+     *
+     * @return the snowflake id generator
+     * @since 1.0.0
+     */
+    public static SnowflakeIdGenerator snowflake() {
+        return Holder.SNOWFLAKE;
+    }
+
+    /**
+     * 按线程批量预留的雪花算法生成器, 适合高并发写入, 不同线程之间只保证大致递增
+     *
+     * @return the id generator
+     * @since 1.0.0
+     */
+    public static IdGenerator batched() {
+        return Holder.BATCHED;
+    }
+
+    /**
+     * UUIDv7
+     *
+     * @return the uuid
+     * @since 1.0.0
+     */
+    public static UUID nextUuid() {
+        return UUID_V7.next();
+    }
+
+    /**
+     * UUIDv7 字符串
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    public static String nextUuidString() {
+        return UUID_V7.nextString();
+    }
+
+    /**
+     * 按配置创建雪花算法生成器
+     *
+     * @return the snowflake id generator
+     * @since 1.0.0
+     */
+    private static SnowflakeIdGenerator create() {
+        PropertiesUtils properties = PropertiesUtils.getProperties();
+        String workerId = properties == null ? null : properties.getStringProperty(WORKER_ID);
+        long maxBackwardMillis = properties == null
+                                 ? DEFAULT_MAX_BACKWARD_MILLIS
+                                 : properties.getLongProperty(MAX_BACKWARD_MILLIS, DEFAULT_MAX_BACKWARD_MILLIS);
+        if (StringUtils.isNotBlank(workerId)) {
+            return new SnowflakeIdGenerator(WorkerIdAssigner.fixed(Long.parseLong(workerId.trim())), maxBackwardMillis);
+        }
+
+        String directory = properties == null ? null : properties.getStringProperty(LEASE_DIR);
+        Path leaseDir = StringUtils.isBlank(directory)
+                        ? Paths.get(System.getProperty("java.io.tmpdir"), "zeka-id")
+                        : Paths.get(directory);
+        WorkerIdAssigner assigner;
+        try {
+            assigner = WorkerIdAssigner.lease(leaseDir, preferredWorkerId());
+        } catch (IOException | LowestException e) {
+            long random = ThreadLocalRandom.current().nextLong(SnowflakeIdGenerator.MAX_WORKER_ID + 1);
+            log.warn("租用 worker id 失败, 使用随机的 worker id: [{}], 请配置 [{}]: {}", random, WORKER_ID, e.getMessage());
+            return new SnowflakeIdGenerator(WorkerIdAssigner.fixed(random), maxBackwardMillis);
+        }
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(assigner, maxBackwardMillis);
+        ScheduledExecutorService checkpoint = Executors.newSingleThreadScheduledExecutor(
+            new NamedThreadFactory("zeka-id-checkpoint", true));
+        checkpoint.scheduleWithFixedDelay(() -> assigner.checkpoint(generator.lastTimestamp() + CHECKPOINT_AHEAD_MILLIS),
+                                          0L,
+                                          CHECKPOINT_INTERVAL_MILLIS,
+                                          TimeUnit.MILLISECONDS);
+        return generator;
+    }
+
+    /**
+     * 本机 IP 地址的低 10 位, 使不同机器从不同的 worker id 开始租用
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    private static long preferredWorkerId() {
+        InetAddress address = NetUtils.getLocalAddress();
+        if (address == null) {
+            return 0L;
+        }
+        byte[] bytes = address.getAddress();
+        return ((bytes[bytes.length - 2] & 0xFFL) << 8 | (bytes[bytes.length - 1] & 0xFFL)) & SnowflakeIdGenerator.MAX_WORKER_ID;
+    }
+
+    /**
+     * <p>Description: 延迟初始化 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 22:40
+     * @since 1.0.0
+     */
+    private static final class Holder {
+        /** Snowflake */
+        private static final SnowflakeIdGenerator SNOWFLAKE = create();
+        /** Batched */
+        private static final IdGenerator BATCHED = SNOWFLAKE.batched(batchSize());
+
+        /**
+         * Batch size
+         *
+         * @return the int
+         * @since 1.0.0
+         */
+        private static int batchSize() {
+            PropertiesUtils properties = PropertiesUtils.getProperties();
+            return properties == null ? DEFAULT_BATCH_SIZE : properties.getIntegerProperty(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>Description: 基于文件锁租用 worker id </p>
+ * 目录中每个 worker id 对应一个 {@code worker-<id>.lease} 文件, 持有其排他锁即持有该 id,
+ * 进程退出 (包括被强制杀死) 后锁由操作系统释放. 文件内容为最后一次记录的时间戳,
+ * 新进程租到同一个 id 时从该时间戳继续, 时钟回拨不会产生重复 id.
+ * <p>
+ * 文件锁只在同一台机器上可靠, 多机部署时应显式指定 worker id, 或让不同机器从不同的 worker id 开始租用.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+@Slf4j
+final class LeaseFileWorkerIdAssigner implements WorkerIdAssigner {
+
+    /** 租约文件名前缀 */
+    private static final String PREFIX = "worker-";
+    /** 租约文件名后缀 */
+    private static final String SUFFIX = ".lease";
+
+    /** Channel */
+    private final FileChannel channel;
+    /** Lock */
+    private final FileLock lock;
+    /** Worker id */
+    private final long workerId;
+    /** 租用时文件中的时间戳 */
+    private final long lastTimestamp;
+    /** 已写入文件的时间戳 */
+    private long checkpointed;
+    /** 写入缓冲 */
+    private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+    /**
+     * Lease file worker id assigner
+     *
+     * @param channel       channel
+     * @param lock          lock
+     * @param workerId      worker id
+     * @param lastTimestamp last timestamp
+     * @since 1.0.0
+     */
+    private LeaseFileWorkerIdAssigner(FileChannel channel, FileLock lock, long workerId, long lastTimestamp) {
+        this.channel = channel;
+        this.lock = lock;
+        this.workerId = workerId;
+        this.lastTimestamp = lastTimestamp;
+        this.checkpointed = lastTimestamp;
+    }
+
+    /**
+     * 从 preferred 开始依次租用第一个空闲的 worker id, 重启后倾向于拿回原来的 id
+     *
+     * @param directory directory
+     * @param preferred 优先尝试的 worker id
+     * @return the lease file worker id assigner
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    static LeaseFileWorkerIdAssigner acquire(Path directory, long preferred) throws IOException {
+        Files.createDirectories(directory);
+        long count = SnowflakeIdGenerator.MAX_WORKER_ID + 1;
+        for (long i = 0; i < count; i++) {
+            long id = (preferred + i) % count;
+            Path file = directory.resolve(PREFIX + id + SUFFIX);
+            FileChannel channel = FileChannel.open(file,
+                                                   StandardOpenOption.CREATE,
+                                                   StandardOpenOption.READ,
+                                                   StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // 同一个 JVM 中已经持有
+                lock = null;
+            }
+            if (lock == null) {
+                channel.close();
+                continue;
+            }
+            long lastTimestamp = read(channel);
+            log.info("租用 worker id: [{}], 上次记录的时间戳: [{}], 租约文件: [{}]", id, lastTimestamp, file);
+            return new LeaseFileWorkerIdAssigner(channel, lock, id, lastTimestamp);
+        }
+        throw new LowestException("租约目录 [{}] 中的 worker id 已全部被占用", directory);
+    }
+
+    /**
+     * Read
+     *
+     * @param channel channel
+     * @return the long
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static long read(FileChannel channel) throws IOException {
+        if (channel.size() < Long.BYTES) {
+            return 0L;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // read fully
+        }
+        return buffer.flip().getLong();
+    }
+
+    /**
+     * Worker id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Override
+    public long workerId() {
+        return this.workerId;
+    }
+
+    /**
+     * Last timestamp
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Override
+    public long lastTimestamp() {
+        return this.lastTimestamp;
+    }
+
+    /**
+     * 时间戳前进时才写入, 写入失败只记录日志, 最多导致重启后少一次回拨检查
+     *
+     * @param timestamp timestamp
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized void checkpoint(long timestamp) {
+        if (timestamp <= this.checkpointed || !this.lock.isValid()) {
+            return;
+        }
+        try {
+            this.buffer.clear().putLong(timestamp).flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer, this.buffer.position());
+            }
+            this.channel.force(false);
+            this.checkpointed = timestamp;
+        } catch (IOException e) {
+            log.warn("记录 worker id [{}] 的时间戳失败: {}", this.workerId, e.getMessage());
+        }
+    }
+
+    /**
+     * 释放文件锁
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            this.lock.release();
+            this.channel.close();
+        } catch (IOException e) {
+            log.warn("释放 worker id [{}] 失败: {}", this.workerId, e.getMessage());
+        }
+    }
+}
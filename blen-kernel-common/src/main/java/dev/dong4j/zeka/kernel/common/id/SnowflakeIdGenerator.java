@@ -0,0 +1,286 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>Description: 无锁的雪花算法 id 生成器 </p>
+ * 布局与 hutool 的 Snowflake 一致: 41 位时间戳 (起始于 {@link #EPOCH}), 10 位 worker id
+ * (即 hutool 的 5 位 datacenter id + 5 位 worker id), 12 位序列号, 因此与历史数据可以比较大小.
+ * <p>
+ * 最后发放的时间戳与序列号合并为一个 long, 用一次 CAS 推进:
+ * 1. 序列号用完时直接借用下一毫秒, 借用的时间不超过容忍值, 超过时自旋等待时钟
+ * 2. 时钟回拨不超过容忍值时继续使用最后的时间戳, 超过时抛出异常
+ * 3. {@link #nextIds(int)} 与 {@link #batched(int)} 一次 CAS 预留整段序列号
+ * 启动时从 {@link WorkerIdAssigner#lastTimestamp()} 继续, 重启前后的时钟回拨同样会被检查.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+@Slf4j
+public final class SnowflakeIdGenerator implements IdGenerator {
+
+    /** 起始时间 (2010-11-04), 与 hutool 相同 */
+    public static final long EPOCH = 1288834974657L;
+    /** Worker id 位数 */
+    public static final int WORKER_ID_BITS = 10;
+    /** 序列号位数 */
+    public static final int SEQUENCE_BITS = 12;
+    /** 最大 worker id */
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    /** 每毫秒的序列号数, 也是一次预留的上限 */
+    public static final int SEQUENCES_PER_MILLIS = 1 << SEQUENCE_BITS;
+    /** 序列号掩码 */
+    private static final long SEQUENCE_MASK = SEQUENCES_PER_MILLIS - 1;
+    /** 时间戳左移位数 */
+    private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+    /** 启动时等待时钟追上上次记录的时间戳的上限 */
+    private static final long MAX_STARTUP_WAIT_MILLIS = 5000L;
+
+    /** Worker id */
+    private final long workerId;
+    /** 左移后的 worker id */
+    private final long workerBits;
+    /** 容忍的时钟回拨 (毫秒) */
+    private final long maxBackwardMillis;
+    /** 最后发放的 (时间戳 - EPOCH) << SEQUENCE_BITS | 序列号 */
+    private final AtomicLong state;
+
+    /**
+     * Snowflake id generator
+     *
+     * @param assigner          worker id 分配
+     * @param maxBackwardMillis 容忍的时钟回拨 (毫秒)
+     * @since 1.0.0
+     */
+    public SnowflakeIdGenerator(WorkerIdAssigner assigner, long maxBackwardMillis) {
+        this.workerId = assigner.workerId();
+        if (this.workerId < 0 || this.workerId > MAX_WORKER_ID) {
+            throw new LowestException("worker id 必须在 [0, {}] 之间: {}", MAX_WORKER_ID, this.workerId);
+        }
+        this.workerBits = this.workerId << SEQUENCE_BITS;
+        this.maxBackwardMillis = Math.max(0L, maxBackwardMillis);
+        long lastTimestamp = assigner.lastTimestamp();
+        if (lastTimestamp > EPOCH) {
+            this.awaitClock(lastTimestamp);
+            // 上次记录的毫秒可能已经用完, 从下一毫秒开始
+            this.state = new AtomicLong(((lastTimestamp - EPOCH) << SEQUENCE_BITS) | SEQUENCE_MASK);
+        } else {
+            this.state = new AtomicLong();
+        }
+    }
+
+    /**
+     * 显式指定 worker id, 不容忍时钟回拨
+     *
+     * @param workerId worker id
+     * @since 1.0.0
+     */
+    public SnowflakeIdGenerator(long workerId) {
+        this(WorkerIdAssigner.fixed(workerId), 0L);
+    }
+
+    /**
+     * Next id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Override
+    public long nextId() {
+        return this.compose(this.reserve(1));
+    }
+
+    /**
+     * 每 {@link #SEQUENCES_PER_MILLIS} 个 id 一次 CAS
+     *
+     * @param size 数量
+     * @return the long [ ]
+     * @since 1.0.0
+     */
+    @Override
+    public long[] nextIds(int size) {
+        long[] ids = new long[size];
+        int index = 0;
+        while (index < size) {
+            int count = Math.min(size - index, SEQUENCES_PER_MILLIS);
+            long end = this.reserve(count);
+            for (long packed = end - count + 1; packed <= end; packed++) {
+                ids[index++] = this.compose(packed);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 每个线程每次预留 batchSize 个序列号, 之后在线程内发放, 不再有任何竞争.
+     * 发放的 id 仍然唯一, 但不同线程之间只保证大致递增, 线程结束时未用完的序列号被丢弃
+     *
+     * @param batchSize 每次预留的数量, 不超过 {@link #SEQUENCES_PER_MILLIS}
+     * @return the id generator
+     * @since 1.0.0
+     */
+    public IdGenerator batched(int batchSize) {
+        if (batchSize < 1 || batchSize > SEQUENCES_PER_MILLIS) {
+            throw new LowestException("batch size 必须在 [1, {}] 之间: {}", SEQUENCES_PER_MILLIS, batchSize);
+        }
+        return new Batched(batchSize);
+    }
+
+    /**
+     * Worker id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long workerId() {
+        return this.workerId;
+    }
+
+    /**
+     * 最后发放 (或预留) 的 id 的毫秒时间戳
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long lastTimestamp() {
+        return (this.state.get() >>> SEQUENCE_BITS) + EPOCH;
+    }
+
+    /**
+     * 解析 id 中的毫秒时间戳
+     *
+     * @param id id
+     * @return the long
+     * @since 1.0.0
+     */
+    public static long timestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    /**
+     * 解析 id 中的 worker id
+     *
+     * @param id id
+     * @return the long
+     * @since 1.0.0
+     */
+    public static long workerId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_WORKER_ID;
+    }
+
+    /**
+     * 预留 count 个连续的序列号
+     *
+     * @param count 不超过 {@link #SEQUENCES_PER_MILLIS}
+     * @return 预留的最后一个 (时间戳 << SEQUENCE_BITS | 序列号)
+     * @since 1.0.0
+     */
+    private long reserve(int count) {
+        for (; ; ) {
+            long current = this.state.get();
+            long now = System.currentTimeMillis() - EPOCH;
+            long last = current >>> SEQUENCE_BITS;
+            long next;
+            if (now > last) {
+                next = (now << SEQUENCE_BITS) + count - 1;
+            } else {
+                if (last - now > this.maxBackwardMillis) {
+                    throw new LowestException("时钟回拨 {} ms, 超过容忍的 {} ms, worker id: {}",
+                                              last - now, this.maxBackwardMillis, this.workerId);
+                }
+                // 序列号用完时进位到下一毫秒
+                next = current + count;
+                if ((next >>> SEQUENCE_BITS) - now > this.maxBackwardMillis) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+            if (this.state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Compose
+     *
+     * @param packed (时间戳 << SEQUENCE_BITS | 序列号)
+     * @return the long
+     * @since 1.0.0
+     */
+    private long compose(long packed) {
+        return ((packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | this.workerBits | (packed & SEQUENCE_MASK);
+    }
+
+    /**
+     * 等待时钟追上上次记录的时间戳
+     *
+     * @param lastTimestamp last timestamp
+     * @since 1.0.0
+     */
+    private void awaitClock(long lastTimestamp) {
+        long behind = lastTimestamp - System.currentTimeMillis();
+        if (behind <= this.maxBackwardMillis) {
+            return;
+        }
+        if (behind > MAX_STARTUP_WAIT_MILLIS) {
+            throw new LowestException("当前时钟落后 worker id [{}] 上次记录的时间戳 {} ms, 请检查系统时钟", this.workerId, behind);
+        }
+        log.warn("当前时钟落后 worker id [{}] 上次记录的时间戳 {} ms, 等待时钟追上", this.workerId, behind);
+        try {
+            TimeUnit.MILLISECONDS.sleep(behind - this.maxBackwardMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LowestException("等待时钟时被中断", e);
+        }
+    }
+
+    /**
+     * <p>Description: 按线程批量预留的视图 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 22:40
+     * @since 1.0.0
+     */
+    private final class Batched implements IdGenerator {
+        /** Batch size */
+        private final int batchSize;
+        /** 线程内尚未发放的范围: [next, end] */
+        private final ThreadLocal<long[]> ranges = ThreadLocal.withInitial(() -> new long[] {1L, 0L});
+
+        /**
+         * Batched
+         *
+         * @param batchSize batch size
+         * @since 1.0.0
+         */
+        private Batched(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Next id
+         *
+         * @return the long
+         * @since 1.0.0
+         */
+        @Override
+        public long nextId() {
+            long[] range = this.ranges.get();
+            if (range[0] > range[1]) {
+                long end = SnowflakeIdGenerator.this.reserve(this.batchSize);
+                range[0] = end - this.batchSize + 1;
+                range[1] = end;
+            }
+            return SnowflakeIdGenerator.this.compose(range[0]++);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <p>Description: 雪花算法的 worker id 分配 </p>
+ * 1. {@link #fixed(long)}: 显式指定, 由部署方保证不重复, 适合多机部署
+ * 2. {@link #lease(Path)}: 在目录中按文件锁租用, 同一台机器 (或共享同一目录) 的进程之间不重复,
+ * 并记录最后使用的时间戳, 重启后据此判断时钟是否回拨
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+public interface WorkerIdAssigner extends AutoCloseable {
+
+    /**
+     * Worker id, 取值范围 [0, {@link SnowflakeIdGenerator#MAX_WORKER_ID}]
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    long workerId();
+
+    /**
+     * 上一次使用该 worker id 时记录的时间戳
+     *
+     * @return 没有记录时返回 0
+     * @since 1.0.0
+     */
+    default long lastTimestamp() {
+        return 0L;
+    }
+
+    /**
+     * 记录当前使用到的时间戳
+     *
+     * @param timestamp 毫秒时间戳
+     * @since 1.0.0
+     */
+    default void checkpoint(long timestamp) {
+        // nothing to do
+    }
+
+    /**
+     * 释放 worker id
+     *
+     * @since 1.0.0
+     */
+    @Override
+    default void close() {
+        // nothing to do
+    }
+
+    /**
+     * 显式指定 worker id
+     *
+     * @param workerId worker id
+     * @return the worker id assigner
+     * @since 1.0.0
+     */
+    static WorkerIdAssigner fixed(long workerId) {
+        if (workerId < 0 || workerId > SnowflakeIdGenerator.MAX_WORKER_ID) {
+            throw new LowestException("worker id 必须在 [0, {}] 之间: {}", SnowflakeIdGenerator.MAX_WORKER_ID, workerId);
+        }
+        return () -> workerId;
+    }
+
+    /**
+     * 在目录中租用第一个空闲的 worker id, 进程退出时文件锁自动释放
+     *
+     * @param directory 租约目录
+     * @return the worker id assigner
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    static WorkerIdAssigner lease(Path directory) throws IOException {
+        return lease(directory, 0L);
+    }
+
+    /**
+     * 在目录中从 preferred 开始租用第一个空闲的 worker id. 每台机器使用各自的本地目录时,
+     * 不同机器传入不同的 preferred (例如由 IP 地址得到) 可以降低 worker id 重复的概率
+     *
+     * @param directory 租约目录
+     * @param preferred 优先尝试的 worker id, 按 {@link SnowflakeIdGenerator#MAX_WORKER_ID} + 1 取模
+     * @return the worker id assigner
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    static WorkerIdAssigner lease(Path directory, long preferred) throws IOException {
+        return LeaseFileWorkerIdAssigner.acquire(directory, Math.floorMod(preferred, SnowflakeIdGenerator.MAX_WORKER_ID + 1));
+    }
+}
@@ -0,0 +1,254 @@
+package dev.dong4j.zeka.kernel.common.node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Description: 线性时间的森林构建器 </p>
+ * 按 id 建立哈希索引, 一次遍历把节点挂到父节点的 children 上, 时间复杂度为 O(n):
+ * 1. parentId 为 null 或 0 的节点为根节点
+ * 2. 父节点不存在的节点为孤儿节点, 默认作为根节点返回 (与 {@link ForestNodeMerger#merge(List)} 一致)
+ * 3. 从根节点不可达的节点 (父链上存在环) 不会出现在结果中, 通过 {@link Forest#cyclic()} 返回
+ * 4. id 重复时子节点挂到第一个节点上
+ * 指定排序规则后对每个节点的 children 分别排序, 各节点之间互不依赖, 可以并行执行.
+ * <p>
+ * 构建过程会修改节点的 children, 同一批节点只能构建一次.
+ * <pre>{@code
+ * Forest<Menu> forest = ForestNodeBuilder.of(menus)
+ *     .sort(Comparator.comparing(Menu::getSort))
+ *     .parallel(true)
+ *     .build();
+ * }</pre>
+ *
+ * @param <T> 节点类型
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:40
+ * @since 1.0.0
+ */
+public final class ForestNodeBuilder<T extends INode> {
+
+    /** 并行排序的最小节点数, 节点较少时线程切换的开销大于排序本身 */
+    private static final int PARALLEL_THRESHOLD = 8192;
+
+    /** 所有节点 */
+    private final List<T> items;
+    /** 孤儿节点是否作为根节点 */
+    private boolean orphanAsRoot = true;
+    /** 子节点排序规则 */
+    private Comparator<? super T> comparator;
+    /** 是否并行排序 */
+    private boolean parallel;
+
+    /**
+     * Forest node builder
+     *
+     * @param items items
+     * @since 1.0.0
+     */
+    private ForestNodeBuilder(List<T> items) {
+        this.items = items;
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @param <T>   节点类型
+     * @param items 所有节点
+     * @return the forest node builder
+     * @since 1.0.0
+     */
+    public static <T extends INode> ForestNodeBuilder<T> of(List<T> items) {
+        return new ForestNodeBuilder<>(items);
+    }
+
+    /**
+     * 孤儿节点是否作为根节点, 默认 true, 为 false 时孤儿节点及其子孙不出现在结果中
+     *
+     * @param orphanAsRoot orphan as root
+     * @return the forest node builder
+     * @since 1.0.0
+     */
+    public ForestNodeBuilder<T> orphanAsRoot(boolean orphanAsRoot) {
+        this.orphanAsRoot = orphanAsRoot;
+        return this;
+    }
+
+    /**
+     * 根节点与每个节点的 children 的排序规则
+     *
+     * @param comparator comparator
+     * @return the forest node builder
+     * @since 1.0.0
+     */
+    public ForestNodeBuilder<T> sort(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        return this;
+    }
+
+    /**
+     * 是否并行排序, 节点数小于 {@value #PARALLEL_THRESHOLD} 时仍然串行
+     *
+     * @param parallel parallel
+     * @return the forest node builder
+     * @since 1.0.0
+     */
+    public ForestNodeBuilder<T> parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * 构建森林
+     *
+     * @return the forest
+     * @since 1.0.0
+     */
+    public Forest<T> build() {
+        Map<Integer, T> index = new HashMap<>((int) (this.items.size() / 0.75f) + 1);
+        for (T item : this.items) {
+            if (item.getId() != null) {
+                index.putIfAbsent(item.getId(), item);
+            }
+        }
+
+        List<T> roots = new ArrayList<>();
+        List<T> orphans = new ArrayList<>();
+        for (T item : this.items) {
+            Integer parentId = item.getParentId();
+            if (parentId == null || parentId == 0) {
+                roots.add(item);
+                continue;
+            }
+            T parent = index.get(parentId);
+            if (parent != null) {
+                parent.getChildren().add(item);
+            } else {
+                orphans.add(item);
+                if (this.orphanAsRoot) {
+                    roots.add(item);
+                }
+            }
+        }
+
+        List<T> cyclic = this.unreachable(roots, orphans);
+        if (this.comparator != null) {
+            this.sortChildren(roots);
+        }
+        return new Forest<>(roots, orphans, cyclic);
+    }
+
+    /**
+     * 找出从根节点与孤儿节点都不可达的节点
+     * <p>
+     * 每个节点最多挂在一个父节点下, 根节点与孤儿节点不会是任何节点的子节点, 因此从它们出发的遍历不会重复访问,
+     * 先计数, 数量不一致时才记录访问过的节点
+     *
+     * @param roots   roots
+     * @param orphans orphans
+     * @return 不可达的节点, 没有时返回空集合
+     * @since 1.0.0
+     */
+    private List<T> unreachable(List<T> roots, List<T> orphans) {
+        List<INode> starts = new ArrayList<>(roots);
+        if (!this.orphanAsRoot) {
+            starts.addAll(orphans);
+        }
+        if (traverse(starts, null) == this.items.size()) {
+            return Collections.emptyList();
+        }
+        Set<INode> reached = Collections.newSetFromMap(new IdentityHashMap<>(this.items.size()));
+        traverse(starts, reached);
+        List<T> cyclic = new ArrayList<>();
+        for (T item : this.items) {
+            if (!reached.contains(item)) {
+                cyclic.add(item);
+            }
+        }
+        return cyclic;
+    }
+
+    /**
+     * 广度优先遍历
+     *
+     * @param starts  起始节点
+     * @param reached 访问过的节点, 为 null 时只计数
+     * @return 访问的节点数
+     * @since 1.0.0
+     */
+    private static int traverse(List<INode> starts, Set<INode> reached) {
+        List<INode> queue = new ArrayList<>(starts);
+        for (int i = 0; i < queue.size(); i++) {
+            INode node = queue.get(i);
+            if (reached != null) {
+                reached.add(node);
+            }
+            queue.addAll(node.getChildren());
+        }
+        return queue.size();
+    }
+
+    /**
+     * 对根节点与每个节点的 children 排序
+     *
+     * @param roots roots
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    private void sortChildren(List<T> roots) {
+        Comparator<INode> nodeComparator = (Comparator<INode>) this.comparator;
+        roots.sort(this.comparator);
+        if (this.parallel && this.items.size() >= PARALLEL_THRESHOLD) {
+            this.items.parallelStream().forEach(item -> sortChildren(item, nodeComparator));
+        } else {
+            this.items.forEach(item -> sortChildren(item, nodeComparator));
+        }
+    }
+
+    /**
+     * Sort children
+     *
+     * @param node       node
+     * @param comparator comparator
+     * @since 1.0.0
+     */
+    private static void sortChildren(INode node, Comparator<INode> comparator) {
+        List<INode> children = node.getChildren();
+        if (children.size() > 1) {
+            children.sort(comparator);
+        }
+    }
+
+    /**
+     * <p>Description: 构建结果 </p>
+     *
+     * @param <T>     节点类型
+     * @param roots   根节点, 包含作为根节点的孤儿节点
+     * @param orphans 父节点不存在的节点
+     * @param cyclic  父链上存在环, 从根节点不可达的节点
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 21:40
+     * @since 1.0.0
+     */
+    public record Forest<T extends INode>(List<T> roots, List<T> orphans, List<T> cyclic) {
+
+        /**
+         * 是否存在环
+         *
+         * @return the boolean
+         * @since 1.0.0
+         */
+        public boolean hasCycle() {
+            return !this.cyclic.isEmpty();
+        }
+    }
+}
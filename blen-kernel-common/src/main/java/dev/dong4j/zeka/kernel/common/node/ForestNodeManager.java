@@ -1,7 +1,11 @@
 package dev.dong4j.zeka.kernel.common.node;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>Description: 森林管理类</p>
@@ -20,10 +24,15 @@ public class ForestNodeManager<T extends INode> {
      */
     private final List<T> list;
 
+    /**
+     * 节点ID索引, id 重复时保留第一个节点
+     */
+    private final Map<Integer, T> index;
+
     /**
      * 森林的父节点ID
      */
-    private final List<Integer> parentIds = new ArrayList<>();
+    private final Set<Integer> parentIds = new HashSet<>();
 
     /**
      * Instantiates a new Forest node manager.
@@ -33,6 +42,12 @@ public class ForestNodeManager<T extends INode> {
      */
     public ForestNodeManager(List<T> items) {
         list = items;
+        index = new HashMap<>((int) (items.size() / 0.75f) + 1);
+        for (T item : items) {
+            if (item.getId() != null) {
+                index.putIfAbsent(item.getId(), item);
+            }
+        }
     }
 
     /**
@@ -43,12 +58,7 @@ public class ForestNodeManager<T extends INode> {
      * @since 1.0.0
      */
     public INode getTreeNodeAt(int id) {
-        for (INode forestNode : list) {
-            if (forestNode.getId() == id) {
-                return forestNode;
-            }
-        }
-        return null;
+        return index.get(id);
     }
 
     /**
@@ -15,7 +15,7 @@ public class ForestNodeMerger {
 
     /**
      * 将节点数组归并为一个森林 (多棵树)  (填充节点的children域)
-     * 时间复杂度为O(n^2)
+     * 父节点不存在的节点作为根节点返回, 时间复杂度为O(n), 需要排序或检查环时使用 {@link ForestNodeBuilder}
      *
      * @param <T>   T 泛型标记
      * @param items 节点域
@@ -23,18 +23,7 @@ public class ForestNodeMerger {
      * @since 1.0.0
      */
     public static <T extends INode> List<T> merge(List<T> items) {
-        ForestNodeManager<T> forestNodeManager = new ForestNodeManager<>(items);
-        items.forEach(forestNode -> {
-            if (forestNode.getParentId() != 0) {
-                INode node = forestNodeManager.getTreeNodeAt(forestNode.getParentId());
-                if (node != null) {
-                    node.getChildren().add(forestNode);
-                } else {
-                    forestNodeManager.addParentId(forestNode.getId());
-                }
-            }
-        });
-        return forestNodeManager.getRoot();
+        return ForestNodeBuilder.of(items).build().roots();
     }
 
 }
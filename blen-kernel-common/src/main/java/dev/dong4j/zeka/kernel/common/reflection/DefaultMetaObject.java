@@ -21,11 +21,13 @@ public final class DefaultMetaObject {
     public static final ObjectFactory DEFAULT_OBJECT_FACTORY = new DefaultObjectFactory();
     /** DEFAULT_OBJECT_WRAPPER_FACTORY */
     public static final ObjectWrapperFactory DEFAULT_OBJECT_WRAPPER_FACTORY = new DefaultObjectWrapperFactory();
+    /** DEFAULT_REFLECTOR_FACTORY, 共享实例以复用已解析的 Reflector */
+    public static final ReflectorFactory DEFAULT_REFLECTOR_FACTORY = new DefaultReflectorFactory();
     /** NULL_META_OBJECT */
     public static final MetaObject NULL_META_OBJECT = MetaObject.forObject(Object.class,
         DEFAULT_OBJECT_FACTORY,
         DEFAULT_OBJECT_WRAPPER_FACTORY,
-        new DefaultReflectorFactory());
+        DEFAULT_REFLECTOR_FACTORY);
 
     /**
      * Default meta object
@@ -45,7 +47,7 @@ public final class DefaultMetaObject {
      */
     @Contract("!null -> new")
     public static MetaObject forObject(Object object) {
-        return MetaObject.forObject(object, DEFAULT_OBJECT_FACTORY, DEFAULT_OBJECT_WRAPPER_FACTORY, new DefaultReflectorFactory());
+        return MetaObject.forObject(object, DEFAULT_OBJECT_FACTORY, DEFAULT_OBJECT_WRAPPER_FACTORY, DEFAULT_REFLECTOR_FACTORY);
     }
 
 }
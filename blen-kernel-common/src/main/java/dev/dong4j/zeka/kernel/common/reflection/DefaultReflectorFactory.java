@@ -51,10 +51,21 @@ public class DefaultReflectorFactory implements ReflectorFactory {
     public Reflector findForClass(Class<?> type) {
         if (this.classCacheEnabled) {
             // synchronized (type) removed see issue #461
-            return this.reflectorMap.computeIfAbsent(type, Reflector::new);
+            return this.reflectorMap.computeIfAbsent(type, this::createReflector);
         } else {
-            return new Reflector(type);
+            return this.createReflector(type);
         }
     }
 
+    /**
+     * 创建 Reflector, 子类可以替换属性访问器的生成方式
+     *
+     * @param type type
+     * @return the reflector
+     * @since 1.0.0
+     */
+    protected Reflector createReflector(Class<?> type) {
+        return new Reflector(type);
+    }
+
 }
@@ -0,0 +1,39 @@
+package dev.dong4j.zeka.kernel.common.reflection;
+
+import dev.dong4j.zeka.kernel.common.reflection.invoker.LambdaInvokerFactory;
+
+/**
+ * <p>Description: 使用 {@link LambdaInvokerFactory} 生成属性访问器的 {@link ReflectorFactory} </p>
+ * 构建 {@link Reflector} 时为每个 getter/setter 生成 LambdaMetafactory 访问器, 字段使用 MethodHandle,
+ * 之后 {@link MetaObject} 的属性读写不再经过 {@link java.lang.reflect.Method#invoke}.
+ * 生成访问器的成本高于反射, 适合实体类型固定, 同一类型被反复读写的场景 (如 MetaObjectHandler 自动填充)
+ * <pre>{@code
+ * MetaObject metaObject = MetaObject.forObject(entity,
+ *     DefaultMetaObject.DEFAULT_OBJECT_FACTORY,
+ *     DefaultMetaObject.DEFAULT_OBJECT_WRAPPER_FACTORY,
+ *     LambdaReflectorFactory.INSTANCE);
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+public class LambdaReflectorFactory extends DefaultReflectorFactory {
+
+    /** INSTANCE */
+    public static final LambdaReflectorFactory INSTANCE = new LambdaReflectorFactory();
+
+    /**
+     * Create reflector
+     *
+     * @param type type
+     * @return the reflector
+     * @since 1.0.0
+     */
+    @Override
+    protected Reflector createReflector(Class<?> type) {
+        return new Reflector(type, LambdaInvokerFactory.INSTANCE);
+    }
+}
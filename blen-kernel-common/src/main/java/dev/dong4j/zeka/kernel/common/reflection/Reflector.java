@@ -2,10 +2,9 @@ package dev.dong4j.zeka.kernel.common.reflection;
 
 import com.google.common.collect.Maps;
 import dev.dong4j.zeka.kernel.common.reflection.invoker.AmbiguousMethodInvoker;
-import dev.dong4j.zeka.kernel.common.reflection.invoker.GetFieldInvoker;
 import dev.dong4j.zeka.kernel.common.reflection.invoker.Invoker;
+import dev.dong4j.zeka.kernel.common.reflection.invoker.InvokerFactory;
 import dev.dong4j.zeka.kernel.common.reflection.invoker.MethodInvoker;
-import dev.dong4j.zeka.kernel.common.reflection.invoker.SetFieldInvoker;
 import dev.dong4j.zeka.kernel.common.reflection.property.PropertyNamer;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
@@ -59,6 +58,8 @@ public class Reflector {
     private final Map<String, Class<?>> getTypes = Maps.newHashMap();
     /** Case insensitive property map */
     private final Map<String, String> caseInsensitivePropertyMap = Maps.newHashMap();
+    /** 属性访问器工厂 */
+    private final InvokerFactory invokerFactory;
     /** Default constructor */
     private Constructor<?> defaultConstructor;
 
@@ -69,7 +70,19 @@ public class Reflector {
      * @since 1.0.0
      */
     public Reflector(Class<?> clazz) {
+        this(clazz, InvokerFactory.REFLECTIVE);
+    }
+
+    /**
+     * Reflector
+     *
+     * @param clazz          clazz
+     * @param invokerFactory 属性访问器工厂
+     * @since 1.0.0
+     */
+    public Reflector(Class<?> clazz, InvokerFactory invokerFactory) {
         this.type = clazz;
+        this.invokerFactory = invokerFactory;
         this.addDefaultConstructor(clazz);
         this.addGetMethods(clazz);
         this.addSetMethods(clazz);
@@ -180,12 +193,12 @@ public class Reflector {
      * @since 1.0.0
      */
     private void addGetMethod(String name, Method method, boolean isAmbiguous) {
-        MethodInvoker invoker = isAmbiguous
+        Invoker invoker = isAmbiguous
             ? new AmbiguousMethodInvoker(method, MessageFormat.format(
             "Illegal overloaded getter method with ambiguous type for property ''{0}'' in class ''{1}''. "
                 + "This breaks the JavaBeans specification and can cause unpredictable results.",
             name, method.getDeclaringClass().getName()))
-            : new MethodInvoker(method);
+            : this.invokerFactory.getter(method);
         this.getMethods.put(name, invoker);
         Type returnType = TypeParameterResolver.resolveReturnType(method, this.type);
         this.getTypes.put(name, this.typeToClass(returnType));
@@ -291,7 +304,7 @@ public class Reflector {
      * @since 1.0.0
      */
     private void addSetMethod(String name, Method method) {
-        MethodInvoker invoker = new MethodInvoker(method);
+        Invoker invoker = this.invokerFactory.setter(method);
         this.setMethods.put(name, invoker);
         Type[] paramTypes = TypeParameterResolver.resolveParamTypes(method, this.type);
         this.setTypes.put(name, this.typeToClass(paramTypes[0]));
@@ -360,7 +373,7 @@ public class Reflector {
      */
     private void addSetField(@NotNull Field field) {
         if (this.isValidPropertyName(field.getName())) {
-            this.setMethods.put(field.getName(), new SetFieldInvoker(field));
+            this.setMethods.put(field.getName(), this.invokerFactory.setField(field));
             Type fieldType = TypeParameterResolver.resolveFieldType(field, this.type);
             this.setTypes.put(field.getName(), this.typeToClass(fieldType));
         }
@@ -374,7 +387,7 @@ public class Reflector {
      */
     private void addGetField(@NotNull Field field) {
         if (this.isValidPropertyName(field.getName())) {
-            this.getMethods.put(field.getName(), new GetFieldInvoker(field));
+            this.getMethods.put(field.getName(), this.invokerFactory.getField(field));
             Type fieldType = TypeParameterResolver.resolveFieldType(field, this.type);
             this.getTypes.put(field.getName(), this.typeToClass(fieldType));
         }
@@ -0,0 +1,50 @@
+package dev.dong4j.zeka.kernel.common.reflection.invoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/**
+ * <p>Description: 通过 {@link MethodHandle} 读取字段 </p>
+ * {@link java.lang.invoke.LambdaMetafactory} 不支持字段访问, 字段使用预先适配为 (Object)Object 的 MethodHandle
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+public class HandleGetFieldInvoker extends GetFieldInvoker {
+    /** Getter, 类型为 (Object)Object */
+    private final MethodHandle getter;
+
+    /**
+     * Handle get field invoker
+     *
+     * @param field  field
+     * @param getter getter
+     * @since 1.0.0
+     */
+    public HandleGetFieldInvoker(Field field, MethodHandle getter) {
+        super(field);
+        this.getter = getter;
+    }
+
+    /**
+     * Invoke object
+     *
+     * @param target target
+     * @param args   args
+     * @return the object
+     * @since 1.0.0
+     */
+    @Override
+    public Object invoke(Object target, Object[] args) {
+        try {
+            return (Object) this.getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dev.dong4j.zeka.kernel.common.reflection.invoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 通过 {@link MethodHandle} 写入字段 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+public class HandleSetFieldInvoker extends SetFieldInvoker {
+    /** Setter, 类型为 (Object,Object)void */
+    private final MethodHandle setter;
+    /** 字段是否为基本类型, 基本类型不接受 null */
+    private final boolean primitive;
+
+    /**
+     * Handle set field invoker
+     *
+     * @param field  field
+     * @param setter setter
+     * @since 1.0.0
+     */
+    public HandleSetFieldInvoker(@NotNull Field field, MethodHandle setter) {
+        super(field);
+        this.setter = setter;
+        this.primitive = field.getType().isPrimitive();
+    }
+
+    /**
+     * Invoke object
+     *
+     * @param target target
+     * @param args   args
+     * @return the object
+     * @since 1.0.0
+     */
+    @Override
+    public Object invoke(Object target, Object @NotNull [] args) {
+        Object value = args[0];
+        if (value == null && this.primitive) {
+            throw new IllegalArgumentException("Cannot assign null to primitive type '" + this.getType().getName() + "'");
+        }
+        try {
+            this.setter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.dong4j.zeka.kernel.common.reflection.invoker;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: {@link dev.dong4j.zeka.kernel.common.reflection.Reflector} 构建属性访问器时使用的工厂 </p>
+ * 默认实现直接使用反射调用的 {@link MethodInvoker}, {@link GetFieldInvoker} 与 {@link SetFieldInvoker}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+public interface InvokerFactory {
+
+    /** 反射调用的默认实现 */
+    InvokerFactory REFLECTIVE = new InvokerFactory() {
+    };
+
+    /**
+     * getter 方法访问器
+     *
+     * @param method method
+     * @return the invoker
+     * @since 1.0.0
+     */
+    default Invoker getter(@NotNull Method method) {
+        return new MethodInvoker(method);
+    }
+
+    /**
+     * setter 方法访问器
+     *
+     * @param method method
+     * @return the invoker
+     * @since 1.0.0
+     */
+    default Invoker setter(@NotNull Method method) {
+        return new MethodInvoker(method);
+    }
+
+    /**
+     * 字段读取访问器
+     *
+     * @param field field
+     * @return the invoker
+     * @since 1.0.0
+     */
+    default Invoker getField(@NotNull Field field) {
+        return new GetFieldInvoker(field);
+    }
+
+    /**
+     * 字段写入访问器
+     *
+     * @param field field
+     * @return the invoker
+     * @since 1.0.0
+     */
+    default Invoker setField(@NotNull Field field) {
+        return new SetFieldInvoker(field);
+    }
+}
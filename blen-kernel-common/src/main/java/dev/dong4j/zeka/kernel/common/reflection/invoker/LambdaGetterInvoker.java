@@ -0,0 +1,59 @@
+package dev.dong4j.zeka.kernel.common.reflection.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 通过 {@link java.lang.invoke.LambdaMetafactory} 生成的 {@link Function} 调用 getter 方法 </p>
+ * 继承 {@link MethodInvoker} 以保留原始 {@link Method}, 供 {@link dev.dong4j.zeka.kernel.common.reflection.MetaClass} 解析泛型返回类型
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+public class LambdaGetterInvoker extends MethodInvoker {
+    /** Getter */
+    private final Function<Object, Object> getter;
+    /** 声明 getter 的类 */
+    private final Class<?> declaringClass;
+
+    /**
+     * Lambda getter invoker
+     *
+     * @param method method
+     * @param getter getter
+     * @since 1.0.0
+     */
+    public LambdaGetterInvoker(@NotNull Method method, Function<Object, Object> getter) {
+        super(method);
+        this.getter = getter;
+        this.declaringClass = method.getDeclaringClass();
+    }
+
+    /**
+     * Invoke object
+     *
+     * @param target target
+     * @param args   args
+     * @return the object
+     * @throws IllegalAccessException    illegal access exception
+     * @throws InvocationTargetException getter 方法抛出的异常, 与 {@link Method#invoke(Object, Object...)} 保持一致
+     * @since 1.0.0
+     */
+    @Override
+    public Object invoke(Object target, Object[] args) throws IllegalAccessException, InvocationTargetException {
+        // 目标对象类型不匹配时交给 Method#invoke 抛出 IllegalArgumentException, 而不是包装 lambda 内部的 ClassCastException
+        if (!this.declaringClass.isInstance(target)) {
+            return super.invoke(target, args);
+        }
+        try {
+            return this.getter.apply(target);
+        } catch (RuntimeException | Error e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
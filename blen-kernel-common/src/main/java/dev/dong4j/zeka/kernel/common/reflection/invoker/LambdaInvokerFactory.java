@@ -0,0 +1,161 @@
+package dev.dong4j.zeka.kernel.common.reflection.invoker;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 在构建 {@link dev.dong4j.zeka.kernel.common.reflection.Reflector} 时为每个属性生成访问器 </p>
+ * 1. getter/setter 方法通过 {@link LambdaMetafactory} 生成 {@link Function}/{@link BiConsumer}, 调用开销与直接调用接近
+ * 2. 字段通过 {@link MethodHandle} 访问, LambdaMetafactory 不支持字段
+ * 3. 无法生成时 (静态方法, 模块不可访问, final 字段写入等) 退回到反射调用的 {@link InvokerFactory#REFLECTIVE} 实现
+ * 每个属性都会生成一个隐藏类, 应配合开启缓存的 {@link dev.dong4j.zeka.kernel.common.reflection.ReflectorFactory} 使用
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+@Slf4j
+public final class LambdaInvokerFactory implements InvokerFactory {
+
+    /** INSTANCE */
+    public static final LambdaInvokerFactory INSTANCE = new LambdaInvokerFactory();
+    /** Lookup */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /** (Object)Object */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    /** (Object,Object)void */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Lambda invoker factory
+     *
+     * @since 1.0.0
+     */
+    private LambdaInvokerFactory() {
+    }
+
+    /**
+     * getter 方法访问器
+     *
+     * @param method method
+     * @return the invoker
+     * @since 1.0.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Invoker getter(@NotNull Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    GETTER_TYPE,
+                    handle,
+                    handle.type().wrap());
+                return new LambdaGetterInvoker(method, (Function<Object, Object>) site.getTarget().invokeExact());
+            } catch (Throwable e) {
+                log.debug("无法为 [{}] 生成 getter 访问器, 使用反射调用: {}", method, e.getMessage());
+            }
+        }
+        return InvokerFactory.super.getter(method);
+    }
+
+    /**
+     * setter 方法访问器
+     *
+     * @param method method
+     * @return the invoker
+     * @since 1.0.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Invoker setter(@NotNull Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                // setter 可能返回 this (链式调用), BiConsumer 会丢弃返回值
+                CallSite site = LambdaMetafactory.metafactory(lookup,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    SETTER_TYPE,
+                    handle,
+                    handle.type().wrap().changeReturnType(void.class));
+                return new LambdaSetterInvoker(method, (BiConsumer<Object, Object>) site.getTarget().invokeExact());
+            } catch (Throwable e) {
+                log.debug("无法为 [{}] 生成 setter 访问器, 使用反射调用: {}", method, e.getMessage());
+            }
+        }
+        return InvokerFactory.super.setter(method);
+    }
+
+    /**
+     * 字段读取访问器
+     *
+     * @param field field
+     * @return the invoker
+     * @since 1.0.0
+     */
+    @Override
+    public Invoker getField(@NotNull Field field) {
+        try {
+            MethodHandle handle = lookup(field.getDeclaringClass()).unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return new HandleGetFieldInvoker(field, handle.asType(GETTER_TYPE));
+        } catch (Throwable e) {
+            log.debug("无法为 [{}] 生成字段读取访问器, 使用反射调用: {}", field, e.getMessage());
+        }
+        return InvokerFactory.super.getField(field);
+    }
+
+    /**
+     * 字段写入访问器, final 字段无法通过 MethodHandle 写入, 由反射实现处理
+     *
+     * @param field field
+     * @return the invoker
+     * @since 1.0.0
+     */
+    @Override
+    public Invoker setField(@NotNull Field field) {
+        if (!Modifier.isFinal(field.getModifiers())) {
+            try {
+                MethodHandle handle = lookup(field.getDeclaringClass()).unreflectSetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return new HandleSetFieldInvoker(field, handle.asType(SETTER_TYPE));
+            } catch (Throwable e) {
+                log.debug("无法为 [{}] 生成字段写入访问器, 使用反射调用: {}", field, e.getMessage());
+            }
+        }
+        return InvokerFactory.super.setField(field);
+    }
+
+    /**
+     * 获取目标类的私有 Lookup, 生成的隐藏类与目标类位于同一个类加载器, 可以访问非 public 成员
+     *
+     * @param type type
+     * @return the lookup
+     * @throws IllegalAccessException 目标类所在模块未开放时抛出
+     * @since 1.0.0
+     */
+    private static MethodHandles.Lookup lookup(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, LOOKUP);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.dong4j.zeka.kernel.common.reflection.invoker;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 通过 {@link java.lang.invoke.LambdaMetafactory} 生成的 {@link BiConsumer} 调用 setter 方法 </p>
+ * 目标对象或参数类型不匹配时交给 {@link Method#invoke(Object, Object...)}, 抛出 {@link IllegalArgumentException},
+ * 基本类型的拓宽转换 (例如 Integer 赋值给 long) 也与反射一致; 只有 setter 自身抛出的异常才包装为 {@link InvocationTargetException}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 1.0.0
+ */
+public class LambdaSetterInvoker extends MethodInvoker {
+    /** Setter */
+    private final BiConsumer<Object, Object> setter;
+    /** 参数是否为基本类型, 基本类型不接受 null */
+    private final boolean primitive;
+    /** 声明 setter 的类 */
+    private final Class<?> declaringClass;
+    /** 参数类型, 基本类型转换为包装类型 */
+    private final Class<?> argumentType;
+
+    /**
+     * Lambda setter invoker
+     *
+     * @param method method
+     * @param setter setter
+     * @since 1.0.0
+     */
+    public LambdaSetterInvoker(@NotNull Method method, BiConsumer<Object, Object> setter) {
+        super(method);
+        this.setter = setter;
+        this.primitive = method.getParameterTypes()[0].isPrimitive();
+        this.declaringClass = method.getDeclaringClass();
+        this.argumentType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+    }
+
+    /**
+     * Invoke object
+     *
+     * @param target target
+     * @param args   args
+     * @return the object
+     * @throws IllegalAccessException    illegal access exception
+     * @throws InvocationTargetException setter 方法抛出的异常, 与 {@link Method#invoke(Object, Object...)} 保持一致
+     * @since 1.0.0
+     */
+    @Override
+    public Object invoke(Object target, Object @NotNull [] args) throws IllegalAccessException, InvocationTargetException {
+        Object value = args[0];
+        if (value == null && this.primitive) {
+            throw new IllegalArgumentException("Cannot assign null to primitive type '" + this.getType().getName() + "'");
+        }
+        // 类型不匹配时 lambda 内部的强制转换会抛出 ClassCastException, 不能当作 setter 的异常
+        if (!this.declaringClass.isInstance(target) || value != null && !this.argumentType.isInstance(value)) {
+            return super.invoke(target, args);
+        }
+        try {
+            this.setter.accept(target, value);
+        } catch (RuntimeException | Error e) {
+            throw new InvocationTargetException(e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,275 @@
+package dev.dong4j.zeka.kernel.common.support;
+
+import dev.dong4j.zeka.kernel.common.convert.CustomConverter;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.BeanUtils;
+import org.springframework.cglib.core.Converter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * <p>Description: {@link BaseBeanCopier} 注册表 </p>
+ * 按 (source, target, useConverter) 缓存生成好的复制器和目标类型的构造器:
+ * 1. 命中缓存时不再经过 cglib KeyFactory 与 AbstractClassGenerator 的缓存查找
+ * 2. 目标类型有 public 无参构造器时, 通过 {@link LambdaMetafactory} 生成 {@link Supplier}, 避免反射调用构造器
+ * 3. 使用 converter 时同时缓存 {@link CustomConverter} 实例
+ * 缓存使用软引用, 内存紧张或类被卸载时可以回收
+ * <pre>{@code
+ * BeanCopierRegistry.Copier<UserVO> copier = BeanCopierRegistry.get(User.class, UserVO.class, false);
+ * for (User user : users) {
+ *     result.add(copier.copy(user));
+ * }
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 14:10
+ * @since 1.0.0
+ */
+@Slf4j
+public final class BeanCopierRegistry {
+    /** Copier 缓存 */
+    private static final Map<CopierKey, Copier<?>> COPIERS = new ConcurrentReferenceHashMap<>(256);
+    /** Lookup */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Bean copier registry
+     *
+     * @since 1.0.0
+     */
+    private BeanCopierRegistry() {
+    }
+
+    /**
+     * 获取复制器, 不存在时创建
+     *
+     * @param <T>          parameter
+     * @param source       源类型
+     * @param target       目标类型
+     * @param useConverter 是否使用转换器
+     * @return the copier
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Copier<T> get(@NotNull Class<?> source, @NotNull Class<T> target, boolean useConverter) {
+        CopierKey key = new CopierKey(source, target, useConverter);
+        Copier<?> copier = COPIERS.get(key);
+        if (copier == null) {
+            copier = COPIERS.computeIfAbsent(key, k -> new Copier<>(source, target, useConverter));
+        }
+        return (Copier<T>) copier;
+    }
+
+    /**
+     * 清空缓存
+     *
+     * @since 1.0.0
+     */
+    public static void clear() {
+        COPIERS.clear();
+    }
+
+    /**
+     * 创建目标类型的实例化函数, 优先使用 LambdaMetafactory, 其次 MethodHandle, 最后退回 {@link BeanUtils#instantiateClass(Class)}
+     *
+     * @param <T>    parameter
+     * @param target target
+     * @return the supplier
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> constructor(@NotNull Class<T> target) {
+        try {
+            MethodHandle handle = LOOKUP.findConstructor(target, MethodType.methodType(void.class));
+            if (Modifier.isPublic(target.getModifiers()) && ClassUtils.isVisible(target, BeanCopierRegistry.class.getClassLoader())) {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle,
+                    MethodType.methodType(target));
+                return (Supplier<T>) site.getTarget().invokeExact();
+            }
+            return invoker(handle);
+        } catch (Throwable e) {
+            log.debug("无法为 [{}] 生成构造器, 使用反射实例化: {}", target.getName(), e.getMessage());
+        }
+        return () -> BeanUtils.instantiateClass(target);
+    }
+
+    /**
+     * 通过 MethodHandle 调用构造器
+     *
+     * @param <T>    parameter
+     * @param handle handle
+     * @return the supplier
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(pure = true)
+    private static <T> @NotNull Supplier<T> invoker(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return (T) generic.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * 预先解析好的复制器
+     *
+     * @param <T> parameter
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:10
+     * @since 1.0.0
+     */
+    public static final class Copier<T> {
+        /** Source */
+        @Getter
+        private final Class<?> source;
+        /** Target */
+        @Getter
+        private final Class<T> target;
+        /** Bean copier */
+        @Getter
+        private final BaseBeanCopier beanCopier;
+        /** Converter, 不使用转换器时为 null */
+        private final Converter converter;
+        /** Constructor */
+        private final Supplier<T> constructor;
+
+        /**
+         * Copier
+         *
+         * @param source       source
+         * @param target       target
+         * @param useConverter use converter
+         * @since 1.0.0
+         */
+        private Copier(Class<?> source, Class<T> target, boolean useConverter) {
+            this.source = source;
+            this.target = target;
+            this.beanCopier = BaseBeanCopier.create(source, target, useConverter);
+            this.converter = useConverter ? new CustomConverter(source, target) : null;
+            this.constructor = constructor(target);
+        }
+
+        /**
+         * 创建目标对象并复制属性
+         *
+         * @param from from
+         * @return the t
+         * @since 1.0.0
+         */
+        public T copy(Object from) {
+            T to = this.constructor.get();
+            this.beanCopier.copy(from, to, this.converter);
+            return to;
+        }
+
+        /**
+         * 复制属性到已有对象
+         *
+         * @param from from
+         * @param to   to
+         * @since 1.0.0
+         */
+        public void copy(Object from, Object to) {
+            this.beanCopier.copy(from, to, this.converter);
+        }
+
+        /**
+         * 创建目标对象
+         *
+         * @return the t
+         * @since 1.0.0
+         */
+        public T newInstance() {
+            return this.constructor.get();
+        }
+    }
+
+    /**
+     * 缓存 key
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:10
+     * @since 1.0.0
+     */
+    private static final class CopierKey {
+        /** Source */
+        private final Class<?> source;
+        /** Target */
+        private final Class<?> target;
+        /** Use converter */
+        private final boolean useConverter;
+        /** Hash */
+        private final int hash;
+
+        /**
+         * Copier key
+         *
+         * @param source       source
+         * @param target       target
+         * @param useConverter use converter
+         * @since 1.0.0
+         */
+        private CopierKey(Class<?> source, Class<?> target, boolean useConverter) {
+            this.source = source;
+            this.target = target;
+            this.useConverter = useConverter;
+            this.hash = Objects.hash(source, target, useConverter);
+        }
+
+        /**
+         * Equals
+         *
+         * @param o o
+         * @return the boolean
+         * @since 1.0.0
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CopierKey other)) {
+                return false;
+            }
+            return this.source == other.source && this.target == other.target && this.useConverter == other.useConverter;
+        }
+
+        /**
+         * Hash code
+         *
+         * @return the int
+         * @since 1.0.0
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package dev.dong4j.zeka.kernel.common.support;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import dev.dong4j.zeka.ZekaStack;
+import dev.dong4j.zeka.kernel.common.constant.ConfigDefaultValue;
+import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
+import dev.dong4j.zeka.kernel.common.enums.SerializeEnum;
+import dev.dong4j.zeka.kernel.common.util.PropertiesUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+/**
+ * <p>Description: 编译期类索引 </p>
+ * 读取 blen-kernel-indexer 注解处理器生成的 {@code META-INF/zeka/*.idx}, 代替启动时的 Reflections 类路径扫描.
+ * 索引按类路径根 (jar 或 classes 目录) 生效: 包含对应索引的根直接使用索引, 其余包含框架包或业务包的根仍然扫描, 两者合并.
+ * 因此没有引入 blen-kernel-indexer 的业务模块不会丢失类, 只是无法省去扫描.
+ * 扫描结果按扫描的根缓存, 所有调用方共用, 同一组根最多扫描一次.
+ * 通过 {@code zeka-stack.index.ignore=true} 可以忽略索引, 始终扫描
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 17:10
+ * @since 1.0.0
+ */
+@Slf4j
+@UtilityClass
+public class ClassIndex {
+
+    /** 忽略索引, 始终使用类路径扫描 */
+    public static final String IGNORE_INDEX = ConfigKey.PREFIX + "index.ignore";
+    /** INDEX_DIRECTORY */
+    static final String INDEX_DIRECTORY = "META-INF/zeka/";
+    /** JSON_TYPE_NAME_INDEX */
+    static final String JSON_TYPE_NAME_INDEX = INDEX_DIRECTORY + "json-type-name.idx";
+    /** SERIALIZE_ENUM_INDEX */
+    static final String SERIALIZE_ENUM_INDEX = INDEX_DIRECTORY + "serialize-enum.idx";
+
+    /** 按索引文件缓存的结果 */
+    private static final Map<String, Set<Class<?>>> CACHE = new ConcurrentHashMap<>(4);
+    /** 按扫描的根缓存的扫描结果 */
+    private static final Map<Set<String>, Reflections> SCANS = new ConcurrentHashMap<>(2);
+
+    /**
+     * 标注了 {@link JsonTypeName} 的类 (包含其子类)
+     *
+     * @return the set
+     * @since 1.0.0
+     */
+    public static Set<Class<?>> jsonTypeNames() {
+        return get(JSON_TYPE_NAME_INDEX, r -> r.getTypesAnnotatedWith(JsonTypeName.class));
+    }
+
+    /**
+     * {@link SerializeEnum} 的子类型, 包含接口, 调用方按需过滤
+     *
+     * @return the set
+     * @since 1.0.0
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Set<Class<? extends SerializeEnum>> serializeEnums() {
+        Set<?> types = get(SERIALIZE_ENUM_INDEX, r -> Collections.unmodifiableSet(r.getSubTypesOf(SerializeEnum.class)));
+        return (Set<Class<? extends SerializeEnum>>) types;
+    }
+
+    /**
+     * Get
+     *
+     * @param location location
+     * @param scanner  扫描没有索引的根
+     * @return the set
+     * @since 1.0.0
+     */
+    private static Set<Class<?>> get(String location, Function<Reflections, Set<Class<?>>> scanner) {
+        return CACHE.computeIfAbsent(location, key -> {
+            ClassLoader classLoader = classLoader();
+            Set<URL> roots = new LinkedHashSet<>(ClasspathHelper.forPackage(ZekaStack.class.getPackageName(), classLoader));
+            roots.addAll(ClasspathHelper.forPackage(ConfigDefaultValue.BASE_PACKAGES, classLoader));
+            boolean ignore = PropertiesUtils.getProperties().getBooleanProperty(IGNORE_INDEX);
+            return resolve(key, classLoader, roots, ignore, scanner);
+        });
+    }
+
+    /**
+     * 合并索引与扫描的结果: 读取所有同名索引, 再扫描 {@code roots} 中不包含该索引的根
+     *
+     * @param location    location
+     * @param classLoader class loader
+     * @param roots       包含框架包或业务包的类路径根
+     * @param ignore      忽略索引
+     * @param scanner     scanner
+     * @return the set
+     * @since 1.0.0
+     */
+    static Set<Class<?>> resolve(String location,
+                                 ClassLoader classLoader,
+                                 Collection<URL> roots,
+                                 boolean ignore,
+                                 Function<Reflections, Set<Class<?>>> scanner) {
+        Index index = ignore ? Index.EMPTY : load(location, classLoader);
+        Map<String, URL> unindexed = new LinkedHashMap<>();
+        for (URL root : roots) {
+            String key = root(root.toExternalForm());
+            if (!index.roots().contains(key)) {
+                unindexed.put(key, root);
+            }
+        }
+        Set<Class<?>> types = new LinkedHashSet<>(index.types());
+        if (!unindexed.isEmpty()) {
+            log.debug("索引 [{}] 未覆盖的类路径, 使用扫描: {}", location, unindexed.keySet());
+            types.addAll(scanner.apply(reflections(unindexed, classLoader)));
+        }
+        return Collections.unmodifiableSet(types);
+    }
+
+    /**
+     * 读取类路径中所有同名索引. 类只加载不初始化, 无法加载的类跳过
+     *
+     * @param location    location
+     * @param classLoader class loader
+     * @return 索引中的类与包含索引的根, 没有索引时两者都为空
+     * @since 1.0.0
+     */
+    static Index load(String location, ClassLoader classLoader) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Set<String> roots = new TreeSet<>();
+        Enumeration<URL> urls;
+        try {
+            urls = classLoader.getResources(location);
+        } catch (IOException e) {
+            log.warn("读取索引 [{}] 失败, 使用类路径扫描: {}", location, e.getMessage());
+            return Index.EMPTY;
+        }
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String name = line.trim();
+                    if (name.isEmpty() || name.startsWith("#")) {
+                        continue;
+                    }
+                    try {
+                        types.add(Class.forName(name, false, classLoader));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        log.debug("索引 [{}] 中的类无法加载, 已忽略: {}", url, name);
+                    }
+                }
+                String external = url.toExternalForm();
+                roots.add(root(external.substring(0, external.length() - location.length())));
+            } catch (IOException e) {
+                // 读取失败的根不记录, 由扫描兜底
+                log.warn("读取索引 [{}] 失败, 使用类路径扫描: {}", url, e.getMessage());
+            }
+        }
+        log.debug("从索引 [{}] 读取到 {} 个类", location, types.size());
+        return new Index(Collections.unmodifiableSet(types), Collections.unmodifiableSet(roots));
+    }
+
+    /**
+     * 统一类路径根的写法, 资源 URL 与 {@link ClasspathHelper} 返回的 URL 才能比较:
+     * {@code jar:file:/a.jar!/} 与 {@code file:/a.jar} 都转换为 {@code file:/a.jar}, 目录去掉结尾的 {@code /}
+     *
+     * @param external external form
+     * @return the string
+     * @since 1.0.0
+     */
+    static String root(String external) {
+        String root = external;
+        if (root.startsWith("jar:")) {
+            root = root.substring("jar:".length());
+        }
+        if (root.endsWith("!/")) {
+            root = root.substring(0, root.length() - 2);
+        }
+        while (root.endsWith("/")) {
+            root = root.substring(0, root.length() - 1);
+        }
+        return root;
+    }
+
+    /**
+     * 扫描指定根中的框架包和业务包, 同一组根只会扫描一次
+     *
+     * @param roots       roots
+     * @param classLoader class loader
+     * @return the reflections
+     * @since 1.0.0
+     */
+    private static @NotNull Reflections reflections(@NotNull Map<String, URL> roots, ClassLoader classLoader) {
+        return SCANS.computeIfAbsent(Set.copyOf(roots.keySet()), key -> {
+            ConfigurationBuilder build = new ConfigurationBuilder()
+                .setUrls(roots.values())
+                .addClassLoaders(classLoader)
+                .filterInputsBy(new FilterBuilder()
+                                    .includePackage(ZekaStack.class.getPackageName())
+                                    .includePackage(ConfigDefaultValue.BASE_PACKAGES))
+                .setScanners(Scanners.SubTypes, Scanners.TypesAnnotated);
+            build.setExpandSuperTypes(false);
+            return new Reflections(build);
+        });
+    }
+
+    /**
+     * Class loader
+     *
+     * @return the class loader
+     * @since 1.0.0
+     */
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader == null ? ClassIndex.class.getClassLoader() : classLoader;
+    }
+
+    /**
+     * 读取到的索引
+     *
+     * @param types 索引中的类
+     * @param roots 包含索引的类路径根, 见 {@link #root(String)}
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 17:10
+     * @since 1.0.0
+     */
+    record Index(Set<Class<?>> types, Set<String> roots) {
+        /** EMPTY */
+        static final Index EMPTY = new Index(Set.of(), Set.of());
+    }
+}
@@ -20,14 +20,14 @@ import dev.dong4j.zeka.kernel.common.util.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +35,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A {@link Timer} optimized for approximated I/O timeout scheduling.
@@ -60,6 +61,21 @@ import java.util.concurrent.atomic.AtomicLong;
  * (i.e. the size of the wheel) is 512.  You could specify a larger value
  * if you are going to schedule a lot of timeouts.
  *
+ * <h3>Hierarchical Mode</h3>
+ * <p>
+ * In the default mode a timeout whose delay exceeds {@code ticksPerWheel * tickDuration} stays in its bucket and
+ * is rescanned (and its {@code remainingRounds} decremented) on every round of the wheel. When created with
+ * {@code hierarchical = true} the timer instead keeps such timeouts in lazily created overflow wheels, Kafka style:
+ * level {@code n} has the same number of buckets but each bucket spans {@code ticksPerWheel^n} ticks. Whenever the
+ * current tick crosses a bucket boundary of a higher level, that bucket is cascaded into the lower levels, so every
+ * timeout is touched at most once per level instead of once per round.
+ *
+ * <h3>Task Execution</h3>
+ * <p>
+ * Expired tasks run on the worker thread unless a {@code taskExecutor} is given, in which case they are handed to
+ * it (e.g. {@link dev.dong4j.zeka.kernel.common.util.ThreadUtils#newVirtualThreadExecutor()}) so that a slow task
+ * cannot delay the following ticks.
+ *
  * <h3>Do not create many instances.</h3>
  * <p>
  * {@link HashedWheelTimer} creates a new thread whenever it is instantiated and
@@ -110,10 +126,25 @@ public class HashedWheelTimer implements Timer {
     private final HashedWheelBucket[] wheel;
     private final int mask;
     private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
-    private final Queue<HashedWheelTimeout> timeouts = new LinkedBlockingQueue<>();
-    private final Queue<HashedWheelTimeout> cancelledTimeouts = new LinkedBlockingQueue<>();
+    private final MpscLinkedQueue<HashedWheelTimeout> timeouts = new MpscLinkedQueue<>();
+    private final MpscLinkedQueue<HashedWheelTimeout> cancelledTimeouts = new MpscLinkedQueue<>();
     private final AtomicLong pendingTimeouts = new AtomicLong(0);
     private final long maxPendingTimeouts;
+    private final Executor taskExecutor;
+
+    /**
+     * log2(wheel.length), the number of tick bits covered by one level; 0 disables the hierarchical mode.
+     */
+    private final int wheelBits;
+
+    /**
+     * Overflow wheels of the hierarchical mode, index 0 is level 1. Created on demand and only touched by the worker.
+     */
+    private HashedWheelBucket[][] overflowWheels = new HashedWheelBucket[0][];
+
+    private final LongAdder expiredTimeouts = new LongAdder();
+    private final LongAdder cancelledTimeoutsCount = new LongAdder();
+    private volatile long tickLag;
 
     private volatile long startTime;
 
@@ -222,6 +253,34 @@ public class HashedWheelTimer implements Timer {
         ThreadFactory threadFactory,
         long tickDuration, TimeUnit unit, int ticksPerWheel,
         long maxPendingTimeouts) {
+        this(threadFactory, tickDuration, unit, ticksPerWheel, maxPendingTimeouts, null, false);
+    }
+
+    /**
+     * Creates a new timer.
+     *
+     * @param threadFactory      a {@link ThreadFactory} that creates a
+     *                           background {@link Thread} which is dedicated to
+     *                           advancing the wheel.
+     * @param tickDuration       the duration between tick
+     * @param unit               the time unit of the {@code tickDuration}
+     * @param ticksPerWheel      the size of the wheel (and of every overflow wheel)
+     * @param maxPendingTimeouts The maximum number of pending timeouts after which call to
+     *                           {@code newTimeout} will result in
+     *                           {@link RejectedExecutionException}
+     *                           being thrown. No maximum pending timeouts limit is assumed if
+     *                           this value is 0 or negative.
+     * @param taskExecutor       the {@link Executor} that is used to execute the submitted {@link TimerTask}s,
+     *                           {@code null} to run them on the worker thread.
+     * @param hierarchical       {@code true} to keep long timeouts in overflow wheels instead of rescanning them
+     *                           every round
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration} and {@code ticksPerWheel} is &lt;= 0
+     */
+    public HashedWheelTimer(
+        ThreadFactory threadFactory,
+        long tickDuration, TimeUnit unit, int ticksPerWheel,
+        long maxPendingTimeouts, Executor taskExecutor, boolean hierarchical) {
 
         if (threadFactory == null) {
             throw new NullPointerException("threadFactory");
@@ -252,6 +311,9 @@ public class HashedWheelTimer implements Timer {
         workerThread = threadFactory.newThread(worker);
 
         this.maxPendingTimeouts = maxPendingTimeouts;
+        this.taskExecutor = taskExecutor;
+        // A wheel of a single bucket cannot form a hierarchy.
+        this.wheelBits = hierarchical && wheel.length > 1 ? Integer.numberOfTrailingZeros(wheel.length) : 0;
 
         if (INSTANCE_COUNTER.incrementAndGet() > INSTANCE_COUNT_LIMIT &&
             WARNED_TOO_MANY_INSTANCES.compareAndSet(false, true)) {
@@ -404,7 +466,7 @@ public class HashedWheelTimer implements Timer {
             deadline = Long.MAX_VALUE;
         }
         HashedWheelTimeout timeout = new HashedWheelTimeout(this, task, deadline);
-        timeouts.add(timeout);
+        timeouts.offer(timeout);
         return timeout;
     }
 
@@ -415,6 +477,34 @@ public class HashedWheelTimer implements Timer {
         return pendingTimeouts.get();
     }
 
+    /**
+     * Returns the number of timeouts that have expired (and whose tasks were run or handed to the task executor).
+     */
+    public long expiredTimeouts() {
+        return expiredTimeouts.sum();
+    }
+
+    /**
+     * Returns the number of timeouts that have been cancelled.
+     */
+    public long cancelledTimeouts() {
+        return cancelledTimeoutsCount.sum();
+    }
+
+    /**
+     * Returns how far the worker was behind schedule when it processed the latest tick.
+     */
+    public long tickLag(TimeUnit unit) {
+        return unit.convert(tickLag, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns whether long timeouts are kept in overflow wheels.
+     */
+    public boolean isHierarchical() {
+        return wheelBits > 0;
+    }
+
     private static void reportTooManyInstances() {
         String resourceType = ClassUtils.getShortName(HashedWheelTimer.class);
         logger.error("You are creating too many " + resourceType + " instances. " +
@@ -442,8 +532,12 @@ public class HashedWheelTimer implements Timer {
             do {
                 final long deadline = waitForNextTick();
                 if (deadline > 0) {
+                    tickLag = deadline - tickDuration * (tick + 1);
                     int idx = (int) (tick & mask);
                     processCancelledTasks();
+                    if (wheelBits > 0) {
+                        cascadeOverflowWheels();
+                    }
                     HashedWheelBucket bucket =
                         wheel[idx];
                     transferTimeoutsToBuckets();
@@ -456,6 +550,11 @@ public class HashedWheelTimer implements Timer {
             for (HashedWheelBucket bucket : wheel) {
                 bucket.clearTimeouts(unprocessedTimeouts);
             }
+            for (HashedWheelBucket[] overflowWheel : overflowWheels) {
+                for (HashedWheelBucket bucket : overflowWheel) {
+                    bucket.clearTimeouts(unprocessedTimeouts);
+                }
+            }
             for (; ; ) {
                 HashedWheelTimeout timeout = timeouts.poll();
                 if (timeout == null) {
@@ -481,6 +580,10 @@ public class HashedWheelTimer implements Timer {
                     // Was cancelled in the meantime.
                     continue;
                 }
+                if (wheelBits > 0) {
+                    scheduleHierarchical(timeout);
+                    continue;
+                }
 
                 long calculated = timeout.deadline / tickDuration;
                 timeout.remainingRounds = (calculated - tick) / wheel.length;
@@ -494,6 +597,62 @@ public class HashedWheelTimer implements Timer {
             }
         }
 
+        /**
+         * Places the timeout in the lowest level whose span covers its remaining ticks. Level 0 is the main wheel,
+         * level {@code n} buckets span {@code 2^(n * wheelBits)} ticks.
+         */
+        private void scheduleHierarchical(HashedWheelTimeout timeout) {
+            // Ensure we don't schedule for past.
+            final long ticks = Math.max(timeout.deadline / tickDuration, tick);
+            final long remaining = ticks - tick;
+            timeout.remainingRounds = 0;
+            if (remaining < wheel.length) {
+                wheel[(int) (ticks & mask)].addTimeout(timeout);
+                return;
+            }
+            int level = 1;
+            while ((level + 1) * wheelBits < Long.SIZE - 1 && remaining >= 1L << ((level + 1) * wheelBits)) {
+                level++;
+            }
+            overflowWheel(level)[(int) ((ticks >>> (level * wheelBits)) & mask)].addTimeout(timeout);
+        }
+
+        private HashedWheelBucket[] overflowWheel(int level) {
+            if (overflowWheels.length < level) {
+                HashedWheelBucket[][] grown = Arrays.copyOf(overflowWheels, level);
+                for (int i = overflowWheels.length; i < level; i++) {
+                    grown[i] = createWheel(wheel.length);
+                }
+                overflowWheels = grown;
+            }
+            return overflowWheels[level - 1];
+        }
+
+        /**
+         * When the current tick is the first tick of a bucket of some overflow level, move every timeout of that
+         * bucket down to the lower levels. Higher levels go first, so timeouts cascaded from level {@code n} into the
+         * level {@code n - 1} bucket that starts at the same tick are cascaded again right away.
+         */
+        private void cascadeOverflowWheels() {
+            for (int level = overflowWheels.length; level > 0; level--) {
+                int shift = level * wheelBits;
+                if ((tick & ((1L << shift) - 1)) != 0) {
+                    continue;
+                }
+                HashedWheelBucket bucket = overflowWheels[level - 1][(int) ((tick >>> shift) & mask)];
+                for (; ; ) {
+                    HashedWheelTimeout timeout = bucket.pollTimeout();
+                    if (timeout == null) {
+                        break;
+                    }
+                    // Cancelled timeouts are accounted for when their entry in cancelledTimeouts is processed.
+                    if (!timeout.isCancelled()) {
+                        scheduleHierarchical(timeout);
+                    }
+                }
+            }
+        }
+
         private void processCancelledTasks() {
             for (; ; ) {
                 HashedWheelTimeout timeout = cancelledTimeouts.poll();
@@ -551,7 +710,7 @@ public class HashedWheelTimer implements Timer {
         }
     }
 
-    private static final class HashedWheelTimeout implements Timeout {
+    private static final class HashedWheelTimeout implements Timeout, Runnable {
 
         private static final int ST_INIT = 0;
         private static final int ST_CANCELLED = 1;
@@ -609,7 +768,8 @@ public class HashedWheelTimer implements Timer {
             // If a task should be canceled we put this to another queue which will be processed on each tick.
             // So this means that we will have a GC latency of max. 1 tick duration which is good enough. This way
             // we can make again use of our MpscLinkedQueue and so minimize the locking / overhead as much as possible.
-            timer.cancelledTimeouts.add(this);
+            timer.cancelledTimeouts.offer(this);
+            timer.cancelledTimeoutsCount.increment();
             return true;
         }
 
@@ -644,7 +804,25 @@ public class HashedWheelTimer implements Timer {
             if (!compareAndSetState(ST_INIT, ST_EXPIRED)) {
                 return;
             }
+            timer.expiredTimeouts.increment();
 
+            Executor executor = timer.taskExecutor;
+            if (executor == null) {
+                run();
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (Throwable t) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("An exception was thrown while submit " + TimerTask.class.getSimpleName()
+                        + " for execution.", t);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
             try {
                 task.run(this);
             } catch (Throwable t) {
@@ -786,7 +964,7 @@ public class HashedWheelTimer implements Timer {
             }
         }
 
-        private HashedWheelTimeout pollTimeout() {
+        HashedWheelTimeout pollTimeout() {
             HashedWheelTimeout head = this.head;
             if (head == null) {
                 return null;
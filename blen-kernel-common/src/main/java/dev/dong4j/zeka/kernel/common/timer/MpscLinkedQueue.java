@@ -0,0 +1,93 @@
+package dev.dong4j.zeka.kernel.common.timer;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free multi-producer single-consumer linked queue (Dmitry Vyukov's intrusive MPSC algorithm).
+ * <p>
+ * Producers only perform a single {@code getAndSet} on the tail, so {@link #offer(Object)} is wait-free and never
+ * blocks on a lock like {@link java.util.concurrent.LinkedBlockingQueue} does. Only one thread (the timer worker)
+ * may call {@link #poll()}.
+ * <p>
+ * An element whose producer has swapped the tail but not yet linked the previous node is invisible to
+ * {@link #poll()} for that short window; the worker simply picks it up on its next tick.
+ *
+ * @param <E> the element type
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:30
+ * @since 1.0.0
+ */
+final class MpscLinkedQueue<E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MpscLinkedQueue, Node> TAIL_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(MpscLinkedQueue.class, Node.class, "tail");
+
+    /**
+     * Consumer side, only touched by the single consumer thread.
+     */
+    private Node<E> head;
+
+    /**
+     * Producer side.
+     */
+    @SuppressWarnings({"unused", "FieldMayBeFinal"})
+    private volatile Node<E> tail;
+
+    MpscLinkedQueue() {
+        Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = stub;
+    }
+
+    /**
+     * Adds the element to the tail of the queue, may be called by any thread.
+     */
+    @SuppressWarnings("unchecked")
+    void offer(E value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        Node<E> node = new Node<>(value);
+        Node<E> prev = TAIL_UPDATER.getAndSet(this, node);
+        Node.NEXT_UPDATER.lazySet(prev, node);
+    }
+
+    /**
+     * Removes the head element, must only be called by the consumer thread.
+     *
+     * @return the head element or {@code null} if the queue is (observed as) empty
+     */
+    E poll() {
+        Node<E> next = this.head.next;
+        if (next == null) {
+            return null;
+        }
+        E value = next.value;
+        // next becomes the new stub, drop the reference to the value to allow for GC.
+        next.value = null;
+        this.head = next;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return this.head.next == null;
+    }
+
+    private static final class Node<E> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        private E value;
+
+        @SuppressWarnings("unused")
+        private volatile Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+}
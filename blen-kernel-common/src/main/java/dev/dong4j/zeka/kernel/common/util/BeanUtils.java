@@ -18,10 +18,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
-import dev.dong4j.zeka.kernel.common.convert.CustomConverter;
 import dev.dong4j.zeka.kernel.common.exception.LowestException;
-import dev.dong4j.zeka.kernel.common.support.BaseBeanCopier;
+import dev.dong4j.zeka.kernel.common.support.BeanCopierRegistry;
 import dev.dong4j.zeka.kernel.common.support.BeanProperty;
 import lombok.experimental.UtilityClass;
 
@@ -190,10 +190,7 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
      */
     @Contract("null, _, _ -> null")
     public static <T> T copy(Object source, Class<?> sourceClazz, Class<T> targetClazz) {
-        BaseBeanCopier copier = BaseBeanCopier.create(sourceClazz, targetClazz, false);
-        T to = newInstance(targetClazz);
-        copier.copy(source, to, null);
-        return to;
+        return BeanCopierRegistry.get(sourceClazz, targetClazz, false).copy(source);
     }
 
     /**
@@ -213,19 +210,20 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
         if (sourceList == null || sourceList.isEmpty()) {
             return Collections.emptyList();
         }
-        List<T> outList = new ArrayList<>(sourceList.size());
-        Class<?> sourceClazz = null;
-        for (Object source : sourceList) {
-            if (source == null) {
-                continue;
-            }
-            if (sourceClazz == null) {
-                sourceClazz = source.getClass();
-            }
-            T bean = BeanUtils.copy(source, sourceClazz, targetClazz);
-            outList.add(bean);
-        }
-        return outList;
+        return copyAll(sourceList, targetClazz, false);
+    }
+
+    /**
+     * 惰性复制 Stream 中的元素, 跳过 null, 可与 {@link Jsons#stream(java.io.InputStream, Class)} 组成常量内存的转换管道
+     *
+     * @param <T>         泛型标记
+     * @param source      源 Stream
+     * @param targetClazz 转换成的类型
+     * @return 目标 Stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> copy(@NotNull Stream<?> source, Class<T> targetClazz) {
+        return source.filter(Objects::nonNull).map(item -> copy(item, targetClazz));
     }
 
     /**
@@ -268,10 +266,32 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
         if (source == null) {
             return null;
         }
-        BaseBeanCopier copier = BaseBeanCopier.create(sourceClazz, targetClazz, true);
-        T to = newInstance(targetClazz);
-        copier.copy(source, to, new CustomConverter(sourceClazz, targetClazz));
-        return to;
+        return BeanCopierRegistry.get(sourceClazz, targetClazz, true).copy(source);
+    }
+
+    /**
+     * 复制列表, 以第一个非空元素的类型作为源类型, 复制器只解析一次
+     *
+     * @param <T>          泛型标记
+     * @param sourceList   源列表
+     * @param targetClazz  转换成的类型
+     * @param useConverter 是否使用转换器
+     * @return 目标列表
+     * @since 1.0.0
+     */
+    private static <T> @NotNull List<T> copyAll(@NotNull Collection<?> sourceList, Class<T> targetClazz, boolean useConverter) {
+        List<T> outList = new ArrayList<>(sourceList.size());
+        BeanCopierRegistry.Copier<T> copier = null;
+        for (Object source : sourceList) {
+            if (source == null) {
+                continue;
+            }
+            if (copier == null) {
+                copier = BeanCopierRegistry.get(source.getClass(), targetClazz, useConverter);
+            }
+            outList.add(copier.copy(source));
+        }
+        return outList;
     }
 
     /**
@@ -291,19 +311,20 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
         if (sourceList == null || sourceList.isEmpty()) {
             return Collections.emptyList();
         }
-        List<T> outList = new ArrayList<>(sourceList.size());
-        Class<?> sourceClazz = null;
-        for (Object source : sourceList) {
-            if (source == null) {
-                continue;
-            }
-            if (sourceClazz == null) {
-                sourceClazz = source.getClass();
-            }
-            T bean = BeanUtils.copyWithConvert(source, sourceClazz, targetClazz);
-            outList.add(bean);
-        }
-        return outList;
+        return copyAll(sourceList, targetClazz, true);
+    }
+
+    /**
+     * 惰性拷贝 Stream 中的元素并对不同类型属性进行转换, 跳过 null
+     *
+     * @param <T>         泛型标记
+     * @param source      源 Stream
+     * @param targetClazz 转换成的类
+     * @return 目标 Stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> copyWithConvert(@NotNull Stream<?> source, Class<T> targetClazz) {
+        return source.filter(Objects::nonNull).map(item -> copyWithConvert(item, targetClazz));
     }
 
     /**
@@ -457,10 +478,7 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
      * @since 1.0.0
      */
     public static void copy(@NotNull Object source, @NotNull Object targetBean) {
-        BaseBeanCopier copier = BaseBeanCopier
-            .create(source.getClass(), targetBean.getClass(), false);
-
-        copier.copy(source, targetBean, null);
+        BeanCopierRegistry.get(source.getClass(), targetBean.getClass(), false).copy(source, targetBean);
     }
 
     /**
@@ -9,9 +9,6 @@ import com.google.gson.stream.JsonWriter;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import org.reflections.Reflections;
-import org.reflections.scanners.SubTypesScanner;
-import org.reflections.util.ConfigurationBuilder;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -28,6 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import dev.dong4j.zeka.kernel.common.asserts.Assertions;
 import dev.dong4j.zeka.kernel.common.constant.ConfigDefaultValue;
 import dev.dong4j.zeka.kernel.common.enums.SerializeEnum;
+import dev.dong4j.zeka.kernel.common.support.ClassIndex;
 import dev.dong4j.zeka.kernel.common.type.ConsumerObjectTypeAdapter;
 import dev.dong4j.zeka.kernel.common.type.GsonEnumTypeAdapter;
 import dev.dong4j.zeka.kernel.common.type.TypeBuilder;
@@ -115,12 +113,8 @@ public final class GsonUtils {
      */
     @SuppressWarnings("all")
     private static void init() {
-        ConfigurationBuilder build = ConfigurationBuilder.build(ConfigDefaultValue.BASE_PACKAGES,
-            new SubTypesScanner(false));
-        build.setExpandSuperTypes(false);
-        Reflections reflections = new Reflections(build);
-
-        Set<Class<? extends SerializeEnum>> subTypesOf = reflections.getSubTypesOf(SerializeEnum.class);
+        // 优先读取编译期索引, 与 SerializeEnumCache 共用同一份结果
+        Set<Class<? extends SerializeEnum>> subTypesOf = ClassIndex.serializeEnums();
         if (subTypesOf != null) {
             for (Class<? extends SerializeEnum> klass : subTypesOf) {
                 if (klass.isInterface() || !klass.isEnum()) {
@@ -0,0 +1,408 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
+import java.io.Closeable;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLContext;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * <p>Description: 长期存活的 HTTP 客户端引擎, 供 {@link HttpClientUtils} 复用连接 </p>
+ * <ul>
+ *     <li>所有请求共享同一个连接池, 复用 TCP 连接与 TLS 会话</li>
+ *     <li>服务端未返回 Keep-Alive 时按 {@link Config#getKeepAlive()} 保持连接</li>
+ *     <li>后台线程定期清理过期和空闲连接</li>
+ *     <li>支持按路由单独配置最大连接数</li>
+ *     <li>异步请求使用独立的线程池, JDK 21 以上可选虚拟线程</li>
+ *     <li>通过 {@link #getPoolStats()} 暴露 leased/pending/available 等连接池指标</li>
+ *     <li>被 {@link HttpClientUtils#configure(Config)} 替换后不再接受新的请求, 通过 {@link HttpClientUtils} 与 {@link #executeAsync(Callable)}
+ *     发起的请求全部完成后才关闭; 直接使用 {@link #getRestTemplate()} 发起的请求不计入其中</li>
+ * </ul>
+ * 使用示例:
+ * <pre>{@code
+ * HttpClientEngine.Config config = new HttpClientEngine.Config();
+ * config.setMaxConnPerRoute(50);
+ * config.getRouteMaxConn().put("https://api.example.com", 100);
+ * HttpClientUtils.configure(config);
+ * PoolStats stats = HttpClientUtils.getPoolStats();
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 13:05
+ * @since 1.0.0
+ */
+@Slf4j
+public class HttpClientEngine implements Closeable {
+
+    /** Config */
+    @Getter
+    private final Config config;
+    /** 连接池 */
+    private final PoolingHttpClientConnectionManager connectionManager;
+    /** Http client */
+    @Getter
+    private final CloseableHttpClient httpClient;
+    /** Rest template */
+    @Getter
+    private final RestTemplate restTemplate;
+    /** 异步请求线程池, 第一次异步请求时创建 */
+    private volatile ExecutorService executor;
+    /** 正在使用该引擎的请求数 */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** 已被替换, 最后一个请求完成时关闭 */
+    private volatile boolean retired;
+    /** Closed */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Http client engine
+     *
+     * @param config config
+     * @since 1.0.0
+     */
+    public HttpClientEngine(@NotNull Config config) {
+        this.config = config;
+        this.connectionManager = buildConnectionManager(config);
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(this.connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                                         .setConnectionRequestTimeout(Timeout.ofMilliseconds(config.getConnectionRequestTimeout()))
+                                         .setResponseTimeout(Timeout.ofMilliseconds(config.getReadTimeout()))
+                                         .setConnectionKeepAlive(TimeValue.ofMilliseconds(config.getKeepAlive()))
+                                         .build())
+            .setRetryStrategy(new DefaultHttpRequestRetryStrategy(config.getRetryCount(), TimeValue.ofSeconds(3)))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(config.getMaxIdleTime()))
+            .build();
+        this.restTemplate = buildRestTemplate(this.httpClient, config);
+    }
+
+    /**
+     * 构建连接池
+     *
+     * @param config config
+     * @return the pooling http client connection manager
+     * @since 1.0.0
+     */
+    private static @NotNull PoolingHttpClientConnectionManager buildConnectionManager(@NotNull Config config) {
+        PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(config.getMaxConnTotal())
+            .setMaxConnPerRoute(config.getMaxConnPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                            .setConnectTimeout(Timeout.ofMilliseconds(config.getConnectTimeout()))
+                                            .setSocketTimeout(Timeout.ofMilliseconds(config.getReadTimeout()))
+                                            .setValidateAfterInactivity(TimeValue.ofMilliseconds(config.getValidateAfterInactivity()))
+                                            .build());
+        if (config.isTrustAll()) {
+            try {
+                SSLContext sslContext = SSLContextBuilder.create()
+                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
+                    .build();
+                builder.setTlsSocketStrategy(new DefaultClientTlsStrategy(sslContext, NoopHostnameVerifier.INSTANCE));
+            } catch (Exception e) {
+                throw new LowestException("创建 SSLContext 失败", e);
+            }
+        }
+        PoolingHttpClientConnectionManager manager = builder.build();
+        config.getRouteMaxConn().forEach((target, max) -> {
+            try {
+                manager.setMaxPerRoute(new HttpRoute(HttpHost.create(target)), max);
+            } catch (Exception e) {
+                log.warn("忽略无效的路由配置: [{}]", target);
+            }
+        });
+        return manager;
+    }
+
+    /**
+     * 构建 RestTemplate
+     *
+     * @param httpClient http client
+     * @param config     config
+     * @return the rest template
+     * @since 1.0.0
+     */
+    @SuppressWarnings("deprecation")
+    private static @NotNull RestTemplate buildRestTemplate(CloseableHttpClient httpClient, @NotNull Config config) {
+        HttpComponentsClientHttpRequestFactory clientHttpRequestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        clientHttpRequestFactory.setConnectTimeout(config.getConnectTimeout());
+        clientHttpRequestFactory.setReadTimeout(config.getReadTimeout());
+        clientHttpRequestFactory.setConnectionRequestTimeout(config.getConnectionRequestTimeout());
+
+        RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
+        restTemplate.setErrorHandler(new DefaultResponseErrorHandler());
+
+        List<HttpMessageConverter<?>> messageConverters = restTemplate.getMessageConverters();
+        messageConverters.forEach(m -> {
+            if (m instanceof StringHttpMessageConverter) {
+                ((StringHttpMessageConverter) m).setDefaultCharset(Charset.forName(config.getCharset()));
+            }
+        });
+        restTemplate.setMessageConverters(messageConverters);
+        return restTemplate;
+    }
+
+    /**
+     * 构建异步请求线程池, 开启虚拟线程且运行在 JDK 21 以上时使用虚拟线程
+     *
+     * @param config config
+     * @return the executor service
+     * @since 1.0.0
+     */
+    private static ExecutorService buildExecutor(@NotNull Config config) {
+        if (config.isVirtualThreads()) {
+            ExecutorService executor = ThreadUtils.newVirtualThreadExecutor();
+            if (executor != null) {
+                return executor;
+            }
+            log.warn("当前 JDK 不支持虚拟线程, 使用平台线程池执行异步请求");
+        }
+        return Executors.newFixedThreadPool(config.getAsyncThreads(), new NamedThreadFactory("zeka-http-client", true));
+    }
+
+    /**
+     * 在异步线程池中执行请求
+     *
+     * @param <T>  parameter
+     * @param call call
+     * @return the completable future
+     * @since 1.0.0
+     */
+    public <T> CompletableFuture<T> executeAsync(Callable<T> call) {
+        if (!this.acquire()) {
+            return CompletableFuture.failedFuture(new LowestException("HttpClientEngine 已被替换或已关闭"));
+        }
+        try {
+            return this.submit(call);
+        } finally {
+            this.release();
+        }
+    }
+
+    /**
+     * 提交异步请求, 调用方必须已经通过 {@link #acquire()} 持有该引擎, 因此引擎在任务结束前不会被关闭
+     *
+     * @param <T>  parameter
+     * @param call call
+     * @return the completable future
+     * @since 1.0.0
+     */
+    <T> CompletableFuture<T> submit(Callable<T> call) {
+        this.inFlight.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                } finally {
+                    this.release();
+                }
+            }, this.getExecutor());
+        } catch (RuntimeException e) {
+            this.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 开始一个请求, 成功时必须在请求结束后调用 {@link #release()}.
+     * 先增加计数再检查 retired: 与 {@link #retire()} 并发时, 要么这里看到 retired, 要么 retire 看到 inFlight > 0
+     *
+     * @return 引擎已被替换或已关闭时返回 false, 调用方应重新获取引擎
+     * @since 1.0.0
+     */
+    boolean acquire() {
+        this.inFlight.incrementAndGet();
+        if (this.retired || this.closed.get()) {
+            this.release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 结束一个请求, 引擎已被替换且没有其他请求时关闭
+     *
+     * @since 1.0.0
+     */
+    void release() {
+        if (this.inFlight.decrementAndGet() == 0) {
+            this.closeIfIdle();
+        }
+    }
+
+    /**
+     * 标记为已被替换: 没有正在进行的请求时立即关闭, 否则由最后一个请求关闭
+     *
+     * @since 1.0.0
+     */
+    void retire() {
+        this.retired = true;
+        this.closeIfIdle();
+    }
+
+    /**
+     * 看到 retired 之后再读取 inFlight: 计数归零后可能有新的 acquire 在 retire 之前成功,
+     * 只凭 decrementAndGet 的结果关闭会关掉正在使用的引擎; retired 之后成功的 acquire 不会再出现
+     *
+     * @since 1.0.0
+     */
+    private void closeIfIdle() {
+        if (this.retired && this.inFlight.get() == 0) {
+            this.close();
+        }
+    }
+
+    /**
+     * Is closed
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * Gets executor *
+     *
+     * @return the executor
+     * @since 1.0.0
+     */
+    private ExecutorService getExecutor() {
+        ExecutorService service = this.executor;
+        if (service == null) {
+            synchronized (this) {
+                service = this.executor;
+                if (service == null) {
+                    service = buildExecutor(this.config);
+                    this.executor = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * 连接池总体指标: leased 使用中, pending 等待连接, available 空闲, max 上限
+     *
+     * @return the pool stats
+     * @since 1.0.0
+     */
+    public PoolStats getPoolStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * 指定路由的连接池指标
+     *
+     * @param target 目标地址, 例如 https://api.example.com
+     * @return the pool stats
+     * @since 1.0.0
+     */
+    public PoolStats getPoolStats(String target) {
+        try {
+            return this.connectionManager.getStats(new HttpRoute(HttpHost.create(target)));
+        } catch (Exception e) {
+            throw new LowestException("无效的路由: " + target, e);
+        }
+    }
+
+    /**
+     * 关闭连接池与异步线程池, 重复调用时忽略
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        this.httpClient.close(CloseMode.GRACEFUL);
+        this.connectionManager.close(CloseMode.GRACEFUL);
+        ExecutorService service = this.executor;
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * 客户端引擎配置
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 13:05
+     * @since 1.0.0
+     */
+    @Data
+    public static class Config {
+        /** 最大连接数 */
+        private int maxConnTotal = 300;
+        /** 单个路由的默认最大连接数 */
+        private int maxConnPerRoute = 200;
+        /** 指定路由的最大连接数, key 为目标地址, 例如 https://api.example.com:8443 */
+        private Map<String, Integer> routeMaxConn = new HashMap<>(8);
+        /** 重试次数 */
+        private int retryCount = 3;
+        /** 连接超时时间(毫秒) */
+        private int connectTimeout = 45000;
+        /** 数据读取超时时间(毫秒) */
+        private int readTimeout = 75000;
+        /** 从连接池获取连接的超时时间(毫秒) */
+        private int connectionRequestTimeout = 5000;
+        /** 服务端未返回 Keep-Alive 时连接的保持时间(毫秒) */
+        private long keepAlive = 60000L;
+        /** 空闲连接的最长保留时间(毫秒), 超过后被后台线程清理 */
+        private long maxIdleTime = 30000L;
+        /** 连接空闲超过该时间(毫秒)后, 复用前先校验是否可用 */
+        private long validateAfterInactivity = 2000L;
+        /** 是否信任所有证书 */
+        private boolean trustAll = true;
+        /** 异步请求线程数 */
+        private int asyncThreads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        /** 异步请求是否使用虚拟线程, 仅在 JDK 21 以上生效 */
+        private boolean virtualThreads = false;
+        /** 字符编码 */
+        private String charset = Charsets.UTF_8_NAME;
+    }
+}
@@ -8,6 +8,7 @@ import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuil
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.util.TimeValue;
 import org.jetbrains.annotations.NotNull;
@@ -15,14 +16,9 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.StringHttpMessageConverter;
-import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
-import java.nio.charset.Charset;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -30,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import javax.net.ssl.SSLContext;
@@ -43,7 +40,7 @@ import lombok.experimental.UtilityClass;
  * <ul>
  *     <li>HTTP GET/POST请求发送</li>
  *     <li>HTTPS请求支持</li>
- *     <li>连接池管理</li>
+ *     <li>连接池管理, 所有请求共享 {@link HttpClientEngine} 的连接池</li>
  *     <li>请求重试机制</li>
  *     <li>自定义请求头</li>
  *     <li>JSON数据处理</li>
@@ -92,20 +89,109 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class HttpClientUtils {
 
-    /** 最大连接数 */
-    private static final int MAX_CONNECTION_TOTAL = 300;
-    /** 路由并发数 */
-    private static final int ROUTE_MAX_COUNT = 200;
-    /** 重试次数 */
-    private static final int RETRY_COUNT = 3;
-    /** 连接超时时间(毫秒) */
-    private static final int CONNECTION_TIME_OUT = 45000;
-    /** 数据读取超时时间(毫秒) */
-    private static final int READ_TIME_OUT = 75000;
-    /** 连接请求超时时间(毫秒) */
-    private static final int CONNECTION_REQUEST_TIME_OUT = 5000;
-    /** 字符编码 */
-    private static final String CHARSET = Charsets.UTF_8_NAME;
+    /** 共享的客户端引擎, 第一次请求时按默认配置创建 */
+    private static volatile HttpClientEngine engine;
+
+    /**
+     * 使用指定配置替换共享的客户端引擎: 先替换, 新请求使用新引擎, 旧引擎在正在进行的请求全部完成后关闭
+     *
+     * @param config config
+     * @since 1.0.0
+     */
+    public static synchronized void configure(HttpClientEngine.Config config) {
+        HttpClientEngine old = engine;
+        engine = new HttpClientEngine(config);
+        if (old != null) {
+            old.retire();
+        }
+    }
+
+    /**
+     * 获取共享的客户端引擎
+     *
+     * @return the http client engine
+     * @since 1.0.0
+     */
+    public static HttpClientEngine engine() {
+        HttpClientEngine current = engine;
+        if (current == null) {
+            synchronized (HttpClientUtils.class) {
+                current = engine;
+                if (current == null) {
+                    current = new HttpClientEngine(new HttpClientEngine.Config());
+                    engine = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 获取共享的客户端引擎并开始一个请求, 请求结束后调用 {@link HttpClientEngine#release()}.
+     * 读取到的引擎恰好被替换时重新读取当前引擎
+     *
+     * @return the http client engine
+     * @since 1.0.0
+     */
+    private static HttpClientEngine lease() {
+        while (true) {
+            HttpClientEngine current = engine();
+            if (current.acquire()) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 共享连接池的指标
+     *
+     * @return the pool stats
+     * @since 1.0.0
+     */
+    public static PoolStats getPoolStats() {
+        return engine().getPoolStats();
+    }
+
+    /**
+     * 异步发送GET请求, 在客户端引擎的独立线程池中执行, 不占用 ForkJoinPool.commonPool
+     *
+     * @param <T>          返回对象类型
+     * @param url          请求URL
+     * @param responseType 响应对象类型
+     * @return 响应对象
+     * @since 1.0.0
+     */
+    public static <T> CompletableFuture<T> getForObjectAsync(String url, Class<T> responseType) {
+        HttpClientEngine current = lease();
+        try {
+            return current.submit(() -> getForObject(url, responseType));
+        } finally {
+            current.release();
+        }
+    }
+
+    /**
+     * 异步发送POST请求, 在客户端引擎的独立线程池中执行, 不占用 ForkJoinPool.commonPool
+     *
+     * @param <T>          返回对象类型
+     * @param url          请求URL
+     * @param requestBody  请求体对象
+     * @param contentType  内容类型
+     * @param responseType 响应对象类型
+     * @return 响应对象
+     * @since 1.0.0
+     */
+    public static <T> CompletableFuture<T> postForObjectAsync(String url,
+                                                              Object requestBody,
+                                                              MediaType contentType,
+                                                              Class<T> responseType) {
+        HttpClientEngine current = lease();
+        try {
+            return current.submit(() -> postForObject(url, requestBody, contentType, responseType));
+        } finally {
+            current.release();
+        }
+    }
 
     /**
      * 发送POST请求并返回对象
@@ -144,9 +230,9 @@ public class HttpClientUtils {
                                                 MediaType contentType,
                                                 Class<T> responseType,
                                                 Map<String, String[]> headers) throws Exception {
-        try (CloseableHttpClient httpClient = acceptsUntrustedCertsHttpClient()) {
-
-            RestTemplate restTemplate = getRestTemplate(httpClient);
+        HttpClientEngine current = lease();
+        try {
+            RestTemplate restTemplate = current.getRestTemplate();
 
             // headers
             HttpHeaders httpHeaders = getDefaultHeader(contentType);
@@ -158,6 +244,8 @@ public class HttpClientUtils {
             return restTemplate.postForObject(url, httpEntity, responseType);
         } catch (Exception e) {
             throw new Exception("网络异常或请求错误.", e);
+        } finally {
+            current.release();
         }
     }
 
@@ -228,9 +316,9 @@ public class HttpClientUtils {
      * @since 1.0.0
      */
     private static <T> T getForObject(String url, Class<T> responseType, HttpHeaders httpHeaders) throws Exception {
-        try (CloseableHttpClient httpClient = acceptsUntrustedCertsHttpClient()) {
-
-            RestTemplate restTemplate = getRestTemplate(httpClient);
+        HttpClientEngine current = lease();
+        try {
+            RestTemplate restTemplate = current.getRestTemplate();
 
             HttpEntity<Object> httpEntity = new HttpEntity<>(null, httpHeaders);
 
@@ -240,38 +328,14 @@ public class HttpClientUtils {
             return Jsons.parse(responseStr, responseType);
         } catch (Exception e) {
             throw new Exception("网络异常或请求错误.", e);
+        } finally {
+            current.release();
         }
     }
 
     /**
-     * 获取RestTemplate对象
-     *
-     * @param httpClient HttpClient对象
-     * @return RestTemplate对象
-     * @since 1.0.0
-     */
-    @NotNull
-    private static RestTemplate getRestTemplate(CloseableHttpClient httpClient) {
-        HttpComponentsClientHttpRequestFactory clientHttpRequestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-        clientHttpRequestFactory.setConnectTimeout(CONNECTION_TIME_OUT);
-        clientHttpRequestFactory.setReadTimeout(READ_TIME_OUT);
-        clientHttpRequestFactory.setConnectionRequestTimeout(CONNECTION_REQUEST_TIME_OUT);
-
-        RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
-        restTemplate.setErrorHandler(new DefaultResponseErrorHandler());
-
-        List<HttpMessageConverter<?>> messageConverters = restTemplate.getMessageConverters();
-        messageConverters.forEach(m -> {
-            if (m instanceof StringHttpMessageConverter) {
-                ((StringHttpMessageConverter) m).setDefaultCharset(Charset.forName(CHARSET));
-            }
-        });
-        restTemplate.setMessageConverters(messageConverters);
-        return restTemplate;
-    }
-
-    /**
-     * 创建接受未信任证书的HTTP客户端
+     * 创建接受未信任证书的HTTP客户端, 每次调用都会创建新的连接池, 需要调用方自行关闭.
+     * 发送请求请优先使用共享的 {@link #engine()}
      *
      * @return 可关闭的HTTP客户端
      * @throws KeyStoreException        密钥库异常
@@ -290,11 +354,13 @@ public class HttpClientUtils {
         // 构建支持 TLS 的策略（替代 SSLConnectionSocketFactory）
         var tlsStrategy = new DefaultClientTlsStrategy(sslContext, NoopHostnameVerifier.INSTANCE);
 
+        // 默认值与共享引擎一致
+        HttpClientEngine.Config defaults = new HttpClientEngine.Config();
         // 连接管理器
         var connManager = PoolingHttpClientConnectionManagerBuilder.create()
             .setTlsSocketStrategy(tlsStrategy)
-            .setMaxConnTotal(MAX_CONNECTION_TOTAL)
-            .setMaxConnPerRoute(ROUTE_MAX_COUNT)
+            .setMaxConnTotal(defaults.getMaxConnTotal())
+            .setMaxConnPerRoute(defaults.getMaxConnPerRoute())
             .build();
 
         // KeepAlive 策略（默认可用）
@@ -303,7 +369,7 @@ public class HttpClientUtils {
         // 构建 HttpClient
         return HttpClients.custom()
             .setConnectionManager(connManager)
-            .setRetryStrategy(new DefaultHttpRequestRetryStrategy(RETRY_COUNT, TimeValue.ofSeconds(3)))
+            .setRetryStrategy(new DefaultHttpRequestRetryStrategy(defaults.getRetryCount(), TimeValue.ofSeconds(3)))
             .setKeepAliveStrategy(keepAliveStrategy)
             .build();
     }
@@ -0,0 +1,360 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 基于 {@link JsonParser#nextToken()} 的 JSON 格式校验 </p>
+ * 只遍历 token, 不构建 {@link com.fasterxml.jackson.databind.JsonNode} 树, 字符串和数字的内容也不会被物化,
+ * 校验大 JSON 时只有解析器缓冲区的固定开销.
+ * 合法的输入是一个完整的 JSON 值 (对象, 数组或标量), 之后不能再有其他内容.
+ * 可选限制:
+ * 1. maxDepth: 对象/数组的最大嵌套层数
+ * 2. maxLength: 最大长度, String/Reader 按字符计算, byte[]/InputStream 按字节计算
+ * 实例不可变且线程安全, 通过 {@link #maxDepth(int)} 与 {@link #maxLength(long)} 派生新的实例
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:20
+ * @since 1.0.0
+ */
+public final class JsonChecker {
+
+    /** 不限制 */
+    public static final int UNLIMITED = -1;
+
+    /** Factory */
+    private final JsonFactory factory;
+    /** Max depth */
+    private final int maxDepth;
+    /** Max length */
+    private final long maxLength;
+
+    /**
+     * 使用指定 {@link JsonFactory} 的解析特性 (注释, 单引号等) 进行校验, 不限制深度与长度
+     *
+     * @param factory factory
+     * @since 1.0.0
+     */
+    public JsonChecker(@NotNull JsonFactory factory) {
+        this(factory, UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * Json checker
+     *
+     * @param factory   factory
+     * @param maxDepth  最大嵌套层数, 小于 0 表示不限制
+     * @param maxLength 最大长度, 小于 0 表示不限制
+     * @since 1.0.0
+     */
+    public JsonChecker(@NotNull JsonFactory factory, int maxDepth, long maxLength) {
+        this.factory = factory;
+        this.maxDepth = maxDepth;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 派生限制嵌套层数的实例
+     *
+     * @param maxDepth 最大嵌套层数, 小于 0 表示不限制
+     * @return the json checker
+     * @since 1.0.0
+     */
+    @Contract("_ -> new")
+    public @NotNull JsonChecker maxDepth(int maxDepth) {
+        return new JsonChecker(this.factory, maxDepth, this.maxLength);
+    }
+
+    /**
+     * 派生限制长度的实例
+     *
+     * @param maxLength 最大长度, 小于 0 表示不限制
+     * @return the json checker
+     * @since 1.0.0
+     */
+    @Contract("_ -> new")
+    public @NotNull JsonChecker maxLength(long maxLength) {
+        return new JsonChecker(this.factory, this.maxDepth, maxLength);
+    }
+
+    /**
+     * 校验字符串
+     *
+     * @param json json
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isJson(String json) {
+        if (json == null || json.isEmpty() || this.exceeds(json.length())) {
+            return false;
+        }
+        try (JsonParser parser = this.factory.createParser(json)) {
+            return this.check(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 校验 UTF-8 (或可自动识别编码的) 字节数组
+     *
+     * @param json json
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isJson(byte[] json) {
+        return json != null && this.isJson(json, 0, json.length);
+    }
+
+    /**
+     * 校验字节数组的一部分
+     *
+     * @param json   json
+     * @param offset offset
+     * @param length length
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isJson(byte[] json, int offset, int length) {
+        if (json == null || length <= 0 || this.exceeds(length)) {
+            return false;
+        }
+        try (JsonParser parser = this.factory.createParser(json, offset, length)) {
+            return this.check(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 校验输入流, 流会被读取到 JSON 值结束 (或超出限制) 为止, 但不会被关闭
+     *
+     * @param json json
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isJson(InputStream json) {
+        if (json == null) {
+            return false;
+        }
+        InputStream source = this.maxLength < 0 ? json : new LimitedInputStream(json, this.maxLength);
+        try (JsonParser parser = this.factory.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return this.check(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 校验字符流, 流会被读取到 JSON 值结束 (或超出限制) 为止, 但不会被关闭
+     *
+     * @param json json
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isJson(Reader json) {
+        if (json == null) {
+            return false;
+        }
+        Reader source = this.maxLength < 0 ? json : new LimitedReader(json, this.maxLength);
+        try (JsonParser parser = this.factory.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return this.check(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 遍历所有 token, 根值结束后不允许再出现任何 token
+     *
+     * @param parser parser
+     * @return the boolean
+     * @throws IOException 格式错误
+     * @since 1.0.0
+     */
+    private boolean check(@NotNull JsonParser parser) throws IOException {
+        if (parser.nextToken() == null) {
+            return false;
+        }
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        do {
+            if (token.isStructStart()) {
+                if (++depth > this.maxDepth && this.maxDepth >= 0) {
+                    return false;
+                }
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                // 根值已结束, 后面只能是空白
+                return parser.nextToken() == null;
+            }
+            token = parser.nextToken();
+        } while (token != null);
+        // 输入在根值结束前截断, 正常情况下 Jackson 会先抛出异常
+        return false;
+    }
+
+    /**
+     * Exceeds
+     *
+     * @param length length
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private boolean exceeds(long length) {
+        return this.maxLength >= 0 && length > this.maxLength;
+    }
+
+    /**
+     * 超过长度限制 (字节) 时抛出 {@link IOException}, 使解析尽早失败
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:20
+     * @since 1.0.0
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        /** Remaining */
+        private long remaining;
+
+        /**
+         * Limited input stream
+         *
+         * @param in    in
+         * @param limit limit
+         * @since 1.0.0
+         */
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        /**
+         * Read
+         *
+         * @return the int
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                this.consume(1);
+            }
+            return b;
+        }
+
+        /**
+         * Read
+         *
+         * @param b   b
+         * @param off off
+         * @param len len
+         * @return the int
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public int read(byte @NotNull [] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                this.consume(read);
+            }
+            return read;
+        }
+
+        /**
+         * Consume
+         *
+         * @param count count
+         * @throws IOException 超过长度限制
+         * @since 1.0.0
+         */
+        private void consume(int count) throws IOException {
+            this.remaining -= count;
+            if (this.remaining < 0) {
+                throw new IOException("JSON exceeds max length");
+            }
+        }
+    }
+
+    /**
+     * 超过长度限制 (字符) 时抛出 {@link IOException}, 使解析尽早失败
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:20
+     * @since 1.0.0
+     */
+    private static final class LimitedReader extends FilterReader {
+        /** Remaining */
+        private long remaining;
+
+        /**
+         * Limited reader
+         *
+         * @param in    in
+         * @param limit limit
+         * @since 1.0.0
+         */
+        private LimitedReader(Reader in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        /**
+         * Read
+         *
+         * @return the int
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0 && --this.remaining < 0) {
+                throw new IOException("JSON exceeds max length");
+            }
+            return c;
+        }
+
+        /**
+         * Read
+         *
+         * @param cbuf cbuf
+         * @param off  off
+         * @param len  len
+         * @return the int
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public int read(char @NotNull [] cbuf, int off, int len) throws IOException {
+            int read = super.read(cbuf, off, len);
+            if (read > 0) {
+                this.remaining -= read;
+                if (this.remaining < 0) {
+                    throw new IOException("JSON exceeds max length");
+                }
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 绑定了目标类型的 JSON 编解码器 </p>
+ * 创建时解析一次 {@link JavaType} 并构建 {@link ObjectReader}, {@link ObjectWriter} 在第一次序列化时创建.
+ * 调用方可以直接持有实例, 之后的每次调用都不再经过 {@link ObjectMapper} 的类型解析.
+ * 实例不可变且线程安全, 一般通过 {@link Jsons#codec(Class)} 或 {@link JsonCodecRegistry} 获取.
+ * 注意: 序列化使用声明类型 {@code T}, 与 {@link Jsons#toJson(Object)} 按运行时类型序列化不同
+ *
+ * @param <T> parameter
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:50
+ * @since 1.0.0
+ */
+public final class JsonCodec<T> {
+
+    /** Mapper */
+    private final ObjectMapper mapper;
+    /** Type */
+    private final JavaType type;
+    /** Reader */
+    private final ObjectReader reader;
+    /** Writer, 只做序列化或只做反序列化的场景很常见, 因此延迟创建 */
+    private volatile ObjectWriter writer;
+
+    /**
+     * Json codec
+     *
+     * @param mapper mapper
+     * @param type   type
+     * @since 1.0.0
+     */
+    public JsonCodec(@NotNull ObjectMapper mapper, @NotNull JavaType type) {
+        this.mapper = mapper;
+        this.type = type;
+        this.reader = mapper.readerFor(type);
+    }
+
+    /**
+     * Gets type *
+     *
+     * @return the type
+     * @since 1.0.0
+     */
+    public JavaType getType() {
+        return this.type;
+    }
+
+    /**
+     * Reader
+     *
+     * @return the object reader
+     * @since 1.0.0
+     */
+    public ObjectReader reader() {
+        return this.reader;
+    }
+
+    /**
+     * Writer
+     *
+     * @return the object writer
+     * @since 1.0.0
+     */
+    public ObjectWriter writer() {
+        ObjectWriter current = this.writer;
+        if (current == null) {
+            // 并发时可能重复创建, ObjectWriter 本身不可变, 结果等价
+            current = this.mapper.writerFor(this.type);
+            this.writer = current;
+        }
+        return current;
+    }
+
+    /**
+     * Parse
+     *
+     * @param json json
+     * @return the t
+     * @since 1.0.0
+     */
+    public T parse(String json) {
+        try {
+            return this.reader.readValue(json);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * Parse
+     *
+     * @param json json
+     * @return the t
+     * @since 1.0.0
+     */
+    public T parse(byte[] json) {
+        try {
+            return this.reader.readValue(json);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * Parse
+     *
+     * @param in in
+     * @return the t
+     * @since 1.0.0
+     */
+    public T parse(InputStream in) {
+        try {
+            return this.reader.readValue(in);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * To json
+     *
+     * @param value value
+     * @return the string
+     * @since 1.0.0
+     */
+    public String toJson(T value) {
+        try {
+            return this.writer().writeValueAsString(value);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * To json as bytes
+     *
+     * @param value value
+     * @return the byte [ ]
+     * @since 1.0.0
+     */
+    public byte[] toJsonAsBytes(T value) {
+        try {
+            return this.writer().writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @Override
+    public String toString() {
+        return "JsonCodec[" + this.type.toCanonical() + "]";
+    }
+}
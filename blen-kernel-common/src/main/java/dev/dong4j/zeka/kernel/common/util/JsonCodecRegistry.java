@@ -0,0 +1,299 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 单个 {@link ObjectMapper} 的 {@link JsonCodec} 缓存 </p>
+ * 按目标类型缓存已构建的 {@link JsonCodec}, 同一类型只解析一次 {@link JavaType}, 只构建一次 ObjectReader/ObjectWriter.
+ * 1. 缓存挂在类型的 "归属类" 上 ({@link ClassValue}), 归属类是类型中出现的所有类里类加载器层级最深的那个.
+ *    缓存不会强引用业务类加载器, 热部署卸载类加载器时对应的 codec 一并回收
+ * 2. 缓存总数有上限 ({@link #DEFAULT_MAX_SIZE}), 达到上限后新类型的 codec 照常创建但不再缓存, 避免动态类型撑爆内存
+ * 3. 提供命中/未命中计数, 用于观察缓存效果
+ * mapper 的配置在 codec 创建后发生变化时, 需要调用 {@link #clear()} 使已缓存的 codec 失效
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:50
+ * @since 1.0.0
+ */
+public final class JsonCodecRegistry {
+
+    /** 默认最大缓存数量 */
+    public static final int DEFAULT_MAX_SIZE = 2048;
+
+    /** Mapper */
+    private final ObjectMapper mapper;
+    /** Max size */
+    private final int maxSize;
+    /** Size */
+    private final AtomicInteger size = new AtomicInteger();
+    /** Hits */
+    private final LongAdder hits = new LongAdder();
+    /** Misses */
+    private final LongAdder misses = new LongAdder();
+    /** 归属类 -> (缓存 key -> codec), clear 时整体替换 */
+    private volatile ClassValue<Map<Object, JsonCodec<?>>> codecs = newClassValue();
+
+    /**
+     * Json codec registry
+     *
+     * @param mapper mapper
+     * @since 1.0.0
+     */
+    public JsonCodecRegistry(@NotNull ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Json codec registry
+     *
+     * @param mapper  mapper
+     * @param maxSize 最大缓存数量
+     * @since 1.0.0
+     */
+    public JsonCodecRegistry(@NotNull ObjectMapper mapper, int maxSize) {
+        this.mapper = mapper;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 普通类型
+     *
+     * @param <T>  parameter
+     * @param type type
+     * @return the json codec
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonCodec<T> get(@NotNull Class<T> type) {
+        return (JsonCodec<T>) this.lookup(owner(type), type, key -> this.mapper.constructType(type));
+    }
+
+    /**
+     * 泛型类型, 以 {@link TypeReference#getType()} 作为 key, 不同调用点创建的同一泛型类型共用一个 codec
+     *
+     * @param <T>           parameter
+     * @param typeReference type reference
+     * @return the json codec
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonCodec<T> get(@NotNull TypeReference<T> typeReference) {
+        Type type = typeReference.getType();
+        return (JsonCodec<T>) this.lookup(owner(type), type, key -> this.mapper.constructType(type));
+    }
+
+    /**
+     * List 类型
+     *
+     * @param <T>          parameter
+     * @param elementClass element class
+     * @return the json codec
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonCodec<List<T>> list(@NotNull Class<T> elementClass) {
+        return (JsonCodec<List<T>>) this.lookup(owner(elementClass),
+                                                new ListKey(elementClass),
+                                                key -> Jsons.getListType(this.mapper, elementClass));
+    }
+
+    /**
+     * Map 类型
+     *
+     * @param <K>        parameter
+     * @param <V>        parameter
+     * @param keyClass   key class
+     * @param valueClass value class
+     * @return the json codec
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> JsonCodec<Map<K, V>> map(@NotNull Class<?> keyClass, @NotNull Class<?> valueClass) {
+        return (JsonCodec<Map<K, V>>) this.lookup(deeper(owner(keyClass), owner(valueClass)),
+                                                  new MapKey(keyClass, valueClass),
+                                                  key -> Jsons.getMapType(this.mapper, keyClass, valueClass));
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * 未命中次数 (包含超过上限未缓存的情况)
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * 当前缓存数量
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    /**
+     * 丢弃所有已缓存的 codec, 计数不重置
+     *
+     * @since 1.0.0
+     */
+    public void clear() {
+        this.codecs = newClassValue();
+        this.size.set(0);
+    }
+
+    /**
+     * Lookup
+     *
+     * @param owner   owner
+     * @param key     key
+     * @param resolve 未命中时解析类型
+     * @return the json codec
+     * @since 1.0.0
+     */
+    private JsonCodec<?> lookup(Class<?> owner, Object key, Function<Object, JavaType> resolve) {
+        Map<Object, JsonCodec<?>> cache = this.codecs.get(owner);
+        JsonCodec<?> codec = cache.get(key);
+        if (codec != null) {
+            this.hits.increment();
+            return codec;
+        }
+        this.misses.increment();
+        codec = new JsonCodec<>(this.mapper, resolve.apply(key));
+        if (this.size.get() >= this.maxSize) {
+            return codec;
+        }
+        JsonCodec<?> previous = cache.putIfAbsent(key, codec);
+        if (previous != null) {
+            return previous;
+        }
+        this.size.incrementAndGet();
+        return codec;
+    }
+
+    /**
+     * New class value
+     *
+     * @return the class value
+     * @since 1.0.0
+     */
+    @Contract(" -> new")
+    private static @NotNull ClassValue<Map<Object, JsonCodec<?>>> newClassValue() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Object, JsonCodec<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>(4);
+            }
+        };
+    }
+
+    /**
+     * 类型中类加载器层级最深的类, 找不到任何类时 (如只有类型变量) 归属到 {@link Object}
+     *
+     * @param type type
+     * @return the class
+     * @since 1.0.0
+     */
+    private static Class<?> owner(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz.isArray() ? owner(clazz.getComponentType()) : clazz;
+        }
+        Class<?> owner = Object.class;
+        if (type instanceof ParameterizedType parameterized) {
+            owner = owner(parameterized.getRawType());
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                owner = deeper(owner, owner(argument));
+            }
+        } else if (type instanceof GenericArrayType array) {
+            owner = owner(array.getGenericComponentType());
+        } else if (type instanceof WildcardType wildcard) {
+            for (Type bound : wildcard.getUpperBounds()) {
+                owner = deeper(owner, owner(bound));
+            }
+            for (Type bound : wildcard.getLowerBounds()) {
+                owner = deeper(owner, owner(bound));
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * 如果 b 的类加载器是 a 的类加载器的子孙则返回 b, 否则返回 a
+     *
+     * @param a a
+     * @param b b
+     * @return the class
+     * @since 1.0.0
+     */
+    private static Class<?> deeper(@NotNull Class<?> a, @NotNull Class<?> b) {
+        ClassLoader target = a.getClassLoader();
+        ClassLoader loader = b.getClassLoader();
+        if (loader == null || loader == target) {
+            return a;
+        }
+        if (target == null) {
+            return b;
+        }
+        for (ClassLoader parent = loader.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent == target) {
+                return b;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * List 类型的缓存 key
+     *
+     * @param element element
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:50
+     * @since 1.0.0
+     */
+    private record ListKey(Class<?> element) {
+    }
+
+    /**
+     * Map 类型的缓存 key
+     *
+     * @param key   key
+     * @param value value
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:50
+     * @since 1.0.0
+     */
+    private record MapKey(Class<?> key, Class<?> value) {
+    }
+}
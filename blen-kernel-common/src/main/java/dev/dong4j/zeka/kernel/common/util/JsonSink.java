@@ -0,0 +1,280 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 基于 {@link SequenceWriter} 的增量 JSON 输出 </p>
+ * 每写入一个值就直接序列化到输出流, 不需要先把整个集合放进内存, 用于大批量数据导出.
+ * 1. {@link #array}: 输出一个 JSON 数组 {@code [a,b,c]}, 关闭时补上结束符
+ * 2. {@link #ndjson}: 输出 NDJSON (每行一个 JSON 值, 以换行结尾)
+ * 写入时不会逐条 flush, 由底层缓冲区决定何时落盘, 需要时手动调用 {@link #flush()}.
+ * 关闭时会关闭底层输出流. 非线程安全
+ *
+ * @param <T> parameter
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:10
+ * @since 1.0.0
+ */
+public final class JsonSink<T> implements Consumer<T>, Flushable, Closeable {
+
+    /** Generator */
+    private final JsonGenerator generator;
+    /** Sequence */
+    private final SequenceWriter sequence;
+    /** 每个值之后追加换行 */
+    private final boolean lineDelimited;
+    /** Count */
+    private long count;
+
+    /**
+     * Json sink
+     *
+     * @param generator     generator
+     * @param sequence      sequence
+     * @param lineDelimited line delimited
+     * @since 1.0.0
+     */
+    private JsonSink(JsonGenerator generator, SequenceWriter sequence, boolean lineDelimited) {
+        this.generator = generator;
+        this.sequence = sequence;
+        this.lineDelimited = lineDelimited;
+    }
+
+    /**
+     * 输出 JSON 数组
+     *
+     * @param <T>    parameter
+     * @param writer writer
+     * @param out    out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    @Contract("_, _ -> new")
+    public static <T> @NotNull JsonSink<T> array(@NotNull ObjectWriter writer, @NotNull OutputStream out) {
+        ObjectWriter configured = arrayWriter(writer);
+        try {
+            return array(configured, configured.createGenerator(out));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 输出 JSON 数组
+     *
+     * @param <T>    parameter
+     * @param writer writer
+     * @param out    out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    @Contract("_, _ -> new")
+    public static <T> @NotNull JsonSink<T> array(@NotNull ObjectWriter writer, @NotNull Writer out) {
+        ObjectWriter configured = arrayWriter(writer);
+        try {
+            return array(configured, configured.createGenerator(out));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 输出 NDJSON
+     *
+     * @param <T>    parameter
+     * @param writer writer
+     * @param out    out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    @Contract("_, _ -> new")
+    public static <T> @NotNull JsonSink<T> ndjson(@NotNull ObjectWriter writer, @NotNull OutputStream out) {
+        ObjectWriter configured = ndjsonWriter(writer);
+        try {
+            return ndjson(configured, configured.createGenerator(out));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 输出 NDJSON
+     *
+     * @param <T>    parameter
+     * @param writer writer
+     * @param out    out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    @Contract("_, _ -> new")
+    public static <T> @NotNull JsonSink<T> ndjson(@NotNull ObjectWriter writer, @NotNull Writer out) {
+        ObjectWriter configured = ndjsonWriter(writer);
+        try {
+            return ndjson(configured, configured.createGenerator(out));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 不逐条 flush
+     *
+     * @param writer writer
+     * @return the object writer
+     * @since 1.0.0
+     */
+    private static ObjectWriter arrayWriter(@NotNull ObjectWriter writer) {
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 不逐条 flush, 不格式化 (每个值必须在一行内), 根值之间不使用默认的空格分隔,
+     * 换行由 {@link #write(Object)} 写入, 保证最后一行也以换行结尾.
+     * generator 需要由返回的 writer 创建, 否则格式化与分隔符配置不会生效
+     *
+     * @param writer writer
+     * @return the object writer
+     * @since 1.0.0
+     */
+    private static ObjectWriter ndjsonWriter(@NotNull ObjectWriter writer) {
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .withRootValueSeparator("");
+    }
+
+    /**
+     * Array
+     *
+     * @param <T>       parameter
+     * @param writer    writer
+     * @param generator generator
+     * @return the json sink
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static <T> @NotNull JsonSink<T> array(@NotNull ObjectWriter writer, JsonGenerator generator) throws IOException {
+        return new JsonSink<>(generator, writer.writeValuesAsArray(generator), false);
+    }
+
+    /**
+     * Ndjson
+     *
+     * @param <T>       parameter
+     * @param writer    writer
+     * @param generator generator
+     * @return the json sink
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static <T> @NotNull JsonSink<T> ndjson(@NotNull ObjectWriter writer, JsonGenerator generator) throws IOException {
+        return new JsonSink<>(generator, writer.writeValues(generator), true);
+    }
+
+    /**
+     * 写入一个值
+     *
+     * @param value value
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public JsonSink<T> write(T value) {
+        try {
+            this.sequence.write(value);
+            if (this.lineDelimited) {
+                this.generator.writeRaw('\n');
+            }
+            this.count++;
+            return this;
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 逐个写入
+     *
+     * @param values values
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public JsonSink<T> writeAll(@NotNull Iterator<? extends T> values) {
+        while (values.hasNext()) {
+            this.write(values.next());
+        }
+        return this;
+    }
+
+    /**
+     * 逐个写入, 不会关闭 stream
+     *
+     * @param values values
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public JsonSink<T> writeAll(@NotNull Stream<? extends T> values) {
+        values.forEachOrdered(this::write);
+        return this;
+    }
+
+    /**
+     * Accept
+     *
+     * @param value value
+     * @since 1.0.0
+     */
+    @Override
+    public void accept(T value) {
+        this.write(value);
+    }
+
+    /**
+     * 已写入的数量
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Flush
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public void flush() throws IOException {
+        this.sequence.flush();
+    }
+
+    /**
+     * 数组模式下补上结束符, 然后关闭底层输出
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.sequence.close();
+        } finally {
+            this.generator.close();
+        }
+    }
+}
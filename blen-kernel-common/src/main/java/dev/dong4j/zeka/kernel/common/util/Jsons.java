@@ -9,7 +9,9 @@ import com.fasterxml.jackson.core.json.PackageVersion;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -21,13 +23,12 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.reflections.util.ConfigurationBuilder;
 import org.springframework.util.ObjectUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
@@ -36,15 +37,19 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TimeZone;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import cn.hutool.core.util.ObjectUtil;
-import dev.dong4j.zeka.ZekaStack;
 import dev.dong4j.zeka.kernel.common.asserts.Assertions;
 import dev.dong4j.zeka.kernel.common.constant.ConfigDefaultValue;
 import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
 import dev.dong4j.zeka.kernel.common.serialize.StringTrimmerDeserializer;
 import dev.dong4j.zeka.kernel.common.serialize.StringTrimmerSerializer;
+import dev.dong4j.zeka.kernel.common.support.ClassIndex;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.experimental.UtilityClass;
@@ -138,6 +143,124 @@ public class Jsons {
         return JacksonHolder.INSTANCE;
     }
 
+    /**
+     * 全局 {@link ObjectMapper} 的 codec 缓存, 可用于查看命中率
+     *
+     * @return the json codec registry
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public static JsonCodecRegistry getCodecRegistry() {
+        return JacksonHolder.CODECS;
+    }
+
+    /**
+     * 获取绑定了类型的编解码器, 基于全局 {@link ObjectMapper} 并缓存, 调用方可直接持有
+     *
+     * @param <T>  parameter
+     * @param type type
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <T> JsonCodec<T> codec(Class<T> type) {
+        return JacksonHolder.CODECS.get(type);
+    }
+
+    /**
+     * 获取绑定了泛型类型的编解码器
+     *
+     * @param <T>           parameter
+     * @param typeReference type reference
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <T> JsonCodec<T> codec(TypeReference<T> typeReference) {
+        return JacksonHolder.CODECS.get(typeReference);
+    }
+
+    /**
+     * 获取 List 类型的编解码器
+     *
+     * @param <T>          parameter
+     * @param elementClass element class
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <T> JsonCodec<List<T>> listCodec(Class<T> elementClass) {
+        return JacksonHolder.CODECS.list(elementClass);
+    }
+
+    /**
+     * 获取 Map 类型的编解码器
+     *
+     * @param <K>        parameter
+     * @param <V>        parameter
+     * @param keyClass   key class
+     * @param valueClass value class
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <K, V> JsonCodec<Map<K, V>> mapCodec(Class<?> keyClass, Class<?> valueClass) {
+        return JacksonHolder.CODECS.map(keyClass, valueClass);
+    }
+
+    /**
+     * 使用全局 mapper 时走缓存; 自定义 mapper 的生命周期不可控, 每次创建新的 codec,
+     * 需要缓存时由调用方自行持有 {@link JsonCodecRegistry}
+     *
+     * @param <T>    parameter
+     * @param mapper mapper
+     * @param type   type
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <T> JsonCodec<T> codec(@NotNull ObjectMapper mapper, Class<T> type) {
+        return mapper == getInstance() ? codec(type) : new JsonCodec<>(mapper, mapper.constructType(type));
+    }
+
+    /**
+     * Codec
+     *
+     * @param <T>           parameter
+     * @param mapper        mapper
+     * @param typeReference type reference
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <T> JsonCodec<T> codec(@NotNull ObjectMapper mapper, TypeReference<T> typeReference) {
+        return mapper == getInstance() ? codec(typeReference) : new JsonCodec<>(mapper, mapper.constructType(typeReference));
+    }
+
+    /**
+     * List codec
+     *
+     * @param <T>          parameter
+     * @param mapper       mapper
+     * @param elementClass element class
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <T> JsonCodec<List<T>> listCodec(@NotNull ObjectMapper mapper, Class<T> elementClass) {
+        return mapper == getInstance() ? listCodec(elementClass) : new JsonCodec<>(mapper, getListType(mapper, elementClass));
+    }
+
+    /**
+     * Map codec
+     *
+     * @param <K>        parameter
+     * @param <V>        parameter
+     * @param mapper     mapper
+     * @param keyClass   key class
+     * @param valueClass value class
+     * @return the json codec
+     * @since 1.0.0
+     */
+    public static <K, V> JsonCodec<Map<K, V>> mapCodec(@NotNull ObjectMapper mapper, Class<?> keyClass, Class<?> valueClass) {
+        return mapper == getInstance()
+            ? mapCodec(keyClass, valueClass)
+            : new JsonCodec<>(mapper, getMapType(mapper, keyClass, valueClass));
+    }
+
     /**
      * Create Object Node
      *
@@ -183,25 +306,17 @@ public class Jsons {
 
     /**
      * 根据自定义 mapper 判断字符串是否为 json 格式.
-     * 判断转换前后的字符串内容是否一样
+     * 使用 mapper 的解析特性逐个读取 token, 不构建 JsonNode 树, 根值之后不能有其他内容.
+     * 根值可以是标量 (数字, 字符串, true, false, null), 数字与转义字符不再要求是 Jackson 输出的规范形式
      *
      * @param mapper       mapper
      * @param jsonInString json in string
      * @return the boolean
+     * @see JsonChecker
      * @since 1.0.0
      */
-    @SuppressWarnings("java:S3252")
     public static boolean isJson(@NotNull ObjectMapper mapper, String jsonInString) {
-        if (StringUtils.isEmpty(jsonInString)) {
-            return false;
-        }
-        try {
-            JsonNode jsonNode = mapper.readTree(jsonInString);
-            String jStr = jsonNode.toString();
-            return StringUtils.trimAllWhitespace(jStr).equals(StringUtils.trimAllWhitespace(jsonInString));
-        } catch (IOException e) {
-            return false;
-        }
+        return new JsonChecker(mapper.getFactory()).isJson(jsonInString);
     }
 
     /**
@@ -224,15 +339,18 @@ public class Jsons {
      * @since 1.0.0
      */
     public static boolean isJson(@NotNull ObjectMapper mapper, byte[] jsonBytes) {
-        if (jsonBytes.length == 0) {
-            return false;
-        }
-        try {
-            mapper.readTree(jsonBytes);
-            return true;
-        } catch (IOException e) {
-            return false;
-        }
+        return new JsonChecker(mapper.getFactory()).isJson(jsonBytes);
+    }
+
+    /**
+     * 判断输入流是否为 json 格式, 流会被读取但不会被关闭.
+     *
+     * @param inputStream input stream
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public static boolean isJson(InputStream inputStream) {
+        return new JsonChecker(getInstance().getFactory()).isJson(inputStream);
     }
 
     /**
@@ -487,11 +605,7 @@ public class Jsons {
      */
     public static <T> T parse(@NotNull ObjectMapper mapper, String jsonString, Class<T> valueType) {
         Assertions.notBlank(jsonString, MESSAGE);
-        try {
-            return mapper.readValue(jsonString, valueType);
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return codec(mapper, valueType).parse(jsonString);
     }
 
     /**
@@ -524,11 +638,7 @@ public class Jsons {
             return null;
         }
         Assertions.notNull(content, MESSAGE);
-        try {
-            return mapper.readValue(content, valueType);
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return codec(mapper, valueType).parse(content);
     }
 
     /**
@@ -556,11 +666,7 @@ public class Jsons {
      */
     public static <T> T parse(@NotNull ObjectMapper mapper, InputStream in, Class<T> valueType) {
         Assertions.notNull(in, MESSAGE);
-        try {
-            return mapper.readValue(in, valueType);
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return codec(mapper, valueType).parse(in);
     }
 
     /**
@@ -590,11 +696,7 @@ public class Jsons {
     @NotNull
     public static <T> T parse(@NotNull ObjectMapper mapper, byte[] content, TypeReference<T> typeReference) {
         Assertions.notNull(content, MESSAGE);
-        try {
-            return mapper.readValue(content, typeReference);
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return codec(mapper, typeReference).parse(content);
     }
 
     /**
@@ -623,11 +725,7 @@ public class Jsons {
      */
     public static <T> T parse(@NotNull ObjectMapper mapper, String jsonString, TypeReference<T> typeReference) {
         Assertions.notBlank(jsonString, MESSAGE);
-        try {
-            return mapper.readValue(jsonString, typeReference);
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return codec(mapper, typeReference).parse(jsonString);
     }
 
     /**
@@ -657,30 +755,26 @@ public class Jsons {
     public static <T> T parse(@NotNull ObjectMapper mapper, String jsonString, Object typeReference) {
         Assertions.notBlank(jsonString, MESSAGE);
         Assertions.notNull(typeReference, "必须指定转换类型");
-        try {
-            if (typeReference instanceof TypeReference) {
-                return mapper.readValue(jsonString, (TypeReference<T>) typeReference);
-            } else {
-                T t;
-                Class<T> clazz = (Class<T>) typeReference;
-                // 如果是 String, 直接返回, 避免异常
-                if (String.class.isAssignableFrom(clazz)) {
-                    t = (T) jsonString;
-                } else if (Date.class.isAssignableFrom(clazz)) {
-                    // 如果是时间类型, 则直接转为 Date, 避免异常
-                    ConcurrentDateFormat format = ConcurrentDateFormat.of(PATTERN_DATETIME);
-                    try {
-                        t = (T) format.parse(jsonString);
-                    } catch (ParseException e) {
-                        throw Exceptions.unchecked(e);
-                    }
-                } else {
-                    t = mapper.readValue(jsonString, (Class<T>) typeReference);
+        if (typeReference instanceof TypeReference) {
+            return codec(mapper, (TypeReference<T>) typeReference).parse(jsonString);
+        } else {
+            T t;
+            Class<T> clazz = (Class<T>) typeReference;
+            // 如果是 String, 直接返回, 避免异常
+            if (String.class.isAssignableFrom(clazz)) {
+                t = (T) jsonString;
+            } else if (Date.class.isAssignableFrom(clazz)) {
+                // 如果是时间类型, 则直接转为 Date, 避免异常
+                ConcurrentDateFormat format = ConcurrentDateFormat.of(PATTERN_DATETIME);
+                try {
+                    t = (T) format.parse(jsonString);
+                } catch (ParseException e) {
+                    throw Exceptions.unchecked(e);
                 }
-                return t;
+            } else {
+                t = codec(mapper, clazz).parse(jsonString);
             }
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
+            return t;
         }
     }
 
@@ -710,11 +804,7 @@ public class Jsons {
      */
     public static <T> T parse(@NotNull ObjectMapper mapper, InputStream in, TypeReference<T> typeReference) {
         Assertions.notNull(in, MESSAGE);
-        try {
-            return mapper.readValue(in, typeReference);
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return codec(mapper, typeReference).parse(in);
     }
 
     /**
@@ -830,11 +920,7 @@ public class Jsons {
         if (ObjectUtils.isEmpty(content)) {
             return Collections.emptyList();
         }
-        try {
-            return mapper.readValue(content, getListType(elementClass));
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return listCodec(mapper, elementClass).parse(content);
     }
 
     /**
@@ -889,11 +975,7 @@ public class Jsons {
         if (content == null) {
             return Collections.emptyList();
         }
-        try {
-            return mapper.readValue(content, getListType(elementClass));
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return listCodec(mapper, elementClass).parse(content);
     }
 
     /**
@@ -924,11 +1006,7 @@ public class Jsons {
         if (ObjectUtils.isEmpty(content)) {
             return Collections.emptyList();
         }
-        try {
-            return mapper.readValue(content, getListType(elementClass));
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return listCodec(mapper, elementClass).parse(content);
     }
 
     /**
@@ -963,11 +1041,7 @@ public class Jsons {
         if (ObjectUtil.isEmpty(content)) {
             return Collections.emptyMap();
         }
-        try {
-            return mapper.readValue(toJson(content), getMapType(keyClass, valueClass));
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return Jsons.<K, V>mapCodec(mapper, keyClass, valueClass).parse(toJson(content));
     }
     /**
      * 读取集合
@@ -1001,11 +1075,7 @@ public class Jsons {
         if (ObjectUtils.isEmpty(content)) {
             return Collections.emptyMap();
         }
-        try {
-            return mapper.readValue(content, getMapType(keyClass, valueClass));
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return Jsons.<K, V>mapCodec(mapper, keyClass, valueClass).parse(content);
     }
 
     /**
@@ -1065,11 +1135,7 @@ public class Jsons {
         if (ObjectUtils.isEmpty(content)) {
             return Collections.emptyMap();
         }
-        try {
-            return mapper.readValue(content, getMapType(keyClass, valueClass));
-        } catch (IOException e) {
-            throw Exceptions.unchecked(e);
-        }
+        return Jsons.<K, V>mapCodec(mapper, keyClass, valueClass).parse(content);
     }
 
     /**
@@ -1104,13 +1170,230 @@ public class Jsons {
         if (ObjectUtils.isEmpty(content)) {
             return Collections.emptyMap();
         }
+        return Jsons.<K, V>mapCodec(mapper, keyClass, valueClass).parse(content);
+    }
+
+    /**
+     * 增量读取 JSON 数组或连续的多个 JSON 值 (包括 NDJSON), 每次只反序列化一个元素, 内存占用与元素个数无关.
+     * 根值是数组时逐个返回数组元素, 否则逐个返回根值. 使用完后需要关闭 Stream (会同时关闭输入流)
+     *
+     * @param <T>       parameter
+     * @param in        in
+     * @param valueType value type
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> stream(InputStream in, Class<T> valueType) {
+        return stream(getInstance(), in, valueType);
+    }
+
+    /**
+     * Stream
+     *
+     * @param <T>       parameter
+     * @param mapper    mapper
+     * @param in        in
+     * @param valueType value type
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> stream(@NotNull ObjectMapper mapper, InputStream in, Class<T> valueType) {
+        return toStream(iterator(mapper, in, valueType));
+    }
+
+    /**
+     * Stream
+     *
+     * @param <T>           parameter
+     * @param in            in
+     * @param typeReference type reference
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> stream(InputStream in, TypeReference<T> typeReference) {
+        Assertions.notNull(in, MESSAGE);
         try {
-            return mapper.readValue(content, getMapType(keyClass, valueClass));
+            return toStream(codec(typeReference).reader().readValues(in));
         } catch (IOException e) {
             throw Exceptions.unchecked(e);
         }
     }
 
+    /**
+     * Stream
+     *
+     * @param <T>       parameter
+     * @param reader    reader
+     * @param valueType value type
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> stream(Reader reader, Class<T> valueType) {
+        Assertions.notNull(reader, MESSAGE);
+        try {
+            return toStream(codec(valueType).reader().readValues(reader));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 与 {@link #stream(InputStream, Class)} 相同, 直接返回 {@link MappingIterator}, 使用完后需要关闭
+     *
+     * @param <T>       parameter
+     * @param in        in
+     * @param valueType value type
+     * @return the mapping iterator
+     * @since 1.0.0
+     */
+    public static <T> MappingIterator<T> iterator(InputStream in, Class<T> valueType) {
+        return iterator(getInstance(), in, valueType);
+    }
+
+    /**
+     * Iterator
+     *
+     * @param <T>       parameter
+     * @param mapper    mapper
+     * @param in        in
+     * @param valueType value type
+     * @return the mapping iterator
+     * @since 1.0.0
+     */
+    public static <T> MappingIterator<T> iterator(@NotNull ObjectMapper mapper, InputStream in, Class<T> valueType) {
+        Assertions.notNull(in, MESSAGE);
+        try {
+            return codec(mapper, valueType).reader().readValues(in);
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 严格按 NDJSON 读取: 每个根值都是一个元素, 第一行是数组时也不会被展开, 适用于元素本身就是数组的场景.
+     * 使用完后需要关闭 Stream (会同时关闭输入流)
+     *
+     * @param <T>       parameter
+     * @param in        in
+     * @param valueType value type
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> ndjson(InputStream in, Class<T> valueType) {
+        return ndjson(getInstance(), in, valueType);
+    }
+
+    /**
+     * Ndjson
+     *
+     * @param <T>       parameter
+     * @param mapper    mapper
+     * @param in        in
+     * @param valueType value type
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> ndjson(@NotNull ObjectMapper mapper, InputStream in, Class<T> valueType) {
+        Assertions.notNull(in, MESSAGE);
+        ObjectReader reader = codec(mapper, valueType).reader();
+        try {
+            // 自行创建的 parser 不会被 MappingIterator 跳过开头的 START_ARRAY
+            return toStream(reader.readValues(reader.createParser(in)));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * Ndjson
+     *
+     * @param <T>           parameter
+     * @param in            in
+     * @param typeReference type reference
+     * @return the stream
+     * @since 1.0.0
+     */
+    public static <T> Stream<T> ndjson(InputStream in, TypeReference<T> typeReference) {
+        Assertions.notNull(in, MESSAGE);
+        ObjectReader reader = codec(typeReference).reader();
+        try {
+            return toStream(reader.readValues(reader.createParser(in)));
+        } catch (IOException e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * 增量写出 JSON 数组, 使用完后需要关闭 (会同时关闭输出流)
+     *
+     * @param <T> parameter
+     * @param out out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public static <T> JsonSink<T> arraySink(OutputStream out) {
+        return arraySink(getInstance(), out);
+    }
+
+    /**
+     * Array sink
+     *
+     * @param <T>    parameter
+     * @param mapper mapper
+     * @param out    out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public static <T> JsonSink<T> arraySink(@NotNull ObjectMapper mapper, OutputStream out) {
+        Assertions.notNull(out, "输出流不能为空");
+        return JsonSink.array(mapper.writer(), out);
+    }
+
+    /**
+     * 增量写出 NDJSON, 使用完后需要关闭 (会同时关闭输出流)
+     *
+     * @param <T> parameter
+     * @param out out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public static <T> JsonSink<T> ndjsonSink(OutputStream out) {
+        return ndjsonSink(getInstance(), out);
+    }
+
+    /**
+     * Ndjson sink
+     *
+     * @param <T>    parameter
+     * @param mapper mapper
+     * @param out    out
+     * @return the json sink
+     * @since 1.0.0
+     */
+    public static <T> JsonSink<T> ndjsonSink(@NotNull ObjectMapper mapper, OutputStream out) {
+        Assertions.notNull(out, "输出流不能为空");
+        return JsonSink.ndjson(mapper.writer(), out);
+    }
+
+    /**
+     * 包装为串行的 Stream, 关闭 Stream 时关闭迭代器
+     *
+     * @param <T>      parameter
+     * @param iterator iterator
+     * @return the stream
+     * @since 1.0.0
+     */
+    private static <T> @NotNull Stream<T> toStream(MappingIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(() -> {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    throw Exceptions.unchecked(e);
+                }
+            });
+    }
+
     /**
      * <p>Description: 使用静态内部类实例化单例对象, 此 ObjectMapper 会在全局使用 </p>
      *
@@ -1124,6 +1407,8 @@ public class Jsons {
     private static class JacksonHolder {
         /** INSTANCE */
         private static final ObjectMapper INSTANCE;
+        /** 全局 mapper 的 codec 缓存 */
+        private static final JsonCodecRegistry CODECS;
         /** CHINA */
         private static final Locale CHINA = Locale.CHINA;
 
@@ -1156,6 +1441,7 @@ public class Jsons {
             registerSubtypes(objectMapper);
             trimmer(objectMapper);
             INSTANCE = objectMapper;
+            CODECS = new JsonCodecRegistry(objectMapper);
         }
 
         /**
@@ -1183,17 +1469,8 @@ public class Jsons {
             StopWatch stopWatch = new StopWatch();
             stopWatch.start();
 
-            // 扫描框架包和业务包
-            ConfigurationBuilder build = ConfigurationBuilder.build(ZekaStack.class.getPackageName(),
-                ConfigDefaultValue.BASE_PACKAGES,
-                Scanners.SubTypes,
-                Scanners.TypesAnnotated);
-
-            build.setExpandSuperTypes(false);
-            Reflections reflections = new Reflections(build);
-
-            // 扫描 JsonTypeName 注解, 注册所有子类
-            Set<Class<?>> subTypes = reflections.getTypesAnnotatedWith(JsonTypeName.class);
+            // 优先读取编译期索引, 没有索引时扫描框架包和业务包
+            Set<Class<?>> subTypes = ClassIndex.jsonTypeNames();
             if (log.isTraceEnabled()) {
                 subTypes.forEach(c -> log.trace("{}", c.getName()));
             }
@@ -0,0 +1,226 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+/**
+ * <p>Description: 预编译的忽略 url 匹配器, 与 {@link SecurityUtils#matches} 的结果保持一致 </p>
+ * 1. 构建时按 pattern 中不含通配符的前导路径段建立前缀树, 匹配时只需要沿请求路径走一遍前缀树,
+ * 再用 {@link PathMatcher} 校验沿途收集到的少量候选 pattern, 不再逐个匹配全部 pattern
+ * 2. 每个匹配器保留一个有界的请求路径结果缓存, 读写都不加锁; 缓存满时随机淘汰一个已有的路径, 不维护访问顺序
+ * 3. 使用默认 {@link AntPathMatcher} 的相同 pattern 集合共享同一个匹配器实例, 自定义 {@link PathMatcher} 时不建立前缀树, 只使用结果缓存
+ * <p>
+ * 与 {@link SecurityUtils#matches} 一致, 只有命中 exclude pattern 时返回 true, include pattern 不影响结果
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 11:45
+ * @since 1.0.0
+ */
+public final class SkipPathMatcher {
+    /** 默认的路径匹配器, 线程安全, 所有过滤器共享 */
+    public static final PathMatcher DEFAULT_PATH_MATCHER = new AntPathMatcher();
+    /** 路径分隔符 */
+    private static final String SEPARATOR = StringPool.SLASH;
+    /** 每个匹配器缓存的路径数量 */
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    /** 使用默认路径匹配器时, 按 pattern 集合共享匹配器 */
+    private static final Map<List<String>, SkipPathMatcher> SHARED = new ConcurrentHashMap<>();
+
+    /** 路径匹配器 */
+    @Getter
+    private final PathMatcher pathMatcher;
+    /** 全部 exclude pattern */
+    private final String[] excludePatterns;
+    /** 前缀树根节点, 自定义路径匹配器时为 null */
+    private final Node root;
+    /** 请求路径的匹配结果, 大小不超过 {@link #DEFAULT_CACHE_SIZE} (并发写入时可能短暂超出几个) */
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>(DEFAULT_CACHE_SIZE);
+
+    /**
+     * Skip path matcher
+     *
+     * @param excludePatterns exclude patterns
+     * @param pathMatcher     path matcher
+     * @since 1.0.0
+     */
+    private SkipPathMatcher(String[] excludePatterns, PathMatcher pathMatcher) {
+        this.pathMatcher = pathMatcher;
+        this.excludePatterns = excludePatterns;
+        this.root = pathMatcher == DEFAULT_PATH_MATCHER ? compile(excludePatterns) : null;
+    }
+
+    /**
+     * 获取匹配器, 使用默认路径匹配器时相同的 pattern 集合返回同一个实例
+     *
+     * @param excludePatterns exclude patterns
+     * @param pathMatcher     path matcher
+     * @return the skip path matcher
+     * @since 1.0.0
+     */
+    public static @NotNull SkipPathMatcher of(String[] excludePatterns, PathMatcher pathMatcher) {
+        String[] patterns = excludePatterns == null ? new String[0] : excludePatterns;
+        if (pathMatcher != DEFAULT_PATH_MATCHER) {
+            return new SkipPathMatcher(patterns.clone(), pathMatcher);
+        }
+        List<String> key = List.copyOf(new TreeSet<>(Arrays.asList(patterns)));
+        return SHARED.computeIfAbsent(key, k -> new SkipPathMatcher(k.toArray(new String[0]), pathMatcher));
+    }
+
+    /**
+     * 返回 true 则不进入 filter, 否则进入 filter
+     *
+     * @param lookupPath lookup path
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean matches(String lookupPath) {
+        if (lookupPath == null || this.excludePatterns.length == 0) {
+            return false;
+        }
+        Boolean decision = this.decisions.get(lookupPath);
+        if (decision == null) {
+            decision = this.root == null ? this.matchAll(lookupPath) : this.matchCandidates(lookupPath);
+            this.cache(lookupPath, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * 缓存匹配结果, 缓存已满时先淘汰迭代器遇到的第一个路径, 避免路径参数不同的请求把缓存无限撑大
+     *
+     * @param lookupPath lookup path
+     * @param decision   decision
+     * @since 1.0.0
+     */
+    private void cache(String lookupPath, Boolean decision) {
+        if (this.decisions.size() >= DEFAULT_CACHE_SIZE) {
+            Iterator<String> iterator = this.decisions.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        this.decisions.put(lookupPath, decision);
+    }
+
+    /**
+     * 已缓存的路径数量
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    int cacheSize() {
+        return this.decisions.size();
+    }
+
+    /**
+     * 逐个匹配全部 pattern
+     *
+     * @param lookupPath lookup path
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private boolean matchAll(String lookupPath) {
+        for (String pattern : this.excludePatterns) {
+            if (this.pathMatcher.match(pattern, lookupPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 沿请求路径遍历前缀树, 只校验沿途节点上的候选 pattern
+     *
+     * @param lookupPath lookup path
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private boolean matchCandidates(@NotNull String lookupPath) {
+        Node node = this.root;
+        int start = 0;
+        int length = lookupPath.length();
+        while (node != null) {
+            for (String pattern : node.patterns) {
+                if (this.pathMatcher.match(pattern, lookupPath)) {
+                    return true;
+                }
+            }
+            // 与 AntPathMatcher 的分词规则一致, 忽略空的路径段
+            while (start < length && lookupPath.charAt(start) == '/') {
+                start++;
+            }
+            if (start >= length || node.children.isEmpty()) {
+                return false;
+            }
+            int end = lookupPath.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(lookupPath.substring(start, end));
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * 按不含通配符的前导路径段建立前缀树
+     *
+     * @param excludePatterns exclude patterns
+     * @return the node
+     * @since 1.0.0
+     */
+    private static @NotNull Node compile(String @NotNull [] excludePatterns) {
+        Node root = new Node();
+        for (String pattern : excludePatterns) {
+            Node node = root;
+            for (String segment : StringUtils.tokenizeToStringArray(pattern, SEPARATOR, false, true)) {
+                if (isWildcard(segment)) {
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.patterns.add(pattern);
+        }
+        return root;
+    }
+
+    /**
+     * 是否包含通配符或路径变量
+     *
+     * @param segment segment
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private static boolean isWildcard(@NotNull String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+    }
+
+    /**
+     * 前缀树节点
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 11:45
+     * @since 1.0.0
+     */
+    private static class Node {
+        /** 前导路径段到达当前节点的 pattern */
+        private final List<String> patterns = new ArrayList<>(2);
+        /** 子节点 */
+        private final Map<String, Node> children = new HashMap<>(8);
+    }
+}
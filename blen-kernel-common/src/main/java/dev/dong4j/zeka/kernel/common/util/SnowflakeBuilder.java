@@ -1,14 +1,15 @@
 package dev.dong4j.zeka.kernel.common.util;
 
-import cn.hutool.core.lang.Snowflake;
-import java.net.Inet4Address;
-import java.net.UnknownHostException;
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import dev.dong4j.zeka.kernel.common.id.Ids;
+import dev.dong4j.zeka.kernel.common.id.SnowflakeIdGenerator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.experimental.UtilityClass;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * <p>Description: 雪花算法生成全局唯一 id </p>
- * todo-dong4j : (2020年04月18日 9:22 下午) [待优化]
+ * 委托给单例的 {@link Ids}, worker id 的分配与时钟回拨处理见 {@link SnowflakeIdGenerator}.
  *
  * @author dong4j
  * @version 1.0.0
@@ -19,46 +20,10 @@ import org.apache.commons.lang3.StringUtils;
 @UtilityClass
 public class SnowflakeBuilder {
 
-    /**
-     * 活动机器编号
-     *
-     * @return work id
-     * @since 1.0.0
-     */
-    private static Long getWorkId() {
-        try {
-            String hostAddress = Inet4Address.getLocalHost().getHostAddress();
-            int[] ints = StringUtils.toCodePoints(hostAddress);
-            int sums = 0;
-            for (int b : ints) {
-                sums += b;
-            }
-            return (long) (sums % 32);
-        } catch (UnknownHostException e) {
-            // 如果获取失败, 则使用随机数备用
-            return RandomUtils.nextLong(0, 31);
-        }
-    }
-
-    /**
-     * 区域编号
-     *
-     * @return data center id
-     * @since 1.0.0
-     */
-    private static Long getDataCenterId() {
-        String hostName = SystemUtils.getHostName();
-        if (StringUtils.isBlank(hostName)) {
-            hostName = NetUtils.getLocalHost();
-        }
-        int[] ints = StringUtils.toCodePoints(hostName);
-        int sums = 0;
-        for (int i : ints) {
-            sums += i;
-        }
-        return (long) (sums % 32);
-
-    }
+    /** hutool 布局中 worker id 与 datacenter id 的最大值 */
+    private static final long MAX_ID = 31L;
+    /** 按 (datacenter id << 5 | worker id) 缓存的生成器, 同一组 id 必须共用一个实例才不会重复 */
+    private static final Map<Long, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
 
     /**
      * Builder long
@@ -67,11 +32,14 @@ public class SnowflakeBuilder {
      * @since 1.0.0
      */
     public static long builder() {
-        return new Snowflake(getWorkId(), getDataCenterId()).nextId();
+        return Ids.nextId();
     }
 
     /**
-     * Builder long
+     * 按 hutool 的 workerId 与 datacenterId 生成, 与 {@code new Snowflake(workerId, regionId)} 的布局一致
+     * <p>
+     * 组合后的 id 与 {@link Ids} 租用的 worker id 相同时直接使用 {@link Ids#snowflake()}, 避免两个生成器发放重复的 id;
+     * 其他 id 不经过租约登记, 调用方需要保证没有其他进程 (包括其他进程中的 {@link Ids}) 使用相同的组合
      *
      * @param workerId worker id
      * @param regionId region id
@@ -79,6 +47,14 @@ public class SnowflakeBuilder {
      * @since 1.0.0
      */
     public static long builder(long workerId, long regionId) {
-        return new Snowflake(workerId, regionId).nextId();
+        if (workerId < 0 || workerId > MAX_ID || regionId < 0 || regionId > MAX_ID) {
+            throw new LowestException("workerId 与 regionId 必须在 [0, {}] 之间: {}, {}", MAX_ID, workerId, regionId);
+        }
+        long id = regionId << 5 | workerId;
+        SnowflakeIdGenerator leased = Ids.snowflake();
+        if (id == leased.workerId()) {
+            return leased.nextId();
+        }
+        return GENERATORS.computeIfAbsent(id, SnowflakeIdGenerator::new).nextId();
     }
 }
@@ -5,6 +5,8 @@ import cn.hutool.core.thread.ThreadUtil;
 import dev.dong4j.zeka.kernel.common.asserts.Assertions;
 import dev.dong4j.zeka.kernel.common.exception.LowestException;
 import dev.dong4j.zeka.kernel.common.function.CheckedRunnable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.List;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.Callable;
@@ -26,6 +28,7 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * <p>Description: 多线程工具类 </p>
@@ -239,6 +242,22 @@ public class ThreadUtils {
         return ThreadUtil.newExecutor();
     }
 
+    /**
+     * 创建每个任务一个虚拟线程的线程池, 运行在 JDK 21 以下时返回 null
+     *
+     * @return the executor service or null
+     * @since 1.0.0
+     */
+    public static @Nullable ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                .invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
     /**
      * New single executor
      *
@@ -0,0 +1,91 @@
+package dev.dong4j.zeka.kernel.common.config.refresh;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author zeka.stack.team
+ * @version 1.0.0
+ * @email "mailto:zeka.stack@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class ConfigFileWatcherRunnerTest {
+
+    /**
+     * 静默期内的一连串文件变更事件只重新加载一次配置, 受影响的配置类只刷新一次
+     *
+     * @throws Exception exception
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void test_burst_of_events_refreshes_once() throws Exception {
+        DynamicConfigLoader loader = mock(DynamicConfigLoader.class);
+        when(loader.loadCurrentEnvironmentConfig()).thenReturn(Map.of("zeka.demo.name", "before"));
+        when(loader.reload(anyCollection())).thenReturn(Map.of("zeka.demo.name", "after"));
+
+        DemoProperties properties = new DemoProperties();
+        properties.setName("before");
+        RefreshScopeRegistry registry = mock(RefreshScopeRegistry.class);
+        when(registry.match(anySet())).thenReturn(Set.of(new RefreshScopeRegistry.BindableTarget(properties, "zeka.demo.")));
+        RefreshScopeRefresher refresher = new RefreshScopeRefresher(new StandardEnvironment(), registry);
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        ConfigChangedHandler handler = (changedFile, changedKeys, latest) -> {
+            refresher.onChanged(changedFile, changedKeys, latest);
+            refreshed.countDown();
+        };
+        ObjectProvider<List<ConfigChangedHandler>> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(List.of(handler));
+
+        ConfigFileWatcherRunner runner = new ConfigFileWatcherRunner(loader, provider);
+        runner.setDebounceMillis(200L);
+        runner.start();
+        for (int i = 0; i < 5; i++) {
+            runner.handleChanged("application.yml");
+            runner.handleChanged("application-dev.yml");
+        }
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        // 再等待一个静默期, 确认没有被取消的刷新任务再次执行
+        TimeUnit.MILLISECONDS.sleep(400L);
+
+        verify(loader, times(1)).reload(anyCollection());
+        verify(registry, times(1)).match(Set.of("zeka.demo.name"));
+        assertEquals("after", properties.getName());
+    }
+
+    /**
+     * <p>Description: </p>
+     *
+     * @author zeka.stack.team
+     * @version 1.0.0
+     * @email "mailto:zeka.stack@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Data
+    public static class DemoProperties {
+        /** Name */
+        private String name;
+    }
+}
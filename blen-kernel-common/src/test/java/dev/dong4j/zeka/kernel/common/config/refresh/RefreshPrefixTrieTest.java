@@ -0,0 +1,53 @@
+package dev.dong4j.zeka.kernel.common.config.refresh;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author zeka.stack.team
+ * @version 1.0.0
+ * @email "mailto:zeka.stack@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class RefreshPrefixTrieTest {
+
+    /** Server */
+    private final RefreshScopeRegistry.BindableTarget server = new RefreshScopeRegistry.BindableTarget("server", "zeka.server.");
+    /** Zeka */
+    private final RefreshScopeRegistry.BindableTarget zeka = new RefreshScopeRegistry.BindableTarget("zeka", "zeka.");
+    /** Other */
+    private final RefreshScopeRegistry.BindableTarget other = new RefreshScopeRegistry.BindableTarget("other", "other.item.");
+
+    /**
+     * 与 startsWith 的判断结果一致, 并按首次命中的顺序去重
+     */
+    @Test
+    void test_match() {
+        RefreshPrefixTrie trie = new RefreshPrefixTrie(List.of(server, zeka, other));
+
+        assertEquals(List.of(zeka, server), List.copyOf(trie.match(Set.of("zeka.server.port"))));
+        assertEquals(Set.of(zeka), trie.match(Set.of("zeka.name")));
+        assertEquals(Set.of(zeka, other), trie.match(Set.of("zeka.name", "other.item.a[0]", "zeka.x")));
+        // 配置键等于前缀本身或前缀只是字符级别相同时都不命中
+        assertTrue(trie.match(Set.of("zeka", "other.item", "other.items.a", "zekaa.b")).isEmpty());
+    }
+
+    /**
+     * 空前缀匹配所有配置
+     */
+    @Test
+    void test_empty_prefix() {
+        RefreshScopeRegistry.BindableTarget all = new RefreshScopeRegistry.BindableTarget("all", "");
+        RefreshPrefixTrie trie = new RefreshPrefixTrie(List.of(all, other));
+
+        assertEquals(Set.of(all), trie.match(Set.of("anything")));
+        assertEquals(Set.of(all, other), trie.match(Set.of("other.item.a")));
+    }
+}
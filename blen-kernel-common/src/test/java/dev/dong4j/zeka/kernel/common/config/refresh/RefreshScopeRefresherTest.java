@@ -0,0 +1,59 @@
+package dev.dong4j.zeka.kernel.common.config.refresh;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author zeka.stack.team
+ * @version 1.0.0
+ * @email "mailto:zeka.stack@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class RefreshScopeRefresherTest {
+
+    /**
+     * 已废弃的 refreshByChangedKeys 使用加载器的配置快照刷新, 不重新读取配置文件
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    void test_refresh_by_changed_keys_uses_snapshot() {
+        DynamicConfigLoader loader = mock(DynamicConfigLoader.class);
+        when(loader.snapshot()).thenReturn(Map.of("zeka.demo.name", "after"));
+
+        ConfigFileWatcherRunnerTest.DemoProperties properties = new ConfigFileWatcherRunnerTest.DemoProperties();
+        properties.setName("before");
+        RefreshScopeRegistry registry = mock(RefreshScopeRegistry.class);
+        when(registry.match(anySet())).thenReturn(Set.of(new RefreshScopeRegistry.BindableTarget(properties, "zeka.demo.")));
+
+        new RefreshScopeRefresher(new StandardEnvironment(), registry, loader).refreshByChangedKeys(Set.of("zeka.demo.name"));
+
+        verify(loader, times(1)).snapshot();
+        verify(loader, times(0)).reload(anyCollection());
+        assertEquals("after", properties.getName());
+    }
+
+    /**
+     * 没有指定加载器时只能通过 onChanged 刷新
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    void test_refresh_by_changed_keys_without_loader() {
+        RefreshScopeRefresher refresher = new RefreshScopeRefresher(new StandardEnvironment(), mock(RefreshScopeRegistry.class));
+
+        assertThrows(IllegalStateException.class, () -> refresher.refreshByChangedKeys(Set.of("zeka.demo.name")));
+    }
+}
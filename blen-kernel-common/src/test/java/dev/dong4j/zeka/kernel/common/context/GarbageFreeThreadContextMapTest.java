@@ -0,0 +1,100 @@
+package dev.dong4j.zeka.kernel.common.context;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:10
+ * @since 1.0.0
+ */
+class GarbageFreeThreadContextMapTest {
+
+    /**
+     * key 保持有序, 覆盖写入不改变 size
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_sorted_array_map() {
+        SortedArrayStringMap map = new SortedArrayStringMap(1);
+        for (String key : List.of("traceId", "appName", "userId", "spanId", "tenantId", "clientIp")) {
+            map.putValue(key, key + "-v");
+        }
+        map.putValue("userId", "u1");
+        assertEquals(6, map.size());
+        assertEquals("u1", map.getValue("userId"));
+        assertEquals("{appName=appName-v, clientIp=clientIp-v, spanId=spanId-v, tenantId=tenantId-v, traceId=traceId-v, userId=u1}",
+                     map.toString());
+
+        map.remove("appName");
+        map.remove("userId");
+        map.remove("missing");
+        assertEquals(4, map.size());
+        assertFalse(map.containsKey("appName"));
+        assertEquals("spanId-v", map.getValue("spanId"));
+
+        SortedArrayStringMap copy = new SortedArrayStringMap(map);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(4, copy.size());
+        assertNull(map.getValue("spanId"));
+    }
+
+    /**
+     * 遍历中修改抛出 ConcurrentModificationException
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_modify_while_iterating() {
+        SortedArrayStringMap map = new SortedArrayStringMap();
+        map.putValue("a", "1");
+        map.putValue("b", "2");
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((k, v) -> map.remove(k)));
+        assertEquals(2, map.size());
+    }
+
+    /**
+     * 与 DefaultThreadContextMap 行为一致, 对外暴露的 map 是快照
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_same_as_default() {
+        DefaultThreadContextMap expected = new DefaultThreadContextMap();
+        GarbageFreeThreadContextMap actual = new GarbageFreeThreadContextMap();
+        for (ThreadContextMap map : List.of(expected, actual)) {
+            map.put("traceId", "t1");
+            map.put("userId", "u1");
+            map.put("tenantId", "t");
+            map.remove("tenantId");
+        }
+        assertEquals(expected.getCopy(), actual.getCopy());
+        assertEquals(expected, actual);
+
+        Map<String, String> snapshot = actual.getImmutableMapOrNull();
+        actual.put("traceId", "t2");
+        assertEquals("t1", snapshot.get("traceId"));
+        assertEquals("t2", actual.get("traceId"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.put("x", "y"));
+
+        actual.clear();
+        expected.clear();
+        assertTrue(actual.isEmpty());
+        assertNull(actual.getImmutableMapOrNull());
+        assertNull(expected.getImmutableMapOrNull());
+    }
+}
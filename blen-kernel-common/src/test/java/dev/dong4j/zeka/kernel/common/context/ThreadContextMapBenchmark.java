@@ -0,0 +1,98 @@
+package dev.dong4j.zeka.kernel.common.context;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: 模拟一次请求写入 8 个 MDC key 后清空, 对比 {@link DefaultThreadContextMap} 与 {@link GarbageFreeThreadContextMap} 的分配速率 </p>
+ * 使用 {@link GCProfiler} 运行, 关注 gc.alloc.rate.norm (每次操作分配的字节数)
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:10
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThreadContextMapBenchmark {
+
+    /** KEYS */
+    private static final String[] KEYS = {"traceId", "spanId", "userId", "tenantId", "clientIp", "appName", "uri", "method"};
+    /** VALUES */
+    private static final String[] VALUES = {"6f1d", "a01", "10086", "t1", "127.0.0.1", "zeka", "/api/users", "GET"};
+
+    /** Default map */
+    private final DefaultThreadContextMap defaultMap = new DefaultThreadContextMap();
+    /** Garbage free map */
+    private final GarbageFreeThreadContextMap garbageFreeMap = new GarbageFreeThreadContextMap();
+
+    /**
+     * Default map
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @Benchmark
+    public String default_map() {
+        return request(this.defaultMap);
+    }
+
+    /**
+     * Garbage free map
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @Benchmark
+    public String garbage_free_map() {
+        return request(this.garbageFreeMap);
+    }
+
+    /**
+     * Request
+     *
+     * @param map map
+     * @return the string
+     * @since 1.0.0
+     */
+    private static String request(ThreadContextMap map) {
+        for (int i = 0; i < KEYS.length; i++) {
+            map.put(KEYS[i], VALUES[i]);
+        }
+        String traceId = map.get("traceId");
+        map.remove("uri");
+        map.clear();
+        return traceId;
+    }
+
+    /**
+     * The entry point of application.
+     *
+     * @param args the input arguments
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ThreadContextMapBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
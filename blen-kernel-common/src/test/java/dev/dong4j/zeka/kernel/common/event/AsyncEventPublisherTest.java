@@ -0,0 +1,56 @@
+package dev.dong4j.zeka.kernel.common.event;
+
+import dev.dong4j.zeka.kernel.common.context.Trace;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:30
+ * @since 1.0.0
+ */
+class AsyncEventPublisherTest {
+
+    /**
+     * 监听器看到的是入队时调用线程的 MDC 与 Trace, 而不是发布线程或调用线程之后的上下文
+     *
+     * @throws InterruptedException interrupted exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_publish_captures_context() throws InterruptedException {
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(2);
+        AsyncEventPublisher publisher = new AsyncEventPublisher("event-test", 16, event -> {
+            seen.add(((Throwable) event.getSource()).getMessage() + ":" + MDC.get("traceId") + ":" + Trace.context().get());
+            latch.countDown();
+        });
+        try {
+            MDC.put("traceId", "t1");
+            Trace.context().set("t1");
+            publisher.publish(new ExceptionEvent(new IllegalStateException("first")));
+            MDC.clear();
+            Trace.clear();
+            publisher.publish(new ExceptionEvent(new IllegalStateException("second")));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("first:t1:t1", "second:null:null"), seen);
+        } finally {
+            MDC.clear();
+            Trace.clear();
+            publisher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package dev.dong4j.zeka.kernel.common.exception;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:30
+ * @since 1.0.0
+ */
+class ExceptionDeduplicatorTest {
+
+    /**
+     * 窗口内只放行前 N 次, 下个窗口带出被抑制的次数
+     *
+     * @throws InterruptedException interrupted exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_window() throws InterruptedException {
+        ExceptionDeduplicator deduplicator = new ExceptionDeduplicator(2, 100, TimeUnit.MILLISECONDS);
+        IllegalStateException e = new IllegalStateException("boom");
+
+        assertEquals(0, deduplicator.tryAcquire(e));
+        assertEquals(0, deduplicator.tryAcquire(e));
+        assertEquals(ExceptionDeduplicator.SUPPRESSED, deduplicator.tryAcquire(e));
+        assertEquals(ExceptionDeduplicator.SUPPRESSED, deduplicator.tryAcquire(e));
+
+        TimeUnit.MILLISECONDS.sleep(150);
+        assertEquals(2, deduplicator.tryAcquire(e));
+        assertEquals(5, deduplicator.count(ExceptionDeduplicator.fingerprint(e)));
+    }
+
+    /**
+     * 相同类型不同抛出位置是不同的指纹
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_fingerprint() {
+        ExceptionDeduplicator deduplicator = new ExceptionDeduplicator(1, 1, TimeUnit.MINUTES);
+        RuntimeException first = new RuntimeException("a");
+        RuntimeException second = new RuntimeException("b");
+
+        assertNotEquals(ExceptionDeduplicator.fingerprint(first), ExceptionDeduplicator.fingerprint(second));
+        assertEquals(0, deduplicator.tryAcquire(first));
+        assertEquals(0, deduplicator.tryAcquire(second));
+        assertEquals(ExceptionDeduplicator.SUPPRESSED, deduplicator.tryAcquire(first));
+        assertEquals(2, deduplicator.counters().size());
+
+        deduplicator.reset();
+        assertEquals(0, deduplicator.counters().size());
+    }
+
+    /**
+     * 并发跨越多个窗口时, 每个窗口放行的次数不超过限制, 累计次数不丢失
+     *
+     * @throws InterruptedException interrupted exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_concurrent_window_switch() throws InterruptedException {
+        int limit = 3;
+        long windowMillis = 20;
+        int threads = 8;
+        ExceptionDeduplicator deduplicator = new ExceptionDeduplicator(limit, windowMillis, TimeUnit.MILLISECONDS);
+        IllegalStateException e = new IllegalStateException("boom");
+        AtomicLong permits = new AtomicLong();
+        AtomicLong calls = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(windowMillis * 10)) {
+                    calls.incrementAndGet();
+                    if (deduplicator.tryAcquire(e) != ExceptionDeduplicator.SUPPRESSED) {
+                        permits.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+
+        // 计数器在第一次调用前创建, 窗口数不超过 elapsed / window + 1
+        assertTrue(permits.get() <= limit * (elapsed / windowMillis + 1), permits.get() + " permits in " + elapsed + "ms");
+        assertTrue(permits.get() >= limit);
+        assertEquals(calls.get(), deduplicator.count(ExceptionDeduplicator.fingerprint(e)));
+    }
+}
@@ -0,0 +1,91 @@
+package dev.dong4j.zeka.kernel.common.exception;
+
+import dev.dong4j.zeka.kernel.common.api.BaseCodes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:50
+ * @since 1.0.0
+ */
+class ExceptionStackTracesTest {
+
+    /**
+     * 恢复默认配置
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void tearDown() {
+        ExceptionStackTraces.setStackless(false);
+        ExceptionStackTraces.unregister(BaseCodes.DATA_ERROR);
+    }
+
+    /**
+     * 按返回码不采集堆栈
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_result_code() {
+        assertNotEquals(0, new LowestException(BaseCodes.DATA_ERROR).getStackTrace().length);
+
+        ExceptionStackTraces.register(BaseCodes.DATA_ERROR);
+        assertEquals(0, new LowestException(BaseCodes.DATA_ERROR).getStackTrace().length);
+        assertNotEquals(0, new LowestException(BaseCodes.PARAM_VERIFY_ERROR).getStackTrace().length);
+    }
+
+    /**
+     * 全局开关同时作用于断言失败
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_global() {
+        ExceptionStackTraces.setStackless(true);
+        assertEquals(0, new LowestException("msg").getStackTrace().length);
+        assertEquals(0, new AssertionFailedException("msg").getStackTrace().length);
+    }
+
+    /**
+     * 没有 cause 的异常仍然可以通过 initCause 设置一次
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_init_cause() {
+        IllegalStateException cause = new IllegalStateException();
+        LowestException exception = new LowestException("msg");
+        exception.initCause(cause);
+        assertSame(cause, exception.getCause());
+        assertThrows(IllegalStateException.class, () -> exception.initCause(cause));
+        assertThrows(IllegalStateException.class, () -> new LowestException("msg", cause).initCause(cause));
+    }
+
+    /**
+     * 预分配实例
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_constant() {
+        ConstantException exception = ConstantException.of(BaseCodes.DATA_ERROR);
+        assertSame(exception, ConstantException.of(BaseCodes.DATA_ERROR));
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(BaseCodes.DATA_ERROR, exception.getResultCode());
+
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(0, exception.getSuppressed().length);
+        assertThrows(IllegalStateException.class, () -> exception.initCause(new IllegalStateException()));
+    }
+}
@@ -0,0 +1,158 @@
+package dev.dong4j.zeka.kernel.common.exception;
+
+import dev.dong4j.zeka.kernel.common.api.IResultCode;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: 在不同调用深度下抛出并捕获业务异常, 对比采集堆栈, 按返回码不采集堆栈与预分配实例的开销 </p>
+ * depth 模拟 Spring 调用链的深度, 使用 {@link GCProfiler} 运行, 关注 gc.alloc.rate.norm
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:50
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LowestExceptionBenchmark {
+
+    /** 调用深度 */
+    @Param({"10", "100"})
+    private int depth;
+
+    /**
+     * 采集堆栈
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object stack() {
+        return this.catching(BenchmarkCode.DEFAULT, false);
+    }
+
+    /**
+     * 返回码配置为不采集堆栈
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object stackless() {
+        return this.catching(BenchmarkCode.STACKLESS, false);
+    }
+
+    /**
+     * 预分配实例
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object constant() {
+        return this.catching(BenchmarkCode.DEFAULT, true);
+    }
+
+    /**
+     * Catching
+     *
+     * @param code     code
+     * @param constant constant
+     * @return the object
+     * @since 1.0.0
+     */
+    private Object catching(BenchmarkCode code, boolean constant) {
+        try {
+            return this.recurse(this.depth, code, constant);
+        } catch (LowestException e) {
+            return e.getResultCode();
+        }
+    }
+
+    /**
+     * 递归到指定深度后抛出
+     *
+     * @param remaining remaining
+     * @param code      code
+     * @param constant  constant
+     * @return the object
+     * @since 1.0.0
+     */
+    private Object recurse(int remaining, BenchmarkCode code, boolean constant) {
+        if (remaining > 0) {
+            return this.recurse(remaining - 1, code, constant);
+        }
+        throw constant ? ConstantException.of(code) : new LowestException(code);
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(LowestExceptionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+    /**
+     * <p>Description: </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 19:50
+     * @since 1.0.0
+     */
+    @Getter
+    @AllArgsConstructor
+    enum BenchmarkCode implements IResultCode {
+        /** 采集堆栈 */
+        DEFAULT(4900, "default", false),
+        /** 不采集堆栈 */
+        STACKLESS(4901, "stackless", true);
+
+        /** Code */
+        private final Integer code;
+        /** Message */
+        private final String message;
+        /** Stackless */
+        private final boolean stackless;
+
+        /**
+         * Stackless
+         *
+         * @return the boolean
+         * @since 1.0.0
+         */
+        @Override
+        public boolean stackless() {
+            return this.stackless;
+        }
+    }
+}
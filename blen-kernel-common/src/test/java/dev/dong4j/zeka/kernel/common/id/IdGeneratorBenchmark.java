@@ -0,0 +1,180 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import cn.hutool.core.lang.Snowflake;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: id 生成器在多线程竞争下的吞吐量 </p>
+ * 所有线程共用同一个生成器, 对比:
+ * 1. hutool Snowflake: 共用实例 (synchronized) 与原 SnowflakeBuilder 每次新建实例
+ * 2. SnowflakeIdGenerator: 单个 CAS, 按线程预留, 批量生成 (每次 64 个)
+ * 3. UUIDv7 与文件号段
+ * 雪花算法每毫秒最多 4096 个 id, 吞吐量超过后会等待时钟, 这是算法本身的上限.
+ * 线程数可以通过 {@code -t} 调整.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    /** Hutool */
+    private Snowflake hutool;
+    /** Snowflake */
+    private SnowflakeIdGenerator snowflake;
+    /** Batched */
+    private IdGenerator batched;
+    /** Uuid v 7 */
+    private UuidV7Generator uuidV7;
+    /** Segment dir */
+    private Path segmentDir;
+    /** Segment */
+    private SegmentIdAllocator segment;
+
+    /**
+     * Sets up *
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.hutool = new Snowflake(1, 1);
+        this.snowflake = new SnowflakeIdGenerator(WorkerIdAssigner.fixed(1), 10);
+        this.batched = this.snowflake.batched(64);
+        this.uuidV7 = new UuidV7Generator();
+        this.segmentDir = Files.createTempDirectory("zeka-id-benchmark");
+        this.segment = new SegmentIdAllocator(this.segmentDir.resolve("benchmark.seq"), 10_000);
+    }
+
+    /**
+     * Tear down
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.segment.close();
+        Files.deleteIfExists(this.segmentDir.resolve("benchmark.seq"));
+        Files.deleteIfExists(this.segmentDir);
+    }
+
+    /**
+     * 原 SnowflakeBuilder 的做法, 每次新建实例 (不含解析主机名的耗时)
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Benchmark
+    public long hutool_per_call() {
+        return new Snowflake(1, 1).nextId();
+    }
+
+    /**
+     * Hutool shared
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Benchmark
+    public long hutool_shared() {
+        return this.hutool.nextId();
+    }
+
+    /**
+     * Snowflake cas
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Benchmark
+    public long snowflake_cas() {
+        return this.snowflake.nextId();
+    }
+
+    /**
+     * Snowflake batched
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Benchmark
+    public long snowflake_batched() {
+        return this.batched.nextId();
+    }
+
+    /**
+     * 每次调用生成 64 个 id
+     *
+     * @return the long [ ]
+     * @since 1.0.0
+     */
+    @Benchmark
+    public long[] snowflake_next_ids() {
+        return this.snowflake.nextIds(64);
+    }
+
+    /**
+     * Uuid v 7
+     *
+     * @return the uuid
+     * @since 1.0.0
+     */
+    @Benchmark
+    public UUID uuid_v7() {
+        return this.uuidV7.next();
+    }
+
+    /**
+     * Segment
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    @Benchmark
+    public long segment() {
+        return this.segment.nextId();
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(IdGeneratorBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
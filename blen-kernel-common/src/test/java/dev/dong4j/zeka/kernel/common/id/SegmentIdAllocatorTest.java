@@ -0,0 +1,77 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+class SegmentIdAllocatorTest {
+
+    /**
+     * 重新打开后从高水位继续, 未用完的号段被丢弃
+     *
+     * @param dir dir
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_restart(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("order.seq");
+        try (SegmentIdAllocator allocator = new SegmentIdAllocator(file, 10)) {
+            for (long expected = 1; expected <= 15; expected++) {
+                assertEquals(expected, allocator.nextId());
+            }
+            assertEquals(20L, allocator.highWaterMark());
+        }
+        try (SegmentIdAllocator allocator = new SegmentIdAllocator(file, 10)) {
+            assertEquals(21L, allocator.nextId());
+        }
+    }
+
+    /**
+     * 多线程分配不重复且连续
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_concurrent(@TempDir Path dir) throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (SegmentIdAllocator allocator = new SegmentIdAllocator(dir.resolve("concurrent.seq"), 100)) {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        assertTrue(ids.add(allocator.nextId()));
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(80_000, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id >= 1 && id <= 80_000));
+    }
+}
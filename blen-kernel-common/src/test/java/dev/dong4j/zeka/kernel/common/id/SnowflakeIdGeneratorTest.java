@@ -0,0 +1,164 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import cn.hutool.core.lang.Snowflake;
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+class SnowflakeIdGeneratorTest {
+
+    /**
+     * 单线程严格递增, 且能解析出时间戳与 worker id
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_next_id() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5);
+        long before = System.currentTimeMillis();
+        long previous = 0L;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        assertEquals(5L, SnowflakeIdGenerator.workerId(previous));
+        assertTrue(SnowflakeIdGenerator.timestamp(previous) >= before);
+    }
+
+    /**
+     * 与 hutool 的布局一致: datacenter id << 5 | worker id
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_hutool_layout() {
+        long hutool = new Snowflake(3, 2).nextId();
+        long id = new SnowflakeIdGenerator(2 << 5 | 3).nextId();
+
+        assertEquals(SnowflakeIdGenerator.workerId(hutool), SnowflakeIdGenerator.workerId(id));
+        assertTrue(Math.abs(SnowflakeIdGenerator.timestamp(hutool) - SnowflakeIdGenerator.timestamp(id)) < 1000);
+    }
+
+    /**
+     * 多线程混合使用单个, 批量与按线程预留, 不产生重复 id
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_concurrent() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        IdGenerator batched = generator.batched(64);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                int mode = t % 3;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        if (mode == 0) {
+                            assertTrue(ids.add(generator.nextId()));
+                        } else if (mode == 1) {
+                            assertTrue(ids.add(batched.nextId()));
+                        } else {
+                            for (long id : generator.nextIds(10)) {
+                                assertTrue(ids.add(id));
+                            }
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(3 * 20_000 + 3 * 20_000 + 2 * 20_000 * 10, ids.size());
+    }
+
+    /**
+     * 上次记录的时间戳在容忍范围内领先时从该时间戳继续, 超过时拒绝启动
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_clock_backward() {
+        long ahead = System.currentTimeMillis() + 50;
+        SnowflakeIdGenerator tolerant = new SnowflakeIdGenerator(assigner(1, ahead), 1000);
+        assertTrue(SnowflakeIdGenerator.timestamp(tolerant.nextId()) > ahead);
+
+        long farAhead = System.currentTimeMillis() + 60_000;
+        assertThrows(LowestException.class, () -> new SnowflakeIdGenerator(assigner(1, farAhead), 10));
+    }
+
+    /**
+     * 同一目录中租到不同的 worker id, 释放后重新租用能读到记录的时间戳
+     *
+     * @param dir dir
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_lease(@TempDir Path dir) throws IOException {
+        WorkerIdAssigner first = WorkerIdAssigner.lease(dir, 7);
+        WorkerIdAssigner second = WorkerIdAssigner.lease(dir, 7);
+        assertEquals(7L, first.workerId());
+        assertNotEquals(first.workerId(), second.workerId());
+
+        long timestamp = System.currentTimeMillis();
+        first.checkpoint(timestamp);
+        first.close();
+        second.close();
+
+        WorkerIdAssigner again = WorkerIdAssigner.lease(dir, 7);
+        assertEquals(7L, again.workerId());
+        assertEquals(timestamp, again.lastTimestamp());
+        again.close();
+    }
+
+    /**
+     * Assigner
+     *
+     * @param workerId      worker id
+     * @param lastTimestamp last timestamp
+     * @return the worker id assigner
+     * @since 1.0.0
+     */
+    private static WorkerIdAssigner assigner(long workerId, long lastTimestamp) {
+        return new WorkerIdAssigner() {
+            @Override
+            public long workerId() {
+                return workerId;
+            }
+
+            @Override
+            public long lastTimestamp() {
+                return lastTimestamp;
+            }
+        };
+    }
+}
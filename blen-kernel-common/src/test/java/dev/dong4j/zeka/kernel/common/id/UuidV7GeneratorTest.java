@@ -0,0 +1,51 @@
+package dev.dong4j.zeka.kernel.common.id;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 1.0.0
+ */
+class UuidV7GeneratorTest {
+
+    /**
+     * 版本号与 variant 符合 RFC 9562, 时间戳可解析
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_format() {
+        long before = System.currentTimeMillis();
+        UUID uuid = new UuidV7Generator().next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7Generator.timestamp(uuid) >= before);
+        assertTrue(UuidV7Generator.timestamp(uuid) <= System.currentTimeMillis() + 1);
+    }
+
+    /**
+     * 同一毫秒内生成大量 uuid 时字符串仍然严格递增
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_monotonic() {
+        UuidV7Generator generator = new UuidV7Generator();
+        String previous = generator.nextString();
+        for (int i = 0; i < 100_000; i++) {
+            String current = generator.nextString();
+            assertTrue(current.compareTo(previous) > 0, previous + " >= " + current);
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.dong4j.zeka.kernel.common.node;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: 森林构建基准测试, 对比不排序, 串行排序与并行排序的耗时 </p>
+ * 节点按随机的父节点生成 (父节点 id 总是小于子节点), 每次调用前清空 children
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:40
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForestNodeBuilderBenchmark {
+
+    /** 排序规则 */
+    private static final Comparator<ForestNode> COMPARATOR = Comparator.comparing(node -> (Integer) node.getContent());
+
+    /** Size */
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+    /** Items */
+    private List<ForestNode> items;
+
+    /**
+     * Sets up *
+     *
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.items = new ArrayList<>(this.size);
+        for (int i = 1; i <= this.size; i++) {
+            int parentId = i <= 10 ? 0 : random.nextInt(i - 1) + 1;
+            this.items.add(new ForestNode(i, parentId, random.nextInt()));
+        }
+    }
+
+    /**
+     * 清空上一次构建的结果
+     *
+     * @since 1.0.0
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        this.items.forEach(item -> item.getChildren().clear());
+    }
+
+    /**
+     * Merge
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object merge() {
+        return ForestNodeMerger.merge(this.items);
+    }
+
+    /**
+     * Sort
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object sort() {
+        return ForestNodeBuilder.of(this.items).sort(COMPARATOR).build();
+    }
+
+    /**
+     * Parallel sort
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object parallel_sort() {
+        return ForestNodeBuilder.of(this.items).sort(COMPARATOR).parallel(true).build();
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ForestNodeBuilderBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
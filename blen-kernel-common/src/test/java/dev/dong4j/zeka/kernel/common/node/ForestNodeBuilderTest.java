@@ -0,0 +1,110 @@
+package dev.dong4j.zeka.kernel.common.node;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:40
+ * @since 1.0.0
+ */
+class ForestNodeBuilderTest {
+
+    /**
+     * 孤儿节点默认作为根节点, 与 merge 的结果一致
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_merge() {
+        List<ForestNode> items = List.of(
+            new ForestNode(1, 0, "a"),
+            new ForestNode(2, 1, "b"),
+            new ForestNode(3, 1, "c"),
+            new ForestNode(4, 9, "orphan"),
+            new ForestNode(5, 4, "d"));
+
+        List<ForestNode> roots = ForestNodeMerger.merge(items);
+
+        assertEquals(List.of(items.get(0), items.get(3)), roots);
+        assertEquals(List.of(items.get(1), items.get(2)), items.get(0).getChildren());
+        assertEquals(List.of(items.get(4)), items.get(3).getChildren());
+    }
+
+    /**
+     * 不把孤儿节点作为根节点
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_orphan() {
+        List<ForestNode> items = List.of(
+            new ForestNode(1, 0, "a"),
+            new ForestNode(4, 9, "orphan"));
+
+        ForestNodeBuilder.Forest<ForestNode> forest = ForestNodeBuilder.of(items).orphanAsRoot(false).build();
+
+        assertEquals(List.of(items.get(0)), forest.roots());
+        assertEquals(List.of(items.get(1)), forest.orphans());
+        assertFalse(forest.hasCycle());
+    }
+
+    /**
+     * 环上的节点及其子孙从根节点不可达
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_cycle() {
+        List<ForestNode> items = List.of(
+            new ForestNode(1, 0, "a"),
+            new ForestNode(2, 3, "b"),
+            new ForestNode(3, 2, "c"),
+            new ForestNode(4, 3, "d"),
+            new ForestNode(5, 5, "self"));
+
+        ForestNodeBuilder.Forest<ForestNode> forest = ForestNodeBuilder.of(items).build();
+
+        assertEquals(List.of(items.get(0)), forest.roots());
+        assertTrue(forest.hasCycle());
+        assertEquals(List.of(items.get(1), items.get(2), items.get(3), items.get(4)), forest.cyclic());
+    }
+
+    /**
+     * 并行排序每个节点的 children
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_sort() {
+        List<ForestNode> items = new ArrayList<>();
+        for (int i = 1; i <= 20000; i++) {
+            items.add(new ForestNode(i, i <= 10 ? 0 : i % 100 + 1, -i));
+        }
+
+        ForestNodeBuilder.Forest<ForestNode> forest = ForestNodeBuilder.of(items)
+            .sort(Comparator.comparing(node -> (Integer) node.getContent()))
+            .parallel(true)
+            .build();
+
+        assertEquals(10, forest.roots().size());
+        assertSame(items.get(9), forest.roots().get(0));
+        for (ForestNode item : items) {
+            List<INode> children = item.getChildren();
+            for (int i = 1; i < children.size(); i++) {
+                assertTrue(children.get(i - 1).getId() > children.get(i).getId());
+            }
+        }
+    }
+}
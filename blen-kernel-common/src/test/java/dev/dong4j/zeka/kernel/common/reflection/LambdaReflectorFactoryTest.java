@@ -0,0 +1,215 @@
+package dev.dong4j.zeka.kernel.common.reflection;
+
+import dev.dong4j.zeka.kernel.common.reflection.invoker.HandleGetFieldInvoker;
+import dev.dong4j.zeka.kernel.common.reflection.invoker.LambdaGetterInvoker;
+import dev.dong4j.zeka.kernel.common.reflection.invoker.LambdaSetterInvoker;
+import dev.dong4j.zeka.kernel.common.reflection.invoker.SetFieldInvoker;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:30
+ * @since 1.0.0
+ */
+class LambdaReflectorFactoryTest {
+
+    /**
+     * getter/setter 使用 LambdaMetafactory 访问器, 字段使用 MethodHandle, final 字段退回反射
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_invoker_types() {
+        Reflector reflector = new LambdaReflectorFactory().findForClass(Entity.class);
+        assertInstanceOf(LambdaGetterInvoker.class, reflector.getGetInvoker("name"));
+        assertInstanceOf(LambdaSetterInvoker.class, reflector.getSetInvoker("name"));
+        assertInstanceOf(LambdaSetterInvoker.class, reflector.getSetInvoker("age"));
+        assertInstanceOf(HandleGetFieldInvoker.class, reflector.getGetInvoker("secret"));
+        assertInstanceOf(HandleGetFieldInvoker.class, reflector.getGetInvoker("version"));
+        assertEquals(SetFieldInvoker.class, reflector.getSetInvoker("version").getClass());
+    }
+
+    /**
+     * 通过 MetaObject 读写属性, 结果与反射实现一致
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_meta_object() {
+        for (ReflectorFactory factory : List.of(new DefaultReflectorFactory(), new LambdaReflectorFactory())) {
+            Entity entity = new Entity();
+            MetaObject metaObject = MetaObject.forObject(entity,
+                DefaultMetaObject.DEFAULT_OBJECT_FACTORY,
+                DefaultMetaObject.DEFAULT_OBJECT_WRAPPER_FACTORY,
+                factory);
+            metaObject.setValue("name", "zeka");
+            metaObject.setValue("age", 18);
+            metaObject.setValue("secret", "s");
+            metaObject.setValue("version", 2L);
+            metaObject.setValue("tags", List.of("a"));
+            assertEquals("zeka", metaObject.getValue("name"));
+            assertEquals(18, metaObject.getValue("age"));
+            assertEquals("s", metaObject.getValue("secret"));
+            assertEquals(2L, metaObject.getValue("version"));
+            assertEquals("zeka", entity.getName());
+            assertEquals(18, entity.getAge());
+            // 泛型返回类型仍然可以解析
+            assertEquals(List.class, metaObject.getGetterType("tags"));
+        }
+    }
+
+    /**
+     * 异常与 Method#invoke 保持一致
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_exception() {
+        Reflector reflector = new LambdaReflectorFactory().findForClass(Entity.class);
+        Entity entity = new Entity();
+        assertThrows(InvocationTargetException.class, () -> reflector.getGetInvoker("broken").invoke(entity, null));
+        assertThrows(IllegalArgumentException.class, () -> reflector.getSetInvoker("age").invoke(entity, new Object[] {null}));
+        // 参数或目标对象类型不匹配不是 setter 抛出的异常
+        assertThrows(IllegalArgumentException.class, () -> reflector.getSetInvoker("age").invoke(entity, new Object[] {"18"}));
+        assertThrows(IllegalArgumentException.class, () -> reflector.getSetInvoker("name").invoke(entity, new Object[] {18}));
+        assertThrows(IllegalArgumentException.class, () -> reflector.getSetInvoker("name").invoke(new Object(), new Object[] {"zeka"}));
+        assertThrows(IllegalArgumentException.class, () -> reflector.getGetInvoker("name").invoke(new Object(), null));
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+            () -> reflector.getSetInvoker("broken").invoke(entity, new Object[] {"b"}));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    /**
+     * 基本类型参数与反射一样支持拓宽转换
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_widening() throws Exception {
+        Reflector reflector = new LambdaReflectorFactory().findForClass(Entity.class);
+        Entity entity = new Entity();
+        assertInstanceOf(LambdaSetterInvoker.class, reflector.getSetInvoker("total"));
+        reflector.getSetInvoker("total").invoke(entity, new Object[] {5});
+        assertEquals(5L, entity.getTotal());
+        reflector.getSetInvoker("total").invoke(entity, new Object[] {6L});
+        assertEquals(6L, entity.getTotal());
+    }
+
+    /**
+     * DefaultMetaObject 共享 ReflectorFactory
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_shared_reflector() {
+        MetaObject first = DefaultMetaObject.forObject(new Entity());
+        MetaObject second = DefaultMetaObject.forObject(new Entity());
+        assertNotSame(first, second);
+        assertSame(first.getReflectorFactory(), second.getReflectorFactory());
+    }
+
+    /**
+     * Entity
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 15:30
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unused")
+    public static class Entity {
+        /** Name */
+        @Getter
+        private String name;
+        /** Age */
+        @Getter
+        private int age;
+        /** Tags */
+        @Getter
+        private List<String> tags;
+        /** Total */
+        @Getter
+        private long total;
+        /** 没有 getter/setter 的字段 */
+        private String secret;
+        /** final 字段 */
+        private final Long version = 1L;
+
+        /**
+         * 链式 setter
+         *
+         * @param name name
+         * @return the entity
+         * @since 1.0.0
+         */
+        public Entity setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets age *
+         *
+         * @param age age
+         * @since 1.0.0
+         */
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        /**
+         * Sets tags *
+         *
+         * @param tags tags
+         * @since 1.0.0
+         */
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        /**
+         * Gets broken *
+         *
+         * @return the broken
+         * @since 1.0.0
+         */
+        public String getBroken() {
+            throw new IllegalStateException("broken");
+        }
+
+        /**
+         * Sets broken *
+         *
+         * @param broken broken
+         * @since 1.0.0
+         */
+        public void setBroken(String broken) {
+            throw new IllegalStateException("broken");
+        }
+
+        /**
+         * Sets total *
+         *
+         * @param total total
+         * @since 1.0.0
+         */
+        public void setTotal(long total) {
+            this.total = total;
+        }
+    }
+}
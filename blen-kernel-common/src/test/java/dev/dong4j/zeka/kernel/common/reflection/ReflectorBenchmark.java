@@ -0,0 +1,120 @@
+package dev.dong4j.zeka.kernel.common.reflection;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: 对比 {@link DefaultReflectorFactory} 反射访问器与 {@link LambdaReflectorFactory} 生成访问器的 MetaObject 属性读写 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:30
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectorBenchmark {
+
+    /** Reflective */
+    private MetaObject reflective;
+    /** Lambda */
+    private MetaObject lambda;
+
+    /**
+     * Sets up *
+     *
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() {
+        this.reflective = MetaObject.forObject(new Entity(),
+            DefaultMetaObject.DEFAULT_OBJECT_FACTORY,
+            DefaultMetaObject.DEFAULT_OBJECT_WRAPPER_FACTORY,
+            new DefaultReflectorFactory());
+        this.lambda = MetaObject.forObject(new Entity(),
+            DefaultMetaObject.DEFAULT_OBJECT_FACTORY,
+            DefaultMetaObject.DEFAULT_OBJECT_WRAPPER_FACTORY,
+            new LambdaReflectorFactory());
+    }
+
+    /**
+     * 反射访问器: 模拟自动填充, 写入两个属性并读取一个属性
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object reflective_fill() {
+        return fill(this.reflective);
+    }
+
+    /**
+     * LambdaMetafactory 访问器
+     *
+     * @return the object
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Object lambda_fill() {
+        return fill(this.lambda);
+    }
+
+    /**
+     * Fill
+     *
+     * @param metaObject meta object
+     * @return the object
+     * @since 1.0.0
+     */
+    private static Object fill(MetaObject metaObject) {
+        metaObject.setValue("createBy", "zeka");
+        metaObject.setValue("deleted", 0);
+        return metaObject.getValue("createBy");
+    }
+
+    /**
+     * The entry point of application.
+     *
+     * @param args the input arguments
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReflectorBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Entity
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 15:30
+     * @since 1.0.0
+     */
+    @Data
+    public static class Entity {
+        /** Create by */
+        private String createBy;
+        /** Deleted */
+        private Integer deleted;
+    }
+}
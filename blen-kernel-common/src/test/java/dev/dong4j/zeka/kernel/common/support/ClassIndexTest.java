@@ -0,0 +1,179 @@
+package dev.dong4j.zeka.kernel.common.support;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 17:10
+ * @since 1.0.0
+ */
+class ClassIndexTest {
+
+    /** TEST_INDEX */
+    private static final String TEST_INDEX = ClassIndex.INDEX_DIRECTORY + "class-index-test.idx";
+
+    /**
+     * 读取索引, 无法加载的类被跳过, 同时记录包含索引的根
+     *
+     * @param dir dir
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_load(@TempDir Path dir) throws IOException {
+        // 使用独立的索引名, 避免读取到编译 common 时生成的索引
+        writeIndex(dir, ChainMap.class.getName() + "\n\n# comment\nnot.exists.Foo\n" + ClassIndexTest.class.getName() + "\n");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, this.getClass().getClassLoader())) {
+            ClassIndex.Index index = ClassIndex.load(TEST_INDEX, classLoader);
+            assertEquals(Set.of(ChainMap.class, ClassIndexTest.class), index.types());
+            assertEquals(Set.of(ClassIndex.root(dir.toUri().toURL().toExternalForm())), index.roots());
+        }
+    }
+
+    /**
+     * 没有索引时结果为空, 所有根都需要扫描
+     *
+     * @param dir dir
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_missing(@TempDir Path dir) throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null)) {
+            ClassIndex.Index index = ClassIndex.load(ClassIndex.SERIALIZE_ENUM_INDEX, classLoader);
+            assertTrue(index.types().isEmpty());
+            assertTrue(index.roots().isEmpty());
+        }
+    }
+
+    /**
+     * 资源 URL 与扫描使用的 URL 转换为相同的根
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_root() {
+        assertEquals("file:/app/lib/a.jar", ClassIndex.root("jar:file:/app/lib/a.jar!/"));
+        assertEquals("file:/app/lib/a.jar", ClassIndex.root("file:/app/lib/a.jar"));
+        assertEquals("file:/app/classes", ClassIndex.root("file:/app/classes/"));
+    }
+
+    /**
+     * 包含索引的根只使用索引, 没有索引的根仍然扫描, 结果合并
+     *
+     * @param dir dir
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_merge_indexed_and_unindexed(@TempDir Path dir) throws IOException {
+        // indexed 模拟引入了处理器的 jar: 索引中只有 Indexed, Unlisted 不在索引中因此不会被扫描到
+        Path indexed = dir.resolve("indexed");
+        writeIndex(indexed, Indexed.class.getName() + "\n");
+        copyClass(Indexed.class, indexed);
+        copyClass(Unlisted.class, indexed);
+        // unindexed 模拟没有引入处理器的业务模块
+        Path unindexed = dir.resolve("unindexed");
+        copyClass(Unindexed.class, unindexed);
+
+        URL[] urls = {indexed.toUri().toURL(), unindexed.toUri().toURL()};
+        try (URLClassLoader classLoader = new URLClassLoader(urls, this.getClass().getClassLoader())) {
+            Set<Class<?>> types = ClassIndex.resolve(TEST_INDEX, classLoader, List.of(urls), false,
+                                                     r -> r.getTypesAnnotatedWith(JsonTypeName.class));
+            assertEquals(Set.of(Indexed.class, Unindexed.class), types);
+
+            Set<Class<?>> scanned = ClassIndex.resolve(TEST_INDEX, classLoader, List.of(urls), true,
+                                                       r -> r.getTypesAnnotatedWith(JsonTypeName.class));
+            assertEquals(Set.of(Indexed.class, Unlisted.class, Unindexed.class), scanned);
+        }
+    }
+
+    /**
+     * Write index
+     *
+     * @param root    root
+     * @param content content
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static void writeIndex(Path root, String content) throws IOException {
+        Path index = root.resolve(TEST_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 复制编译后的类文件, 供扫描读取
+     *
+     * @param type type
+     * @param root root
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static void copyClass(Class<?> type, Path root) throws IOException {
+        String name = type.getName().replace('.', '/') + ".class";
+        Path target = root.resolve(name);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = type.getClassLoader().getResourceAsStream(name)) {
+            Files.copy(in, target);
+        }
+    }
+
+    /**
+     * <p>Description: 索引中的类 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 17:10
+     * @since 1.0.0
+     */
+    @JsonTypeName("indexed")
+    static class Indexed {
+    }
+
+    /**
+     * <p>Description: 位于有索引的根中但不在索引中的类 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 17:10
+     * @since 1.0.0
+     */
+    @JsonTypeName("unlisted")
+    static class Unlisted {
+    }
+
+    /**
+     * <p>Description: 位于没有索引的根中的类 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 17:10
+     * @since 1.0.0
+     */
+    @JsonTypeName("unindexed")
+    static class Unindexed {
+    }
+}
@@ -2,10 +2,19 @@ package dev.dong4j.zeka.kernel.common.timer;
 
 import dev.dong4j.zeka.kernel.common.util.ThreadUtils;
 import dev.dong4j.zeka.kernel.common.util.Tools;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * <p>Description:  </p>
  *
@@ -30,4 +39,47 @@ class HashedWheelTimerTest {
 
         ThreadUtils.join();
     }
+
+    /**
+     * 分层时间轮: 超过一轮的任务放入溢出轮, 到期后逐级下沉, 不会提前执行
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_hierarchical() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        // 8 个槽位 * 5ms, 超过 40ms 的任务进入溢出轮
+        HashedWheelTimer timer = new HashedWheelTimer(Executors.defaultThreadFactory(), 5, TimeUnit.MILLISECONDS, 8,
+                                                      -1, executor, true);
+        try {
+            int count = 100;
+            CountDownLatch latch = new CountDownLatch(count - 10);
+            AtomicInteger early = new AtomicInteger();
+            List<Timeout> timeouts = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                long delay = i * 15L;
+                long start = System.nanoTime();
+                timeouts.add(timer.newTimeout(timeout -> {
+                    if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < delay) {
+                        early.incrementAndGet();
+                    }
+                    latch.countDown();
+                }, delay, TimeUnit.MILLISECONDS));
+            }
+            for (int i = 0; i < 10; i++) {
+                assertTrue(timeouts.get(i * 10 + 5).cancel());
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertTrue(timer.isHierarchical());
+            assertEquals(0, early.get());
+            assertEquals(count - 10, timer.expiredTimeouts());
+            assertEquals(10, timer.cancelledTimeouts());
+            log.info("tick lag: {} ms", timer.tickLag(TimeUnit.MILLISECONDS));
+        } finally {
+            timer.stop();
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import dev.dong4j.zeka.kernel.common.support.BaseBeanCopier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: BeanUtils 列表复制基准测试, 对比每个元素都调用 BaseBeanCopier.create 与使用 BeanCopierRegistry 的差异 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 14:40
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanUtilsBenchmark {
+
+    /** Size */
+    @Param({"10", "1000"})
+    private int size;
+    /** Sources */
+    private List<Source> sources;
+
+    /**
+     * Sets up *
+     *
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() {
+        this.sources = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            Source source = new Source();
+            source.setId((long) i);
+            source.setName("name-" + i);
+            source.setAge(i % 100);
+            source.setEmail("user" + i + "@zeka.dev");
+            this.sources.add(source);
+        }
+    }
+
+    /**
+     * 改造前的方式: 每个元素都创建一次复制器并反射实例化目标对象
+     *
+     * @return the list
+     * @since 1.0.0
+     */
+    @Benchmark
+    public List<Target> copy_per_element() {
+        List<Target> result = new ArrayList<>(this.sources.size());
+        for (Source source : this.sources) {
+            BaseBeanCopier copier = BaseBeanCopier.create(Source.class, Target.class, false);
+            Target target = BeanUtils.instantiateClass(Target.class);
+            copier.copy(source, target, null);
+            result.add(target);
+        }
+        return result;
+    }
+
+    /**
+     * 使用 BeanCopierRegistry: 复制器只解析一次, 构造器由 LambdaMetafactory 生成
+     *
+     * @return the list
+     * @since 1.0.0
+     */
+    @Benchmark
+    public List<Target> copy_registry() {
+        return BeanUtils.copy(this.sources, Target.class);
+    }
+
+    /**
+     * 单个对象复制
+     *
+     * @return the target
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Target copy_single() {
+        return BeanUtils.copy(this.sources.get(0), Target.class);
+    }
+
+    /**
+     * The entry point of application.
+     *
+     * @param args the input arguments
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BeanUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Source
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 1.0.0
+     */
+    @Data
+    public static class Source {
+        /** Id */
+        private Long id;
+        /** Name */
+        private String name;
+        /** Age */
+        private Integer age;
+        /** Email */
+        private String email;
+    }
+
+    /**
+     * Target
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 1.0.0
+     */
+    @Data
+    public static class Target {
+        /** Id */
+        private Long id;
+        /** Name */
+        private String name;
+        /** Age */
+        private Integer age;
+        /** Email */
+        private String email;
+    }
+}
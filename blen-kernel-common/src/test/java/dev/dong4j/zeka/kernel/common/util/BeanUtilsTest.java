@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.kernel.common.util;
 
+import dev.dong4j.zeka.kernel.common.support.BeanCopierRegistry;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -13,6 +14,9 @@ import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 /**
  * <p>Description:  </p>
  *
@@ -88,6 +92,27 @@ class BeanUtilsTest {
 
     }
 
+    /**
+     * 列表复制只解析一次复制器, 非 public 类型退回反射实例化
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_copy_list() {
+        List<A.B> sources = new ArrayList<>();
+        sources.add(A.B.builder().agl("1111").alc("xxxxx").build());
+        sources.add(null);
+        sources.add(A.B.builder().agl("222").alc("yyyyy").build());
+
+        List<C.D> targets = BeanUtils.copy(sources, C.D.class);
+        assertEquals(2, targets.size());
+        assertEquals("222", targets.get(1).getAgl());
+        assertSame(BeanCopierRegistry.get(A.B.class, C.D.class, false), BeanCopierRegistry.get(A.B.class, C.D.class, false));
+
+        List<C.D> converted = BeanUtils.copyWithConvert(sources, C.D.class);
+        assertEquals("yyyyy", converted.get(1).getAlc());
+    }
+
 
     /**
      * <p>Description: </p>
@@ -0,0 +1,126 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * <p>Description: 使用本地 stub 服务对比共享连接池与每次新建客户端 (改造前 HttpClientUtils 的方式) 的单次请求耗时 </p>
+ * 会发起大量真实的本地 HTTP 请求, 不在单元测试中运行, 需要时手动执行 {@link #main(String[])}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 13:40
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpClientEngineBenchmark {
+
+    /** Server */
+    private HttpServer server;
+    /** Engine */
+    private HttpClientEngine engine;
+    /** Url */
+    private String url;
+
+    /**
+     * 启动 stub 服务与共享引擎
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/ping", exchange -> {
+            byte[] body = "{\"name\":\"pong\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        this.server.setExecutor(Executors.newFixedThreadPool(8));
+        this.server.start();
+        this.url = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/ping";
+        this.engine = new HttpClientEngine(new HttpClientEngine.Config());
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @TearDown
+    public void tearDown() {
+        this.engine.close();
+        this.server.stop(0);
+    }
+
+    /**
+     * 共享连接池
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @Benchmark
+    public String shared_engine() {
+        return this.engine.getRestTemplate().exchange(this.url, HttpMethod.GET, null, String.class).getBody();
+    }
+
+    /**
+     * 每次请求新建客户端与连接池
+     *
+     * @return the string
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Benchmark
+    public String per_call_client() throws Exception {
+        try (CloseableHttpClient httpClient = HttpClientUtils.acceptsUntrustedCertsHttpClient()) {
+            return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .exchange(this.url, HttpMethod.GET, null, String.class)
+                .getBody();
+        }
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(HttpClientEngineBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
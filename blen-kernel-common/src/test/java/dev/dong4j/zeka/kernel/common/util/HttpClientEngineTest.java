@@ -0,0 +1,218 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: 使用本地 stub 服务验证共享连接池, 吞吐对比见 {@link HttpClientEngineBenchmark} </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 13:40
+ * @since 1.0.0
+ */
+@Slf4j
+class HttpClientEngineTest {
+
+    /** Server */
+    private HttpServer server;
+    /** 服务端处理的 /ping 请求数 (不是连接数) */
+    private final AtomicInteger hits = new AtomicInteger();
+    /** /slow 请求已到达服务端 */
+    private final CountDownLatch slowStarted = new CountDownLatch(1);
+    /** 放行 /slow 请求 */
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+    /** Url */
+    private String url;
+    /** 等待 slowRelease 后才响应的 url */
+    private String slowUrl;
+
+    /**
+     * Start server
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @BeforeEach
+    void startServer() throws Exception {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/ping", exchange -> {
+            this.hits.incrementAndGet();
+            byte[] body = "{\"name\":\"pong\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        this.server.createContext("/slow", exchange -> {
+            this.slowStarted.countDown();
+            try {
+                this.slowRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"name\":\"pong\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        this.server.setExecutor(Executors.newFixedThreadPool(8));
+        this.server.start();
+        this.url = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/ping";
+        this.slowUrl = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/slow";
+    }
+
+    /**
+     * Stop server
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void stopServer() {
+        this.slowRelease.countDown();
+        this.server.stop(0);
+    }
+
+    /**
+     * 共享连接池: 请求完成后连接归还到连接池
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_pool_stats() {
+        try (HttpClientEngine engine = new HttpClientEngine(new HttpClientEngine.Config())) {
+            for (int i = 0; i < 10; i++) {
+                engine.getRestTemplate().getForObject(this.url, String.class);
+            }
+            PoolStats stats = engine.getPoolStats();
+            log.info("{}", stats);
+            assertEquals(0, stats.getLeased());
+            assertTrue(stats.getAvailable() >= 1);
+            assertEquals(10, this.hits.get());
+        }
+    }
+
+    /**
+     * 异步请求
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_async() {
+        HttpClientEngine.Config config = new HttpClientEngine.Config();
+        config.setVirtualThreads(true);
+        try (HttpClientEngine engine = new HttpClientEngine(config)) {
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(engine.executeAsync(() -> engine.getRestTemplate().getForObject(this.url, String.class)));
+            }
+            futures.forEach(f -> assertEquals("{\"name\":\"pong\"}", f.join()));
+        }
+    }
+
+    /**
+     * 替换共享引擎时正在进行的请求继续使用旧引擎, 完成后旧引擎才关闭
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_configure_drains_in_flight_requests() throws Exception {
+        HttpClientEngine old = HttpClientUtils.engine();
+        CompletableFuture<JsonNode> future = HttpClientUtils.getForObjectAsync(this.slowUrl, JsonNode.class);
+        assertTrue(this.slowStarted.await(5, TimeUnit.SECONDS));
+
+        HttpClientUtils.configure(new HttpClientEngine.Config());
+        assertNotSame(old, HttpClientUtils.engine());
+        assertFalse(old.isClosed());
+
+        this.slowRelease.countDown();
+        assertEquals("pong", future.get(5, TimeUnit.SECONDS).get("name").asText());
+        assertTrue(old.isClosed());
+        assertFalse(HttpClientUtils.engine().isClosed());
+    }
+
+    /**
+     * retire 之后 acquire 失败, 已持有的请求结束时才关闭
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_acquire_after_retire() {
+        HttpClientEngine engine = new HttpClientEngine(new HttpClientEngine.Config());
+        assertTrue(engine.acquire());
+
+        engine.retire();
+        assertFalse(engine.isClosed());
+        assertFalse(engine.acquire());
+        assertFalse(engine.isClosed());
+
+        engine.release();
+        assertTrue(engine.isClosed());
+        assertFalse(engine.acquire());
+    }
+
+    /**
+     * 请求进行中反复替换共享引擎: 所有请求都成功, 被替换的引擎最终全部关闭
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_configure_while_requests_running() throws Exception {
+        int threads = 8;
+        int requests = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < requests; j++) {
+                    assertEquals("pong", HttpClientUtils.getForObject(this.url, JsonNode.class).get("name").asText());
+                }
+                return null;
+            }));
+        }
+
+        List<HttpClientEngine> retired = new ArrayList<>();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            retired.add(HttpClientUtils.engine());
+            HttpClientUtils.configure(new HttpClientEngine.Config());
+            TimeUnit.MILLISECONDS.sleep(5L);
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(threads * requests, this.hits.get());
+        assertFalse(retired.isEmpty());
+        retired.forEach(engine -> assertTrue(engine.isClosed()));
+        assertFalse(HttpClientUtils.engine().isClosed());
+    }
+}
@@ -0,0 +1,104 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: 校验约 200 KB 的 JSON, 对比 readTree 后序列化比较字符串的旧实现与 {@link JsonChecker} </p>
+ * 使用 {@link GCProfiler} 运行, 关注 gc.alloc.rate.norm (每次操作分配的字节数)
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:20
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCheckerBenchmark {
+
+    /** Mapper */
+    private final ObjectMapper mapper = Jsons.getInstance();
+    /** Json */
+    private String json;
+
+    /**
+     * 生成约 200 KB 的对象数组
+     *
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(210 * 1024).append('[');
+        for (int i = 0; builder.length() < 200 * 1024; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\": ").append(i)
+                .append(", \"name\": \"user-").append(i)
+                .append("\", \"tags\": [\"a\", \"b\", \"c\"], \"address\": {\"city\": \"chengdu\", \"zip\": \"610000\"}}");
+        }
+        this.json = builder.append(']').toString();
+    }
+
+    /**
+     * 旧实现: readTree 后序列化, 去除空白后比较
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean round_trip() {
+        try {
+            JsonNode jsonNode = this.mapper.readTree(this.json);
+            return StringUtils.trimAllWhitespace(jsonNode.toString()).equals(StringUtils.trimAllWhitespace(this.json));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Token stream
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean token_stream() {
+        return Jsons.isJson(this.mapper, this.json);
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JsonCheckerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:20
+ * @since 1.0.0
+ */
+class JsonCheckerTest {
+
+    /** Checker */
+    private final JsonChecker checker = new JsonChecker(Jsons.getInstance().getFactory());
+
+    /**
+     * 合法的 JSON 值
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_valid() {
+        assertTrue(this.checker.isJson("{}"));
+        assertTrue(this.checker.isJson("[]"));
+        assertTrue(this.checker.isJson(" {\"a\": [1, 2, {\"b\": null}]} "));
+        assertTrue(this.checker.isJson("123"));
+        assertTrue(this.checker.isJson("\"text\""));
+    }
+
+    /**
+     * 不合法或根值之后还有其他内容
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_invalid() {
+        assertFalse(this.checker.isJson((String) null));
+        assertFalse(this.checker.isJson(""));
+        assertFalse(this.checker.isJson("   "));
+        assertFalse(this.checker.isJson("{"));
+        assertFalse(this.checker.isJson("{}}"));
+        assertFalse(this.checker.isJson("{} {}"));
+        assertFalse(this.checker.isJson("xxxxx_{}"));
+        assertFalse(this.checker.isJson("{\"a\": }"));
+        assertFalse(this.checker.isJson("abc"));
+    }
+
+    /**
+     * 根值为标量, 以及改为逐个读取 token 之前因为与规范输出不一致而被拒绝的写法
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_scalar_roots() {
+        assertTrue(this.checker.isJson("true"));
+        assertTrue(this.checker.isJson("false"));
+        assertTrue(this.checker.isJson("null"));
+        assertTrue(this.checker.isJson("-1.5"));
+        assertTrue(this.checker.isJson(" 0 "));
+        assertTrue(this.checker.isJson("1e3"));
+        assertTrue(this.checker.isJson("1.50"));
+        assertTrue(this.checker.isJson("\"\\u0041\""));
+        assertTrue(this.checker.isJson("\"\""));
+        assertTrue(this.checker.isJson("true".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(this.checker.isJson(new StringReader("42")));
+        assertTrue(Jsons.isJson("123"));
+        assertTrue(Jsons.isJson("null"));
+    }
+
+    /**
+     * 不合法的标量, 或者多个标量根值
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_invalid_scalars() {
+        assertFalse(this.checker.isJson("tru"));
+        assertFalse(this.checker.isJson("nul"));
+        assertFalse(this.checker.isJson("True"));
+        assertFalse(this.checker.isJson("01"));
+        assertFalse(this.checker.isJson("+1"));
+        assertFalse(this.checker.isJson("-"));
+        assertFalse(this.checker.isJson("1."));
+        assertFalse(this.checker.isJson("NaN"));
+        assertFalse(this.checker.isJson("\"text"));
+        assertFalse(this.checker.isJson("1 2"));
+        assertFalse(this.checker.isJson("\"a\" \"b\""));
+        assertFalse(this.checker.isJson("null,"));
+        assertFalse(this.checker.isJson("tru".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(this.checker.isJson(new StringReader("1 2")));
+        assertFalse(Jsons.isJson("abc"));
+    }
+
+    /**
+     * 嵌套层数与长度限制
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_limits() {
+        assertFalse(this.checker.maxDepth(2).isJson("[[[1]]]"));
+        assertTrue(this.checker.maxDepth(3).isJson("[[[1]]]"));
+        assertFalse(this.checker.maxLength(5).isJson("[1,2,3]"));
+        assertTrue(this.checker.maxLength(7).isJson("[1,2,3]"));
+
+        byte[] bytes = "[1,2,3,4,5,6,7,8,9]".getBytes(StandardCharsets.UTF_8);
+        assertFalse(this.checker.maxLength(10).isJson(new ByteArrayInputStream(bytes)));
+        assertFalse(this.checker.maxLength(10).isJson(new StringReader("[1,2,3,4,5,6,7,8,9]")));
+    }
+
+    /**
+     * byte[] 与流
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_bytes_and_streams() {
+        byte[] bytes = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        assertTrue(this.checker.isJson(bytes));
+        assertTrue(Jsons.isJson(bytes));
+        assertTrue(Jsons.isJson(new ByteArrayInputStream(bytes)));
+        assertTrue(this.checker.isJson(new StringReader("{\"a\":1}")));
+        assertFalse(this.checker.isJson(new byte[0]));
+    }
+}
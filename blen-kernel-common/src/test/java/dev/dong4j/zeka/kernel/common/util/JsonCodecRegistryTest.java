@@ -0,0 +1,85 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:50
+ * @since 1.0.0
+ */
+class JsonCodecRegistryTest {
+
+    /**
+     * 同一类型只创建一次 codec
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_cache() {
+        JsonCodecRegistry registry = new JsonCodecRegistry(new ObjectMapper());
+
+        JsonCodec<JsonUser> codec = registry.get(JsonUser.class);
+        assertSame(codec, registry.get(JsonUser.class));
+        assertSame(registry.list(JsonUser.class), registry.list(JsonUser.class));
+        assertSame(registry.map(String.class, JsonUser.class), registry.map(String.class, JsonUser.class));
+        // 不同调用点的 TypeReference 共用同一个 codec
+        assertSame(registry.get(new TypeReference<List<JsonUser>>() {
+        }), registry.get(new TypeReference<List<JsonUser>>() {
+        }));
+
+        assertEquals(4, registry.size());
+        assertEquals(4, registry.missCount());
+        assertEquals(4, registry.hitCount());
+
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertNotSame(codec, registry.get(JsonUser.class));
+    }
+
+    /**
+     * 超过上限后不再缓存
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_max_size() {
+        JsonCodecRegistry registry = new JsonCodecRegistry(new ObjectMapper(), 1);
+
+        assertSame(registry.get(JsonUser.class), registry.get(JsonUser.class));
+        assertNotSame(registry.get(String.class), registry.get(String.class));
+        assertEquals(1, registry.size());
+    }
+
+    /**
+     * 序列化与反序列化
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_round_trip() {
+        JsonCodec<JsonUser> codec = Jsons.codec(JsonUser.class);
+        String json = codec.toJson(new JsonUser("zeka", 18));
+        assertEquals(new JsonUser("zeka", 18), codec.parse(json));
+
+        List<JsonUser> users = Jsons.listCodec(JsonUser.class).parse("[{\"name\":\"a\",\"age\":1},{\"name\":\"b\",\"age\":2}]");
+        assertEquals(2, users.size());
+        assertEquals("b", users.get(1).getName());
+
+        Map<String, JsonUser> map = Jsons.<String, JsonUser>mapCodec(String.class, JsonUser.class).parse("{\"a\":{\"name\":\"a\",\"age\":1}}");
+        assertEquals(1, map.get("a").getAge());
+
+        assertEquals(users, Jsons.toList(Jsons.toJson(users), JsonUser.class));
+    }
+}
@@ -0,0 +1,97 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:10
+ * @since 1.0.0
+ */
+class JsonSinkTest {
+
+    /**
+     * NDJSON 每行一个值, 最后一行也以换行结尾
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_ndjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonSink<JsonUser> sink = Jsons.ndjsonSink(out)) {
+            sink.write(new JsonUser("a", 1)).write(new JsonUser("b", 2));
+            assertEquals(2, sink.count());
+        }
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertEquals("{\"name\":\"a\",\"age\":1}\n{\"name\":\"b\",\"age\":2}\n", ndjson);
+
+        try (Stream<JsonUser> users = Jsons.ndjson(new ByteArrayInputStream(out.toByteArray()), JsonUser.class)) {
+            assertEquals(List.of(new JsonUser("a", 1), new JsonUser("b", 2)), users.collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * NDJSON 的元素本身是数组时不会被展开
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_ndjson_array_lines() {
+        byte[] content = "[1,2]\n[3]\n".getBytes(StandardCharsets.UTF_8);
+        try (Stream<List<Integer>> lines = Jsons.ndjson(new ByteArrayInputStream(content), new TypeReference<List<Integer>>() {
+        })) {
+            assertEquals(List.of(List.of(1, 2), List.of(3)), lines.collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * 写出 JSON 数组后逐个读回
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_array() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonSink<JsonUser> sink = Jsons.arraySink(out)) {
+            sink.writeAll(IntStream.range(0, 100).mapToObj(i -> new JsonUser("u" + i, i)));
+        }
+        assertEquals(100, Jsons.toList(out.toByteArray(), JsonUser.class).size());
+
+        try (Stream<JsonUser> users = Jsons.stream(new ByteArrayInputStream(out.toByteArray()), JsonUser.class)) {
+            assertEquals(4950, users.mapToInt(JsonUser::getAge).sum());
+        }
+    }
+
+    /**
+     * 读取, 转换, 写出串成一个管道
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_pipeline() throws IOException {
+        byte[] content = Jsons.toJsonAsBytes(List.of(new JsonUser("a", 1), new JsonUser("b", 2)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Stream<JsonUser> users = Jsons.stream(new ByteArrayInputStream(content), JsonUser.class);
+             JsonSink<JsonUser> sink = Jsons.ndjsonSink(out)) {
+            BeanUtils.copy(users, JsonUser.class).forEach(sink);
+        }
+        assertEquals("{\"name\":\"a\",\"age\":1}\n{\"name\":\"b\",\"age\":2}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
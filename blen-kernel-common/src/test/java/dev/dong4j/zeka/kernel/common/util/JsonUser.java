@@ -0,0 +1,24 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>Description: Jsons 编解码与流式读写测试共用的实体 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:55
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JsonUser {
+    /** Name */
+    private String name;
+    /** Age */
+    private Integer age;
+}
@@ -0,0 +1,86 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 12:10
+ * @since 1.0.0
+ */
+class SkipPathMatcherTest {
+
+    /** Exclude patterns */
+    private final String[] excludePatterns = SecurityUtils.mergeSkipPatterns("/api/public/**,/files/*.png,/**/*.css,/health,/user/{id}/avatar")
+        .toArray(new String[0]);
+
+    /**
+     * 与 SecurityUtils#matches 的结果保持一致
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_same_as_security_utils() {
+        SkipPathMatcher matcher = SkipPathMatcher.of(this.excludePatterns, SkipPathMatcher.DEFAULT_PATH_MATCHER);
+        List<String> paths = List.of("/", "", "/api", "/api/public", "/api/public/a/b", "/api/private/a",
+                                     "/files/a.png", "/files/a/b.png", "/static/app.css", "/app.css", "/health",
+                                     "/health/", "/healthz", "//api//public//x", "/user/1/avatar", "/user/1/name",
+                                     "/actuator", "/actuator/health", "/swagger-resources/configuration/ui");
+        String[] includePatterns = {StringPool.ANY_PATH};
+        for (String path : paths) {
+            boolean expected = SecurityUtils.matches(path, includePatterns, this.excludePatterns, new AntPathMatcher());
+            assertEquals(expected, matcher.matches(path), path);
+            // 第二次走结果缓存
+            assertEquals(expected, matcher.matches(path), path);
+        }
+    }
+
+    /**
+     * 相同 pattern 集合共享实例, 自定义 PathMatcher 不共享
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_shared() {
+        String[] reversed = this.excludePatterns.clone();
+        Collections.reverse(Arrays.asList(reversed));
+        assertSame(SkipPathMatcher.of(this.excludePatterns, SkipPathMatcher.DEFAULT_PATH_MATCHER),
+                   SkipPathMatcher.of(reversed, SkipPathMatcher.DEFAULT_PATH_MATCHER));
+
+        AntPathMatcher custom = new AntPathMatcher();
+        SkipPathMatcher matcher = SkipPathMatcher.of(this.excludePatterns, custom);
+        assertNotSame(matcher, SkipPathMatcher.of(this.excludePatterns, custom));
+        assertTrue(matcher.matches("/api/public/x"));
+        assertFalse(matcher.matches("/api/private/x"));
+    }
+
+    /**
+     * 大量不同的请求路径 (如路径参数) 不会让结果缓存无限增长, 淘汰后重新匹配的结果不变
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_cache_is_bounded() {
+        SkipPathMatcher matcher = SkipPathMatcher.of(this.excludePatterns, new AntPathMatcher());
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(matcher.matches("/user/" + i + "/avatar"));
+            assertFalse(matcher.matches("/user/" + i + "/name"));
+            assertTrue(matcher.cacheSize() <= 1024);
+        }
+        assertTrue(matcher.matches("/user/0/avatar"));
+        assertFalse(matcher.matches("/user/0/name"));
+    }
+}
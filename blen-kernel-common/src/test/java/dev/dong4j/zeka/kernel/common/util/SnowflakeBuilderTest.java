@@ -0,0 +1,69 @@
+package dev.dong4j.zeka.kernel.common.util;
+
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import dev.dong4j.zeka.kernel.common.id.Ids;
+import dev.dong4j.zeka.kernel.common.id.SnowflakeIdGenerator;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:50
+ * @since 1.0.0
+ */
+class SnowflakeBuilderTest {
+
+    /**
+     * 指定的 id 与 Ids 租用的 worker id 相同时共用同一个生成器, 交替调用也不会重复
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_builder_shares_leased_worker_id() {
+        long leased = Ids.snowflake().workerId();
+        long workerId = leased & 31L;
+        long regionId = leased >> 5;
+
+        Set<Long> ids = new HashSet<>();
+        long previous = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            long fromIds = Ids.nextId();
+            long fromBuilder = SnowflakeBuilder.builder(workerId, regionId);
+            assertTrue(fromIds > previous);
+            assertTrue(fromBuilder > fromIds);
+            assertTrue(ids.add(fromIds));
+            assertTrue(ids.add(fromBuilder));
+            previous = fromBuilder;
+        }
+        assertEquals(leased, SnowflakeIdGenerator.workerId(previous));
+    }
+
+    /**
+     * 其他 id 使用各自缓存的生成器
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_builder_other_worker_id() {
+        long leased = Ids.snowflake().workerId();
+        long other = (leased + 1) & SnowflakeIdGenerator.MAX_WORKER_ID;
+
+        long previous = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            long id = SnowflakeBuilder.builder(other & 31L, other >> 5);
+            assertTrue(id > previous);
+            previous = id;
+        }
+        assertEquals(other, SnowflakeIdGenerator.workerId(previous));
+        assertThrows(LowestException.class, () -> SnowflakeBuilder.builder(32, 0));
+    }
+}
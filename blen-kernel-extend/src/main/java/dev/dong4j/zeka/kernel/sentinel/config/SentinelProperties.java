@@ -31,7 +31,7 @@ public class SentinelProperties {
      * Nacos配置信息内部类
      * <p>
      * 负责管理Sentinel集成Nacos所需的配置参数
-     * 目前主要包含Nacos服务器地址配置
+     * 包含Nacos服务器地址以及规则读取和发布的参数
      * </p>
      *
      * @author dong4j
@@ -44,5 +44,9 @@ public class SentinelProperties {
     public static class NacosConfig {
         /** Nacos服务器地址，默认为nacos.server:8848 */
         private String serverAddr = "nacos.server:8848";
+        /** 首次读取规则的超时时间 (毫秒)，默认为3000 */
+        private long timeout = 3000L;
+        /** 合并发布的等待时间 (毫秒)，控制台连续编辑时只发布最后一次，为0时不合并 */
+        private long publishLinger = 100L;
     }
 }
@@ -4,16 +4,15 @@ import com.alibaba.csp.sentinel.dashboard.datasource.entity.gateway.GatewayFlowR
 import com.alibaba.csp.sentinel.dashboard.datasource.entity.rule.DegradeRuleEntity;
 import com.alibaba.csp.sentinel.dashboard.datasource.entity.rule.FlowRuleEntity;
 import com.alibaba.csp.sentinel.dashboard.datasource.entity.rule.SystemRuleEntity;
-import com.alibaba.csp.sentinel.dashboard.rule.DynamicRuleProvider;
 import com.alibaba.csp.sentinel.dashboard.rule.DynamicRulePublisher;
 import com.alibaba.csp.sentinel.slots.block.authority.AuthorityRule;
 import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowRule;
 import com.alibaba.fastjson.JSON;
 import com.alibaba.nacos.api.config.ConfigFactory;
 import com.alibaba.nacos.api.config.ConfigService;
+import dev.dong4j.zeka.kernel.sentinel.rule.nacos.CachedRuleNacosProvider;
+import dev.dong4j.zeka.kernel.sentinel.rule.nacos.CachedRuleNacosPublisher;
 import dev.dong4j.zeka.kernel.sentinel.rule.nacos.NacosConfigUtil;
-import dev.dong4j.zeka.kernel.sentinel.rule.nacos.RuleNacosProvider;
-import dev.dong4j.zeka.kernel.sentinel.rule.nacos.RuleNacosPublisher;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -29,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * 该类负责初始化Sentinel相关的动态规则提供者和发布者，实现规则的动态加载和持久化
  * 通过与Nacos配置中心集成，支持规则的实时更新和分布式一致性
+ * 规则解析后缓存在内存中并通过Nacos监听更新，发布时合并连续的修改并跳过未变化的内容
  * </p>
  *
  * @author dong4j
@@ -65,13 +65,13 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
      * @return 流量规则动态提供者，用于获取最新的流量控制规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRuleProvider<List<FlowRuleEntity>> flowRuleProvider(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosProvider.class);
-        return new RuleNacosProvider<>(configService, s -> JSON.parseArray(s, FlowRuleEntity.class), NacosConfigUtil.FLOW_DATA_ID_POSTFIX);
+    public CachedRuleNacosProvider<FlowRuleEntity> flowRuleProvider(ConfigService configService, SentinelProperties properties) {
+        return provider(configService, properties, FlowRuleEntity.class, NacosConfigUtil.FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -81,13 +81,15 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者，发布成功后更新其缓存
      * @return 流量规则动态发布者，用于发布更新后的流量控制规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRulePublisher<List<FlowRuleEntity>> flowRulePublisher(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosPublisher.class);
-        return new RuleNacosPublisher<>(configService, JSON::toJSONString, NacosConfigUtil.FLOW_DATA_ID_POSTFIX);
+    public DynamicRulePublisher<List<FlowRuleEntity>> flowRulePublisher(ConfigService configService, SentinelProperties properties,
+                                                                  CachedRuleNacosProvider<FlowRuleEntity> provider) {
+        return publisher(configService, properties, provider, NacosConfigUtil.FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -97,13 +99,13 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
      * @return 网关流量规则动态提供者，用于获取最新的网关流量控制规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRuleProvider<List<GatewayFlowRuleEntity>> gatewayFlowRuleProvider(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosProvider.class);
-        return new RuleNacosProvider<>(configService, s -> JSON.parseArray(s, GatewayFlowRuleEntity.class), NacosConfigUtil.GATEWAY_FLOW_DATA_ID_POSTFIX);
+    public CachedRuleNacosProvider<GatewayFlowRuleEntity> gatewayFlowRuleProvider(ConfigService configService, SentinelProperties properties) {
+        return provider(configService, properties, GatewayFlowRuleEntity.class, NacosConfigUtil.GATEWAY_FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -113,13 +115,15 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者，发布成功后更新其缓存
      * @return 网关流量规则动态发布者，用于发布更新后的网关流量控制规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRulePublisher<List<GatewayFlowRuleEntity>> gatewayFlowRulePublisher(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosPublisher.class);
-        return new RuleNacosPublisher<>(configService, JSON::toJSONString, NacosConfigUtil.GATEWAY_FLOW_DATA_ID_POSTFIX);
+    public DynamicRulePublisher<List<GatewayFlowRuleEntity>> gatewayFlowRulePublisher(ConfigService configService, SentinelProperties properties,
+                                                                  CachedRuleNacosProvider<GatewayFlowRuleEntity> provider) {
+        return publisher(configService, properties, provider, NacosConfigUtil.GATEWAY_FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -129,13 +133,13 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
      * @return 授权规则动态提供者，用于获取最新的授权规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRuleProvider<List<AuthorityRule>> authorityRuleProvider(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosProvider.class);
-        return new RuleNacosProvider<>(configService, s -> JSON.parseArray(s, AuthorityRule.class), NacosConfigUtil.AUTHORITY_DATA_ID_POSTFIX);
+    public CachedRuleNacosProvider<AuthorityRule> authorityRuleProvider(ConfigService configService, SentinelProperties properties) {
+        return provider(configService, properties, AuthorityRule.class, NacosConfigUtil.AUTHORITY_DATA_ID_POSTFIX);
     }
 
     /**
@@ -145,13 +149,15 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者，发布成功后更新其缓存
      * @return 授权规则动态发布者，用于发布更新后的授权规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRulePublisher<List<AuthorityRule>> authorityRulePublisher(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosPublisher.class);
-        return new RuleNacosPublisher<>(configService, JSON::toJSONString, NacosConfigUtil.AUTHORITY_DATA_ID_POSTFIX);
+    public DynamicRulePublisher<List<AuthorityRule>> authorityRulePublisher(ConfigService configService, SentinelProperties properties,
+                                                                  CachedRuleNacosProvider<AuthorityRule> provider) {
+        return publisher(configService, properties, provider, NacosConfigUtil.AUTHORITY_DATA_ID_POSTFIX);
     }
 
     /**
@@ -161,13 +167,13 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
      * @return 降级规则动态提供者，用于获取最新的熔断降级规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRuleProvider<List<DegradeRuleEntity>> degradeRuleProvider(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosProvider.class);
-        return new RuleNacosProvider<>(configService, s -> JSON.parseArray(s, DegradeRuleEntity.class), NacosConfigUtil.DEGRADE_DATA_ID_POSTFIX);
+    public CachedRuleNacosProvider<DegradeRuleEntity> degradeRuleProvider(ConfigService configService, SentinelProperties properties) {
+        return provider(configService, properties, DegradeRuleEntity.class, NacosConfigUtil.DEGRADE_DATA_ID_POSTFIX);
     }
 
     /**
@@ -177,13 +183,15 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者，发布成功后更新其缓存
      * @return 降级规则动态发布者，用于发布更新后的熔断降级规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRulePublisher<List<DegradeRuleEntity>> degradeRulePublisher(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosPublisher.class);
-        return new RuleNacosPublisher<>(configService, JSON::toJSONString, NacosConfigUtil.DEGRADE_DATA_ID_POSTFIX);
+    public DynamicRulePublisher<List<DegradeRuleEntity>> degradeRulePublisher(ConfigService configService, SentinelProperties properties,
+                                                                  CachedRuleNacosProvider<DegradeRuleEntity> provider) {
+        return publisher(configService, properties, provider, NacosConfigUtil.DEGRADE_DATA_ID_POSTFIX);
     }
 
     /**
@@ -193,13 +201,13 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
      * @return 热点参数规则动态提供者，用于获取最新的热点参数规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRuleProvider<List<ParamFlowRule>> paramRuleProvider(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosProvider.class);
-        return new RuleNacosProvider<>(configService, s -> JSON.parseArray(s, ParamFlowRule.class), NacosConfigUtil.PARAM_FLOW_DATA_ID_POSTFIX);
+    public CachedRuleNacosProvider<ParamFlowRule> paramRuleProvider(ConfigService configService, SentinelProperties properties) {
+        return provider(configService, properties, ParamFlowRule.class, NacosConfigUtil.PARAM_FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -209,13 +217,15 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者，发布成功后更新其缓存
      * @return 热点参数规则动态发布者，用于发布更新后的热点参数规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRulePublisher<List<ParamFlowRule>> paramRulePublisher(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosPublisher.class);
-        return new RuleNacosPublisher<>(configService, JSON::toJSONString, NacosConfigUtil.PARAM_FLOW_DATA_ID_POSTFIX);
+    public DynamicRulePublisher<List<ParamFlowRule>> paramRulePublisher(ConfigService configService, SentinelProperties properties,
+                                                                  CachedRuleNacosProvider<ParamFlowRule> provider) {
+        return publisher(configService, properties, provider, NacosConfigUtil.PARAM_FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -225,13 +235,13 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
      * @return 系统规则动态提供者，用于获取最新的系统保护规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRuleProvider<List<SystemRuleEntity>> systemRuleProvider(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosProvider.class);
-        return new RuleNacosProvider<>(configService, s -> JSON.parseArray(s, SystemRuleEntity.class), NacosConfigUtil.SYSTEM_FLOW_DATA_ID_POSTFIX);
+    public CachedRuleNacosProvider<SystemRuleEntity> systemRuleProvider(ConfigService configService, SentinelProperties properties) {
+        return provider(configService, properties, SystemRuleEntity.class, NacosConfigUtil.SYSTEM_FLOW_DATA_ID_POSTFIX);
     }
 
     /**
@@ -241,12 +251,55 @@ public class ZekaSentinelAutoConfiguration {
      * </p>
      *
      * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者，发布成功后更新其缓存
      * @return 系统规则动态发布者，用于发布更新后的系统保护规则
      * @since 1.0.0
      */
     @Bean
-    public DynamicRulePublisher<List<SystemRuleEntity>> systemRulePublisher(ConfigService configService) {
-        log.info("加载自定义处理器: {}", RuleNacosPublisher.class);
-        return new RuleNacosPublisher<>(configService, JSON::toJSONString, NacosConfigUtil.SYSTEM_FLOW_DATA_ID_POSTFIX);
+    public DynamicRulePublisher<List<SystemRuleEntity>> systemRulePublisher(ConfigService configService, SentinelProperties properties,
+                                                                  CachedRuleNacosProvider<SystemRuleEntity> provider) {
+        return publisher(configService, properties, provider, NacosConfigUtil.SYSTEM_FLOW_DATA_ID_POSTFIX);
+    }
+
+    /**
+     * 创建带缓存的规则提供者
+     *
+     * @param <T>           规则类型
+     * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param type          规则类型
+     * @param dataId        规则数据ID后缀
+     * @return 规则提供者
+     * @since 1.0.0
+     */
+    private static <T> CachedRuleNacosProvider<T> provider(ConfigService configService,
+                                                           @NotNull SentinelProperties properties,
+                                                           Class<T> type,
+                                                           String dataId) {
+        log.info("加载自定义处理器: {} [{}]", CachedRuleNacosProvider.class, dataId);
+        return new CachedRuleNacosProvider<>(configService, s -> JSON.parseArray(s, type), dataId,
+                                             properties.getNacos().getTimeout());
+    }
+
+    /**
+     * 创建合并发布的规则发布者
+     *
+     * @param <T>           规则类型
+     * @param configService Nacos配置服务实例
+     * @param properties    Sentinel配置属性
+     * @param provider      对应的规则提供者
+     * @param dataId        规则数据ID后缀
+     * @return 规则发布者
+     * @since 1.0.0
+     */
+    private static <T> CachedRuleNacosPublisher<T> publisher(ConfigService configService,
+                                                             @NotNull SentinelProperties properties,
+                                                             CachedRuleNacosProvider<T> provider,
+                                                             String dataId) {
+        log.info("加载自定义处理器: {} [{}]", CachedRuleNacosPublisher.class, dataId);
+        return new CachedRuleNacosPublisher<>(configService, JSON::toJSONString, dataId, provider,
+                                              properties.getNacos().getPublishLinger(),
+                                              properties.getNacos().getTimeout());
     }
 }
@@ -0,0 +1,292 @@
+package dev.dong4j.zeka.kernel.sentinel.rule.nacos;
+
+import com.alibaba.csp.sentinel.dashboard.rule.DynamicRuleProvider;
+import com.alibaba.csp.sentinel.datasource.Converter;
+import com.alibaba.csp.sentinel.util.StringUtil;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.Listener;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * 带本地缓存的 Sentinel 规则 Nacos 提供者
+ * <p>
+ * 与 {@link RuleNacosProvider} 每次调用都阻塞读取 Nacos 并完整解析不同, 该类只在某个应用第一次读取时
+ * 通过 {@code getConfigAndSignListener} 读取并注册监听, 之后的读取直接返回内存中已解析的规则:
+ * 1. 推送的内容与当前内容的 MD5 相同时不重复解析
+ * 2. 每次读取或推送都分配递增的版本号, 只接受比当前版本新的结果, 首次读取的结果不会覆盖更早到达的推送
+ * 3. 推送的内容解析失败时保留原有规则
+ * 4. {@link CachedRuleNacosPublisher} 发布成功后直接写入缓存, 发布后立即读取也能看到最新规则
+ * </p>
+ * 返回的列表是缓存的浅拷贝, 规则对象与缓存共用.
+ *
+ * @param <T> 规则类型参数，可以是FlowRuleEntity、DegradeRuleEntity等各种规则实体类型
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:40
+ * @since 1.0.0
+ */
+@Slf4j
+public class CachedRuleNacosProvider<T> implements DynamicRuleProvider<List<T>> {
+
+    /** 版本号, 所有应用共用, 只用于比较先后 */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    /** Nacos配置服务实例 */
+    private final ConfigService configService;
+    /** 配置转换器，将字符串配置转换为指定类型的规则列表 */
+    private final Converter<String, List<T>> converter;
+    /** 规则数据ID后缀，与应用名组合形成完整的数据ID */
+    private final String dataId;
+    /** 首次读取的超时时间 (毫秒) */
+    private final long timeoutMillis;
+    /** 按应用缓存的规则 */
+    private final Map<String, Entry<T>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数，初始化CachedRuleNacosProvider实例
+     *
+     * @param configService Nacos配置服务实例
+     * @param converter     配置转换器，用于将字符串配置转换为规则列表
+     * @param dataId        规则数据ID后缀
+     * @param timeoutMillis 首次读取的超时时间 (毫秒)
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public CachedRuleNacosProvider(ConfigService configService,
+                                   Converter<String, List<T>> converter,
+                                   String dataId,
+                                   long timeoutMillis) {
+        this.configService = configService;
+        this.converter = converter;
+        this.dataId = dataId;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 获取指定应用的规则列表, 只有第一次读取会访问 Nacos
+     *
+     * @param appName 应用名称，用于构建完整的数据ID
+     * @return 规则对象列表，如果没有配置则返回空列表
+     * @throws Exception 首次读取配置失败或转换失败时抛出异常, 下次读取时重试
+     * @since 1.0.0
+     */
+    @Override
+    public List<T> getRules(String appName) throws Exception {
+        Entry<T> entry = this.cache.computeIfAbsent(appName, key -> new Entry<>());
+        Snapshot<T> snapshot = entry.snapshot;
+        if (snapshot == null || entry.listener == null) {
+            snapshot = this.load(appName, entry);
+        }
+        return new ArrayList<>(snapshot.rules());
+    }
+
+    /**
+     * 当前缓存内容的 MD5
+     *
+     * @param appName app name
+     * @return 尚未读取过时返回 null
+     * @since 1.0.0
+     */
+    String currentMd5(String appName) {
+        Entry<T> entry = this.cache.get(appName);
+        Snapshot<T> snapshot = entry == null ? null : entry.snapshot;
+        return snapshot == null ? null : snapshot.md5();
+    }
+
+    /**
+     * 发布成功后写入缓存
+     *
+     * @param appName app name
+     * @param md5     md 5
+     * @param rules   rules
+     * @since 1.0.0
+     */
+    void update(String appName, String md5, List<T> rules) {
+        Entry<T> entry = this.cache.computeIfAbsent(appName, key -> new Entry<>());
+        entry.offer(new Snapshot<>(VERSION.incrementAndGet(), md5, List.copyOf(rules)));
+    }
+
+    /**
+     * 首次读取并注册监听, 同一应用只有一个线程访问 Nacos.
+     * 发布先于读取时缓存中已有规则, 但仍需注册监听才能收到其他来源的修改
+     *
+     * @param appName app name
+     * @param entry   entry
+     * @return the snapshot
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    private Snapshot<T> load(String appName, Entry<T> entry) throws Exception {
+        synchronized (entry.loadLock) {
+            if (entry.snapshot != null && entry.listener != null) {
+                return entry.snapshot;
+            }
+            long version = VERSION.incrementAndGet();
+            String content;
+            if (entry.listener == null) {
+                Listener listener = new RuleListener(appName, entry);
+                content = this.configService.getConfigAndSignListener(appName + this.dataId, NacosConfigUtil.GROUP_ID,
+                                                                      this.timeoutMillis, listener);
+                entry.listener = listener;
+            } else {
+                // 上次读取时监听已经注册成功, 但解析失败
+                content = this.configService.getConfig(appName + this.dataId, NacosConfigUtil.GROUP_ID, this.timeoutMillis);
+            }
+            entry.offer(new Snapshot<>(version, md5(content), this.parse(content)));
+            return entry.snapshot;
+        }
+    }
+
+    /**
+     * Parse
+     *
+     * @param content content
+     * @return the list
+     * @since 1.0.0
+     */
+    private List<T> parse(String content) {
+        if (StringUtil.isEmpty(content)) {
+            return List.of();
+        }
+        List<T> rules = this.converter.convert(content);
+        return rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * 内容的 MD5, 空内容统一为空字符串的 MD5
+     *
+     * @param content content
+     * @return the string
+     * @since 1.0.0
+     */
+    static String md5(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            byte[] bytes = (content == null ? "" : content).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 已解析的规则
+     *
+     * @param version 版本号
+     * @param md5     内容的 MD5
+     * @param rules   不可变的规则列表
+     * @param <T>     规则类型
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:40
+     * @since 1.0.0
+     */
+    private record Snapshot<T>(long version, String md5, List<T> rules) {
+    }
+
+    /**
+     * 单个应用的缓存
+     *
+     * @param <T> 规则类型
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:40
+     * @since 1.0.0
+     */
+    private static final class Entry<T> {
+        /** 首次读取时的锁, 与 {@link #offer(Snapshot)} 分开, 推送不会等待读取 Nacos */
+        private final Object loadLock = new Object();
+        /** 当前规则, 读取时不加锁 */
+        private volatile Snapshot<T> snapshot;
+        /** 已注册的监听 */
+        private volatile Listener listener;
+
+        /**
+         * 只接受更新的版本
+         *
+         * @param candidate candidate
+         * @since 1.0.0
+         */
+        private synchronized void offer(Snapshot<T> candidate) {
+            Snapshot<T> current = this.snapshot;
+            if (current == null || candidate.version() > current.version()) {
+                this.snapshot = candidate;
+            }
+        }
+    }
+
+    /**
+     * 接收 Nacos 推送的监听
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:40
+     * @since 1.0.0
+     */
+    private final class RuleListener implements Listener {
+        /** App name */
+        private final String appName;
+        /** Entry */
+        private final Entry<T> entry;
+
+        /**
+         * Rule listener
+         *
+         * @param appName app name
+         * @param entry   entry
+         * @since 1.0.0
+         */
+        private RuleListener(String appName, Entry<T> entry) {
+            this.appName = appName;
+            this.entry = entry;
+        }
+
+        /**
+         * 在 Nacos 的通知线程中执行
+         *
+         * @return the executor
+         * @since 1.0.0
+         */
+        @Override
+        public Executor getExecutor() {
+            return null;
+        }
+
+        /**
+         * MD5 与当前内容相同时跳过解析
+         *
+         * @param content content
+         * @since 1.0.0
+         */
+        @Override
+        public void receiveConfigInfo(String content) {
+            long version = VERSION.incrementAndGet();
+            String md5 = md5(content);
+            Snapshot<T> current = this.entry.snapshot;
+            if (current != null && md5.equals(current.md5())) {
+                return;
+            }
+            try {
+                this.entry.offer(new Snapshot<>(version, md5, CachedRuleNacosProvider.this.parse(content)));
+                log.debug("规则已更新: {}{}", this.appName, CachedRuleNacosProvider.this.dataId);
+            } catch (Exception e) {
+                log.warn("解析规则失败, 保留原有规则: {}{}", this.appName, CachedRuleNacosProvider.this.dataId, e);
+            }
+        }
+    }
+}
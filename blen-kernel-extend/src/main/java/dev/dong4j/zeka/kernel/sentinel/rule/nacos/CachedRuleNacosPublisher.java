@@ -0,0 +1,190 @@
+package dev.dong4j.zeka.kernel.sentinel.rule.nacos;
+
+import com.alibaba.csp.sentinel.dashboard.rule.DynamicRulePublisher;
+import com.alibaba.csp.sentinel.datasource.Converter;
+import com.alibaba.csp.sentinel.util.AssertUtil;
+import com.alibaba.nacos.api.config.ConfigService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * 合并发布并跳过未变化内容的 Sentinel 规则 Nacos 发布者
+ * <p>
+ * Nacos 中每个应用的一类规则是一条完整配置, 无法只发送单条规则, 因此这里在两个方面减少发布:
+ * 1. 合并: 同一应用在 linger 时间内的多次发布 (例如控制台连续编辑) 合并为一次, 只发送最后一次的规则,
+ * 所有调用方等待同一次发布的结果, 发布失败时异常同样抛给每个调用方
+ * 2. 跳过: 转换后内容的 MD5 与上次发布或缓存中的相同时不发送
+ * 发布成功后写入 {@link CachedRuleNacosProvider} 的缓存.
+ * </p>
+ *
+ * @param <T> 规则类型参数，可以是FlowRuleEntity、DegradeRuleEntity等各种规则实体类型
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:40
+ * @since 1.0.0
+ */
+@Slf4j
+public class CachedRuleNacosPublisher<T> implements DynamicRulePublisher<List<T>> {
+
+    /** 执行合并后的发布, 所有发布者共用 */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "zeka-sentinel-rule-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Nacos配置服务实例，用于发布配置信息 */
+    private final ConfigService configService;
+    /** 配置转换器，将规则列表转换为字符串配置 */
+    private final Converter<List<T>, String> converter;
+    /** 规则数据ID后缀，与应用名组合形成完整的数据ID */
+    private final String dataId;
+    /** 发布成功后写入的缓存, 可以为 null */
+    private final CachedRuleNacosProvider<T> provider;
+    /** 合并发布的等待时间 (毫秒), 为 0 时在调用方线程中直接发布 */
+    private final long lingerMillis;
+    /** 等待调用方的最长时间 (毫秒) */
+    private final long timeoutMillis;
+    /** 按应用记录上次发布内容的 MD5 */
+    private final Map<String, String> published = new ConcurrentHashMap<>();
+    /** 按应用等待发布的规则 */
+    private final Map<String, Pending<T>> pending = new HashMap<>();
+
+    /**
+     * 构造函数，初始化CachedRuleNacosPublisher实例
+     *
+     * @param configService Nacos配置服务实例
+     * @param converter     配置转换器，用于将规则列表转换为字符串配置
+     * @param dataId        规则数据ID后缀
+     * @param provider      发布成功后写入的缓存, 可以为 null
+     * @param lingerMillis  合并发布的等待时间 (毫秒)
+     * @param timeoutMillis 发布的超时时间 (毫秒)
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public CachedRuleNacosPublisher(ConfigService configService,
+                                    Converter<List<T>, String> converter,
+                                    String dataId,
+                                    CachedRuleNacosProvider<T> provider,
+                                    long lingerMillis,
+                                    long timeoutMillis) {
+        this.configService = configService;
+        this.converter = converter;
+        this.dataId = dataId;
+        this.provider = provider;
+        this.lingerMillis = lingerMillis;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 发布指定应用的规则列表, 等待合并后的发布完成才返回
+     *
+     * @param app   应用名称，用于构建完整的数据ID
+     * @param rules 要发布的规则对象列表
+     * @throws Exception 应用名为空或发布配置失败时抛出异常
+     * @since 1.0.0
+     */
+    @Override
+    public void publish(String app, List<T> rules) throws Exception {
+        AssertUtil.notEmpty(app, "app name cannot be empty");
+        if (rules == null) {
+            return;
+        }
+        if (this.lingerMillis <= 0) {
+            this.send(app, rules);
+            return;
+        }
+        Pending<T> batch;
+        synchronized (this.pending) {
+            batch = this.pending.get(app);
+            if (batch == null) {
+                batch = new Pending<>();
+                this.pending.put(app, batch);
+                SCHEDULER.schedule(() -> this.flush(app), this.lingerMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.rules = rules;
+        }
+        try {
+            batch.future.get(this.lingerMillis + this.timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("发布规则超时: " + app + this.dataId, e);
+        }
+    }
+
+    /**
+     * 发布合并后的规则
+     *
+     * @param app app
+     * @since 1.0.0
+     */
+    private void flush(String app) {
+        Pending<T> batch;
+        synchronized (this.pending) {
+            batch = this.pending.remove(app);
+        }
+        if (batch == null) {
+            return;
+        }
+        try {
+            this.send(app, batch.rules);
+            batch.future.complete(null);
+        } catch (Throwable e) {
+            batch.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 内容变化时发布, 成功后写入缓存
+     *
+     * @param app   app
+     * @param rules rules
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    private void send(String app, List<T> rules) throws Exception {
+        String content = this.converter.convert(rules);
+        String md5 = CachedRuleNacosProvider.md5(content);
+        String known = this.provider == null ? this.published.get(app) : this.provider.currentMd5(app);
+        if (md5.equals(known)) {
+            log.debug("规则未变化, 跳过发布: {}{}", app, this.dataId);
+            return;
+        }
+        if (!this.configService.publishConfig(app + this.dataId, NacosConfigUtil.GROUP_ID, content)) {
+            throw new IllegalStateException("发布规则失败: " + app + this.dataId);
+        }
+        this.published.put(app, md5);
+        if (this.provider != null) {
+            this.provider.update(app, md5, rules);
+        }
+    }
+
+    /**
+     * 等待发布的规则
+     *
+     * @param <T> 规则类型
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:40
+     * @since 1.0.0
+     */
+    private static final class Pending<T> {
+        /** 最后一次提交的规则 */
+        private volatile List<T> rules;
+        /** 发布结果 */
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,270 @@
+package dev.dong4j.zeka.kernel.sentinel.rule.nacos;
+
+import com.alibaba.csp.sentinel.datasource.Converter;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.Listener;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Description: 使用内存中的 ConfigService 测试规则缓存与合并发布 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:40
+ * @since 1.0.0
+ */
+class CachedRuleNacosProviderTest {
+
+    /** DATA_ID */
+    private static final String DATA_ID = NacosConfigUtil.FLOW_DATA_ID_POSTFIX;
+    /** APP */
+    private static final String APP = "demo";
+
+    /** Config */
+    private final InMemoryConfig config = new InMemoryConfig();
+    /** 解析次数 */
+    private final AtomicInteger parsed = new AtomicInteger();
+    /** Decoder */
+    private final Converter<String, List<String>> decoder = content -> {
+        this.parsed.incrementAndGet();
+        return Arrays.asList(content.split(","));
+    };
+    /** Provider */
+    private final CachedRuleNacosProvider<String> provider =
+        new CachedRuleNacosProvider<>(this.config.service(), this.decoder, DATA_ID, 3000L);
+
+    /**
+     * 只有第一次读取访问 Nacos, 之后从内存读取
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_read_from_memory() throws Exception {
+        this.config.put(APP + DATA_ID, "a,b");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(List.of("a", "b"), this.provider.getRules(APP));
+        }
+
+        assertEquals(1, this.config.reads.get());
+        assertEquals(1, this.parsed.get());
+        assertEquals(List.of(), this.provider.getRules("other"));
+    }
+
+    /**
+     * 推送的内容与当前内容相同时不重复解析, 解析失败时保留原有规则
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_push() throws Exception {
+        this.config.put(APP + DATA_ID, "a");
+        assertEquals(List.of("a"), this.provider.getRules(APP));
+
+        this.config.push(APP + DATA_ID, "a,b");
+        assertEquals(List.of("a", "b"), this.provider.getRules(APP));
+        this.config.push(APP + DATA_ID, "a,b");
+        assertEquals(2, this.parsed.get());
+
+        this.config.push(APP + DATA_ID, null);
+        assertEquals(List.of(), this.provider.getRules(APP));
+
+        CachedRuleNacosProvider<String> failing = new CachedRuleNacosProvider<>(this.config.service(), content -> {
+            if (content.contains("!")) {
+                throw new IllegalArgumentException(content);
+            }
+            return List.of(content);
+        }, DATA_ID, 3000L);
+        this.config.put("failing" + DATA_ID, "x");
+        assertEquals(List.of("x"), failing.getRules("failing"));
+        this.config.push("failing" + DATA_ID, "!");
+        assertEquals(List.of("x"), failing.getRules("failing"));
+        assertEquals(2, this.config.reads.get());
+    }
+
+    /**
+     * 连续发布合并为一次, 发布后立即读取到最新规则, 内容未变化时不发布
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_publish() throws Exception {
+        CachedRuleNacosPublisher<String> publisher =
+            new CachedRuleNacosPublisher<>(this.config.service(), rules -> String.join(",", rules), DATA_ID,
+                                           this.provider, 200L, 3000L);
+        this.config.put(APP + DATA_ID, "a");
+        assertEquals(List.of("a"), this.provider.getRules(APP));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                List<String> rules = List.of("a", "b" + i);
+                futures.add(executor.submit(() -> {
+                    publisher.publish(APP, rules);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, this.config.published.size());
+        String content = this.config.get(APP + DATA_ID);
+        assertEquals(Arrays.asList(content.split(",")), this.provider.getRules(APP));
+
+        publisher.publish(APP, Arrays.asList(content.split(",")));
+        assertEquals(1, this.config.published.size());
+
+        publisher.publish(APP, List.of("c"));
+        assertEquals(List.of("c"), this.provider.getRules(APP));
+        assertEquals(2, this.config.published.size());
+        assertEquals(1, this.config.reads.get());
+    }
+
+    /**
+     * 发布失败时每个调用方都收到异常
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_publish_failed() {
+        CachedRuleNacosPublisher<String> publisher =
+            new CachedRuleNacosPublisher<>(this.config.service(), rules -> String.join(",", rules), DATA_ID,
+                                           this.provider, 0L, 3000L);
+        this.config.available = false;
+
+        assertThrows(IllegalStateException.class, () -> publisher.publish(APP, List.of("a")));
+    }
+
+    /**
+     * <p>Description: 内存中的 Nacos 配置, 发布后通知监听 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:40
+     * @since 1.0.0
+     */
+    private static final class InMemoryConfig {
+        /** 配置内容 */
+        private final Map<String, String> contents = new ConcurrentHashMap<>();
+        /** 监听 */
+        private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+        /** 读取次数 */
+        private final AtomicInteger reads = new AtomicInteger();
+        /** 发布的内容 */
+        private final List<String> published = new CopyOnWriteArrayList<>();
+        /** 为 false 时发布返回失败 */
+        private volatile boolean available = true;
+
+        /**
+         * Put
+         *
+         * @param dataId  data id
+         * @param content content
+         * @since 1.0.0
+         */
+        private void put(String dataId, String content) {
+            if (content == null) {
+                this.contents.remove(dataId);
+            } else {
+                this.contents.put(dataId, content);
+            }
+        }
+
+        /**
+         * Get
+         *
+         * @param dataId data id
+         * @return the string
+         * @since 1.0.0
+         */
+        private String get(String dataId) {
+            return this.contents.get(dataId);
+        }
+
+        /**
+         * 修改配置并通知监听
+         *
+         * @param dataId  data id
+         * @param content content
+         * @since 1.0.0
+         */
+        private void push(String dataId, String content) {
+            this.put(dataId, content);
+            this.listeners.getOrDefault(dataId, List.of()).forEach(listener -> listener.receiveConfigInfo(content));
+        }
+
+        /**
+         * 按方法名分发的 ConfigService
+         *
+         * @return the config service
+         * @since 1.0.0
+         */
+        private ConfigService service() {
+            return (ConfigService) Proxy.newProxyInstance(ConfigService.class.getClassLoader(),
+                                                          new Class<?>[] {ConfigService.class},
+                                                          (proxy, method, args) -> switch (method.getName()) {
+                case "getConfig" -> {
+                    this.reads.incrementAndGet();
+                    yield this.get((String) args[0]);
+                }
+                case "getConfigAndSignListener" -> {
+                    this.reads.incrementAndGet();
+                    this.listeners.computeIfAbsent((String) args[0], key -> new CopyOnWriteArrayList<>())
+                        .add((Listener) args[3]);
+                    yield this.get((String) args[0]);
+                }
+                case "addListener" -> {
+                    this.listeners.computeIfAbsent((String) args[0], key -> new CopyOnWriteArrayList<>())
+                        .add((Listener) args[2]);
+                    yield null;
+                }
+                case "removeListener" -> {
+                    this.listeners.getOrDefault((String) args[0], new ArrayList<>()).remove((Listener) args[2]);
+                    yield null;
+                }
+                case "publishConfig", "publishConfigCas" -> {
+                    if (!this.available) {
+                        yield false;
+                    }
+                    this.published.add((String) args[2]);
+                    this.push((String) args[0], (String) args[2]);
+                    yield true;
+                }
+                case "removeConfig" -> {
+                    this.push((String) args[0], null);
+                    yield true;
+                }
+                case "getServerStatus" -> "UP";
+                case "toString" -> "InMemoryConfigService";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        }
+    }
+}
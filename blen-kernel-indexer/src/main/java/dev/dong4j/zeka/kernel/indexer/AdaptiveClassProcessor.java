@@ -0,0 +1,523 @@
+package dev.dong4j.zeka.kernel.indexer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * <p>Description: 编译期生成 SPI 自适应类 </p>
+ * 为标注了 {@code @SPI} 且存在 {@code @Adaptive} 方法的接口生成 {@code <接口简单名>$Adaptive} 源码, 由 javac 在同一次编译中编译.
+ * 运行时 SPILoader 优先加载该类, 不再通过 javassist 或 javac 在启动时编译.
+ * 生成的代码与运行时的 {@code AdaptiveClassCodeGenerator} 保持一致, 修改其中一个时需要同步修改另一个.
+ * 本模块不依赖 blen-kernel-spi, 注解与类型均通过全限定名查找
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 20:30
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes(AdaptiveClassProcessor.SPI)
+public class AdaptiveClassProcessor extends AbstractProcessor {
+
+    /** SPI */
+    static final String SPI = "dev.dong4j.zeka.kernel.spi.extension.SPI";
+    /** ADAPTIVE */
+    private static final String ADAPTIVE = "dev.dong4j.zeka.kernel.spi.extension.Adaptive";
+    /** SPI_LOADER */
+    private static final String SPI_LOADER = "dev.dong4j.zeka.kernel.spi.extension.SPILoader";
+    /** URL */
+    private static final String URL = "dev.dong4j.zeka.kernel.spi.URL";
+    /** CLASSNAME_INVOCATION */
+    private static final String CLASSNAME_INVOCATION = "org.apache.dubbo.rpc.Invocation";
+    /** 与 SPILoader 解析默认扩展名时使用的分隔符一致 */
+    private static final Pattern NAME_SEPARATOR = Pattern.compile("\\s*[,]+\\s*");
+
+    /** Elements */
+    private Elements elements;
+    /** Types */
+    private Types types;
+
+    /**
+     * Init
+     *
+     * @param processingEnv processing env
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * Gets supported source version *
+     *
+     * @return the supported source version
+     * @since 1.0.0
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * 为每个 @SPI 接口生成自适应类, 不消费注解, 始终返回 false
+     *
+     * @param annotations annotations
+     * @param roundEnv    round env
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.INTERFACE) {
+                    this.generate((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成并写出自适应类源码, 无法生成时输出警告, 运行时仍会退回到动态编译
+     *
+     * @param type type
+     * @since 1.0.0
+     */
+    private void generate(TypeElement type) {
+        List<ExecutableElement> methods = this.methods(type);
+        if (methods.stream().noneMatch(m -> this.annotation(m, ADAPTIVE) != null)) {
+            return;
+        }
+        String packageName = this.elements.getPackageOf(type).getQualifiedName().toString();
+        String className = type.getSimpleName() + "$Adaptive";
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try {
+            String code = new Generator(type, this.defaultExtName(type), packageName).generate(methods);
+            try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+                writer.write(code);
+            }
+        } catch (FilerException e) {
+            // 同一次编译中已经生成过
+        } catch (IOException | IllegalStateException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Unable to generate adaptive class " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * 与 Class#getMethods 对应: 自身及父接口的 public 方法, 父接口中的 static 方法不会被继承
+     *
+     * @param type type
+     * @return the list
+     * @since 1.0.0
+     */
+    private List<ExecutableElement> methods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (Element member : this.elements.getAllMembers(type)) {
+            if (member.getKind() != ElementKind.METHOD
+                || !member.getModifiers().contains(Modifier.PUBLIC)
+                || ((TypeElement) member.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+            if (member.getModifiers().contains(Modifier.STATIC) && !member.getEnclosingElement().equals(type)) {
+                continue;
+            }
+            methods.add((ExecutableElement) member);
+        }
+        return methods;
+    }
+
+    /**
+     * 读取 @SPI 的默认扩展名
+     *
+     * @param type type
+     * @return 默认扩展名, 未指定时返回 null
+     * @since 1.0.0
+     */
+    private String defaultExtName(TypeElement type) {
+        AnnotationMirror spi = this.annotation(type, SPI);
+        List<String> values = spi == null ? List.of() : this.values(spi);
+        String value = values.isEmpty() ? "" : values.get(0).trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        String[] names = NAME_SEPARATOR.split(value);
+        if (names.length > 1) {
+            throw new IllegalStateException("More than 1 default extension name on extension "
+                + this.elements.getBinaryName(type) + ": " + Arrays.toString(names));
+        }
+        return names.length == 1 ? names[0] : null;
+    }
+
+    /**
+     * Annotation
+     *
+     * @param element    element
+     * @param annotation annotation
+     * @return the annotation mirror
+     * @since 1.0.0
+     */
+    private AnnotationMirror annotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 读取注解的 value 属性, 单值与数组统一返回列表
+     *
+     * @param mirror mirror
+     * @return the list
+     * @since 1.0.0
+     */
+    private List<String> values(AnnotationMirror mirror) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (!entry.getKey().getSimpleName().contentEquals("value")) {
+                continue;
+            }
+            Object value = entry.getValue().getValue();
+            if (value instanceof List<?> list) {
+                return list.stream().map(v -> String.valueOf(((AnnotationValue) v).getValue())).collect(Collectors.toList());
+            }
+            return List.of(String.valueOf(value));
+        }
+        return List.of();
+    }
+
+    /**
+     * 擦除泛型后的类型名, 与 Class#getCanonicalName 一致
+     *
+     * @param type type
+     * @return the string
+     * @since 1.0.0
+     */
+    private String typeName(TypeMirror type) {
+        return this.types.erasure(type).toString();
+    }
+
+    /**
+     * 与 SpiStringUtils#camelToSplitName 一致
+     *
+     * @param camelName camel name
+     * @param split     split
+     * @return the string
+     * @since 1.0.0
+     */
+    private static String camelToSplitName(String camelName, String split) {
+        StringBuilder buf = null;
+        for (int i = 0; i < camelName.length(); i++) {
+            char ch = camelName.charAt(i);
+            if (ch >= 'A' && ch <= 'Z') {
+                if (buf == null) {
+                    buf = new StringBuilder();
+                    if (i > 0) {
+                        buf.append(camelName, 0, i);
+                    }
+                }
+                if (i > 0) {
+                    buf.append(split);
+                }
+                buf.append(Character.toLowerCase(ch));
+            } else if (buf != null) {
+                buf.append(ch);
+            }
+        }
+        return buf == null ? camelName : buf.toString();
+    }
+
+    /**
+     * <p>Description: 单个接口的源码生成, 逐段对应 AdaptiveClassCodeGenerator </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 20:30
+     * @since 1.0.0
+     */
+    private final class Generator {
+        /** Type */
+        private final TypeElement type;
+        /** Type name */
+        private final String typeName;
+        /** Binary name */
+        private final String binaryName;
+        /** Default ext name */
+        private final String defaultExtName;
+        /** Package name */
+        private final String packageName;
+
+        /**
+         * Generator
+         *
+         * @param type           type
+         * @param defaultExtName default ext name
+         * @param packageName    package name
+         * @since 1.0.0
+         */
+        private Generator(TypeElement type, String defaultExtName, String packageName) {
+            this.type = type;
+            this.typeName = AdaptiveClassProcessor.this.typeName(type.asType());
+            this.binaryName = AdaptiveClassProcessor.this.elements.getBinaryName(type).toString();
+            this.defaultExtName = defaultExtName;
+            this.packageName = packageName;
+        }
+
+        /**
+         * Generate
+         *
+         * @param methods methods
+         * @return the string
+         * @since 1.0.0
+         */
+        private String generate(List<ExecutableElement> methods) {
+            StringBuilder code = new StringBuilder();
+            if (!this.packageName.isEmpty()) {
+                code.append(String.format("package %s;\n", this.packageName));
+            }
+            code.append(String.format("import %s;\n", SPI_LOADER));
+            code.append(String.format("public class %s$Adaptive implements %s {\n", this.type.getSimpleName(), this.typeName));
+            for (ExecutableElement method : methods) {
+                code.append(this.generateMethod(method));
+            }
+            code.append("}");
+            return code.toString();
+        }
+
+        /**
+         * Generate method
+         *
+         * @param method method
+         * @return the string
+         * @since 1.0.0
+         */
+        private String generateMethod(ExecutableElement method) {
+            List<? extends VariableElement> parameters = method.getParameters();
+            String args = this.joinIndexed(parameters.size(), i -> typeName(parameters.get(i).asType()) + " arg" + i);
+            String throwsClause = method.getThrownTypes().isEmpty() ? "" : "throws " + method.getThrownTypes().stream()
+                .map(AdaptiveClassProcessor.this::typeName)
+                .collect(Collectors.joining(", "));
+            return String.format("public %s %s(%s) %s {\n%s}\n",
+                typeName(method.getReturnType()), method.getSimpleName(), args, throwsClause, this.generateMethodContent(method));
+        }
+
+        /**
+         * Generate method content
+         *
+         * @param method method
+         * @return the string
+         * @since 1.0.0
+         */
+        private String generateMethodContent(ExecutableElement method) {
+            AnnotationMirror adaptive = annotation(method, ADAPTIVE);
+            if (adaptive == null) {
+                return String.format("throw new UnsupportedOperationException(\"The method %s of interface %s is not adaptive method!\");\n",
+                    this.describe(method), this.binaryName);
+            }
+            List<? extends VariableElement> parameters = method.getParameters();
+            StringBuilder code = new StringBuilder(512);
+            int urlTypeIndex = this.indexOf(parameters, URL);
+            if (urlTypeIndex != -1) {
+                code.append(String.format("if (arg%d == null) throw new IllegalArgumentException(\"url == null\");\n%s url = arg%d;\n",
+                    urlTypeIndex, URL, urlTypeIndex));
+            } else {
+                code.append(this.generateUrlAssignmentIndirectly(method));
+            }
+
+            String[] value = this.getMethodAdaptiveValue(adaptive);
+            int invocationIndex = this.indexOf(parameters, CLASSNAME_INVOCATION);
+            boolean hasInvocation = invocationIndex != -1;
+            if (hasInvocation) {
+                code.append(String.format("if (arg%d == null) throw new IllegalArgumentException(\"invocation == null\"); "
+                    + "String methodName = arg%d.getMethodName();\n", invocationIndex, invocationIndex));
+            }
+
+            code.append(String.format("String extName = %s;\n", this.generateExtNameAssignment(value, hasInvocation)));
+            code.append(String.format("if(extName == null) throw new IllegalStateException(\"Failed to get extension (%s) name from "
+                + "url (\" + url.toString() + \") use keys(%s)\");\n", this.binaryName, Arrays.toString(value)));
+            code.append(String.format("%s extension = (%<s)%s.getExtensionLoader(%s.class).getExtension(extName);\n",
+                this.typeName, "SPILoader", this.typeName));
+
+            String returnStatement = method.getReturnType().getKind() == TypeKind.VOID ? "" : "return ";
+            code.append(returnStatement)
+                .append(String.format("extension.%s(%s);\n", method.getSimpleName(), this.joinIndexed(parameters.size(), i -> "arg" + i)));
+            return code.toString();
+        }
+
+        /**
+         * Generate ext name assignment
+         *
+         * @param value         value
+         * @param hasInvocation has invocation
+         * @return the string
+         * @since 1.0.0
+         */
+        private String generateExtNameAssignment(String[] value, boolean hasInvocation) {
+            String getNameCode = null;
+            for (int i = value.length - 1; i >= 0; --i) {
+                boolean protocol = "protocol".equals(value[i]);
+                if (i == value.length - 1) {
+                    if (protocol) {
+                        getNameCode = this.defaultExtName != null
+                            ? String.format("( url.getProtocol() == null ? \"%s\" : url.getProtocol() )", this.defaultExtName)
+                            : "url.getProtocol()";
+                    } else if (hasInvocation) {
+                        getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", \"%s\")", value[i], this.defaultExtName);
+                    } else if (this.defaultExtName != null) {
+                        getNameCode = String.format("url.getParameter(\"%s\", \"%s\")", value[i], this.defaultExtName);
+                    } else {
+                        getNameCode = String.format("url.getParameter(\"%s\")", value[i]);
+                    }
+                } else if (protocol) {
+                    getNameCode = String.format("url.getProtocol() == null ? (%s) : url.getProtocol()", getNameCode);
+                } else if (hasInvocation) {
+                    getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", \"%s\")", value[i], this.defaultExtName);
+                } else {
+                    getNameCode = String.format("url.getParameter(\"%s\", %s)", value[i], getNameCode);
+                }
+            }
+            return getNameCode;
+        }
+
+        /**
+         * Get method adaptive value
+         *
+         * @param adaptive adaptive
+         * @return the string [ ]
+         * @since 1.0.0
+         */
+        private String[] getMethodAdaptiveValue(AnnotationMirror adaptive) {
+            List<String> value = values(adaptive);
+            if (value.isEmpty()) {
+                return new String[]{camelToSplitName(this.type.getSimpleName().toString(), ".")};
+            }
+            return value.toArray(new String[0]);
+        }
+
+        /**
+         * 参数中没有 URL 时, 查找参数类型上返回 URL 的无参 public 方法
+         *
+         * @param method method
+         * @return the string
+         * @since 1.0.0
+         */
+        private String generateUrlAssignmentIndirectly(ExecutableElement method) {
+            List<? extends VariableElement> parameters = method.getParameters();
+            for (int i = 0; i < parameters.size(); ++i) {
+                TypeMirror parameterType = parameters.get(i).asType();
+                if (parameterType.getKind() != TypeKind.DECLARED) {
+                    continue;
+                }
+                TypeElement parameterElement = (TypeElement) ((DeclaredType) parameterType).asElement();
+                for (Element member : elements.getAllMembers(parameterElement)) {
+                    if (member.getKind() != ElementKind.METHOD) {
+                        continue;
+                    }
+                    ExecutableElement getter = (ExecutableElement) member;
+                    String name = getter.getSimpleName().toString();
+                    if ((name.startsWith("get") || name.length() > 3)
+                        && getter.getModifiers().contains(Modifier.PUBLIC)
+                        && !getter.getModifiers().contains(Modifier.STATIC)
+                        && getter.getParameters().isEmpty()
+                        && typeName(getter.getReturnType()).equals(URL)) {
+                        String parameterName = elements.getBinaryName(parameterElement).toString();
+                        return String.format("if (arg%d == null) throw new IllegalArgumentException(\"%s argument == null\");\n", i, parameterName)
+                            + String.format("if (arg%d.%s() == null) throw new IllegalArgumentException(\"%s argument %s() == null\");\n",
+                            i, name, parameterName, name)
+                            + String.format("%s url = arg%d.%s();\n", URL, i, name);
+                    }
+                }
+            }
+            throw new IllegalStateException("Failed to create adaptive class for interface " + this.binaryName
+                + ": not found url parameter or url attribute in parameters of method " + method.getSimpleName());
+        }
+
+        /**
+         * 第一个类型为 className 的参数下标
+         *
+         * @param parameters parameters
+         * @param className  class name
+         * @return 不存在时返回 -1
+         * @since 1.0.0
+         */
+        private int indexOf(List<? extends VariableElement> parameters, String className) {
+            for (int i = 0; i < parameters.size(); i++) {
+                if (typeName(parameters.get(i).asType()).equals(className)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 与 Method#toString 一致的方法描述, 只用于异常信息
+         *
+         * @param method method
+         * @return the string
+         * @since 1.0.0
+         */
+        private String describe(ExecutableElement method) {
+            String modifiers = method.getModifiers().stream().map(Modifier::toString).collect(Collectors.joining(" "));
+            String parameters = method.getParameters().stream().map(p -> typeName(p.asType())).collect(Collectors.joining(","));
+            String exceptions = method.getThrownTypes().isEmpty() ? "" : " throws " + method.getThrownTypes().stream()
+                .map(AdaptiveClassProcessor.this::typeName)
+                .collect(Collectors.joining(","));
+            TypeElement owner = (TypeElement) method.getEnclosingElement();
+            return modifiers + " " + typeName(method.getReturnType()) + " " + elements.getBinaryName(owner) + "."
+                + method.getSimpleName() + "(" + parameters + ")" + exceptions;
+        }
+
+        /**
+         * Join indexed
+         *
+         * @param size   size
+         * @param mapper mapper
+         * @return the string
+         * @since 1.0.0
+         */
+        private String joinIndexed(int size, IntFunction<String> mapper) {
+            StringBuilder joined = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    joined.append(", ");
+                }
+                joined.append(mapper.apply(i));
+            }
+            return joined.toString();
+        }
+    }
+}
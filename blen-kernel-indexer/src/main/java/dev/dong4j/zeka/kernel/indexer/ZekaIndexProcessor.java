@@ -0,0 +1,251 @@
+package dev.dong4j.zeka.kernel.indexer;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * <p>Description: 编译期生成类索引, 替代启动时的 Reflections 类路径扫描 </p>
+ * 1. 标注了 {@code @JsonTypeName} (自身或任意父类/接口) 的类写入 {@code META-INF/zeka/json-type-name.idx}
+ * 2. {@code SerializeEnum} 的实现类写入 {@code META-INF/zeka/serialize-enum.idx}
+ * 每行一个类的 binary name, 运行时由 {@code dev.dong4j.zeka.kernel.common.support.ClassIndex} 读取.
+ * 增量编译时只有部分源文件参与编译, 因此会合并已有索引中仍然满足条件的类.
+ * 本模块不依赖 jackson 与 blen-kernel-common, 目标类型通过全限定名查找, 不存在时对应索引为空
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 17:10
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes("*")
+public class ZekaIndexProcessor extends AbstractProcessor {
+
+    /** 索引目录 */
+    public static final String INDEX_DIRECTORY = "META-INF/zeka/";
+    /** JSON_TYPE_NAME_INDEX */
+    public static final String JSON_TYPE_NAME_INDEX = INDEX_DIRECTORY + "json-type-name.idx";
+    /** SERIALIZE_ENUM_INDEX */
+    public static final String SERIALIZE_ENUM_INDEX = INDEX_DIRECTORY + "serialize-enum.idx";
+    /** JSON_TYPE_NAME */
+    private static final String JSON_TYPE_NAME = "com.fasterxml.jackson.annotation.JsonTypeName";
+    /** SERIALIZE_ENUM */
+    private static final String SERIALIZE_ENUM = "dev.dong4j.zeka.kernel.common.enums.SerializeEnum";
+
+    /** Json type names */
+    private final Set<String> jsonTypeNames = new TreeSet<>();
+    /** Serialize enums */
+    private final Set<String> serializeEnums = new TreeSet<>();
+    /** Elements */
+    private Elements elements;
+    /** Types */
+    private Types types;
+
+    /**
+     * Init
+     *
+     * @param processingEnv processing env
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * Gets supported source version *
+     *
+     * @return the supported source version
+     * @since 1.0.0
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * 收集每一轮的类型, 最后一轮统一写出索引. 不声明处理任何注解, 始终返回 false
+     *
+     * @param annotations annotations
+     * @param roundEnv    round env
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeIndex(JSON_TYPE_NAME_INDEX, this.jsonTypeNames);
+            this.writeIndex(SERIALIZE_ENUM_INDEX, this.serializeEnums);
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                this.collect(element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 递归处理类型及其内部类型
+     *
+     * @param element element
+     * @since 1.0.0
+     */
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        String name = this.elements.getBinaryName(type).toString();
+        if (this.isJsonTypeName(type)) {
+            this.jsonTypeNames.add(name);
+        }
+        if (this.isSerializeEnum(type)) {
+            this.serializeEnums.add(name);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            this.collect(enclosed);
+        }
+    }
+
+    /**
+     * 自身或任意父类/接口标注了 {@code @JsonTypeName}, 与 Reflections#getTypesAnnotatedWith 的结果保持一致
+     *
+     * @param type type
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private boolean isJsonTypeName(TypeElement type) {
+        if (this.hasAnnotation(type, JSON_TYPE_NAME)) {
+            return true;
+        }
+        for (TypeMirror supertype : this.types.directSupertypes(type.asType())) {
+            if (supertype.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) supertype).asElement() instanceof TypeElement parent
+                && this.isJsonTypeName(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Has annotation
+     *
+     * @param type       type
+     * @param annotation annotation
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private boolean hasAnnotation(TypeElement type, String annotation) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            Element annotationType = mirror.getAnnotationType().asElement();
+            if (annotationType instanceof TypeElement typeElement
+                && typeElement.getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 是否为 SerializeEnum 的子类型 (不包含 SerializeEnum 自身)
+     *
+     * @param type type
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private boolean isSerializeEnum(TypeElement type) {
+        TypeElement serializeEnum = this.elements.getTypeElement(SERIALIZE_ENUM);
+        if (serializeEnum == null || serializeEnum.equals(type)) {
+            return false;
+        }
+        return this.types.isAssignable(this.types.erasure(type.asType()), this.types.erasure(serializeEnum.asType()));
+    }
+
+    /**
+     * 合并已有索引后写出. 没有任何条目时也生成空文件, 运行时据此判断该模块已建立索引, 不再扫描
+     *
+     * @param location location
+     * @param names    names
+     * @since 1.0.0
+     */
+    private void writeIndex(String location, Set<String> names) {
+        this.mergeExisting(location, names);
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (OutputStream out = file.openOutputStream();
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                for (String name : names) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Unable to write index " + location + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 增量编译时读取上一次生成的索引, 保留本次未参与编译但仍然满足条件的类
+     *
+     * @param location location
+     * @param names    names
+     * @since 1.0.0
+     */
+    private void mergeExisting(String location, Set<String> names) {
+        try {
+            FileObject existing = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (InputStream in = existing.openInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String name = line.trim();
+                    if (name.isEmpty() || names.contains(name)) {
+                        continue;
+                    }
+                    // binary name 中的内部类分隔符需要转换为 canonical name 才能查找
+                    TypeElement type = this.elements.getTypeElement(name.replace('$', '.'));
+                    if (type == null) {
+                        continue;
+                    }
+                    boolean matched = JSON_TYPE_NAME_INDEX.equals(location) ? this.isJsonTypeName(type) : this.isSerializeEnum(type);
+                    if (matched) {
+                        names.add(name);
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException ignored) {
+            // 首次编译没有已生成的索引
+        } catch (IOException | IllegalArgumentException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Unable to read existing index " + location + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.kernel.notify;
 
+import dev.dong4j.zeka.kernel.notify.dispatch.NotifyDispatcher;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -29,14 +30,15 @@ public interface Notify<T extends Message<?>> {
 
     /**
      * 异步执行消息通知
-     * 在独立的线程中执行通知操作，不会阻塞当前线程，适用于耗时操作
+     * 提交到该通知所属类的有界队列中，由通知模块共享的有界线程池执行，不会阻塞当前线程，也不占用公共线程池，适用于耗时操作
+     * 队列已满时返回的 future 以异常结束；需要独立的队列、批量与重试时可以通过 {@link NotifyDispatcher#register} 注册渠道
      *
      * @param content 要发送的消息内容
      * @return CompletableFuture对象，可用于获取异步执行结果
      * @since 1.0.0
      */
     default CompletableFuture<T> asyncNotify(T content) {
-        return CompletableFuture.supplyAsync(() -> this.notify(content));
+        return NotifyDispatcher.getDefault().asyncNotify(this, content);
     }
 
 }
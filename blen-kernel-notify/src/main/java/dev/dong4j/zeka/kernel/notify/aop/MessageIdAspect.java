@@ -1,8 +1,8 @@
 package dev.dong4j.zeka.kernel.notify.aop;
 
 import dev.dong4j.zeka.kernel.common.context.Trace;
+import dev.dong4j.zeka.kernel.common.id.Ids;
 import dev.dong4j.zeka.kernel.common.util.ClassUtils;
-import dev.dong4j.zeka.kernel.common.util.SnowflakeBuilder;
 import dev.dong4j.zeka.kernel.common.util.StringUtils;
 import dev.dong4j.zeka.kernel.notify.Message;
 import dev.dong4j.zeka.kernel.notify.exception.NotifyException;
@@ -63,7 +63,7 @@ public class MessageIdAspect {
                     if (Long.class.isAssignableFrom(idType)) {
                         Message<Long> message = (Message<Long>) argItem;
                         // todo-dong4j : (2022.03.27 20:48) [优先从 trace 中获取 traceId, 需要注意类型转换]
-                        message.setMessageId(SnowflakeBuilder.builder());
+                        message.setMessageId(Ids.nextId());
                         // String类型ID优先使用traceId，其次使用UUID
                     } else if (String.class.isAssignableFrom(idType)) {
                         Message<String> paramVO = (Message<String>) argItem;
@@ -0,0 +1,36 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+import dev.dong4j.zeka.kernel.notify.Message;
+import dev.dong4j.zeka.kernel.notify.Notify;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Description: 支持批量发送的通知 </p>
+ * 渠道支持批量接口 (例如短信群发, 邮件批量投递) 时实现该接口, {@link NotifyChannel} 会把攒够的一批消息一次交给它.
+ * 批量发送要么全部成功要么抛出异常, 抛出异常时整批重试.
+ *
+ * @param <T> 消息类型
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+public interface BatchNotify<T extends Message<?>> extends Notify<T> {
+
+    /**
+     * 批量发送, 默认逐条调用 {@link #notify(Message)}
+     *
+     * @param contents 要发送的消息, 不为空
+     * @return 与 contents 一一对应的处理结果
+     * @since 1.0.0
+     */
+    default List<T> notify(List<T> contents) {
+        List<T> results = new ArrayList<>(contents.size());
+        for (T content : contents) {
+            results.add(this.notify(content));
+        }
+        return results;
+    }
+}
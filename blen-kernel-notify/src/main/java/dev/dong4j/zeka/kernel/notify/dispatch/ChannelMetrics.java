@@ -0,0 +1,113 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Description: 通知渠道的计数器 </p>
+ * 计数使用 {@link LongAdder}, 延迟按微秒的 2 的幂分桶, 记录时不加锁.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+final class ChannelMetrics {
+
+    /** 延迟分桶数, 覆盖到 2^40 微秒 */
+    private static final int BUCKETS = 41;
+
+    /** 创建时间 */
+    private final long createdNanos = System.nanoTime();
+    /** Submitted */
+    final LongAdder submitted = new LongAdder();
+    /** Delivered */
+    final LongAdder delivered = new LongAdder();
+    /** Failed */
+    final LongAdder failed = new LongAdder();
+    /** Rejected */
+    final LongAdder rejected = new LongAdder();
+    /** Dropped */
+    final LongAdder dropped = new LongAdder();
+    /** Retries */
+    final LongAdder retries = new LongAdder();
+    /** Batches */
+    final LongAdder batches = new LongAdder();
+    /** 延迟总和 (纳秒) */
+    private final LongAdder latencyNanos = new LongAdder();
+    /** 最大延迟 (纳秒) */
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+    /** 按微秒分桶的延迟 */
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    /**
+     * 记录一条消息完成 (成功或失败) 时的延迟
+     *
+     * @param nanos nanos
+     * @since 1.0.0
+     */
+    void latency(long nanos) {
+        this.latencyNanos.add(nanos);
+        this.maxLatencyNanos.accumulate(nanos);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos / 1000));
+        this.histogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Snapshot
+     *
+     * @param channel channel
+     * @param queued  queued
+     * @return the channel stats
+     * @since 1.0.0
+     */
+    ChannelStats snapshot(String channel, int queued) {
+        long delivered = this.delivered.sum();
+        long completed = 0L;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.histogram.get(i);
+            completed += counts[i];
+        }
+        double seconds = Math.max(1e-9, (System.nanoTime() - this.createdNanos) / 1e9);
+        return new ChannelStats(channel,
+                                this.submitted.sum(),
+                                delivered,
+                                this.failed.sum(),
+                                this.rejected.sum(),
+                                this.dropped.sum(),
+                                this.retries.sum(),
+                                this.batches.sum(),
+                                queued,
+                                delivered / seconds,
+                                completed == 0 ? 0D : this.latencyNanos.sum() / 1e6 / completed,
+                                percentile(counts, completed, 0.99),
+                                this.maxLatencyNanos.get() / 1e6);
+    }
+
+    /**
+     * 分位数所在桶的上界
+     *
+     * @param counts    counts
+     * @param completed completed
+     * @param quantile  quantile
+     * @return 毫秒
+     * @since 1.0.0
+     */
+    private static double percentile(long[] counts, long completed, double quantile) {
+        if (completed == 0) {
+            return 0D;
+        }
+        long rank = (long) Math.ceil(completed * quantile);
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (1L << i) / 1000D;
+            }
+        }
+        return (1L << (counts.length - 1)) / 1000D;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+import dev.dong4j.zeka.kernel.notify.exception.NotifyException;
+import java.time.Duration;
+import java.util.function.Predicate;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * <p>Description: 通知渠道的队列, 批量与重试配置 </p>
+ * <pre>{@code
+ * ChannelOptions options = ChannelOptions.builder()
+ *     .capacity(4096)
+ *     .batchSize(100)
+ *     .linger(Duration.ofMillis(50))
+ *     .overflowPolicy(OverflowPolicy.BLOCK)
+ *     .build();
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ChannelOptions {
+
+    /** 队列容量 */
+    @Builder.Default
+    private final int capacity = 1024;
+    /** 发送线程数 */
+    @Builder.Default
+    private final int concurrency = 1;
+    /** 每批最多的消息数, 为 1 时逐条发送 */
+    @Builder.Default
+    private final int batchSize = 1;
+    /** 收到一批中的第一条消息后最多等待多久凑满一批 */
+    @Builder.Default
+    private final Duration linger = Duration.ZERO;
+    /** 队列已满时的处理策略 */
+    @Builder.Default
+    private final OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+    /** {@link OverflowPolicy#BLOCK} 时最多阻塞的时间 */
+    @Builder.Default
+    private final Duration blockTimeout = Duration.ofSeconds(1);
+    /** 最多发送次数 (包括第一次), 为 1 时不重试 */
+    @Builder.Default
+    private final int maxAttempts = 3;
+    /** 第一次重试前的退避时间, 之后每次翻倍 */
+    @Builder.Default
+    private final Duration initialBackoff = Duration.ofMillis(100);
+    /** 退避时间上限 */
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(5);
+    /** 哪些异常需要重试, 默认 {@link NotifyException} (参数或类型错误) 不重试 */
+    @Builder.Default
+    private final Predicate<Throwable> retryOn = e -> !(e instanceof NotifyException);
+
+    /**
+     * 默认配置: 逐条发送, 队列满时拒绝, 最多重试 2 次
+     *
+     * @return the channel options
+     * @since 1.0.0
+     */
+    public static ChannelOptions defaults() {
+        return ChannelOptions.builder().build();
+    }
+}
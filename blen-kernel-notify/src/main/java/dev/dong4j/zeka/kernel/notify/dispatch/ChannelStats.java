@@ -0,0 +1,39 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+/**
+ * <p>Description: 通知渠道的统计快照 </p>
+ * 延迟为消息入队到发送完成 (包括排队, 凑批与重试) 的时间, 分位数按 2 的幂分桶估算, 取桶的上界.
+ *
+ * @param channel           渠道名称
+ * @param submitted         提交的消息数
+ * @param delivered         发送成功的消息数
+ * @param failed            重试后仍失败的消息数
+ * @param rejected          队列已满或已关闭时被拒绝的消息数
+ * @param dropped           被 {@link OverflowPolicy#DROP_OLDEST} 丢弃的消息数
+ * @param retries           重试次数 (按消息计)
+ * @param batches           发送的批次数
+ * @param queued            当前排队的消息数
+ * @param throughput        创建以来平均每秒发送成功的消息数
+ * @param avgLatencyMillis  平均延迟 (毫秒)
+ * @param p99LatencyMillis  99 分位延迟 (毫秒)
+ * @param maxLatencyMillis  最大延迟 (毫秒)
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+public record ChannelStats(String channel,
+                           long submitted,
+                           long delivered,
+                           long failed,
+                           long rejected,
+                           long dropped,
+                           long retries,
+                           long batches,
+                           int queued,
+                           double throughput,
+                           double avgLatencyMillis,
+                           double p99LatencyMillis,
+                           double maxLatencyMillis) {
+}
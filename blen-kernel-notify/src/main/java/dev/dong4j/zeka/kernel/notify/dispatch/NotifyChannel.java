@@ -0,0 +1,521 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
+import dev.dong4j.zeka.kernel.notify.Message;
+import dev.dong4j.zeka.kernel.notify.Notify;
+import dev.dong4j.zeka.kernel.notify.NotifyOperateLog;
+import dev.dong4j.zeka.kernel.notify.entity.OperateLog;
+import dev.dong4j.zeka.kernel.notify.exception.NotifyException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 独立的通知渠道 </p>
+ * 每个渠道有自己的有界队列与发送线程, 慢渠道只会填满自己的队列, 不影响其他渠道与公共线程池
+ * (没有注册的通知使用分发器共享的有界线程池, 发送线程按需从线程池中获取, 见 {@link NotifyDispatcher}):
+ * 1. {@link #asyncNotify(Message)} 只做一次入队, 队列已满时按 {@link OverflowPolicy} 处理
+ * 2. 发送线程取到第一条消息后最多等待 linger 凑满 batchSize 条, 委托实现了 {@link BatchNotify} 时整批发送
+ * 3. 发送失败时按指数退避 (full jitter) 在发送线程中重试, 重试期间队列继续积压, 形成背压
+ * 4. 发送成功后通过 {@link NotifyOperateLog} 记录操作日志 (如果配置了)
+ * {@link #notify(Message)} 仍然在调用方线程中直接委托, 与原有的 {@link Notify} 约定一致.
+ *
+ * @param <T> 消息类型
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+@Slf4j
+public final class NotifyChannel<T extends Message<?>> implements Notify<T> {
+
+    /** 渠道名称 */
+    private final String name;
+    /** 实际发送的通知, 按类共享的渠道为 null, 由每条消息指定 */
+    private final Notify<T> delegate;
+    /** Options */
+    private final ChannelOptions options;
+    /** 操作日志, 可以为 null */
+    private final NotifyOperateLog operateLog;
+    /** Queue */
+    private final BlockingQueue<Envelope<T>> queue;
+    /** 独占的发送线程, 使用共享线程池时为空 */
+    private final Thread[] workers;
+    /** 共享线程池, 为 null 时使用独占的发送线程 */
+    private final Executor executor;
+    /** 共享线程池中正在执行的发送任务数, 不超过 concurrency */
+    private final AtomicInteger active = new AtomicInteger();
+    /** Metrics */
+    private final ChannelMetrics metrics = new ChannelMetrics();
+    /** 关闭后不再接收新消息 */
+    private volatile boolean closed;
+
+    /**
+     * Notify channel
+     *
+     * @param name       渠道名称
+     * @param delegate   实际发送的通知
+     * @param options    options
+     * @param operateLog 操作日志, 可以为 null
+     * @since 1.0.0
+     */
+    NotifyChannel(String name, Notify<T> delegate, ChannelOptions options, NotifyOperateLog operateLog) {
+        this(name, delegate, options, operateLog, null);
+    }
+
+    /**
+     * Notify channel
+     *
+     * @param name       渠道名称
+     * @param delegate   实际发送的通知, 为 null 时只能通过 {@link #asyncNotify(Notify, Message)} 提交
+     * @param options    options
+     * @param operateLog 操作日志, 可以为 null
+     * @param executor   共享线程池, 为 null 时创建 concurrency 个独占的发送线程
+     * @since 1.0.0
+     */
+    NotifyChannel(String name, Notify<T> delegate, ChannelOptions options, NotifyOperateLog operateLog, Executor executor) {
+        if (options.getCapacity() < 1 || options.getConcurrency() < 1 || options.getBatchSize() < 1 || options.getMaxAttempts() < 1) {
+            throw new NotifyException("渠道 [{}] 的 capacity, concurrency, batchSize, maxAttempts 必须大于 0", name);
+        }
+        this.name = name;
+        this.delegate = delegate;
+        this.options = options;
+        this.operateLog = operateLog;
+        this.queue = new ArrayBlockingQueue<>(options.getCapacity());
+        this.executor = executor;
+        if (executor != null) {
+            this.workers = new Thread[0];
+            return;
+        }
+        ThreadFactory threadFactory = new NamedThreadFactory("zeka-notify-" + name, true);
+        this.workers = new Thread[options.getConcurrency()];
+        for (int i = 0; i < this.workers.length; i++) {
+            this.workers[i] = threadFactory.newThread(this::work);
+            this.workers[i].start();
+        }
+    }
+
+    /**
+     * 渠道名称
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * 在调用方线程中同步发送
+     *
+     * @param content content
+     * @return the t
+     * @since 1.0.0
+     */
+    @Override
+    public T notify(T content) {
+        return this.delegate.notify(content);
+    }
+
+    /**
+     * 入队后立即返回, 消息发送成功, 重试后仍失败, 被拒绝或被丢弃时 future 结束
+     *
+     * @param content content
+     * @return the completable future
+     * @since 1.0.0
+     */
+    @Override
+    public CompletableFuture<T> asyncNotify(T content) {
+        return this.asyncNotify(this.delegate, content);
+    }
+
+    /**
+     * 入队后立即返回, 由 target 发送
+     *
+     * @param target  实际发送的通知
+     * @param content content
+     * @return the completable future
+     * @since 1.0.0
+     */
+    CompletableFuture<T> asyncNotify(Notify<T> target, T content) {
+        this.metrics.submitted.increment();
+        Envelope<T> envelope = new Envelope<>(target, content);
+        if (this.closed) {
+            this.reject(envelope, "已关闭");
+            return envelope.future;
+        }
+        if (this.queue.offer(envelope)) {
+            this.schedule();
+            return envelope.future;
+        }
+        switch (this.options.getOverflowPolicy()) {
+            case DROP_OLDEST -> {
+                while (!this.queue.offer(envelope)) {
+                    Envelope<T> oldest = this.queue.poll();
+                    if (oldest != null) {
+                        this.metrics.dropped.increment();
+                        oldest.future.completeExceptionally(new NotifyException("渠道 [{}] 队列已满, 消息被丢弃", this.name));
+                    }
+                }
+            }
+            case BLOCK -> {
+                try {
+                    if (!this.queue.offer(envelope, this.options.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                        this.reject(envelope, "队列已满");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.reject(envelope, "等待入队时被中断");
+                }
+            }
+            case CALLER_RUNS -> this.deliver(List.of(envelope));
+            default -> this.reject(envelope, "队列已满");
+        }
+        this.schedule();
+        return envelope.future;
+    }
+
+    /**
+     * 统计快照
+     *
+     * @return the channel stats
+     * @since 1.0.0
+     */
+    public ChannelStats stats() {
+        return this.metrics.snapshot(this.name, this.queue.size());
+    }
+
+    /**
+     * 停止接收新消息, 等待队列中的消息发送完成, 超时后剩余消息以异常结束
+     *
+     * @param timeoutMillis 超时时间 (毫秒)
+     * @since 1.0.0
+     */
+    void close(long timeoutMillis) {
+        this.closed = true;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (this.executor != null && (!this.queue.isEmpty() || this.active.get() > 0) && System.currentTimeMillis() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Thread worker : this.workers) {
+            try {
+                worker.join(Math.max(1L, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Thread worker : this.workers) {
+            worker.interrupt();
+        }
+        Envelope<T> envelope;
+        while ((envelope = this.queue.poll()) != null) {
+            this.reject(envelope, "已关闭");
+        }
+    }
+
+    /**
+     * 发送线程: 取一批, 发送, 直到关闭且队列为空
+     *
+     * @since 1.0.0
+     */
+    private void work() {
+        List<Envelope<T>> batch = new ArrayList<>(this.options.getBatchSize());
+        while (!this.closed || !this.queue.isEmpty()) {
+            try {
+                this.poll(batch, 100L);
+            } catch (InterruptedException e) {
+                // close 超时, 已取出的消息仍然发送一次
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                this.deliver(batch);
+                batch.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 使用共享线程池时, 入队后在发送任务数未达到 concurrency 时提交一个发送任务
+     *
+     * @since 1.0.0
+     */
+    private void schedule() {
+        if (this.executor == null) {
+            return;
+        }
+        for (int running = this.active.get(); running < this.options.getConcurrency() && !this.queue.isEmpty(); running = this.active.get()) {
+            if (this.active.compareAndSet(running, running + 1)) {
+                try {
+                    this.executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 线程池已关闭, 队列中的消息由 close 拒绝
+                    this.active.decrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 共享线程池中的发送任务: 发送到队列为空后归还线程, 退出前有新消息入队时重新调度
+     *
+     * @since 1.0.0
+     */
+    private void drain() {
+        List<Envelope<T>> batch = new ArrayList<>(this.options.getBatchSize());
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    this.poll(batch, 0L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                this.deliver(batch);
+                batch.clear();
+            }
+        } finally {
+            this.active.decrementAndGet();
+            this.schedule();
+        }
+    }
+
+    /**
+     * 取一批消息: 第一条最多等待 firstWaitMillis (以便检查是否已关闭), 之后在 linger 内凑满 batchSize 条
+     *
+     * @param batch           batch
+     * @param firstWaitMillis 第一条消息的最长等待时间
+     * @throws InterruptedException interrupted exception
+     * @since 1.0.0
+     */
+    private void poll(List<Envelope<T>> batch, long firstWaitMillis) throws InterruptedException {
+        Envelope<T> first = this.queue.poll(firstWaitMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        int batchSize = this.options.getBatchSize();
+        if (batchSize == 1) {
+            return;
+        }
+        this.queue.drainTo(batch, batchSize - 1);
+        long deadline = System.nanoTime() + this.options.getLinger().toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Envelope<T> next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            this.queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * 发送一批消息, 失败的消息按退避时间重试
+     *
+     * @param batch batch
+     * @since 1.0.0
+     */
+    private void deliver(List<Envelope<T>> batch) {
+        List<Envelope<T>> pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            this.metrics.batches.increment();
+            List<Envelope<T>> failed = this.send(pending);
+            if (failed.isEmpty()) {
+                return;
+            }
+            List<Envelope<T>> retry = new ArrayList<>(failed.size());
+            for (Envelope<T> envelope : failed) {
+                if (attempt < this.options.getMaxAttempts() && this.options.getRetryOn().test(envelope.error)) {
+                    retry.add(envelope);
+                } else {
+                    log.warn("渠道 [{}] 发送失败, 已尝试 {} 次: {}", this.name, attempt, envelope.error.toString());
+                    this.complete(envelope, null, envelope.error);
+                }
+            }
+            if (retry.isEmpty() || !this.backoff(attempt)) {
+                retry.forEach(envelope -> this.complete(envelope, null, envelope.error));
+                return;
+            }
+            this.metrics.retries.add(retry.size());
+            pending = retry;
+        }
+    }
+
+    /**
+     * 发送一次, 委托实现了 {@link BatchNotify} 且多于一条时整批发送, 否则逐条发送.
+     * 批量发送返回的结果数与消息数不一致时整批以 {@link NotifyException} 失败 (默认不重试, 避免重复发送已成功的消息)
+     *
+     * @param pending pending
+     * @return 失败的消息
+     * @since 1.0.0
+     */
+    private List<Envelope<T>> send(List<Envelope<T>> pending) {
+        if (pending.size() > 1 && this.delegate instanceof BatchNotify<T> batchNotify) {
+            List<T> contents = new ArrayList<>(pending.size());
+            for (Envelope<T> envelope : pending) {
+                contents.add(envelope.content);
+            }
+            List<T> results;
+            try {
+                results = batchNotify.notify(contents);
+                if (results == null || results.size() != pending.size()) {
+                    throw new NotifyException("渠道 [{}] 批量发送了 {} 条消息, 但返回了 {} 条结果",
+                                              this.name, pending.size(), results == null ? 0 : results.size());
+                }
+            } catch (Throwable e) {
+                pending.forEach(envelope -> envelope.error = e);
+                return pending;
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                this.complete(pending.get(i), results.get(i), null);
+            }
+            return List.of();
+        }
+        List<Envelope<T>> failed = new ArrayList<>(0);
+        for (Envelope<T> envelope : pending) {
+            try {
+                this.complete(envelope, envelope.target.notify(envelope.content), null);
+            } catch (Throwable e) {
+                envelope.error = e;
+                failed.add(envelope);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 指数退避, 在 [0, min(maxBackoff, initialBackoff * 2^(attempt-1))] 中随机等待
+     *
+     * @param attempt 已尝试的次数
+     * @return 被中断时返回 false
+     * @since 1.0.0
+     */
+    private boolean backoff(int attempt) {
+        long initial = this.options.getInitialBackoff().toMillis();
+        long ceiling = Math.min(this.options.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 30));
+        if (ceiling <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 拒绝
+     *
+     * @param envelope envelope
+     * @param reason   reason
+     * @since 1.0.0
+     */
+    private void reject(Envelope<T> envelope, String reason) {
+        this.metrics.rejected.increment();
+        envelope.future.completeExceptionally(new NotifyException("渠道 [{}] {}, 消息被拒绝", this.name, reason));
+    }
+
+    /**
+     * 结束 future 并记录指标, 成功时记录操作日志
+     *
+     * @param envelope envelope
+     * @param result   result
+     * @param error    error
+     * @since 1.0.0
+     */
+    private void complete(Envelope<T> envelope, T result, Throwable error) {
+        this.metrics.latency(System.nanoTime() - envelope.enqueuedNanos);
+        if (error != null) {
+            this.metrics.failed.increment();
+            envelope.future.completeExceptionally(error);
+            return;
+        }
+        this.metrics.delivered.increment();
+        if (this.operateLog != null) {
+            this.saveLog(result);
+        }
+        envelope.future.complete(result);
+    }
+
+    /**
+     * 记录操作日志, 失败时不影响发送结果
+     *
+     * @param result result
+     * @since 1.0.0
+     */
+    private void saveLog(T result) {
+        try {
+            OperateLog operate = new OperateLog();
+            operate.setOperateTime(new Date());
+            operate.setContent(result);
+            this.operateLog.saveLog(operate);
+        } catch (Exception e) {
+            log.warn("渠道 [{}] 记录操作日志失败: {}", this.name, e.toString());
+        }
+    }
+
+    /**
+     * <p>Description: 排队中的消息 </p>
+     *
+     * @param <T> 消息类型
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:10
+     * @since 1.0.0
+     */
+    private static final class Envelope<T extends Message<?>> {
+        /** 实际发送的通知 */
+        private final Notify<T> target;
+        /** Content */
+        private final T content;
+        /** Future */
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        /** 入队时间 */
+        private final long enqueuedNanos = System.nanoTime();
+        /** 最近一次发送的异常 */
+        private Throwable error;
+
+        /**
+         * Envelope
+         *
+         * @param target  target
+         * @param content content
+         * @since 1.0.0
+         */
+        private Envelope(@NotNull Notify<T> target, @NotNull T content) {
+            this.target = target;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
+import dev.dong4j.zeka.kernel.notify.Message;
+import dev.dong4j.zeka.kernel.notify.Notify;
+import dev.dong4j.zeka.kernel.notify.NotifyOperateLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>Description: 通知分发器, 为每个通知创建独立的 {@link NotifyChannel} </p>
+ * <pre>{@code
+ * NotifyDispatcher dispatcher = new NotifyDispatcher(operateLog);
+ * NotifyChannel<SmsMessage> sms = dispatcher.register("sms", smsNotify, ChannelOptions.builder()
+ *     .batchSize(100)
+ *     .linger(Duration.ofMillis(20))
+ *     .build());
+ * sms.asyncNotify(message).whenComplete((result, e) -> ...);
+ * }</pre>
+ * 未注册的通知调用 {@link Notify#asyncNotify(Message)} 时由 {@link #getDefault()} 按通知的类自动创建渠道:
+ * 同一个类的所有实例共用一个渠道, 所有自动创建的渠道共用一个有界线程池 (不为每个通知创建线程),
+ * 不重试, 队列满时立即以 {@link OverflowPolicy#REJECT} 拒绝, 不会阻塞调用方线程.
+ * 需要隔离, 批量或重试的通知应通过 {@link #register} 注册独立的渠道.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+@Slf4j
+public class NotifyDispatcher implements AutoCloseable {
+
+    /** 关闭时等待队列发送完成的时间 */
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000L;
+    /** 自动创建的渠道共用的线程数 */
+    private static final int SHARED_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    /** 自动创建的渠道: 不重试, 可以使用共享线程池的全部线程并发发送, 队列满时拒绝而不是阻塞调用方 */
+    private static final ChannelOptions IMPLICIT_OPTIONS = ChannelOptions.builder()
+        .capacity(4096)
+        .concurrency(SHARED_THREADS)
+        .maxAttempts(1)
+        .overflowPolicy(OverflowPolicy.REJECT)
+        .build();
+
+    /** 操作日志, 可以为 null */
+    private final NotifyOperateLog operateLog;
+    /** 按名称注册的渠道 */
+    private final Map<String, NotifyChannel<?>> channels = new ConcurrentHashMap<>();
+    /** 按通知的类自动创建的渠道, 数量受类的数量限制 */
+    private final Map<Class<?>, NotifyChannel<?>> implicit = new ConcurrentHashMap<>();
+    /**
+     * 自动创建的渠道共用的线程池, 每个渠道最多提交 concurrency 个发送任务, 因此任务队列的长度同样有上限;
+     * 空闲线程超时后回收
+     */
+    private final ThreadPoolExecutor shared;
+
+    /**
+     * 不记录操作日志
+     *
+     * @since 1.0.0
+     */
+    public NotifyDispatcher() {
+        this(null);
+    }
+
+    /**
+     * Notify dispatcher
+     *
+     * @param operateLog 发送成功后记录操作日志, 可以为 null
+     * @since 1.0.0
+     */
+    public NotifyDispatcher(NotifyOperateLog operateLog) {
+        this.operateLog = operateLog;
+        this.shared = new ThreadPoolExecutor(SHARED_THREADS, SHARED_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                             new NamedThreadFactory("zeka-notify-shared", true));
+        this.shared.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 进程内默认的分发器, 使用默认配置且不记录操作日志
+     *
+     * @return the notify dispatcher
+     * @since 1.0.0
+     */
+    public static NotifyDispatcher getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 注册渠道, 同名渠道已存在时返回已有的渠道
+     *
+     * @param <T>     消息类型
+     * @param name    渠道名称
+     * @param notify  实际发送的通知
+     * @param options options
+     * @return the notify channel
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Message<?>> NotifyChannel<T> register(String name, Notify<T> notify, ChannelOptions options) {
+        return (NotifyChannel<T>) this.channels.computeIfAbsent(name,
+                                                                key -> new NotifyChannel<>(key, notify, options, this.operateLog));
+    }
+
+    /**
+     * 按名称获取渠道
+     *
+     * @param <T>  消息类型
+     * @param name name
+     * @return 不存在时返回 null
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Message<?>> NotifyChannel<T> channel(String name) {
+        return (NotifyChannel<T>) this.channels.get(name);
+    }
+
+    /**
+     * 异步发送未注册的通知: 提交到按通知的类自动创建的渠道 (渠道名称为类名), 由共享线程池发送, 不会阻塞当前线程.
+     * 队列已满或分发器已关闭时返回的 future 以 NotifyException 结束
+     *
+     * @param <T>     消息类型
+     * @param notify  实际发送的通知
+     * @param content content
+     * @return the completable future
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Message<?>> CompletableFuture<T> asyncNotify(Notify<T> notify, T content) {
+        if (notify instanceof NotifyChannel<T> channel) {
+            return channel.asyncNotify(content);
+        }
+        NotifyChannel<T> channel = (NotifyChannel<T>) this.implicit.computeIfAbsent(notify.getClass(), type -> new NotifyChannel<>(
+            type.getSimpleName(), null, IMPLICIT_OPTIONS, this.operateLog, this.shared));
+        return channel.asyncNotify(notify, content);
+    }
+
+    /**
+     * 所有渠道的统计快照
+     *
+     * @return the list
+     * @since 1.0.0
+     */
+    public List<ChannelStats> stats() {
+        List<ChannelStats> stats = new ArrayList<>();
+        this.channels.values().forEach(channel -> stats.add(channel.stats()));
+        this.implicit.values().forEach(channel -> stats.add(channel.stats()));
+        return stats;
+    }
+
+    /**
+     * 停止接收新消息, 等待各渠道的队列发送完成
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        List<NotifyChannel<?>> all = new ArrayList<>(this.channels.values());
+        all.addAll(this.implicit.values());
+        for (NotifyChannel<?> channel : all) {
+            channel.close(CLOSE_TIMEOUT_MILLIS);
+            log.debug("通知渠道 [{}] 已关闭: {}", channel.name(), channel.stats());
+        }
+        this.shared.shutdownNow();
+    }
+
+    /**
+     * <p>Description: 延迟初始化, 退出时发送完队列中的消息 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:10
+     * @since 1.0.0
+     */
+    private static final class Holder {
+        /** INSTANCE */
+        private static final NotifyDispatcher INSTANCE = new NotifyDispatcher();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::close, "zeka-notify-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+/**
+ * <p>Description: 渠道队列已满时的处理策略 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+    /** 拒绝新消息, 返回的 future 以 NotifyException 结束 */
+    REJECT,
+    /** 丢弃最早入队的消息, 被丢弃消息的 future 以 NotifyException 结束 */
+    DROP_OLDEST,
+    /** 阻塞调用方直到有空位, 超过 {@link ChannelOptions#getBlockTimeout()} 后拒绝 */
+    BLOCK,
+    /** 在调用方线程中同步发送, 以调用方的速度作为背压 */
+    CALLER_RUNS
+}
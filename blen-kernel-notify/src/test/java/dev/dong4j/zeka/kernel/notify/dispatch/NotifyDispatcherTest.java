@@ -0,0 +1,371 @@
+package dev.dong4j.zeka.kernel.notify.dispatch;
+
+import dev.dong4j.zeka.kernel.notify.Message;
+import dev.dong4j.zeka.kernel.notify.Notify;
+import dev.dong4j.zeka.kernel.notify.entity.OperateLog;
+import dev.dong4j.zeka.kernel.notify.exception.NotifyException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 1.0.0
+ */
+class NotifyDispatcherTest {
+
+    /** Operate logs */
+    private final List<OperateLog> operateLogs = new CopyOnWriteArrayList<>();
+    /** Dispatcher */
+    private final NotifyDispatcher dispatcher = new NotifyDispatcher(this.operateLogs::add);
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void tearDown() {
+        this.dispatcher.close();
+    }
+
+    /**
+     * 在 linger 内攒批, 整批交给 BatchNotify
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_batch() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        BatchNotify<TextMessage> notify = new BatchNotify<>() {
+            @Override
+            public TextMessage notify(TextMessage content) {
+                batchSizes.add(1);
+                return content;
+            }
+
+            @Override
+            public List<TextMessage> notify(List<TextMessage> contents) {
+                batchSizes.add(contents.size());
+                return contents;
+            }
+        };
+        NotifyChannel<TextMessage> channel = this.dispatcher.register("batch", notify, ChannelOptions.builder()
+            .batchSize(10)
+            .linger(Duration.ofMillis(200))
+            .build());
+
+        List<CompletableFuture<TextMessage>> futures = new ArrayList<>();
+        for (long i = 0; i < 25; i++) {
+            futures.add(channel.asyncNotify(new TextMessage(i)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i, futures.get(i).get(5, TimeUnit.SECONDS).getMessageId());
+        }
+
+        assertEquals(25, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.size() < 25, batchSizes.toString());
+        assertEquals(25, this.operateLogs.size());
+        ChannelStats stats = channel.stats();
+        assertEquals(25, stats.submitted());
+        assertEquals(25, stats.delivered());
+        assertEquals(batchSizes.size(), stats.batches());
+    }
+
+    /**
+     * 失败后按退避重试, 不可重试的异常直接失败
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_retry() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Notify<TextMessage> notify = content -> {
+            if (content.getMessageId() < 0) {
+                throw new NotifyException("invalid");
+            }
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("unavailable");
+            }
+            return content;
+        };
+        NotifyChannel<TextMessage> channel = this.dispatcher.register("retry", notify, ChannelOptions.builder()
+            .maxAttempts(3)
+            .initialBackoff(Duration.ofMillis(10))
+            .build());
+
+        assertEquals(1L, channel.asyncNotify(new TextMessage(1L)).get(5, TimeUnit.SECONDS).getMessageId());
+        assertEquals(3, calls.get());
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> channel.asyncNotify(new TextMessage(-1L)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NotifyException.class, e.getCause());
+
+        ChannelStats stats = channel.stats();
+        assertEquals(2, stats.retries());
+        assertEquals(1, stats.delivered());
+        assertEquals(1, stats.failed());
+    }
+
+    /**
+     * 队列已满时拒绝或丢弃最早的消息
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_overflow() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        Notify<TextMessage> slow = content -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return content;
+        };
+        NotifyChannel<TextMessage> reject = this.dispatcher.register("reject", slow, ChannelOptions.builder()
+            .capacity(1)
+            .build());
+        NotifyChannel<TextMessage> dropOldest = this.dispatcher.register("drop", slow, ChannelOptions.builder()
+            .capacity(1)
+            .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+            .build());
+
+        // 各自的发送线程阻塞在第一条消息上
+        CompletableFuture<TextMessage> first = reject.asyncNotify(new TextMessage(1L));
+        dropOldest.asyncNotify(new TextMessage(1L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<TextMessage> queued = reject.asyncNotify(new TextMessage(2L));
+        CompletableFuture<TextMessage> rejected = reject.asyncNotify(new TextMessage(3L));
+        assertInstanceOf(NotifyException.class, assertThrows(ExecutionException.class, rejected::get).getCause());
+
+        CompletableFuture<TextMessage> dropped = dropOldest.asyncNotify(new TextMessage(2L));
+        CompletableFuture<TextMessage> kept = dropOldest.asyncNotify(new TextMessage(3L));
+        assertInstanceOf(NotifyException.class, assertThrows(ExecutionException.class, dropped::get).getCause());
+
+        release.countDown();
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).getMessageId());
+        assertEquals(2L, queued.get(5, TimeUnit.SECONDS).getMessageId());
+        assertEquals(3L, kept.get(5, TimeUnit.SECONDS).getMessageId());
+        assertEquals(1, reject.stats().rejected());
+        assertEquals(1, dropOldest.stats().dropped());
+    }
+
+    /**
+     * 批量发送返回的结果数与消息数不一致时整批失败, 不会部分完成后再重试
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_batch_result_mismatch() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        BatchNotify<TextMessage> notify = new BatchNotify<>() {
+            @Override
+            public TextMessage notify(TextMessage content) {
+                return content;
+            }
+
+            @Override
+            public List<TextMessage> notify(List<TextMessage> contents) {
+                calls.incrementAndGet();
+                return contents.subList(0, 1);
+            }
+        };
+        NotifyChannel<TextMessage> channel = this.dispatcher.register("mismatch", notify, ChannelOptions.builder()
+            .batchSize(3)
+            .linger(Duration.ofMillis(500))
+            .initialBackoff(Duration.ofMillis(10))
+            .build());
+
+        List<CompletableFuture<TextMessage>> futures = new ArrayList<>();
+        for (long i = 0; i < 3; i++) {
+            futures.add(channel.asyncNotify(new TextMessage(i)));
+        }
+        for (CompletableFuture<TextMessage> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(NotifyException.class, e.getCause());
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(0, channel.stats().delivered());
+        assertEquals(3, channel.stats().failed());
+        assertTrue(this.operateLogs.isEmpty());
+    }
+
+    /**
+     * 未注册的通知使用默认分发器, 不再占用公共线程池
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_default_async_notify() throws Exception {
+        Notify<TextMessage> notify = content -> {
+            content.setMessageId(Thread.currentThread().getId());
+            return content;
+        };
+
+        TextMessage result = notify.asyncNotify(new TextMessage(0L)).get(5, TimeUnit.SECONDS);
+
+        assertNotEquals(Thread.currentThread().getId(), result.getMessageId());
+        assertEquals(1, delivered(NotifyDispatcher.getDefault(), notify.getClass().getSimpleName()));
+    }
+
+    /**
+     * 同一个类的通知共用一个渠道, 在共享线程池中并发发送, 不会阻塞调用方
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_implicit_channel() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 发送阻塞时调用方仍然立即返回, 两条消息同时处于发送中说明没有被串行化
+        CompletableFuture<TextMessage> first = this.dispatcher.asyncNotify(new BlockingNotify(started, release), new TextMessage(1L));
+        CompletableFuture<TextMessage> second = this.dispatcher.asyncNotify(new BlockingNotify(started, release), new TextMessage(2L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).getMessageId());
+        assertEquals(2L, second.get(5, TimeUnit.SECONDS).getMessageId());
+        assertEquals(1, this.dispatcher.stats().stream().filter(stats -> stats.channel().equals("BlockingNotify")).count());
+        assertEquals(2, delivered(this.dispatcher, "BlockingNotify"));
+    }
+
+    /**
+     * 指定名称的渠道已发送的消息数
+     *
+     * @param dispatcher dispatcher
+     * @param name       name
+     * @return the long
+     * @since 1.0.0
+     */
+    private static long delivered(NotifyDispatcher dispatcher, String name) {
+        return dispatcher.stats().stream()
+            .filter(stats -> stats.channel().equals(name))
+            .mapToLong(ChannelStats::delivered)
+            .sum();
+    }
+
+    /**
+     * <p>Description: 阻塞到 release 之后才返回的通知 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:10
+     * @since 1.0.0
+     */
+    private static final class BlockingNotify implements Notify<TextMessage> {
+        /** Started */
+        private final CountDownLatch started;
+        /** Release */
+        private final CountDownLatch release;
+
+        /**
+         * Blocking notify
+         *
+         * @param started started
+         * @param release release
+         * @since 1.0.0
+         */
+        private BlockingNotify(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        /**
+         * Notify
+         *
+         * @param content content
+         * @return the text message
+         * @since 1.0.0
+         */
+        @Override
+        public TextMessage notify(TextMessage content) {
+            this.started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return content;
+        }
+    }
+
+    /**
+     * <p>Description: 测试消息 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:10
+     * @since 1.0.0
+     */
+    private static final class TextMessage implements Message<Long> {
+        /** serialVersionUID */
+        private static final long serialVersionUID = 1L;
+        /** Message id */
+        private Long messageId;
+
+        /**
+         * Text message
+         *
+         * @param messageId message id
+         * @since 1.0.0
+         */
+        private TextMessage(Long messageId) {
+            this.messageId = messageId;
+        }
+
+        /**
+         * Gets message id *
+         *
+         * @return the message id
+         * @since 1.0.0
+         */
+        @Override
+        public Long getMessageId() {
+            return this.messageId;
+        }
+
+        /**
+         * Sets message id *
+         *
+         * @param messageId message id
+         * @since 1.0.0
+         */
+        @Override
+        public void setMessageId(Long messageId) {
+            this.messageId = messageId;
+        }
+    }
+}
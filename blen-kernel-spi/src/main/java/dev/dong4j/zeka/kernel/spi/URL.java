@@ -4,6 +4,7 @@ import dev.dong4j.zeka.kernel.spi.config.Configuration;
 import dev.dong4j.zeka.kernel.spi.config.InmemoryConfiguration;
 import dev.dong4j.zeka.kernel.spi.constants.RemotingConstants;
 import dev.dong4j.zeka.kernel.spi.utils.CollectionUtils;
+import dev.dong4j.zeka.kernel.spi.utils.ConfigUtils;
 import dev.dong4j.zeka.kernel.spi.utils.NetUtils;
 import dev.dong4j.zeka.kernel.spi.utils.SpiStringUtils;
 import java.io.Serial;
@@ -18,8 +19,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.ArrayUtils;
@@ -114,6 +117,9 @@ public class URL implements Serializable {
     /** URL字符串缓存 */
     private volatile transient String string;
 
+    /** 激活键缓存 */
+    private volatile transient Set<String> activateKeys;
+
     /**
      * Url
      *
@@ -743,6 +749,36 @@ public class URL implements Serializable {
         return parameters;
     }
 
+    /**
+     * 获取用于匹配 {@code @Activate} 的参数键
+     * <p>
+     * 包含所有值有效的参数名, 以及参数名按 "." 截取的每一段后缀, 例如 {@code a.b.c} 对应 {@code a.b.c}, {@code b.c}, {@code c}.
+     * 参数不可变, 结果在第一次调用时计算并缓存
+     *
+     * @return 不可修改的参数键集合
+     * @since 1.0.0
+     */
+    public Set<String> getActivateKeys() {
+        Set<String> keys = activateKeys;
+        if (keys == null) {
+            keys = new HashSet<>();
+            if (parameters != null) {
+                for (Map.Entry<String, String> entry : parameters.entrySet()) {
+                    if (ConfigUtils.isNotEmpty(entry.getValue())) {
+                        String key = entry.getKey();
+                        keys.add(key);
+                        for (int i = key.indexOf('.'); i >= 0; i = key.indexOf('.', i + 1)) {
+                            keys.add(key.substring(i + 1));
+                        }
+                    }
+                }
+            }
+            keys = Collections.unmodifiableSet(keys);
+            activateKeys = keys;
+        }
+        return keys;
+    }
+
     /**
      * Gets parameter and decoded *
      *
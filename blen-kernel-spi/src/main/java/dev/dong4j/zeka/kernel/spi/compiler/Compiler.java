@@ -2,6 +2,8 @@ package dev.dong4j.zeka.kernel.spi.compiler;
 
 
 import dev.dong4j.zeka.kernel.spi.extension.SPI;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Java代码编译器SPI接口，提供动态编译Java源代码的能力
@@ -41,4 +43,22 @@ public interface Compiler {
      */
     Class<?> compile(String code, ClassLoader classLoader);
 
+    /**
+     * 批量编译Java源代码
+     *
+     * 默认逐个编译, 支持一次编译多个源文件的实现可以覆盖该方法以减少编译器的启动开销
+     *
+     * @param codes       要编译的Java源代码
+     * @param classLoader 类加载器，用于加载编译后的类
+     * @return 与源代码顺序一致的Class对象
+     * @since 1.0.0
+     */
+    default List<Class<?>> compile(List<String> codes, ClassLoader classLoader) {
+        List<Class<?>> classes = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            classes.add(this.compile(code, classLoader));
+        }
+        return classes;
+    }
+
 }
@@ -2,8 +2,15 @@ package dev.dong4j.zeka.kernel.spi.compiler.support;
 
 import dev.dong4j.zeka.kernel.spi.compiler.Compiler;
 import dev.dong4j.zeka.kernel.spi.utils.SpiClassUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 抽象编译器基类，提供Java源代码编译的通用功能和模板方法
@@ -15,6 +22,8 @@ import java.util.regex.Pattern;
  * - 解析Java源代码中的包名和类名
  * - 尝试从类加载器中加载已存在的类
  * - 委托具体实现进行源代码编译
+ * - 开启 {@link BytecodeCache} 后复用上次启动编译的字节码
+ * - 批量编译多个源代码
  * - 提供统一的错误处理和异常封装
  * <p>
  * 设计模式：采用模板方法模式，子类需要实现具体的编译逻辑
@@ -25,6 +34,7 @@ import java.util.regex.Pattern;
  * @date 2021.02.26 17:47
  * @since 1.0.0
  */
+@Slf4j
 @SuppressWarnings("all")
 public abstract class AbstractCompiler implements Compiler {
 
@@ -44,7 +54,8 @@ public abstract class AbstractCompiler implements Compiler {
      * 1. 解析包名和类名
      * 2. 构造完整的类名
      * 3. 尝试加载已存在的类
-     * 4. 如果类不存在，进行源代码编译
+     * 4. 开启了字节码缓存时，尝试直接定义缓存的字节码
+     * 5. 如果类不存在，进行源代码编译并写入缓存
      *
      * @param code        Java源代码字符串
      * @param classLoader 用于加载类的类加载器
@@ -55,7 +66,82 @@ public abstract class AbstractCompiler implements Compiler {
      */
     @Override
     public Class<?> compile(String code, ClassLoader classLoader) {
-        code = code.trim();
+        return this.compile(Collections.singletonList(code), classLoader).get(0);
+    }
+
+    /**
+     * 批量编译Java源代码
+     * <p>
+     * 已加载或命中字节码缓存的类不参与编译，其余的源代码通过 {@link #doCompile(List, List, List)} 一次编译
+     *
+     * @param codes       Java源代码
+     * @param classLoader 用于加载类的类加载器
+     * @return 与源代码顺序一致的Class对象
+     * @throws IllegalArgumentException 如果源代码中没有找到类名
+     * @throws IllegalStateException    如果编译失败或源代码格式错误
+     * @since 1.0.0
+     */
+    @Override
+    public List<Class<?>> compile(List<String> codes, ClassLoader classLoader) {
+        Class<?>[] classes = new Class<?>[codes.size()];
+        BytecodeCache cache = BytecodeCache.get();
+        List<Integer> indexes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> sources = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < classes.length; i++) {
+            String code = codes.get(i).trim();
+            String className = resolveClassName(code);
+            try {
+                classes[i] = Class.forName(className, true, SpiClassUtils.getCallerClassLoader(this.getClass()));
+                continue;
+            } catch (ClassNotFoundException e) {
+                if (!code.endsWith("}")) {
+                    throw new IllegalStateException("The java code not endsWith \"}\", code: \n" + code + "\n");
+                }
+            }
+            String key = cache == null ? null : cache.key(this.getClass(), code);
+            if (key != null && (classes[i] = this.loadCached(className, cache.load(key))) != null) {
+                continue;
+            }
+            indexes.add(i);
+            names.add(className);
+            sources.add(code);
+            keys.add(key);
+        }
+        if (names.isEmpty()) {
+            return Arrays.asList(classes);
+        }
+
+        List<Map<String, byte[]>> bytecodes = new ArrayList<>(names.size());
+        names.forEach(name -> bytecodes.add(new LinkedHashMap<>()));
+        List<Class<?>> compiled;
+        try {
+            compiled = this.doCompile(names, sources, bytecodes);
+        } catch (RuntimeException t) {
+            throw t;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to compile class, cause: " + t.getMessage() + ", class: " + String.join(", ", names)
+                + ", code: " + "\n" + String.join("\n", sources) + "\n, stack: " + CompilerClassUtils.toString(t));
+        }
+        for (int j = 0; j < names.size(); j++) {
+            classes[indexes.get(j)] = compiled.get(j);
+            if (keys.get(j) != null && bytecodes.get(j).containsKey(names.get(j))) {
+                cache.store(keys.get(j), bytecodes.get(j));
+            }
+        }
+        return Arrays.asList(classes);
+    }
+
+    /**
+     * 解析源代码中的完整类名
+     *
+     * @param code Java源代码字符串
+     * @return 包含包名的类名
+     * @throws IllegalArgumentException 如果源代码中没有找到类名
+     * @since 1.0.0
+     */
+    private static String resolveClassName(String code) {
         Matcher matcher = PACKAGE_PATTERN.matcher(code);
         String pkg;
         if (matcher.find()) {
@@ -70,21 +156,28 @@ public abstract class AbstractCompiler implements Compiler {
         } else {
             throw new IllegalArgumentException("No such class name in " + code);
         }
-        String className = pkg != null && pkg.length() > 0 ? pkg + "." + cls : cls;
+        return pkg != null && pkg.length() > 0 ? pkg + "." + cls : cls;
+    }
+
+    /**
+     * 定义缓存的字节码
+     * <p>
+     * 缓存文件损坏或与当前类路径不兼容时返回 null，由调用方重新编译并覆盖缓存
+     *
+     * @param name     完整的类名
+     * @param bytecode 缓存的字节码，未命中时为 null
+     * @return 定义后的Class对象，失败时返回 null
+     * @since 1.0.0
+     */
+    private Class<?> loadCached(String name, Map<String, byte[]> bytecode) {
+        if (bytecode == null || !bytecode.containsKey(name)) {
+            return null;
+        }
         try {
-            return Class.forName(className, true, SpiClassUtils.getCallerClassLoader(this.getClass()));
-        } catch (ClassNotFoundException e) {
-            if (!code.endsWith("}")) {
-                throw new IllegalStateException("The java code not endsWith \"}\", code: \n" + code + "\n");
-            }
-            try {
-                return this.doCompile(className, code);
-            } catch (RuntimeException t) {
-                throw t;
-            } catch (Throwable t) {
-                throw new IllegalStateException("Failed to compile class, cause: " + t.getMessage() + ", class: " + className + ", code: "
-                    + "\n" + code + "\n, stack: " + CompilerClassUtils.toString(t));
-            }
+            return this.defineCachedClass(name, bytecode);
+        } catch (Throwable t) {
+            log.warn("Failed to define cached class {}, recompile it, cause: {}", name, t.toString());
+            return null;
         }
     }
 
@@ -102,4 +195,51 @@ public abstract class AbstractCompiler implements Compiler {
      */
     protected abstract Class<?> doCompile(String name, String source) throws Throwable;
 
+    /**
+     * 编译并收集字节码
+     * <p>
+     * 实现类将编译产生的类 (包括内部类) 的字节码放入 bytecode 后才会写入磁盘缓存，默认不收集
+     *
+     * @param name     完整的类名（包含包名）
+     * @param source   Java源代码字符串
+     * @param bytecode 类名到字节码的映射
+     * @return 编译后的Class对象
+     * @throws Throwable 编译过程中可能出现的任何异常
+     * @since 1.0.0
+     */
+    protected Class<?> doCompile(String name, String source, Map<String, byte[]> bytecode) throws Throwable {
+        return this.doCompile(name, source);
+    }
+
+    /**
+     * 批量编译，默认逐个编译
+     *
+     * @param names     完整的类名
+     * @param sources   与类名对应的源代码
+     * @param bytecodes 与类名对应的字节码收集容器
+     * @return 与类名顺序一致的Class对象
+     * @throws Throwable 编译过程中可能出现的任何异常
+     * @since 1.0.0
+     */
+    protected List<Class<?>> doCompile(List<String> names, List<String> sources, List<Map<String, byte[]>> bytecodes) throws Throwable {
+        List<Class<?>> classes = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            classes.add(this.doCompile(names.get(i), sources.get(i), bytecodes.get(i)));
+        }
+        return classes;
+    }
+
+    /**
+     * 直接定义缓存的字节码，默认不支持
+     *
+     * @param name     完整的类名
+     * @param bytecode 类名到字节码的映射
+     * @return 定义后的Class对象，不支持时返回 null
+     * @throws Throwable 定义过程中可能出现的任何异常
+     * @since 1.0.0
+     */
+    protected Class<?> defineCachedClass(String name, Map<String, byte[]> bytecode) throws Throwable {
+        return null;
+    }
+
 }
@@ -3,6 +3,7 @@ package dev.dong4j.zeka.kernel.spi.compiler.support;
 import dev.dong4j.zeka.kernel.spi.compiler.Compiler;
 import dev.dong4j.zeka.kernel.spi.extension.Adaptive;
 import dev.dong4j.zeka.kernel.spi.extension.SPILoader;
+import java.util.List;
 import java.util.Objects;
 
 
@@ -65,6 +66,29 @@ public class AdaptiveCompiler implements Compiler {
      */
     @Override
     public Class<?> compile(String code, ClassLoader classLoader) {
+        return this.compiler().compile(code, classLoader);
+    }
+
+    /**
+     * 批量编译Java源代码，委托给当前选择的编译器
+     *
+     * @param codes       Java源代码
+     * @param classLoader 类加载器
+     * @return 与源代码顺序一致的Class对象
+     * @since 1.0.0
+     */
+    @Override
+    public List<Class<?>> compile(List<String> codes, ClassLoader classLoader) {
+        return this.compiler().compile(codes, classLoader);
+    }
+
+    /**
+     * 获取当前选择的编译器
+     *
+     * @return the compiler
+     * @since 1.0.0
+     */
+    private Compiler compiler() {
         Compiler compiler;
         SPILoader<Compiler> loader = SPILoader.getExtensionLoader(Compiler.class);
         String name = defaultCompiler;
@@ -73,7 +97,7 @@ public class AdaptiveCompiler implements Compiler {
         } else {
             compiler = loader.getDefaultExtension();
         }
-        return Objects.requireNonNull(compiler).compile(code, classLoader);
+        return Objects.requireNonNull(compiler);
     }
 
 }
@@ -0,0 +1,172 @@
+package dev.dong4j.zeka.kernel.spi.compiler.support;
+
+import dev.dong4j.zeka.kernel.spi.constants.CommonConstants;
+import dev.dong4j.zeka.kernel.spi.utils.ConfigUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 运行时编译结果的磁盘缓存
+ * <p>
+ * 通过 {@link CommonConstants#COMPILER_CACHE_DIR_KEY} 指定缓存目录后开启, 未配置时不做任何磁盘操作.
+ * 缓存键为编译器类名, JDK 版本与源代码的 SHA-256, 源代码或 JDK 变化后自然失效, 不需要清理逻辑.
+ * 每个源代码对应一个文件, 保存编译产生的全部类 (包括内部类) 的字节码.
+ * <p>
+ * 写入时先写临时文件再原子替换, 多个进程共享同一目录时不会读到写了一半的文件;
+ * 读取或写入失败只记录日志, 由调用方退回到正常编译.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:10
+ * @since 1.0.0
+ */
+@Slf4j
+final class BytecodeCache {
+
+    /** 缓存文件后缀 */
+    private static final String SUFFIX = ".bin";
+    /** 缓存文件格式标识, 格式变化时修改 */
+    private static final int MAGIC = 0x7A6B6331;
+    /** 当前使用的缓存 */
+    private static volatile BytecodeCache instance;
+
+    /** 缓存目录 */
+    private final Path directory;
+
+    /**
+     * Bytecode cache
+     *
+     * @param directory directory
+     * @since 1.0.0
+     */
+    private BytecodeCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 获取配置的缓存
+     *
+     * @return 未配置缓存目录时返回 null
+     * @since 1.0.0
+     */
+    static BytecodeCache get() {
+        String dir = ConfigUtils.getProperty(CommonConstants.COMPILER_CACHE_DIR_KEY);
+        if (ConfigUtils.isEmpty(dir)) {
+            return null;
+        }
+        Path path = Paths.get(dir.trim()).toAbsolutePath();
+        BytecodeCache cache = instance;
+        if (cache == null || !cache.directory.equals(path)) {
+            instance = cache = new BytecodeCache(path);
+        }
+        return cache;
+    }
+
+    /**
+     * 计算缓存键
+     *
+     * @param compiler 编译器
+     * @param source   源代码
+     * @return the string
+     * @since 1.0.0
+     */
+    String key(Class<?> compiler, String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(compiler.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(System.getProperty("java.vm.version", "").getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 读取缓存的字节码
+     *
+     * @param key 缓存键
+     * @return 类名到字节码的映射, 未命中或读取失败时返回 null
+     * @since 1.0.0
+     */
+    Map<String, byte[]> load(String key) {
+        Path file = this.directory.resolve(key + SUFFIX);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                return null;
+            }
+            int count = in.readInt();
+            Map<String, byte[]> bytecode = new LinkedHashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                bytecode.put(name, bytes);
+            }
+            return bytecode;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read compiled classes from {}, cause: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 保存编译产生的字节码
+     *
+     * @param key      缓存键
+     * @param bytecode 类名到字节码的映射
+     * @since 1.0.0
+     */
+    void store(String key, Map<String, byte[]> bytecode) {
+        Path file = this.directory.resolve(key + SUFFIX);
+        Path temp = null;
+        try {
+            Files.createDirectories(this.directory);
+            temp = Files.createTempFile(this.directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(bytecode.size());
+                for (Map.Entry<String, byte[]> entry : bytecode.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write compiled classes to {}, cause: {}", file, e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 残留的临时文件不会被读取
+                }
+            }
+        }
+    }
+}
@@ -2,9 +2,12 @@ package dev.dong4j.zeka.kernel.spi.compiler.support;
 
 import dev.dong4j.zeka.kernel.spi.utils.SpiClassUtils;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javassist.CtClass;
+import javassist.util.proxy.DefineClassHelper;
 
 /**
  * <p>Description: </p>
@@ -44,6 +47,21 @@ public class JavassistCompiler extends AbstractCompiler {
      */
     @Override
     public Class<?> doCompile(String name, String source) throws Throwable {
+        return this.doCompile(name, source, new HashMap<>(2));
+    }
+
+    /**
+     * Do compile
+     *
+     * @param name     name
+     * @param source   source
+     * @param bytecode bytecode
+     * @return the class
+     * @throws Throwable throwable
+     * @since 1.0.0
+     */
+    @Override
+    protected Class<?> doCompile(String name, String source, Map<String, byte[]> bytecode) throws Throwable {
         CtClassBuilder builder = new CtClassBuilder();
         builder.setClassName(name);
 
@@ -83,7 +101,25 @@ public class JavassistCompiler extends AbstractCompiler {
         // compile
         ClassLoader classLoader = SpiClassUtils.getCallerClassLoader(getClass());
         CtClass cls = builder.build(classLoader);
-        return cls.toClass(classLoader, JavassistCompiler.class.getProtectionDomain());
+        // 与 CtClass#toClass 的定义方式相同, 先取出字节码以便写入缓存
+        byte[] bytes = cls.toBytecode();
+        bytecode.put(name, bytes);
+        return DefineClassHelper.toClass(name, null, classLoader, JavassistCompiler.class.getProtectionDomain(), bytes);
+    }
+
+    /**
+     * Define cached class
+     *
+     * @param name     name
+     * @param bytecode bytecode
+     * @return the class
+     * @throws Throwable throwable
+     * @since 1.0.0
+     */
+    @Override
+    protected Class<?> defineCachedClass(String name, Map<String, byte[]> bytecode) throws Throwable {
+        ClassLoader classLoader = SpiClassUtils.getCallerClassLoader(getClass());
+        return DefineClassHelper.toClass(name, null, classLoader, JavassistCompiler.class.getProtectionDomain(), bytecode.get(name));
     }
 
 }
@@ -12,11 +12,11 @@ import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -66,10 +66,12 @@ public class JdkCompiler extends AbstractCompiler {
      */
     public JdkCompiler() {
         options = new ArrayList<String>();
+        // 新版本的 javac 已不支持 1.6, 按当前运行的 JDK 版本编译
+        String version = String.valueOf(Runtime.version().feature());
         options.add("-source");
-        options.add("1.6");
+        options.add(version);
         options.add("-target");
-        options.add("1.6");
+        options.add(version);
         StandardJavaFileManager manager = compiler.getStandardFileManager(diagnosticCollector, null, null);
         final ClassLoader loader = Thread.currentThread().getContextClassLoader();
         if (loader instanceof URLClassLoader
@@ -100,18 +102,84 @@ public class JdkCompiler extends AbstractCompiler {
      */
     @Override
     public Class<?> doCompile(String name, String sourceCode) throws Throwable {
-        int i = name.lastIndexOf('.');
-        String packageName = i < 0 ? "" : name.substring(0, i);
-        String className = i < 0 ? name : name.substring(i + 1);
-        JavaFileObjectImpl javaFileObject = new JavaFileObjectImpl(className, sourceCode);
-        javaFileManager.putFileForInput(StandardLocation.SOURCE_PATH, packageName,
-            className + CompilerClassUtils.JAVA_EXTENSION, javaFileObject);
+        return doCompile(Collections.singletonList(name), Collections.singletonList(sourceCode),
+            Collections.singletonList(new HashMap<String, byte[]>())).get(0);
+    }
+
+    /**
+     * Do compile
+     *
+     * @param name       name
+     * @param sourceCode source code
+     * @param bytecode   bytecode
+     * @return the class
+     * @throws Throwable throwable
+     * @since 1.0.0
+     */
+    @Override
+    protected Class<?> doCompile(String name, String sourceCode, Map<String, byte[]> bytecode) throws Throwable {
+        return doCompile(Collections.singletonList(name), Collections.singletonList(sourceCode),
+            Collections.singletonList(bytecode)).get(0);
+    }
+
+    /**
+     * 所有源代码在同一个编译任务中编译
+     *
+     * @param names     names
+     * @param sources   sources
+     * @param bytecodes bytecodes
+     * @return the list
+     * @throws Throwable throwable
+     * @since 1.0.0
+     */
+    @Override
+    protected List<Class<?>> doCompile(List<String> names, List<String> sources, List<Map<String, byte[]>> bytecodes)
+        throws Throwable {
+        List<JavaFileObject> javaFileObjects = new ArrayList<JavaFileObject>(names.size());
+        for (int j = 0; j < names.size(); j++) {
+            String name = names.get(j);
+            int i = name.lastIndexOf('.');
+            String packageName = i < 0 ? "" : name.substring(0, i);
+            String className = i < 0 ? name : name.substring(i + 1);
+            JavaFileObjectImpl javaFileObject = new JavaFileObjectImpl(className, sources.get(j));
+            javaFileManager.putFileForInput(StandardLocation.SOURCE_PATH, packageName,
+                className + CompilerClassUtils.JAVA_EXTENSION, javaFileObject);
+            javaFileObjects.add(javaFileObject);
+        }
         Boolean result = compiler.getTask(null, javaFileManager, diagnosticCollector, options,
-            null, Arrays.asList(javaFileObject)).call();
+            null, javaFileObjects).call();
         if (result == null || !result) {
-            throw new IllegalStateException("Compilation failed. class: " + name + ", diagnostics: " + diagnosticCollector);
+            throw new IllegalStateException("Compilation failed. class: " + String.join(", ", names) + ", diagnostics: "
+                + diagnosticCollector);
+        }
+        List<Class<?>> classes = new ArrayList<Class<?>>(names.size());
+        for (int j = 0; j < names.size(); j++) {
+            bytecodes.get(j).putAll(classLoader.bytecode(names.get(j)));
+            classes.add(classLoader.loadClass(names.get(j)));
+        }
+        return classes;
+    }
+
+    /**
+     * Define cached class
+     *
+     * @param name     name
+     * @param bytecode bytecode
+     * @return the class
+     * @throws Throwable throwable
+     * @since 1.0.0
+     */
+    @Override
+    protected Class<?> defineCachedClass(String name, Map<String, byte[]> bytecode) throws Throwable {
+        for (Map.Entry<String, byte[]> entry : bytecode.entrySet()) {
+            classLoader.add(entry.getKey(), new JavaFileObjectImpl(entry.getKey(), entry.getValue()));
+        }
+        Class<?> clazz = classLoader.loadClass(name);
+        // 内部类也立即定义, 损坏的缓存在这里失败并退回到编译, 而不是在首次使用内部类时抛出 ClassFormatError
+        for (String className : bytecode.keySet()) {
+            classLoader.loadClass(className);
         }
-        return classLoader.loadClass(name);
+        return clazz;
     }
 
     /**
@@ -154,6 +222,19 @@ public class JdkCompiler extends AbstractCompiler {
             source = null;
         }
 
+        /**
+         * 使用已编译的字节码创建
+         *
+         * @param name     name
+         * @param bytecode bytecode
+         * @since 1.0.0
+         */
+        JavaFileObjectImpl(final String name, final byte[] bytecode) {
+            this(name, Kind.CLASS);
+            this.bytecode = new ByteArrayOutputStream(bytecode.length);
+            this.bytecode.writeBytes(bytecode);
+        }
+
         /**
          * Java file object
          *
@@ -441,6 +522,24 @@ public class JdkCompiler extends AbstractCompiler {
             }
         }
 
+        /**
+         * 获取类及其内部类的字节码
+         *
+         * @param qualifiedClassName qualified class name
+         * @return the map
+         * @since 1.0.0
+         */
+        Map<String, byte[]> bytecode(final String qualifiedClassName) {
+            Map<String, byte[]> bytecode = new LinkedHashMap<String, byte[]>();
+            for (Map.Entry<String, JavaFileObject> entry : classes.entrySet()) {
+                String name = entry.getKey();
+                if (name.equals(qualifiedClassName) || name.startsWith(qualifiedClassName + "$")) {
+                    bytecode.put(name, ((JavaFileObjectImpl) entry.getValue()).getByteCode());
+                }
+            }
+            return bytecode;
+        }
+
         /**
          * Add
          *
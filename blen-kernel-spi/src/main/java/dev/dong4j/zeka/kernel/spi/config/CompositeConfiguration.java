@@ -4,10 +4,14 @@ package dev.dong4j.zeka.kernel.spi.config;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * <p>Description: </p>
+ * <p>Description: 按顺序组合多个配置层, 第一个有值的配置层生效 </p>
+ * 开启快照模式后, 每个 key 的解析结果 (包括不存在的 key) 会被缓存, 后续读取不再遍历配置层;
+ * 配置层发生变化时需要调用 {@link #refresh()} 丢弃已缓存的结果.
  *
  * @author dong4j
  * @version 1.0.0
@@ -18,8 +22,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CompositeConfiguration implements Configuration {
 
+    /** 快照最多缓存的 key 数量, 超过后不再缓存新的 key */
+    private static final int MAX_SNAPSHOT_SIZE = 4096;
+    /** 快照中表示 key 不存在的占位值 */
+    private static final Object ABSENT = new Object();
+
     /** Config list */
     private final List<Configuration> configList = new LinkedList<>();
+    /** 是否开启快照模式 */
+    private final boolean snapshot;
+    /** 已解析的 key, 配置层变化时整体替换 */
+    private volatile Map<String, Object> resolved = new ConcurrentHashMap<>();
 
     /**
      * Composite configuration
@@ -27,7 +40,17 @@ public class CompositeConfiguration implements Configuration {
      * @since 1.0.0
      */
     public CompositeConfiguration() {
+        this(false);
+    }
 
+    /**
+     * Composite configuration
+     *
+     * @param snapshot 是否缓存 key 的解析结果
+     * @since 1.0.0
+     */
+    public CompositeConfiguration(boolean snapshot) {
+        this.snapshot = snapshot;
     }
 
     /**
@@ -37,6 +60,7 @@ public class CompositeConfiguration implements Configuration {
      * @since 1.0.0
      */
     public CompositeConfiguration(Configuration... configurations) {
+        this(false);
         if (configurations != null && configurations.length > 0) {
             Arrays.stream(configurations).filter(config -> !this.configList.contains(config)).forEach(this.configList::add);
         }
@@ -53,6 +77,7 @@ public class CompositeConfiguration implements Configuration {
             return;
         }
         this.configList.add(configuration);
+        this.refresh();
     }
 
     /**
@@ -74,6 +99,28 @@ public class CompositeConfiguration implements Configuration {
      */
     public void addConfiguration(int pos, Configuration configuration) {
         this.configList.add(pos, configuration);
+        this.refresh();
+    }
+
+    /**
+     * 丢弃快照中已解析的 key, 下次读取时重新从配置层解析
+     *
+     * @since 1.0.0
+     */
+    public void refresh() {
+        if (this.snapshot) {
+            this.resolved = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Is snapshot
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isSnapshot() {
+        return this.snapshot;
     }
 
     /**
@@ -85,22 +132,41 @@ public class CompositeConfiguration implements Configuration {
      */
     @Override
     public Object getInternalProperty(String key) {
-        Configuration firstMatchingConfiguration = null;
+        if (!this.snapshot) {
+            return this.resolve(key);
+        }
+        // 先取出当前快照, 解析期间发生 refresh 时结果只会写入旧快照
+        Map<String, Object> current = this.resolved;
+        Object value = current.get(key);
+        if (value != null) {
+            return value == ABSENT ? null : value;
+        }
+        value = this.resolve(key);
+        if (current.size() < MAX_SNAPSHOT_SIZE) {
+            current.put(key, value == null ? ABSENT : value);
+        }
+        return value;
+    }
+
+    /**
+     * 按顺序从配置层中读取, 返回第一个不为 null 的值
+     *
+     * @param key key
+     * @return the object
+     * @since 1.0.0
+     */
+    private Object resolve(String key) {
         for (Configuration config : this.configList) {
             try {
-                if (config.containsKey(key)) {
-                    firstMatchingConfiguration = config;
-                    break;
+                Object value = config.getProperty(key);
+                if (value != null) {
+                    return value;
                 }
             } catch (Exception e) {
                 log.error("Error when trying to get value for key " + key + " from " + config + ", will continue to try the next one.");
             }
         }
-        if (firstMatchingConfiguration != null) {
-            return firstMatchingConfiguration.getProperty(key);
-        } else {
-            return null;
-        }
+        return null;
     }
 
     /**
@@ -112,6 +178,9 @@ public class CompositeConfiguration implements Configuration {
      */
     @Override
     public boolean containsKey(String key) {
+        if (this.snapshot) {
+            return this.getInternalProperty(key) != null;
+        }
         return this.configList.stream().anyMatch(c -> c.containsKey(key));
     }
 }
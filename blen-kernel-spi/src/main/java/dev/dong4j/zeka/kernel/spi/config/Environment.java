@@ -10,6 +10,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>Description: </p>
+ * 默认每次调用 {@link #getConfiguration(String, String)} 都创建新的组合配置, 每次读取都遍历所有配置层.
+ * 通过 {@link #setConfigurationSnapshot(boolean)} 开启快照模式后, 组合配置按 (prefix, id) 缓存, 每个 key 只解析一次
+ * (包括不存在的 key), 外部配置或动态配置变化时自动失效; 直接修改系统属性, 环境变量或配置文件后需要调用
+ * {@link #refreshConfigurations()}, 因此只适合启动后这些配置不再变化的应用.
  *
  * @author dong4j
  * @version 1.0.0
@@ -32,6 +36,8 @@ public class Environment {
     private final Map<String, InmemoryConfiguration> externalConfigs = new ConcurrentHashMap<>();
     /** App external configs */
     private final Map<String, InmemoryConfiguration> appExternalConfigs = new ConcurrentHashMap<>();
+    /** Composite configs */
+    private final Map<String, CompositeConfiguration> compositeConfigs = new ConcurrentHashMap<>();
 
     /** External configuration map */
     private Map<String, String> externalConfigurationMap = new HashMap<>();
@@ -40,6 +46,8 @@ public class Environment {
 
     /** Config center first */
     private boolean configCenterFirst = true;
+    /** 组合配置是否缓存 key 的解析结果, 默认关闭 */
+    private volatile boolean configurationSnapshot = false;
 
     /** Dynamic configuration */
     private Configuration dynamicConfiguration;
@@ -130,6 +138,8 @@ public class Environment {
      */
     public void setExternalConfigMap(Map<String, String> externalConfiguration) {
         this.externalConfigurationMap = externalConfiguration;
+        this.externalConfigs.values().forEach(c -> c.setProperties(externalConfiguration));
+        this.refreshConfigurations();
     }
 
     /**
@@ -140,6 +150,8 @@ public class Environment {
      */
     public void setAppExternalConfigMap(Map<String, String> appExternalConfiguration) {
         this.appExternalConfigurationMap = appExternalConfiguration;
+        this.appExternalConfigs.values().forEach(c -> c.setProperties(appExternalConfiguration));
+        this.refreshConfigurations();
     }
 
     /**
@@ -170,6 +182,7 @@ public class Environment {
      */
     public void updateExternalConfigurationMap(Map<String, String> externalMap) {
         this.externalConfigurationMap.putAll(externalMap);
+        this.refreshConfigurations();
     }
 
     /**
@@ -180,6 +193,7 @@ public class Environment {
      */
     public void updateAppExternalConfigurationMap(Map<String, String> externalMap) {
         this.appExternalConfigurationMap.putAll(externalMap);
+        this.refreshConfigurations();
     }
 
     /**
@@ -191,7 +205,23 @@ public class Environment {
      * @since 1.0.0
      */
     public CompositeConfiguration getConfiguration(String prefix, String id) {
-        CompositeConfiguration compositeConfiguration = new CompositeConfiguration();
+        if (!this.configurationSnapshot) {
+            return this.createConfiguration(prefix, id, false);
+        }
+        return this.compositeConfigs.computeIfAbsent(toKey(prefix, id), k -> this.createConfiguration(prefix, id, true));
+    }
+
+    /**
+     * Create configuration
+     *
+     * @param prefix   prefix
+     * @param id       id
+     * @param snapshot snapshot
+     * @return the composite configuration
+     * @since 1.0.0
+     */
+    private CompositeConfiguration createConfiguration(String prefix, String id, boolean snapshot) {
+        CompositeConfiguration compositeConfiguration = new CompositeConfiguration(snapshot);
         // Config center has the highest priority
         compositeConfiguration.addConfiguration(this.getSystemConfig(prefix, id));
         compositeConfiguration.addConfiguration(this.getEnvironmentConfig(prefix, id));
@@ -201,6 +231,37 @@ public class Environment {
         return compositeConfiguration;
     }
 
+    /**
+     * 丢弃所有组合配置中已解析的 key
+     *
+     * @since 1.0.0
+     */
+    public void refreshConfigurations() {
+        this.compositeConfigs.values().forEach(CompositeConfiguration::refresh);
+    }
+
+    /**
+     * Is configuration snapshot
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isConfigurationSnapshot() {
+        return this.configurationSnapshot;
+    }
+
+    /**
+     * 设置组合配置是否缓存 key 的解析结果, 关闭 (默认) 时每次调用 {@link #getConfiguration(String, String)} 都创建新的组合配置;
+     * 开启后直接修改系统属性, 环境变量或配置文件不会自动生效, 需要调用 {@link #refreshConfigurations()}
+     *
+     * @param configurationSnapshot configuration snapshot
+     * @since 1.0.0
+     */
+    public void setConfigurationSnapshot(boolean configurationSnapshot) {
+        this.configurationSnapshot = configurationSnapshot;
+        this.compositeConfigs.clear();
+    }
+
     /**
      * Gets configuration *
      *
@@ -276,6 +337,7 @@ public class Environment {
      */
     public void setDynamicConfiguration(Configuration dynamicConfiguration) {
         this.dynamicConfiguration = dynamicConfiguration;
+        this.refreshConfigurations();
     }
 
     /**
@@ -287,6 +349,8 @@ public class Environment {
     public void clearExternalConfigs() {
         this.externalConfigs.clear();
         this.externalConfigurationMap.clear();
+        // 配置层已被移除, 组合配置需要重新创建
+        this.compositeConfigs.clear();
     }
 
     /**
@@ -298,5 +362,7 @@ public class Environment {
     public void clearAppExternalConfigs() {
         this.appExternalConfigs.clear();
         this.appExternalConfigurationMap.clear();
+        // 配置层已被移除, 组合配置需要重新创建
+        this.compositeConfigs.clear();
     }
 }
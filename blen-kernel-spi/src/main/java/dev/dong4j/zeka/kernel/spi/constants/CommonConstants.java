@@ -72,5 +72,7 @@ public interface CommonConstants {
     String HOST_KEY = "host";
     /** 端口配置键 */
     String PORT_KEY = "port";
+    /** 运行时编译结果的磁盘缓存目录, 未配置时不缓存 */
+    String COMPILER_CACHE_DIR_KEY = "zeka.spi.compiler.cache-dir";
 
 }
@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * <p>Description: </p>
+ * 编译期由 blen-kernel-indexer 的 AdaptiveClassProcessor 生成相同的代码, 修改生成逻辑时需要同步修改
  *
  * @author dong4j
  * @version 1.0.0
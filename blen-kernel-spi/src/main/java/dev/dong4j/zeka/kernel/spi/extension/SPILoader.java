@@ -58,6 +58,9 @@ public final class SPILoader<T> {
     /** SPI_INTERNAL_DIRECTORY */
     private static final String SPI_INTERNAL_DIRECTORY = SPI_DIRECTORY + "internal/";
 
+    /** 每个扩展点最多缓存的激活结果数量 */
+    static final int MAX_ACTIVATE_RESULTS = 256;
+
     /** NAME_SEPARATOR */
     private static final Pattern NAME_SEPARATOR = Pattern.compile("\\s*[,]+\\s*");
 
@@ -81,6 +84,10 @@ public final class SPILoader<T> {
 
     /** Cached activates */
     private final Map<String, Object> cachedActivates = new ConcurrentHashMap<>();
+    /** 按 group 分组的 @Activate 索引, 扩展变更时重建 */
+    private volatile ActivateIndex cachedActivateIndex;
+    /** 按 (group, values, URL 激活键) 缓存的排序后的激活扩展, 扩展变更时整体替换 */
+    private volatile Map<ActivateKey, List<T>> cachedActivateResults = new ConcurrentHashMap<>();
     /** Cached instances */
     private final ConcurrentMap<String, Holder<Object>> cachedInstances = new ConcurrentHashMap<>();
     /** Cached adaptive instance */
@@ -171,6 +178,49 @@ public final class SPILoader<T> {
         }
     }
 
+    /**
+     * 预先生成多个扩展接口的自适应类
+     * <p>
+     * 没有预编译自适应类的接口在一次编译中生成, 避免首次调用 {@link #getAdaptiveExtension()} 时逐个启动编译器.
+     * 已经存在自适应类的接口会被跳过, 接口中必须至少有一个 {@link Adaptive} 方法
+     *
+     * @param types 扩展接口
+     * @since 1.0.0
+     */
+    public static void preloadAdaptiveExtensionClasses(Class<?>... types) {
+        List<SPILoader<?>> loaders = new ArrayList<>(types.length);
+        List<String> codes = new ArrayList<>(types.length);
+        for (Class<?> type : types) {
+            SPILoader<?> loader = getExtensionLoader(type);
+            synchronized (loader.cachedAdaptiveInstance) {
+                loader.getExtensionClasses();
+                if (loader.cachedAdaptiveClass != null) {
+                    continue;
+                }
+                Class<?> precompiled = loader.findPrecompiledAdaptiveClass();
+                if (precompiled != null) {
+                    loader.cachedAdaptiveClass = precompiled;
+                    continue;
+                }
+                codes.add(new AdaptiveClassCodeGenerator(loader.type, loader.cachedDefaultName).generate());
+                loaders.add(loader);
+            }
+        }
+        if (codes.isEmpty()) {
+            return;
+        }
+        Compiler compiler = SPILoader.getExtensionLoader(Compiler.class).getAdaptiveExtension();
+        List<Class<?>> classes = compiler.compile(codes, findClassLoader());
+        for (int i = 0; i < loaders.size(); i++) {
+            SPILoader<?> loader = loaders.get(i);
+            synchronized (loader.cachedAdaptiveInstance) {
+                if (loader.cachedAdaptiveClass == null) {
+                    loader.cachedAdaptiveClass = classes.get(i);
+                }
+            }
+        }
+    }
+
     /**
      * Find class loader
      *
@@ -252,34 +302,10 @@ public final class SPILoader<T> {
      * @since 1.0.0
      */
     public List<T> getActivateExtension(URL url, String[] values, String group) {
-        List<T> exts = new ArrayList<>();
         List<String> names = values == null ? new ArrayList<>(0) : Arrays.asList(values);
-        if (!names.contains(REMOVE_VALUE_PREFIX + DEFAULT_KEY)) {
-            this.getExtensionClasses();
-            for (Map.Entry<String, Object> entry : this.cachedActivates.entrySet()) {
-                String name = entry.getKey();
-                Object activate = entry.getValue();
-
-                String[] activateGroup, activateValue;
-
-                if (activate instanceof Activate) {
-                    activateGroup = ((Activate) activate).group();
-                    activateValue = ((Activate) activate).value();
-                } else if (activate instanceof Activate) {
-                    activateGroup = ((Activate) activate).group();
-                    activateValue = ((Activate) activate).value();
-                } else {
-                    continue;
-                }
-                if (this.isMatchGroup(group, activateGroup)
-                    && !names.contains(name)
-                    && !names.contains(REMOVE_VALUE_PREFIX + name)
-                    && this.isActive(activateValue, url)) {
-                    exts.add(this.getExtension(name));
-                }
-            }
-            exts.sort(ActivateComparator.COMPARATOR);
-        }
+        List<T> exts = names.contains(REMOVE_VALUE_PREFIX + DEFAULT_KEY)
+            ? new ArrayList<>()
+            : new ArrayList<>(this.getActivated(url, names, group));
         List<T> usrs = new ArrayList<>();
         for (int i = 0; i < names.size(); i++) {
             String name = names.get(i);
@@ -302,50 +328,77 @@ public final class SPILoader<T> {
     }
 
     /**
-     * Is match group
+     * 获取自动激活的扩展, 已按 {@link ActivateComparator} 排序
+     * <p>
+     * 结果只与 group, values 和 URL 中值有效的参数键有关, 相同组合直接返回缓存
      *
-     * @param group  group
-     * @param groups groups
-     * @return the boolean
+     * @param url   url
+     * @param names names
+     * @param group group
+     * @return 不可修改的扩展列表
      * @since 1.0.0
      */
-    private boolean isMatchGroup(String group, String[] groups) {
-        if (SpiStringUtils.isEmpty(group)) {
-            return true;
+    private List<T> getActivated(URL url, List<String> names, String group) {
+        String activateGroup = SpiStringUtils.isEmpty(group) ? "" : group;
+        Set<String> activateKeys = url.getActivateKeys();
+        Map<ActivateKey, List<T>> results = this.cachedActivateResults;
+        ActivateKey key = new ActivateKey(activateGroup, names, activateKeys);
+        List<T> cached = results.get(key);
+        if (cached != null) {
+            return cached;
         }
-        if (groups != null && groups.length > 0) {
-            for (String g : groups) {
-                if (group.equals(g)) {
-                    return true;
-                }
+
+        List<T> exts = new ArrayList<>();
+        for (ActivateEntry entry : this.getActivateIndex().entries(activateGroup)) {
+            if (!names.contains(entry.name())
+                && !names.contains(REMOVE_VALUE_PREFIX + entry.name())
+                && entry.isActive(activateKeys)) {
+                exts.add(this.getExtension(entry.name()));
             }
         }
-        return false;
+        exts.sort(ActivateComparator.COMPARATOR);
+        List<T> activated = Collections.unmodifiableList(exts);
+        if (results.size() < MAX_ACTIVATE_RESULTS) {
+            // values 可能是调用方的数组, 复制一份作为缓存的 key
+            results.put(new ActivateKey(activateGroup, new ArrayList<>(names), activateKeys), activated);
+        }
+        return activated;
     }
 
     /**
-     * Is active
+     * 获取 @Activate 索引, 不存在时根据已加载的扩展类构建
      *
-     * @param keys keys
-     * @param url  url
-     * @return the boolean
+     * @return the activate index
      * @since 1.0.0
      */
-    private boolean isActive(String[] keys, URL url) {
-        if (keys.length == 0) {
-            return true;
-        }
-        for (String key : keys) {
-            for (Map.Entry<String, String> entry : url.getParameters().entrySet()) {
-                String k = entry.getKey();
-                String v = entry.getValue();
-                if ((k.equals(key) || k.endsWith("." + key))
-                    && ConfigUtils.isNotEmpty(v)) {
-                    return true;
-                }
-            }
+    private ActivateIndex getActivateIndex() {
+        ActivateIndex index = this.cachedActivateIndex;
+        if (index == null) {
+            this.getExtensionClasses();
+            index = new ActivateIndex(this.cachedActivates);
+            this.cachedActivateIndex = index;
         }
-        return false;
+        return index;
+    }
+
+    /**
+     * 已缓存的激活结果数量
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    int activateCacheSize() {
+        return this.cachedActivateResults.size();
+    }
+
+    /**
+     * 扩展发生变更后丢弃激活索引和已缓存的激活结果
+     *
+     * @since 1.0.0
+     */
+    private void clearActivateCache() {
+        this.cachedActivateIndex = null;
+        this.cachedActivateResults = new ConcurrentHashMap<>();
     }
 
     /**
@@ -517,6 +570,7 @@ public final class SPILoader<T> {
 
             this.cachedAdaptiveClass = clazz;
         }
+        this.clearActivateCache();
     }
 
     /**
@@ -559,6 +613,7 @@ public final class SPILoader<T> {
             this.cachedAdaptiveClass = clazz;
             this.cachedAdaptiveInstance.set(null);
         }
+        this.clearActivateCache();
     }
 
     /**
@@ -1070,7 +1125,67 @@ public final class SPILoader<T> {
         if (this.cachedAdaptiveClass != null) {
             return this.cachedAdaptiveClass;
         }
-        return this.cachedAdaptiveClass = this.createAdaptiveExtensionClass();
+        Class<?> precompiled = this.findPrecompiledAdaptiveClass();
+        return this.cachedAdaptiveClass = precompiled != null ? precompiled : this.createAdaptiveExtensionClass();
+    }
+
+    /**
+     * 查找编译期由 blen-kernel-indexer 生成的自适应类
+     * <p>
+     * 类名与运行时生成的一致 ({@code <包名>.<接口简单名>$Adaptive}). 接口新增方法后没有重新生成时,
+     * 生成类中缺少该方法的实现, 此时忽略该类并退回到运行时编译, 见 {@link #findUnimplementedMethod(Class, Class)}
+     *
+     * @return 不存在或已过期时返回 null
+     * @since 1.0.0
+     */
+    private Class<?> findPrecompiledAdaptiveClass() {
+        String packageName = this.type.getPackageName();
+        String className = (packageName.isEmpty() ? "" : packageName + ".") + this.type.getSimpleName() + "$Adaptive";
+        ClassLoader classLoader = this.type.getClassLoader() != null ? this.type.getClassLoader() : findClassLoader();
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!this.type.isAssignableFrom(clazz)) {
+            return null;
+        }
+        Method missing = findUnimplementedMethod(this.type, clazz);
+        if (missing != null) {
+            log.warn("Precompiled adaptive class {} is out of date, missing method {}, fall back to runtime compilation",
+                className, missing.getName());
+            return null;
+        }
+        log.debug("Use precompiled adaptive class {}", className);
+        return clazz;
+    }
+
+    /**
+     * 查找生成类中没有实现的接口方法
+     * <p>
+     * 生成时为接口的每个非 static 方法 (包括 default 方法) 都生成了实现, 因此生成类中继承自接口的方法都说明接口修改后没有重新生成:
+     * 新增的抽象方法在生成类中为抽象方法, 新增的 default 方法 (例如标注了 {@link Adaptive} 的 default 方法) 会直接调用接口的实现而不是按 URL 分发
+     *
+     * @param type          扩展接口
+     * @param adaptiveClass 编译期生成的自适应类
+     * @return 全部实现时返回 null
+     * @since 1.0.0
+     */
+    static Method findUnimplementedMethod(Class<?> type, Class<?> adaptiveClass) {
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            try {
+                if (adaptiveClass.getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass() != adaptiveClass) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                return method;
+            }
+        }
+        return null;
     }
 
     /**
@@ -1097,4 +1212,107 @@ public final class SPILoader<T> {
         return this.getClass().getName() + "[" + this.type.getName() + "]";
     }
 
+    /**
+     * <p>Description: 激活结果的缓存 key </p>
+     *
+     * @param group        group
+     * @param names        names
+     * @param activateKeys activate keys
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 20:10
+     * @since 1.0.0
+     */
+    private record ActivateKey(String group, List<String> names, Set<String> activateKeys) {
+    }
+
+    /**
+     * <p>Description: 单个 @Activate 扩展 </p>
+     *
+     * @param name   扩展名
+     * @param values 排序后的激活条件, 为空表示无条件激活
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 20:10
+     * @since 1.0.0
+     */
+    private record ActivateEntry(String name, String[] values) {
+
+        /**
+         * URL 中存在任意一个激活条件对应的参数即视为激活
+         *
+         * @param activateKeys URL 的激活键, 见 {@link URL#getActivateKeys()}
+         * @return the boolean
+         * @since 1.0.0
+         */
+        private boolean isActive(Set<String> activateKeys) {
+            if (this.values.length == 0) {
+                return true;
+            }
+            for (String value : this.values) {
+                if (activateKeys.contains(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * <p>Description: 按 group 分组的 @Activate 索引 </p>
+     * 组内保持扩展的加载顺序, 不指定 group 时返回全部扩展
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 20:10
+     * @since 1.0.0
+     */
+    private static final class ActivateIndex {
+        /** 全部扩展 */
+        private final List<ActivateEntry> all = new ArrayList<>();
+        /** 按 group 分组的扩展 */
+        private final Map<String, List<ActivateEntry>> groups = new HashMap<>();
+
+        /**
+         * Activate index
+         *
+         * @param activates 扩展名与 @Activate 注解
+         * @since 1.0.0
+         */
+        private ActivateIndex(Map<String, Object> activates) {
+            for (Map.Entry<String, Object> entry : activates.entrySet()) {
+                if (!(entry.getValue() instanceof Activate activate)) {
+                    continue;
+                }
+                String[] values = activate.value().clone();
+                Arrays.sort(values);
+                ActivateEntry activateEntry = new ActivateEntry(entry.getKey(), values);
+                this.all.add(activateEntry);
+                for (String group : activate.group()) {
+                    List<ActivateEntry> entries = this.groups.computeIfAbsent(group, k -> new ArrayList<>());
+                    // 同一个 group 重复声明时只保留一次
+                    if (entries.isEmpty() || entries.get(entries.size() - 1) != activateEntry) {
+                        entries.add(activateEntry);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 获取 group 下的扩展
+         *
+         * @param group group, 为空字符串时返回全部扩展
+         * @return the list
+         * @since 1.0.0
+         */
+        private List<ActivateEntry> entries(String group) {
+            if (group.isEmpty()) {
+                return this.all;
+            }
+            return this.groups.getOrDefault(group, Collections.emptyList());
+        }
+    }
 }
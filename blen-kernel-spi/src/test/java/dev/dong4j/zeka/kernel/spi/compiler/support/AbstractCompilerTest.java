@@ -0,0 +1,248 @@
+package dev.dong4j.zeka.kernel.spi.compiler.support;
+
+import dev.dong4j.zeka.kernel.spi.constants.CommonConstants;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * <p>Description: 批量编译与字节码缓存 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:40
+ * @since 1.0.0
+ */
+class AbstractCompilerTest {
+
+    /** 带内部类的源代码, %s 为类名与返回值 */
+    private static final String SOURCE = """
+        package fixture.compiler;
+
+        public class %1$s implements java.util.function.Supplier<String> {
+            public String get() {
+                return new Inner().value();
+            }
+
+            class Inner {
+                String value() {
+                    return "%1$s";
+                }
+            }
+        }
+        """;
+    /** VM_VERSION */
+    private static final String VM_VERSION = "java.vm.version";
+
+    /** 测试前的虚拟机版本 */
+    private final String vmVersion = System.getProperty(VM_VERSION);
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CommonConstants.COMPILER_CACHE_DIR_KEY);
+        System.setProperty(VM_VERSION, this.vmVersion);
+    }
+
+    /**
+     * 多个源代码在一次编译中完成, 返回顺序与源代码一致
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_batch_compile() throws Exception {
+        CountingCompiler compiler = new CountingCompiler();
+
+        List<Class<?>> classes = compiler.compile(List.of(source("BatchA"), source("BatchB")), this.getClass().getClassLoader());
+
+        assertEquals(1, compiler.batches);
+        assertEquals(List.of("fixture.compiler.BatchA", "fixture.compiler.BatchB"), compiler.compiled);
+        assertEquals("BatchA", get(classes.get(0)));
+        assertEquals("BatchB", get(classes.get(1)));
+    }
+
+    /**
+     * 相同的源代码与虚拟机版本命中缓存 (包括内部类), 源代码或虚拟机版本变化时重新编译
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_cache_hit_and_miss(@TempDir Path dir) throws Exception {
+        System.setProperty(CommonConstants.COMPILER_CACHE_DIR_KEY, dir.toString());
+        Class<?> compiled = new CountingCompiler().compile(source("Cached"), this.getClass().getClassLoader());
+        assertEquals(1, cacheFiles(dir).size());
+
+        CountingCompiler hit = new CountingCompiler();
+        Class<?> cached = hit.compile(source("Cached"), this.getClass().getClassLoader());
+        assertEquals(0, hit.batches);
+        assertNotSame(compiled, cached);
+        assertEquals("Cached", get(cached));
+
+        CountingCompiler sourceChanged = new CountingCompiler();
+        sourceChanged.compile("// changed\n" + source("Cached"), this.getClass().getClassLoader());
+        assertEquals(1, sourceChanged.batches);
+
+        System.setProperty(VM_VERSION, this.vmVersion + "-other");
+        CountingCompiler vmChanged = new CountingCompiler();
+        vmChanged.compile(source("Cached"), this.getClass().getClassLoader());
+        assertEquals(1, vmChanged.batches);
+        assertEquals(3, cacheFiles(dir).size());
+    }
+
+    /**
+     * 缓存文件损坏或只写了一半时重新编译并覆盖缓存
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_corrupt_cache_falls_back_to_compile(@TempDir Path dir) throws Exception {
+        System.setProperty(CommonConstants.COMPILER_CACHE_DIR_KEY, dir.toString());
+        new CountingCompiler().compile(source("Partial"), this.getClass().getClassLoader());
+        Path file = cacheFiles(dir).get(0);
+        byte[] complete = Files.readAllBytes(file);
+
+        // 只保留文件头与部分内容
+        Files.write(file, Arrays.copyOf(complete, complete.length / 2));
+        CountingCompiler partial = new CountingCompiler();
+        assertEquals("Partial", get(partial.compile(source("Partial"), this.getClass().getClassLoader())));
+        assertEquals(1, partial.batches);
+
+        // 文件结构完整, 但其中一个类的字节码不合法
+        byte[] corrupt = Files.readAllBytes(file);
+        int offset = firstBytecodeOffset(corrupt);
+        Arrays.fill(corrupt, offset, offset + 4, (byte) 0);
+        Files.write(file, corrupt);
+        CountingCompiler invalid = new CountingCompiler();
+        assertEquals("Partial", get(invalid.compile(source("Partial"), this.getClass().getClassLoader())));
+        assertEquals(1, invalid.batches);
+
+        // 重新编译后写入了完整的缓存
+        CountingCompiler hit = new CountingCompiler();
+        assertEquals("Partial", get(hit.compile(source("Partial"), this.getClass().getClassLoader())));
+        assertEquals(0, hit.batches);
+    }
+
+    /**
+     * 没有配置缓存目录时不缓存
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_cache_disabled() {
+        assertNull(BytecodeCache.get());
+    }
+
+    /**
+     * 缓存文件中第一个类的字节码的起始位置, 格式见 {@link BytecodeCache#store(String, Map)}
+     *
+     * @param content content
+     * @return the int
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static int firstBytecodeOffset(byte[] content) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        in.readInt();
+        in.readInt();
+        in.readUTF();
+        in.readInt();
+        return content.length - in.available();
+    }
+
+    /**
+     * Source
+     *
+     * @param simpleName simple name
+     * @return the string
+     * @since 1.0.0
+     */
+    private static String source(String simpleName) {
+        return String.format(SOURCE, simpleName);
+    }
+
+    /**
+     * 调用生成类的 get 方法
+     *
+     * @param type type
+     * @return the string
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    private static String get(Class<?> type) throws Exception {
+        return ((Supplier<String>) type.getDeclaredConstructor().newInstance()).get();
+    }
+
+    /**
+     * 缓存目录中的缓存文件
+     *
+     * @param dir dir
+     * @return the list
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    private static List<Path> cacheFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".bin")).toList();
+        }
+    }
+
+    /**
+     * <p>Description: 记录实际编译的次数 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 21:40
+     * @since 1.0.0
+     */
+    private static class CountingCompiler extends JdkCompiler {
+        /** 编译次数 */
+        private int batches;
+        /** 编译过的类名 */
+        private final List<String> compiled = new ArrayList<>();
+
+        /**
+         * Do compile
+         *
+         * @param names     names
+         * @param sources   sources
+         * @param bytecodes bytecodes
+         * @return the list
+         * @throws Throwable throwable
+         * @since 1.0.0
+         */
+        @Override
+        protected List<Class<?>> doCompile(List<String> names, List<String> sources, List<Map<String, byte[]>> bytecodes)
+            throws Throwable {
+            this.batches++;
+            this.compiled.addAll(names);
+            return super.doCompile(names, sources, bytecodes);
+        }
+    }
+}
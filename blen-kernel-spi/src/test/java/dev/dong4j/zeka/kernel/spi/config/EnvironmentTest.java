@@ -0,0 +1,110 @@
+package dev.dong4j.zeka.kernel.spi.config;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: 组合配置默认模式与快照模式 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:10
+ * @since 1.0.0
+ */
+class EnvironmentTest {
+
+    /** KEY */
+    private static final String KEY = "zeka.spi.environment.test";
+    /** EXTERNAL_KEY */
+    private static final String EXTERNAL_KEY = "zeka.spi.environment.external";
+
+    /** Environment */
+    private final Environment environment = Environment.getInstance();
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(KEY);
+        this.environment.setConfigurationSnapshot(false);
+        this.environment.clearExternalConfigs();
+    }
+
+    /**
+     * 默认不缓存, 系统属性的变化立即可见
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_default_mode_sees_system_property_changes() {
+        assertFalse(this.environment.isConfigurationSnapshot());
+        assertNotSame(this.environment.getConfiguration(null, null), this.environment.getConfiguration(null, null));
+
+        System.setProperty(KEY, "first");
+        CompositeConfiguration configuration = this.environment.getConfiguration(null, null);
+        assertFalse(configuration.isSnapshot());
+        assertEquals("first", configuration.getString(KEY));
+
+        System.setProperty(KEY, "second");
+        assertEquals("second", configuration.getString(KEY));
+        assertEquals("second", this.environment.getConfiguration(null, null).getString(KEY));
+
+        System.clearProperty(KEY);
+        assertNull(configuration.getString(KEY));
+    }
+
+    /**
+     * 快照模式缓存解析结果 (包括不存在的 key), 直接修改系统属性后需要 refreshConfigurations, 外部配置变化时自动失效
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_snapshot_mode() {
+        this.environment.setConfigurationSnapshot(true);
+        CompositeConfiguration configuration = this.environment.getConfiguration(null, null);
+        assertTrue(configuration.isSnapshot());
+        assertSame(configuration, this.environment.getConfiguration(null, null));
+
+        System.setProperty(KEY, "first");
+        assertEquals("first", configuration.getString(KEY));
+        System.setProperty(KEY, "second");
+        assertEquals("first", configuration.getString(KEY));
+
+        this.environment.refreshConfigurations();
+        assertEquals("second", configuration.getString(KEY));
+
+        // 不存在的 key 同样被缓存, 更新外部配置后重新解析
+        assertNull(configuration.getString(EXTERNAL_KEY));
+        this.environment.updateExternalConfigurationMap(Map.of(EXTERNAL_KEY, "external"));
+        assertEquals("external", configuration.getString(EXTERNAL_KEY));
+    }
+
+    /**
+     * 关闭快照模式后丢弃已缓存的组合配置
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_disable_snapshot_mode() {
+        this.environment.setConfigurationSnapshot(true);
+        System.setProperty(KEY, "first");
+        assertEquals("first", this.environment.getConfiguration(null, null).getString(KEY));
+
+        System.setProperty(KEY, "second");
+        this.environment.setConfigurationSnapshot(false);
+
+        assertEquals("second", this.environment.getConfiguration(null, null).getString(KEY));
+    }
+}
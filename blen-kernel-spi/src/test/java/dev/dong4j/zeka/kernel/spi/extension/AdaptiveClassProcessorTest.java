@@ -0,0 +1,272 @@
+package dev.dong4j.zeka.kernel.spi.extension;
+
+import dev.dong4j.zeka.kernel.indexer.AdaptiveClassProcessor;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: 编译期生成的自适应类与运行时 {@link AdaptiveClassCodeGenerator} 生成的代码一致 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 20:30
+ * @since 1.0.0
+ */
+class AdaptiveClassProcessorTest {
+
+    /** 有默认扩展名, 参数中包含 URL, 包含非自适应方法 */
+    private static final String SIMPLE_EXT = """
+        package fixture;
+
+        import dev.dong4j.zeka.kernel.spi.URL;
+        import dev.dong4j.zeka.kernel.spi.extension.Adaptive;
+        import dev.dong4j.zeka.kernel.spi.extension.SPI;
+
+        @SPI("simple")
+        public interface SimpleExt {
+            @Adaptive
+            String echo(URL url, String message);
+
+            @Adaptive({"key1", "protocol"})
+            String[] yell(URL url, java.util.List<String> messages) throws java.io.IOException;
+
+            void bang(URL url, int times) throws java.io.IOException;
+        %s}
+        """;
+    /** 没有默认扩展名, 通过参数的 getter 获取 URL */
+    private static final String HOLDER_EXT = """
+        package fixture;
+
+        import dev.dong4j.zeka.kernel.spi.extension.Adaptive;
+        import dev.dong4j.zeka.kernel.spi.extension.SPI;
+
+        @SPI
+        public interface HolderExt {
+            @Adaptive({"protocol", "key"})
+            void handle(UrlHolder holder);
+
+            @Adaptive
+            int size(UrlHolder holder, long[] values);
+        }
+        """;
+    /** URL_HOLDER */
+    private static final String URL_HOLDER = """
+        package fixture;
+
+        import dev.dong4j.zeka.kernel.spi.URL;
+
+        public class UrlHolder {
+            public URL getUrl() {
+                return null;
+            }
+        }
+        """;
+    /** 没有自适应方法, 不生成 */
+    private static final String PLAIN_EXT = """
+        package fixture;
+
+        import dev.dong4j.zeka.kernel.spi.URL;
+        import dev.dong4j.zeka.kernel.spi.extension.SPI;
+
+        @SPI
+        public interface PlainExt {
+            String echo(URL url);
+        }
+        """;
+    /** 类型名 */
+    private static final Pattern TYPE_NAME = Pattern.compile("public (?:interface|class) (\\w+)");
+
+    /**
+     * 编译期生成的源码与运行时生成的源码一致 (方法顺序除外), 且生成类实现了接口的全部方法
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_generated_source_matches_runtime_generator(@TempDir Path dir) throws Exception {
+        Path output = dir.resolve("classes");
+        Path generated = dir.resolve("generated");
+        compile(dir.resolve("src"), output, generated, String.format(SIMPLE_EXT, ""), HOLDER_EXT, URL_HOLDER, PLAIN_EXT);
+
+        assertFalse(Files.exists(generated.resolve("fixture/PlainExt$Adaptive.java")));
+        try (URLClassLoader classLoader = new URLClassLoader(new java.net.URL[] {output.toUri().toURL()}, this.getClass().getClassLoader())) {
+            assertSameSource(classLoader, generated, "SimpleExt", "simple");
+            assertSameSource(classLoader, generated, "HolderExt", null);
+        }
+    }
+
+    /**
+     * 接口新增方法后没有重新生成时, 生成类视为已过期: 新增的抽象方法与新增的 @Adaptive default 方法都没有实现
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_out_of_date_precompiled_class(@TempDir Path dir) throws Exception {
+        Path precompiled = dir.resolve("v1");
+        compile(dir.resolve("src-v1"), precompiled, dir.resolve("generated"), String.format(SIMPLE_EXT, ""));
+        Path withDefault = dir.resolve("v2");
+        compile(dir.resolve("src-v2"), withDefault, null, String.format(SIMPLE_EXT, """
+
+                @Adaptive
+                default String whisper(URL url) {
+                    return "default";
+                }
+            """));
+        Path withAbstract = dir.resolve("v3");
+        compile(dir.resolve("src-v3"), withAbstract, null, String.format(SIMPLE_EXT, """
+
+                @Adaptive
+                String shout(URL url);
+            """));
+
+        assertNull(unimplemented(precompiled, precompiled));
+        assertEquals("whisper", unimplemented(withDefault, precompiled));
+        assertEquals("shout", unimplemented(withAbstract, precompiled));
+    }
+
+    /**
+     * 比较编译期与运行时生成的源码
+     *
+     * @param classLoader    class loader
+     * @param generated      编译期生成的源码目录
+     * @param simpleName     接口简单名
+     * @param defaultExtName default ext name
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    private static void assertSameSource(ClassLoader classLoader, Path generated, String simpleName, String defaultExtName)
+        throws Exception {
+        Class<?> type = Class.forName("fixture." + simpleName, false, classLoader);
+        String precompiled = Files.readString(generated.resolve("fixture/" + simpleName + "$Adaptive.java"), StandardCharsets.UTF_8);
+        String runtime = new AdaptiveClassCodeGenerator(type, defaultExtName).generate();
+
+        assertEquals(normalize(runtime), normalize(precompiled));
+        assertNull(SPILoader.findUnimplementedMethod(type, Class.forName(type.getName() + "$Adaptive", false, classLoader)));
+    }
+
+    /**
+     * 接口从 interfaceRoot 加载, 自适应类从 adaptiveRoot 加载时没有实现的方法名
+     *
+     * @param interfaceRoot interface root
+     * @param adaptiveRoot  adaptive root
+     * @return 全部实现时返回 null
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    private String unimplemented(Path interfaceRoot, Path adaptiveRoot) throws Exception {
+        java.net.URL[] urls = {interfaceRoot.toUri().toURL(), adaptiveRoot.toUri().toURL()};
+        try (URLClassLoader classLoader = new URLClassLoader(urls, this.getClass().getClassLoader())) {
+            Class<?> type = Class.forName("fixture.SimpleExt", false, classLoader);
+            Class<?> adaptive = Class.forName("fixture.SimpleExt$Adaptive", false, classLoader);
+            return type.isAssignableFrom(adaptive) ? name(SPILoader.findUnimplementedMethod(type, adaptive)) : "not assignable";
+        }
+    }
+
+    /**
+     * Name
+     *
+     * @param method method
+     * @return the string
+     * @since 1.0.0
+     */
+    private static String name(java.lang.reflect.Method method) {
+        return method == null ? null : method.getName();
+    }
+
+    /**
+     * 两边遍历方法的顺序不同 (Class#getMethods 的顺序不确定), 类声明之后的方法去掉首尾空白并按文本排序后再比较
+     *
+     * @param code code
+     * @return the list
+     * @since 1.0.0
+     */
+    private static List<String> normalize(String code) {
+        String body = code.substring(0, code.lastIndexOf('}'));
+        String[] parts = body.split("\n(?=public )");
+        List<String> methods = new ArrayList<>();
+        for (int i = 2; i < parts.length; i++) {
+            methods.add(parts[i].strip());
+        }
+        methods.sort(null);
+        List<String> normalized = new ArrayList<>(List.of(parts[0], parts[1]));
+        normalized.addAll(methods);
+        return normalized;
+    }
+
+    /**
+     * 编译 fixture, generated 不为 null 时运行 {@link AdaptiveClassProcessor} 并把生成的源码写入 generated
+     *
+     * @param src       源码目录
+     * @param output    class 输出目录
+     * @param generated 生成的源码目录, 为 null 时不运行注解处理器
+     * @param sources   sources
+     * @throws IOException        io exception
+     * @throws URISyntaxException uri syntax exception
+     * @since 1.0.0
+     */
+    private static void compile(Path src, Path output, Path generated, String... sources) throws IOException, URISyntaxException {
+        List<Path> files = new ArrayList<>();
+        for (String source : sources) {
+            Matcher matcher = TYPE_NAME.matcher(source);
+            assertTrue(matcher.find());
+            Path file = src.resolve("fixture").resolve(matcher.group(1) + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+            files.add(file);
+        }
+        Files.createDirectories(output);
+        List<String> options = new ArrayList<>(List.of("-d", output.toString(), "-classpath", spiClasses()));
+        if (generated == null) {
+            options.add("-proc:none");
+        } else {
+            Files.createDirectories(generated);
+            options.addAll(List.of("-s", generated.toString()));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                                                                 fileManager.getJavaFileObjectsFromPaths(files));
+            if (generated != null) {
+                task.setProcessors(List.of(new AdaptiveClassProcessor()));
+            }
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        }
+    }
+
+    /**
+     * fixture 只依赖 SPI 模块自身的类 (URL, @SPI, @Adaptive, SPILoader)
+     *
+     * @return the string
+     * @throws URISyntaxException uri syntax exception
+     * @since 1.0.0
+     */
+    private static String spiClasses() throws URISyntaxException {
+        return Path.of(SPILoader.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+}
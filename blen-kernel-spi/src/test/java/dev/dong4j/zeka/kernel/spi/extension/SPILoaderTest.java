@@ -0,0 +1,450 @@
+package dev.dong4j.zeka.kernel.spi.extension;
+
+import dev.dong4j.zeka.kernel.spi.URL;
+import dev.dong4j.zeka.kernel.spi.compiler.Compiler;
+import dev.dong4j.zeka.kernel.spi.compiler.support.AdaptiveCompiler;
+import dev.dong4j.zeka.kernel.spi.compiler.support.JavassistCompiler;
+import dev.dong4j.zeka.kernel.spi.compiler.support.JdkCompiler;
+import dev.dong4j.zeka.kernel.spi.extension.factory.AdaptiveExtensionFactory;
+import dev.dong4j.zeka.kernel.spi.extension.factory.SpiExtensionFactory;
+import dev.dong4j.zeka.kernel.spi.extension.factory.SpringExtensionFactory;
+import dev.dong4j.zeka.kernel.spi.extension.support.ActivateComparator;
+import dev.dong4j.zeka.kernel.spi.utils.ConfigUtils;
+import java.io.File;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: 批量预生成自适应类 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:50
+ * @since 1.0.0
+ */
+class SPILoaderTest {
+
+    /** 扩展接口, %s 为接口名 */
+    private static final String EXT = """
+        package fixture.preload;
+
+        import dev.dong4j.zeka.kernel.spi.URL;
+        import dev.dong4j.zeka.kernel.spi.extension.Adaptive;
+        import dev.dong4j.zeka.kernel.spi.extension.SPI;
+
+        @SPI("default")
+        public interface %s {
+            @Adaptive
+            String echo(URL url, String message);
+        }
+        """;
+
+    /**
+     * 没有预编译自适应类的接口在一次编译中生成, 已生成的接口不再编译
+     * <p>
+     * 扩展接口使用 -proc:none 在运行时编译, 因此不存在编译期生成的自适应类
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_preload_adaptive_extension_classes(@TempDir Path dir) throws Exception {
+        Path classes = compileFixtures(dir, "PreloadA", "PreloadB");
+        List<java.net.URL> urls = new ArrayList<>();
+        urls.add(classes.toUri().toURL());
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            urls.add(Path.of(entry).toUri().toURL());
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new java.net.URL[0]), original)) {
+            // 编译器使用线程上下文类加载器的类路径
+            thread.setContextClassLoader(classLoader);
+            AdaptiveCompiler.setDefaultCompiler("counting");
+            Class<?> a = Class.forName("fixture.preload.PreloadA", false, classLoader);
+            Class<?> b = Class.forName("fixture.preload.PreloadB", false, classLoader);
+
+            SPILoader.preloadAdaptiveExtensionClasses(a, b);
+            CountingCompiler compiler = (CountingCompiler) SPILoader.getExtensionLoader(Compiler.class).getExtension("counting");
+            assertEquals(1, compiler.batches);
+            assertEquals(List.of("fixture.preload.PreloadA$Adaptive", "fixture.preload.PreloadB$Adaptive"), compiler.compiled);
+
+            Object adaptiveA = SPILoader.getExtensionLoader(a).getAdaptiveExtension();
+            Object adaptiveB = SPILoader.getExtensionLoader(b).getAdaptiveExtension();
+            assertTrue(a.isInstance(adaptiveA));
+            assertTrue(b.isInstance(adaptiveB));
+            // 同一次编译定义的类
+            assertSame(adaptiveA.getClass().getClassLoader(), adaptiveB.getClass().getClassLoader());
+
+            SPILoader.preloadAdaptiveExtensionClasses(a, b);
+            assertEquals(1, compiler.batches);
+        } finally {
+            AdaptiveCompiler.setDefaultCompiler(null);
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    /**
+     * META-INF/spi/internal 下的 Compiler 与 ExtensionFactory 配置文件以接口全限定名命名, 其中的实现类都能加载.
+     * 旧的 com.fkhwl.starter 文件名已经删除, 否则 SPILoader 找不到任何编译器与扩展工厂
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_internal_spi_resources() {
+        ClassLoader classLoader = SPILoader.class.getClassLoader();
+        assertNotNull(classLoader.getResource("META-INF/spi/internal/" + Compiler.class.getName()));
+        assertNotNull(classLoader.getResource("META-INF/spi/internal/" + ExtensionFactory.class.getName()));
+        assertNull(classLoader.getResource("META-INF/spi/internal/com.fkhwl.starter.spi.compiler.Compiler"));
+        assertNull(classLoader.getResource("META-INF/spi/internal/com.fkhwl.starter.spi.extension.ExtensionFactory"));
+
+        SPILoader<Compiler> compilers = SPILoader.getExtensionLoader(Compiler.class);
+        assertTrue(compilers.getSupportedExtensions().containsAll(List.of("jdk", "javassist")));
+        assertInstanceOf(AdaptiveCompiler.class, compilers.getAdaptiveExtension());
+        assertInstanceOf(JdkCompiler.class, compilers.getExtension("jdk"));
+        assertInstanceOf(JavassistCompiler.class, compilers.getExtension("javassist"));
+
+        SPILoader<ExtensionFactory> factories = SPILoader.getExtensionLoader(ExtensionFactory.class);
+        assertTrue(factories.getSupportedExtensions().containsAll(List.of("spi", "spring")));
+        assertInstanceOf(AdaptiveExtensionFactory.class, factories.getAdaptiveExtension());
+        assertInstanceOf(SpiExtensionFactory.class, factories.getExtension("spi"));
+        assertInstanceOf(SpringExtensionFactory.class, factories.getExtension("spring"));
+    }
+
+    /**
+     * 索引与缓存后的 @Activate 选择结果与逐个扫描的实现 (baseline) 一致:
+     * group 过滤, URL 参数激活 (包括后缀匹配与空值), -name 排除, default 占位符与排序
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_activate_matches_baseline() {
+        SPILoader<ActivateExt> loader = SPILoader.getExtensionLoader(ActivateExt.class);
+        List<URL> urls = List.of(URL.valueOf("test://localhost/ext"),
+                                 URL.valueOf("test://localhost/ext?cache=true"),
+                                 URL.valueOf("test://localhost/ext?x.token=1"),
+                                 URL.valueOf("test://localhost/ext?sign="),
+                                 URL.valueOf("test://localhost/ext?cache=false&x.sign=0"),
+                                 URL.valueOf("test://localhost/ext?cache=1&sign=1"));
+        List<String[]> valuesList = Arrays.asList(null,
+                                                  new String[0],
+                                                  new String[] {"f"},
+                                                  new String[] {"-a"},
+                                                  new String[] {"c"},
+                                                  new String[] {"f", "default"},
+                                                  new String[] {"default", "f"},
+                                                  new String[] {"-default"},
+                                                  new String[] {"-default", "f"},
+                                                  new String[] {"f", "-f", "-b"});
+        for (String group : Arrays.asList(null, "", "consumer", "provider", "none")) {
+            for (URL url : urls) {
+                for (String[] values : valuesList) {
+                    assertEquals(baseline(loader, url, values, group),
+                                 loader.getActivateExtension(url, values, group),
+                                 group + " " + url + " " + Arrays.toString(values));
+                }
+            }
+        }
+
+        // e 声明 before = b, 排在 order 更小的 b 之前; 用户指定的 f 在 default 之前
+        assertEquals(names(loader, "f", "e", "b", "c"),
+                     loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=true"), new String[] {"f", "default"}, "consumer"));
+        assertEquals(names(loader, "e", "b"), loader.getActivateExtension(URL.valueOf("test://localhost/ext"), new String[] {"-a"}));
+        assertEquals(names(loader, "d"), loader.getActivateExtension(URL.valueOf("test://localhost/ext?x.token=1&sign="), "ext", "provider"));
+    }
+
+    /**
+     * 相同的 group, values 与激活键直接返回缓存的结果, 参数值不同但激活键相同的 URL 共用缓存
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_activate_cache_hit() {
+        SPILoader<ActivateExt> loader = SPILoader.getExtensionLoader(ActivateExt.class);
+        List<ActivateExt> first = loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=true"), (String[]) null, "consumer");
+        assertEquals(names(loader, "e", "b", "c"), first);
+        assertEquals(1, loader.activateCacheSize());
+
+        assertEquals(first, loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=yes"), (String[]) null, "consumer"));
+        assertEquals(1, loader.activateCacheSize());
+
+        // false 与 0 视为空值, 不是激活键
+        List<ActivateExt> disabled = loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=false"), (String[]) null, "consumer");
+        assertEquals(names(loader, "e", "b"), disabled);
+        assertEquals(2, loader.activateCacheSize());
+        assertEquals(disabled, loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=0"), (String[]) null, "consumer"));
+        assertEquals(2, loader.activateCacheSize());
+
+        loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=true"), (String[]) null, "provider");
+        loader.getActivateExtension(URL.valueOf("test://localhost/ext?cache=true"), new String[] {"-b"}, "consumer");
+        assertEquals(4, loader.activateCacheSize());
+    }
+
+    /**
+     * addExtension 与 replaceExtension 之后丢弃缓存, 替换后的扩展立即生效
+     *
+     * @since 1.0.0
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    void test_activate_cache_invalidation() {
+        SPILoader<ActivateExt> loader = SPILoader.getExtensionLoader(ActivateExt.class);
+        URL url = URL.valueOf("test://localhost/ext");
+        assertInstanceOf(ActivateB.class, loader.getActivateExtension(url, (String[]) null, "consumer").get(1));
+        assertEquals(1, loader.activateCacheSize());
+
+        loader.addExtension("g", PlainG.class);
+        assertEquals(0, loader.activateCacheSize());
+        assertInstanceOf(PlainG.class, loader.getActivateExtension(url, new String[] {"g"}, "consumer").get(2));
+        assertEquals(1, loader.activateCacheSize());
+
+        loader.replaceExtension("b", ReplacedB.class);
+        assertEquals(0, loader.activateCacheSize());
+        List<ActivateExt> replaced = loader.getActivateExtension(url, (String[]) null, "consumer");
+        assertEquals(2, replaced.size());
+        assertInstanceOf(ActivateE.class, replaced.get(0));
+        assertInstanceOf(ReplacedB.class, replaced.get(1));
+    }
+
+    /**
+     * 缓存数量达到 MAX_ACTIVATE_RESULTS 后不再增长, 结果仍然正确
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_activate_cache_is_bounded() {
+        SPILoader<ActivateExt> loader = SPILoader.getExtensionLoader(ActivateExt.class);
+        URL url = URL.valueOf("test://localhost/ext?cache=true");
+        for (int i = 0; i < SPILoader.MAX_ACTIVATE_RESULTS + 100; i++) {
+            String[] values = {"-x" + i};
+            assertEquals(baseline(loader, url, values, null), loader.getActivateExtension(url, values));
+        }
+        assertEquals(SPILoader.MAX_ACTIVATE_RESULTS, loader.activateCacheSize());
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void tearDown() {
+        SPILoader.resetExtensionLoader(ActivateExt.class);
+    }
+
+    /**
+     * 改造前的 @Activate 选择逻辑: 逐个扫描扩展并匹配 group 与 URL 参数
+     *
+     * @param loader loader
+     * @param url    url
+     * @param values values
+     * @param group  group
+     * @return the list
+     * @since 1.0.0
+     */
+    private static List<ActivateExt> baseline(SPILoader<ActivateExt> loader, URL url, String[] values, String group) {
+        List<ActivateExt> exts = new ArrayList<>();
+        List<String> names = values == null ? new ArrayList<>(0) : Arrays.asList(values);
+        if (!names.contains("-default")) {
+            for (String name : loader.getSupportedExtensions()) {
+                Activate activate = loader.getExtension(name).getClass().getAnnotation(Activate.class);
+                if (activate != null
+                    && (group == null || group.isEmpty() || Arrays.asList(activate.group()).contains(group))
+                    && !names.contains(name)
+                    && !names.contains("-" + name)
+                    && isActive(activate.value(), url)) {
+                    exts.add(loader.getExtension(name));
+                }
+            }
+            exts.sort(ActivateComparator.COMPARATOR);
+        }
+        List<ActivateExt> usrs = new ArrayList<>();
+        for (String name : names) {
+            if (!name.startsWith("-") && !names.contains("-" + name)) {
+                if ("default".equals(name)) {
+                    exts.addAll(0, usrs);
+                    usrs.clear();
+                } else {
+                    usrs.add(loader.getExtension(name));
+                }
+            }
+        }
+        exts.addAll(usrs);
+        return exts;
+    }
+
+    /**
+     * Is active
+     *
+     * @param keys keys
+     * @param url  url
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private static boolean isActive(String[] keys, URL url) {
+        if (keys.length == 0) {
+            return true;
+        }
+        for (String key : keys) {
+            for (Map.Entry<String, String> entry : url.getParameters().entrySet()) {
+                if ((entry.getKey().equals(key) || entry.getKey().endsWith("." + key))
+                    && ConfigUtils.isNotEmpty(entry.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Names
+     *
+     * @param loader loader
+     * @param names  names
+     * @return the list
+     * @since 1.0.0
+     */
+    private static List<ActivateExt> names(SPILoader<ActivateExt> loader, String... names) {
+        return Arrays.stream(names).map(loader::getExtension).toList();
+    }
+
+    /**
+     * 不运行注解处理器编译扩展接口
+     *
+     * @param dir         dir
+     * @param simpleNames simple names
+     * @return class 输出目录
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    private static Path compileFixtures(Path dir, String... simpleNames) throws Exception {
+        Path src = dir.resolve("src/fixture/preload");
+        Path output = dir.resolve("classes");
+        Files.createDirectories(src);
+        Files.createDirectories(output);
+        List<Path> files = new ArrayList<>();
+        for (String simpleName : simpleNames) {
+            Path file = src.resolve(simpleName + ".java");
+            Files.writeString(file, String.format(EXT, simpleName), StandardCharsets.UTF_8);
+            files.add(file);
+        }
+        List<String> options = List.of("-d", output.toString(), "-proc:none", "-classpath", System.getProperty("java.class.path"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            assertTrue(compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromPaths(files))
+                           .call(), diagnostics.getDiagnostics().toString());
+        }
+        return output;
+    }
+
+    /**
+     * <p>Description: 记录实际编译的次数, 通过 META-INF/spi 注册为 counting </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 21:50
+     * @since 1.0.0
+     */
+    public static class CountingCompiler extends JdkCompiler {
+        /** 编译次数 */
+        private int batches;
+        /** 编译过的类名 */
+        private final List<String> compiled = new ArrayList<>();
+
+        /**
+         * Do compile
+         *
+         * @param names     names
+         * @param sources   sources
+         * @param bytecodes bytecodes
+         * @return the list
+         * @throws Throwable throwable
+         * @since 1.0.0
+         */
+        @Override
+        protected List<Class<?>> doCompile(List<String> names, List<String> sources, List<Map<String, byte[]>> bytecodes)
+            throws Throwable {
+            this.batches++;
+            this.compiled.addAll(names);
+            return super.doCompile(names, sources, bytecodes);
+        }
+    }
+
+    /**
+     * <p>Description: @Activate 测试使用的扩展接口, order 互不相同, 排序结果与扫描顺序无关 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 21:50
+     * @since 1.0.0
+     */
+    @SPI
+    public interface ActivateExt {
+    }
+
+    /** 没有 group 与 value, 不指定 group 时总是激活 */
+    @Activate(order = 0)
+    public static class ActivateA implements ActivateExt {
+    }
+
+    /** consumer */
+    @Activate(group = "consumer", order = 2)
+    public static class ActivateB implements ActivateExt {
+    }
+
+    /** provider 与 consumer, URL 中有 cache 参数时激活 */
+    @Activate(group = {"provider", "consumer"}, value = "cache", order = 3)
+    public static class ActivateC implements ActivateExt {
+    }
+
+    /** provider, URL 中有 token 或 sign 参数 (包括 x.token 这样的后缀) 时激活 */
+    @Activate(group = "provider", value = {"token", "sign"}, order = -1)
+    public static class ActivateD implements ActivateExt {
+    }
+
+    /** consumer, 排在 b 之前 */
+    @Activate(group = "consumer", order = 1, before = "b")
+    public static class ActivateE implements ActivateExt {
+    }
+
+    /** 没有 @Activate, 只能通过 values 指定 */
+    public static class PlainF implements ActivateExt {
+    }
+
+    /** 通过 addExtension 添加 */
+    public static class PlainG implements ActivateExt {
+    }
+
+    /** 通过 replaceExtension 替换 b */
+    @Activate(group = "consumer", order = 2)
+    public static class ReplacedB implements ActivateExt {
+    }
+}
@@ -0,0 +1,86 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+
+/**
+ * <p>Description: 跨线程传递的父 span </p>
+ * 链路 id 由 {@link dev.dong4j.zeka.kernel.common.context.Trace} 传递, 这里只补充父 span id 与采样结果.
+ * 传递方式与 Trace, {@link dev.dong4j.zeka.kernel.common.context.ExpandIdsContext} 相同, 使用 TTL 包装的线程池或
+ * MdcTaskDecorator 提交任务时一起被捕获.
+ * <p>
+ * TTL 中只保存其他线程传递过来的快照, 当前线程正在执行的 span 在捕获 (提交任务或创建子线程) 时才生成快照,
+ * 所以开始与结束 span 时不需要修改 TTL.
+ *
+ * @param traceId 链路 id
+ * @param spanId  父 span id
+ * @param sampled 是否被头部采样选中
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+public record SpanContext(String traceId, long spanId, boolean sampled) {
+
+    /** 占位, 使 TTL 在没有父 span 的线程中也会被捕获 */
+    private static final SpanContext NONE = new SpanContext(null, 0, false);
+    /** 当前线程记录 span 的状态 */
+    private static final ThreadLocal<ThreadState> ACTIVE = new ThreadLocal<>();
+    /** 其他线程传递过来的父 span */
+    private static final TransmittableThreadLocal<SpanContext> CONTEXT = new TransmittableThreadLocal<>() {
+        @Override
+        public SpanContext copy(SpanContext parentValue) {
+            return capture(parentValue);
+        }
+
+        @Override
+        protected SpanContext childValue(SpanContext parentValue) {
+            return capture(parentValue);
+        }
+    };
+
+    /**
+     * 获取当前线程的父 span, 即提交任务时会传递出去的 span
+     *
+     * @return 没有时返回 null
+     * @since 1.0.0
+     */
+    public static SpanContext current() {
+        return capture(CONTEXT.get());
+    }
+
+    /**
+     * 开始根 span 时调用, 获取从其他线程传递过来的父 span
+     *
+     * @param state 当前线程的状态
+     * @return 没有传递时返回 null
+     * @since 1.0.0
+     */
+    static SpanContext attach(ThreadState state) {
+        if (ACTIVE.get() != state) {
+            ACTIVE.set(state);
+        }
+        SpanContext remote = CONTEXT.get();
+        if (remote == null) {
+            CONTEXT.set(NONE);
+            return null;
+        }
+        return remote == NONE ? null : remote;
+    }
+
+    /**
+     * 生成快照, 在捕获线程中执行
+     *
+     * @param inherited 当前线程从其他线程继承的父 span
+     * @return the span context
+     * @since 1.0.0
+     */
+    private static SpanContext capture(SpanContext inherited) {
+        ThreadState state = ACTIVE.get();
+        SpanScope top = state == null ? null : state.top();
+        if (top != null) {
+            return new SpanContext(top.traceId, top.spanId, top.sampled);
+        }
+        return inherited == NONE ? null : inherited;
+    }
+}
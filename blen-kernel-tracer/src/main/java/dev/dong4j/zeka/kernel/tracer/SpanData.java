@@ -0,0 +1,44 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+/**
+ * <p>Description: 已结束的 span, 由后台线程从环形缓冲区中复制出来交给 {@link dev.dong4j.zeka.kernel.tracer.export.SpanExporter} </p>
+ *
+ * @param traceId          链路 id, 与 {@link dev.dong4j.zeka.kernel.common.context.Trace} 中的一致
+ * @param spanId           span id
+ * @param parentSpanId     父 span id, 本进程内的根 span 为 0
+ * @param name             名称
+ * @param startEpochMicros 开始时间 (微秒)
+ * @param durationNanos    耗时 (纳秒)
+ * @param thread           执行线程
+ * @param error            异常类名, 正常结束时为 null
+ * @param sampled          是否被头部采样选中
+ * @param tenantId         租户 id, 只记录在根 span 上
+ * @param clientId         客户端 id, 只记录在根 span 上
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+public record SpanData(String traceId,
+                       long spanId,
+                       long parentSpanId,
+                       String name,
+                       long startEpochMicros,
+                       long durationNanos,
+                       String thread,
+                       String error,
+                       boolean sampled,
+                       Long tenantId,
+                       String clientId) {
+
+    /**
+     * 是否为本进程内的根 span
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isRoot() {
+        return this.parentSpanId == 0;
+    }
+}
@@ -0,0 +1,60 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+/**
+ * <p>Description: 环形缓冲区中的槽位 </p>
+ * 预先分配并反复复用, 记录 span 时只写字段, 不分配对象. 由所属线程写入, 后台线程在发布之后读取.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+final class SpanRecord {
+
+    /** Trace id */
+    String traceId;
+    /** Span id */
+    long spanId;
+    /** Parent span id */
+    long parentSpanId;
+    /** Name */
+    String name;
+    /** Start epoch micros */
+    long startEpochMicros;
+    /** Duration nanos */
+    long durationNanos;
+    /** Error */
+    String error;
+    /** Sampled */
+    boolean sampled;
+    /** Tenant id */
+    Long tenantId;
+    /** Client id */
+    String clientId;
+
+    /**
+     * 复制为不可变的 span
+     *
+     * @param thread thread
+     * @return the span data
+     * @since 1.0.0
+     */
+    SpanData toData(String thread) {
+        return new SpanData(this.traceId, this.spanId, this.parentSpanId, this.name, this.startEpochMicros, this.durationNanos,
+            thread, this.error, this.sampled, this.tenantId, this.clientId);
+    }
+
+    /**
+     * 释放引用, 避免槽位长期持有字符串
+     *
+     * @since 1.0.0
+     */
+    void clear() {
+        this.traceId = null;
+        this.name = null;
+        this.error = null;
+        this.tenantId = null;
+        this.clientId = null;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * <p>Description: 单生产者单消费者的无锁环形缓冲区 </p>
+ * 生产者是所属的业务线程, 消费者是 {@link Tracer} 的后台线程:
+ * 1. 写满时直接丢弃并由调用方计数, 业务线程永远不会等待
+ * 2. 槽位在第一次写入时创建并一直复用, 写满过一轮之后写入与发布都不分配对象; 很少记录 span 的线程只占用少量槽位
+ * 3. 写入序号以 release 语义发布, 消费者以 acquire 语义读取, 保证读到完整的槽位
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+final class SpanRingBuffer {
+
+    /** 槽位 */
+    private final SpanRecord[] slots;
+    /** 容量减一, 容量为 2 的幂 */
+    private final int mask;
+    /** 下一个写入的序号, 只由生产者修改 */
+    private final AtomicLong head = new AtomicLong();
+    /** 下一个读取的序号, 只由消费者修改 */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Span ring buffer
+     *
+     * @param capacity 容量, 向上取整为 2 的幂
+     * @since 1.0.0
+     */
+    SpanRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new SpanRecord[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * 获取下一个可写的槽位, 写完字段后调用 {@link #publish()}
+     *
+     * @return 缓冲区已满时返回 null
+     * @since 1.0.0
+     */
+    SpanRecord claim() {
+        long h = this.head.getPlain();
+        if (h - this.tail.getAcquire() >= this.slots.length) {
+            return null;
+        }
+        int index = (int) h & this.mask;
+        SpanRecord record = this.slots[index];
+        if (record == null) {
+            // 由 publish 的 release 语义发布给消费者
+            record = this.slots[index] = new SpanRecord();
+        }
+        return record;
+    }
+
+    /**
+     * 发布 {@link #claim()} 返回的槽位
+     *
+     * @since 1.0.0
+     */
+    void publish() {
+        this.head.setRelease(this.head.getPlain() + 1);
+    }
+
+    /**
+     * 读取所有已发布的槽位, 回调返回后槽位即可被复用
+     *
+     * @param consumer consumer
+     * @return 读取的数量
+     * @since 1.0.0
+     */
+    int drain(Consumer<SpanRecord> consumer) {
+        long t = this.tail.getPlain();
+        long h = this.head.getAcquire();
+        for (long i = t; i < h; i++) {
+            SpanRecord record = this.slots[(int) i & this.mask];
+            consumer.accept(record);
+            record.clear();
+        }
+        this.tail.setRelease(h);
+        return (int) (h - t);
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    boolean isEmpty() {
+        return this.head.getAcquire() == this.tail.getPlain();
+    }
+
+    /**
+     * Capacity
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    int capacity() {
+        return this.slots.length;
+    }
+}
@@ -0,0 +1,115 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+/**
+ * <p>Description: 正在执行的 span </p>
+ * 每个线程按嵌套深度复用实例, 开始与结束 span 都不分配对象, 因此只能在开始它的线程中使用,
+ * 并且不能在 {@link #close()} 之后继续持有.
+ * <pre>{@code
+ * try (SpanScope span = tracer.start("order.create")) {
+ *     try {
+ *         ...
+ *     } catch (RuntimeException e) {
+ *         span.error(e);
+ *         throw e;
+ *     }
+ * }
+ * }</pre>
+ * 关闭外层 span 时, 尚未关闭的内层 span 会一并结束.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+public final class SpanScope implements AutoCloseable {
+
+    /** 所属线程的状态 */
+    private final ThreadState state;
+    /** Trace id */
+    String traceId;
+    /** Span id */
+    long spanId;
+    /** Parent span id */
+    long parentSpanId;
+    /** Name */
+    String name;
+    /** Start epoch micros */
+    long startEpochMicros;
+    /** Start nanos */
+    long startNanos;
+    /** 是否被头部采样选中 */
+    boolean sampled;
+    /** 是否写入环形缓冲区 (选中或等待尾部采样) */
+    boolean recorded;
+    /** 是否由当前 span 写入了 Trace, 结束时需要清理 */
+    boolean ownsTrace;
+    /** Error */
+    String error;
+    /** Tenant id */
+    Long tenantId;
+    /** Client id */
+    String clientId;
+
+    /**
+     * Span scope
+     *
+     * @param state state
+     * @since 1.0.0
+     */
+    SpanScope(ThreadState state) {
+        this.state = state;
+    }
+
+    /**
+     * Trace id
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    public String traceId() {
+        return this.traceId;
+    }
+
+    /**
+     * Span id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long spanId() {
+        return this.spanId;
+    }
+
+    /**
+     * 是否被头部采样选中
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean sampled() {
+        return this.sampled;
+    }
+
+    /**
+     * 标记异常, 只记录异常类名
+     *
+     * @param throwable throwable
+     * @return the span scope
+     * @since 1.0.0
+     */
+    public SpanScope error(Throwable throwable) {
+        this.error = throwable.getClass().getName();
+        return this;
+    }
+
+    /**
+     * 结束 span
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        this.state.end(this);
+    }
+}
@@ -0,0 +1,156 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+import dev.dong4j.zeka.kernel.tracer.sampler.TailSampler;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Description: 等待尾部采样的链路 </p>
+ * 头部采样未选中的 span 按链路暂存, 本进程的根 span 到达后交给 {@link TailSampler} 决定是否导出:
+ * 1. 根 span 迟迟不到 (例如异步任务晚于请求结束) 的链路在超时后按已有的 span 决定
+ * 2. 暂存的链路超过上限时, 最早的链路提前决定
+ * 3. 最近决定过的链路会被记住, 之后到达的 span 直接沿用结果
+ * 只在 Tracer 的后台线程中使用, 不需要同步.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+final class TailBuffer {
+
+    /** 记住决定结果的链路数 */
+    private static final int DECIDED_CAPACITY = 4096;
+
+    /** Sampler */
+    private final TailSampler sampler;
+    /** 超时时间 */
+    private final long timeoutNanos;
+    /** 暂存链路的上限 */
+    private final int maxTraces;
+    /** 暂存的链路, 按首次到达的顺序 */
+    private final Map<String, Pending> pending = new LinkedHashMap<>();
+    /** 最近决定过的链路 */
+    private final Map<String, Boolean> decided = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return this.size() > DECIDED_CAPACITY;
+        }
+    };
+
+    /**
+     * Tail buffer
+     *
+     * @param sampler      sampler
+     * @param timeoutNanos timeout nanos
+     * @param maxTraces    max traces
+     * @since 1.0.0
+     */
+    TailBuffer(TailSampler sampler, long timeoutNanos, int maxTraces) {
+        this.sampler = sampler;
+        this.timeoutNanos = timeoutNanos;
+        this.maxTraces = maxTraces;
+    }
+
+    /**
+     * 暂存 span, 链路决定导出时把 span 放入 exported
+     *
+     * @param span     span
+     * @param now      当前时间 (纳秒)
+     * @param exported 待导出的 span
+     * @since 1.0.0
+     */
+    void offer(SpanData span, long now, List<SpanData> exported) {
+        Boolean keep = this.decided.get(span.traceId());
+        if (keep != null) {
+            if (keep) {
+                exported.add(span);
+            }
+            return;
+        }
+        Pending trace = this.pending.computeIfAbsent(span.traceId(), key -> new Pending(now));
+        trace.spans.add(span);
+        if (span.isRoot()) {
+            this.decide(span.traceId(), exported);
+        } else if (this.pending.size() > this.maxTraces) {
+            this.decide(this.pending.keySet().iterator().next(), exported);
+        }
+    }
+
+    /**
+     * 决定超时的链路
+     *
+     * @param now      当前时间 (纳秒)
+     * @param exported 待导出的 span
+     * @since 1.0.0
+     */
+    void expire(long now, List<SpanData> exported) {
+        Iterator<Map.Entry<String, Pending>> iterator = this.pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Pending> entry = iterator.next();
+            if (now - entry.getValue().arrived < this.timeoutNanos) {
+                // 按到达顺序排列, 后面的都未超时
+                break;
+            }
+            iterator.remove();
+            this.keep(entry.getKey(), entry.getValue(), exported);
+        }
+    }
+
+    /**
+     * Decide
+     *
+     * @param traceId  trace id
+     * @param exported exported
+     * @since 1.0.0
+     */
+    private void decide(String traceId, List<SpanData> exported) {
+        this.keep(traceId, this.pending.remove(traceId), exported);
+    }
+
+    /**
+     * Keep
+     *
+     * @param traceId  trace id
+     * @param trace    trace
+     * @param exported exported
+     * @since 1.0.0
+     */
+    private void keep(String traceId, Pending trace, List<SpanData> exported) {
+        boolean keep = this.sampler.keep(trace.spans);
+        this.decided.put(traceId, keep);
+        if (keep) {
+            exported.addAll(trace.spans);
+        }
+    }
+
+    /**
+     * <p>Description: 暂存的链路 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 22:10
+     * @since 1.0.0
+     */
+    private static final class Pending {
+        /** 首个 span 到达的时间 (纳秒) */
+        private final long arrived;
+        /** Spans */
+        private final List<SpanData> spans = new ArrayList<>();
+
+        /**
+         * Pending
+         *
+         * @param arrived arrived
+         * @since 1.0.0
+         */
+        private Pending(long arrived) {
+            this.arrived = arrived;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+import java.util.Arrays;
+
+/**
+ * <p>Description: 线程内的 span 栈与环形缓冲区 </p>
+ * 只由所属线程修改, 后台线程只读取环形缓冲区与 {@link #isTerminated()}.
+ * 环形缓冲区在第一次记录 span 时才创建并注册到 {@link Tracer}, 只开始未采样 span 的线程不占用缓冲区.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+final class ThreadState {
+
+    /** Tracer */
+    final Tracer tracer;
+    /** 所属线程 */
+    final Thread thread;
+    /** 线程名称 */
+    final String threadName;
+    /** 环形缓冲区容量 */
+    private final int capacity;
+    /** 已结束的 span, 第一次记录时创建 */
+    private volatile SpanRingBuffer ring;
+    /** 按嵌套深度复用的 span */
+    private SpanScope[] frames = new SpanScope[8];
+    /** 当前嵌套深度 */
+    private int depth;
+
+    /**
+     * Thread state
+     *
+     * @param tracer   tracer
+     * @param capacity 环形缓冲区容量
+     * @since 1.0.0
+     */
+    ThreadState(Tracer tracer, int capacity) {
+        this.tracer = tracer;
+        this.thread = Thread.currentThread();
+        this.threadName = this.thread.getName();
+        this.capacity = capacity;
+    }
+
+    /**
+     * 环形缓冲区, 只由所属线程调用, 第一次调用时创建并注册
+     *
+     * @return the span ring buffer
+     * @since 1.0.0
+     */
+    SpanRingBuffer ring() {
+        SpanRingBuffer current = this.ring;
+        if (current == null) {
+            current = this.ring = new SpanRingBuffer(this.capacity);
+            this.tracer.register(this);
+        }
+        return current;
+    }
+
+    /**
+     * 后台线程读取环形缓冲区, 只对已注册的状态调用
+     *
+     * @return the span ring buffer
+     * @since 1.0.0
+     */
+    SpanRingBuffer registeredRing() {
+        return this.ring;
+    }
+
+    /**
+     * 当前 span
+     *
+     * @return 没有时返回 null
+     * @since 1.0.0
+     */
+    SpanScope top() {
+        return this.depth == 0 ? null : this.frames[this.depth - 1];
+    }
+
+    /**
+     * 压入一个 span, 只有首次达到某个深度时才创建实例
+     *
+     * @return the span scope
+     * @since 1.0.0
+     */
+    SpanScope push() {
+        if (this.depth == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.depth << 1);
+        }
+        SpanScope scope = this.frames[this.depth];
+        if (scope == null) {
+            scope = this.frames[this.depth] = new SpanScope(this);
+        }
+        this.depth++;
+        return scope;
+    }
+
+    /**
+     * 结束 span 及其内层尚未结束的 span, 重复关闭时忽略
+     *
+     * @param scope scope
+     * @since 1.0.0
+     */
+    void end(SpanScope scope) {
+        int index = this.depth - 1;
+        while (index >= 0 && this.frames[index] != scope) {
+            index--;
+        }
+        if (index < 0) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        while (this.depth > index) {
+            this.tracer.finish(this, this.frames[--this.depth], endNanos);
+        }
+    }
+
+    /**
+     * 所属线程已结束
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    boolean isTerminated() {
+        return !this.thread.isAlive();
+    }
+}
@@ -0,0 +1,474 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+import dev.dong4j.zeka.kernel.common.context.ExpandIds;
+import dev.dong4j.zeka.kernel.common.context.ExpandIdsContext;
+import dev.dong4j.zeka.kernel.common.context.Trace;
+import dev.dong4j.zeka.kernel.common.support.NamedThreadFactory;
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
+import dev.dong4j.zeka.kernel.spi.extension.SPILoader;
+import dev.dong4j.zeka.kernel.tracer.export.SpanExporter;
+import dev.dong4j.zeka.kernel.tracer.sampler.Sampler;
+import dev.dong4j.zeka.kernel.tracer.sampler.TailSampler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>Description: 进程内的 span 记录器 </p>
+ * 1. 每个线程把结束的 span 写入自己的无锁环形缓冲区, 开始与结束 span 不分配对象 (根 span 生成链路 id 除外);
+ * 缓冲区在线程第一次记录 span 时才创建, 线程结束且缓冲区读完后移除
+ * 2. 根 span 开始时由 {@link Sampler} 做头部采样, 未选中且没有配置 {@link TailSampler} 的链路只维护父子关系, 不做记录
+ * 3. 后台线程定期读取所有缓冲区, 对未选中的链路做尾部采样, 再批量交给 {@link SpanExporter}
+ * 4. 缓冲区写满时丢弃新的 span 并计数, 业务线程不会等待
+ * <p>
+ * 链路 id 读写 {@link Trace}, 根 span 同时记录 {@link ExpandIdsContext} 中的租户与客户端, 跨线程的父子关系见 {@link SpanContext}.
+ * <pre>{@code
+ * Tracer tracer = Tracer.builder()
+ *     .sampler(Sampler.ratio(0.1))
+ *     .tailSampler(TailSampler.anyOf(TailSampler.errors(), TailSampler.slowerThan(Duration.ofSeconds(1))))
+ *     .build();
+ * try (SpanScope span = tracer.start("order.create")) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+@Slf4j
+public final class Tracer implements AutoCloseable {
+
+    /** 头部采样 */
+    private final Sampler sampler;
+    /** 尾部采样, 未配置时为 null */
+    private final TailBuffer tailBuffer;
+    /** Exporter */
+    private final SpanExporter exporter;
+    /** 每个线程的缓冲区容量 */
+    private final int ringCapacity;
+    /** 当前线程的状态 */
+    private final ThreadLocal<ThreadState> states = ThreadLocal.withInitial(this::newState);
+    /** 已创建缓冲区的线程状态, 线程结束且缓冲区读完后移除 */
+    private final Set<ThreadState> registered = ConcurrentHashMap.newKeySet();
+    /** 缓冲区写满丢弃的 span 数 */
+    private final LongAdder dropped = new LongAdder();
+    /** 创建时的时间 (微秒), 与 baseNanos 一起换算 span 的开始时间 */
+    private final long baseEpochMicros;
+    /** 创建时的 nanoTime */
+    private final long baseNanos;
+    /** 后台线程 */
+    private final ScheduledExecutorService flusher;
+    /** Closed */
+    private volatile boolean closed;
+
+    /**
+     * Tracer
+     *
+     * @param builder builder
+     * @since 1.0.0
+     */
+    private Tracer(Builder builder) {
+        this.sampler = builder.sampler;
+        this.tailBuffer = builder.tailSampler == null
+                          ? null
+                          : new TailBuffer(builder.tailSampler, builder.tailTimeout.toNanos(), builder.maxPendingTraces);
+        this.exporter = builder.exporter != null
+                        ? builder.exporter
+                        : SPILoader.getExtensionLoader(SpanExporter.class).getDefaultExtension();
+        this.ringCapacity = builder.ringCapacity;
+        this.baseEpochMicros = System.currentTimeMillis() * 1000;
+        this.baseNanos = System.nanoTime();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("zeka-tracer-flush", true));
+        long interval = builder.flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Builder
+     *
+     * @return the builder
+     * @since 1.0.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 开始 span, 当前线程存在未结束的 span 时作为它的子 span
+     *
+     * @param name 名称, 建议使用常量, 记录时只保存引用
+     * @return the span scope
+     * @since 1.0.0
+     */
+    public SpanScope start(String name) {
+        ThreadState state = this.states.get();
+        SpanScope parent = state.top();
+        SpanScope scope = state.push();
+        scope.name = name;
+        scope.spanId = nextSpanId();
+        scope.error = null;
+        scope.ownsTrace = false;
+        scope.tenantId = null;
+        scope.clientId = null;
+        if (parent != null) {
+            scope.traceId = parent.traceId;
+            scope.parentSpanId = parent.spanId;
+            scope.sampled = parent.sampled;
+        } else {
+            this.startRoot(state, scope);
+        }
+        scope.recorded = scope.sampled || this.tailBuffer != null;
+        scope.startNanos = System.nanoTime();
+        scope.startEpochMicros = this.baseEpochMicros + (scope.startNanos - this.baseNanos) / 1000;
+        return scope;
+    }
+
+    /**
+     * 开始当前线程的第一个 span
+     *
+     * @param state state
+     * @param scope scope
+     * @since 1.0.0
+     */
+    private void startRoot(ThreadState state, SpanScope scope) {
+        SpanContext remote = SpanContext.attach(state);
+        if (remote != null) {
+            scope.traceId = remote.traceId();
+            scope.parentSpanId = remote.spanId();
+            scope.sampled = remote.sampled();
+            return;
+        }
+        String traceId = Trace.context().get();
+        if (StringUtils.isBlank(traceId)) {
+            traceId = StringUtils.getUid();
+            Trace.context().set(traceId);
+            scope.ownsTrace = true;
+        }
+        scope.traceId = traceId;
+        scope.parentSpanId = 0;
+        scope.sampled = this.sampler.sample(traceId, scope.name);
+        ExpandIds expandIds = ExpandIdsContext.context().get();
+        if (expandIds != null) {
+            scope.tenantId = expandIds.getTenantId().orElse(null);
+            scope.clientId = expandIds.getClientId().orElse(null);
+        }
+    }
+
+    /**
+     * 结束 span, 由 {@link ThreadState#end(SpanScope)} 在所属线程中调用
+     *
+     * @param state    state
+     * @param scope    scope
+     * @param endNanos end nanos
+     * @since 1.0.0
+     */
+    void finish(ThreadState state, SpanScope scope, long endNanos) {
+        if (scope.recorded && !this.closed) {
+            SpanRingBuffer ring = state.ring();
+            SpanRecord record = ring.claim();
+            if (record == null) {
+                this.dropped.increment();
+            } else {
+                record.traceId = scope.traceId;
+                record.spanId = scope.spanId;
+                record.parentSpanId = scope.parentSpanId;
+                record.name = scope.name;
+                record.startEpochMicros = scope.startEpochMicros;
+                record.durationNanos = endNanos - scope.startNanos;
+                record.error = scope.error;
+                record.sampled = scope.sampled;
+                record.tenantId = scope.tenantId;
+                record.clientId = scope.clientId;
+                ring.publish();
+            }
+        }
+        if (scope.ownsTrace) {
+            Trace.clear();
+        }
+    }
+
+    /**
+     * 缓冲区写满丢弃的 span 数
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * 立即读取所有缓冲区并导出
+     *
+     * @since 1.0.0
+     */
+    public synchronized void flush() {
+        long now = System.nanoTime();
+        List<SpanData> batch = new ArrayList<>();
+        for (ThreadState state : this.registered) {
+            // 先判断线程是否结束, 结束前写入的 span 在本次一定能读到
+            boolean terminated = state.isTerminated();
+            state.registeredRing().drain(record -> this.collect(record.toData(state.threadName), now, batch));
+            if (terminated) {
+                this.registered.remove(state);
+            }
+        }
+        if (this.tailBuffer != null) {
+            this.tailBuffer.expire(now, batch);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            this.exporter.export(batch);
+        } catch (Exception e) {
+            log.warn("Failed to export {} spans, cause: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 停止后台线程, 导出剩余的 span 并关闭 exporter
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.flusher.shutdown();
+        try {
+            this.flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.flush();
+        try {
+            this.exporter.close();
+        } catch (Exception e) {
+            log.warn("Failed to close span exporter, cause: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Collect
+     *
+     * @param span  span
+     * @param now   now
+     * @param batch batch
+     * @since 1.0.0
+     */
+    private void collect(SpanData span, long now, List<SpanData> batch) {
+        if (span.sampled()) {
+            batch.add(span);
+        } else if (this.tailBuffer != null) {
+            this.tailBuffer.offer(span, now, batch);
+        }
+    }
+
+    /**
+     * 后台线程定期执行, 异常不能抛出, 否则后续不再调度
+     *
+     * @since 1.0.0
+     */
+    private void flushQuietly() {
+        try {
+            this.flush();
+        } catch (Throwable t) {
+            log.warn("Failed to flush spans, cause: {}", t.toString());
+        }
+    }
+
+    /**
+     * 首次在线程中开始 span 时创建状态, 缓冲区等到第一次记录 span 时再创建
+     *
+     * @return the thread state
+     * @since 1.0.0
+     */
+    private ThreadState newState() {
+        return new ThreadState(this, this.ringCapacity);
+    }
+
+    /**
+     * 线程第一次记录 span 时注册, 之后由后台线程读取
+     *
+     * @param state state
+     * @since 1.0.0
+     */
+    void register(ThreadState state) {
+        this.registered.add(state);
+    }
+
+    /**
+     * 已创建缓冲区且尚未移除的线程数
+     *
+     * @return the int
+     * @since 1.0.0
+     */
+    int registeredThreads() {
+        return this.registered.size();
+    }
+
+    /**
+     * 随机生成非 0 的 span id
+     *
+     * @return the long
+     * @since 1.0.0
+     */
+    private static long nextSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    /**
+     * <p>Description: Tracer 构建器 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 22:10
+     * @since 1.0.0
+     */
+    public static final class Builder {
+        /** 头部采样, 默认全部采样 */
+        private Sampler sampler = Sampler.always();
+        /** 尾部采样, 默认不开启 */
+        private TailSampler tailSampler;
+        /** 等待根 span 的超时时间 */
+        private Duration tailTimeout = Duration.ofSeconds(30);
+        /** 等待尾部采样的链路上限 */
+        private int maxPendingTraces = 10000;
+        /** Exporter, 默认使用 SPI 的默认扩展 */
+        private SpanExporter exporter;
+        /** 每个线程的缓冲区容量 */
+        private int ringCapacity = 256;
+        /** 后台线程读取缓冲区的间隔 */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * Builder
+         *
+         * @since 1.0.0
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sampler
+         *
+         * @param sampler sampler
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder sampler(Sampler sampler) {
+            this.sampler = sampler;
+            return this;
+        }
+
+        /**
+         * Tail sampler
+         *
+         * @param tailSampler tail sampler
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder tailSampler(TailSampler tailSampler) {
+            this.tailSampler = tailSampler;
+            return this;
+        }
+
+        /**
+         * Tail timeout
+         *
+         * @param tailTimeout tail timeout
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder tailTimeout(Duration tailTimeout) {
+            this.tailTimeout = tailTimeout;
+            return this;
+        }
+
+        /**
+         * Max pending traces
+         *
+         * @param maxPendingTraces max pending traces
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder maxPendingTraces(int maxPendingTraces) {
+            this.maxPendingTraces = maxPendingTraces;
+            return this;
+        }
+
+        /**
+         * Exporter
+         *
+         * @param exporter exporter
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder exporter(SpanExporter exporter) {
+            this.exporter = exporter;
+            return this;
+        }
+
+        /**
+         * 按扩展名使用 SPI 中注册的 exporter
+         *
+         * @param name name
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder exporter(String name) {
+            this.exporter = SPILoader.getExtensionLoader(SpanExporter.class).getExtension(name);
+            return this;
+        }
+
+        /**
+         * Ring capacity
+         *
+         * @param ringCapacity ring capacity
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder ringCapacity(int ringCapacity) {
+            this.ringCapacity = ringCapacity;
+            return this;
+        }
+
+        /**
+         * Flush interval
+         *
+         * @param flushInterval flush interval
+         * @return the builder
+         * @since 1.0.0
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Build
+         *
+         * @return the tracer
+         * @since 1.0.0
+         */
+        public Tracer build() {
+            return new Tracer(this);
+        }
+    }
+}
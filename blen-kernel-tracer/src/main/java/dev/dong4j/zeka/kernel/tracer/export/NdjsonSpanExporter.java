@@ -0,0 +1,92 @@
+package dev.dong4j.zeka.kernel.tracer.export;
+
+import dev.dong4j.zeka.kernel.common.util.Jsons;
+import dev.dong4j.zeka.kernel.tracer.SpanData;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * <p>Description: 以 NDJSON (每行一个 JSON 对象) 格式追加写入本地文件 </p>
+ * 文件路径通过系统属性 {@value #PATH_KEY} 指定, 默认为临时目录下的 {@code zeka-tracer/spans.ndjson}.
+ * 每批 span 写完后刷新, 进程异常退出时最多丢失一批.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+public class NdjsonSpanExporter implements SpanExporter {
+
+    /** 文件路径配置 */
+    public static final String PATH_KEY = "zeka.tracer.ndjson.path";
+
+    /** 文件路径 */
+    private final Path path;
+    /** Writer, 第一次导出时打开 */
+    private Writer writer;
+
+    /**
+     * 使用系统属性中的文件路径
+     *
+     * @since 1.0.0
+     */
+    public NdjsonSpanExporter() {
+        this(Paths.get(System.getProperty(PATH_KEY,
+            Paths.get(System.getProperty("java.io.tmpdir"), "zeka-tracer", "spans.ndjson").toString())));
+    }
+
+    /**
+     * Ndjson span exporter
+     *
+     * @param path 文件路径
+     * @since 1.0.0
+     */
+    public NdjsonSpanExporter(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Export
+     *
+     * @param spans spans
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public void export(List<SpanData> spans) throws IOException {
+        if (this.writer == null) {
+            Path parent = this.path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.writer = Files.newBufferedWriter(this.path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        for (SpanData span : spans) {
+            this.writer.write(Jsons.toJson(span));
+            this.writer.write('\n');
+        }
+        this.writer.flush();
+    }
+
+    /**
+     * Close
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.writer != null) {
+            this.writer.close();
+            this.writer = null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.dong4j.zeka.kernel.tracer.export;
+
+import dev.dong4j.zeka.kernel.spi.extension.SPI;
+import dev.dong4j.zeka.kernel.tracer.SpanData;
+import java.util.List;
+
+/**
+ * <p>Description: span 导出扩展点 </p>
+ * 通过 SPILoader 加载, 在 {@code META-INF/spi/dev.dong4j.zeka.kernel.tracer.export.SpanExporter} 中注册实现.
+ * 默认实现为 {@link NdjsonSpanExporter}. 所有方法都在 Tracer 的后台线程中调用, 实现不需要考虑并发.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+@SPI("ndjson")
+public interface SpanExporter {
+
+    /**
+     * 导出一批 span, 抛出的异常只记录日志, 这批 span 会被丢弃
+     *
+     * @param spans spans
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    void export(List<SpanData> spans) throws Exception;
+
+    /**
+     * 释放资源, Tracer 关闭时调用
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    default void close() throws Exception {
+    }
+}
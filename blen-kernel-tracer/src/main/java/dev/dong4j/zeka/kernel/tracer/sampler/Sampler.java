@@ -0,0 +1,83 @@
+package dev.dong4j.zeka.kernel.tracer.sampler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Description: 头部采样策略 </p>
+ * 在本进程的根 span 开始时决定整条链路是否记录, 子 span 与传递到其他线程的 span 沿用该结果.
+ * 在业务线程中执行, 实现不能阻塞, 也不应分配对象.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Sampler {
+
+    /**
+     * 是否采样
+     *
+     * @param traceId 链路 id
+     * @param name    根 span 名称
+     * @return the boolean
+     * @since 1.0.0
+     */
+    boolean sample(String traceId, String name);
+
+    /**
+     * 全部采样
+     *
+     * @return the sampler
+     * @since 1.0.0
+     */
+    static Sampler always() {
+        return (traceId, name) -> true;
+    }
+
+    /**
+     * 全部不采样, 只保留尾部采样选中的链路
+     *
+     * @return the sampler
+     * @since 1.0.0
+     */
+    static Sampler never() {
+        return (traceId, name) -> false;
+    }
+
+    /**
+     * 按比例采样, 根据链路 id 的哈希值决定, 同一链路在不同进程中的结果一致
+     *
+     * @param ratio 采样比例, 0 到 1 之间
+     * @return the sampler
+     * @since 1.0.0
+     */
+    static Sampler ratio(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("ratio must be between 0 and 1: " + ratio);
+        }
+        int bound = (int) (ratio * 10000);
+        return (traceId, name) -> (traceId.hashCode() & Integer.MAX_VALUE) % 10000 < bound;
+    }
+
+    /**
+     * 限制每秒采样的链路数
+     *
+     * @param permitsPerSecond 每秒最多采样的链路数
+     * @return the sampler
+     * @since 1.0.0
+     */
+    static Sampler rateLimited(int permitsPerSecond) {
+        AtomicLong window = new AtomicLong();
+        AtomicLong count = new AtomicLong();
+        return (traceId, name) -> {
+            long second = System.nanoTime() / 1_000_000_000L;
+            long current = window.get();
+            if (current != second && window.compareAndSet(current, second)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= permitsPerSecond;
+        };
+    }
+}
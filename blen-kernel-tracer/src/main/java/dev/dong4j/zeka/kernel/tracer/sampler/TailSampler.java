@@ -0,0 +1,69 @@
+package dev.dong4j.zeka.kernel.tracer.sampler;
+
+import dev.dong4j.zeka.kernel.tracer.SpanData;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <p>Description: 尾部采样策略 </p>
+ * 对头部采样未选中的链路, 在本进程的根 span 结束后根据整条链路决定是否导出.
+ * 在后台线程中执行, 不影响业务线程. 未选中的 span 仍需写入环形缓冲区, 开启后记录开销与全部采样相同.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface TailSampler {
+
+    /**
+     * 是否导出
+     *
+     * @param spans 链路在本进程内已结束的 span
+     * @return the boolean
+     * @since 1.0.0
+     */
+    boolean keep(List<SpanData> spans);
+
+    /**
+     * 存在异常的链路
+     *
+     * @return the tail sampler
+     * @since 1.0.0
+     */
+    static TailSampler errors() {
+        return spans -> spans.stream().anyMatch(span -> span.error() != null);
+    }
+
+    /**
+     * 根 span 耗时不小于阈值的链路
+     *
+     * @param threshold threshold
+     * @return the tail sampler
+     * @since 1.0.0
+     */
+    static TailSampler slowerThan(Duration threshold) {
+        long nanos = threshold.toNanos();
+        return spans -> spans.stream().anyMatch(span -> span.isRoot() && span.durationNanos() >= nanos);
+    }
+
+    /**
+     * 满足任意一个策略
+     *
+     * @param samplers samplers
+     * @return the tail sampler
+     * @since 1.0.0
+     */
+    static TailSampler anyOf(TailSampler... samplers) {
+        return spans -> {
+            for (TailSampler sampler : samplers) {
+                if (sampler.keep(spans)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
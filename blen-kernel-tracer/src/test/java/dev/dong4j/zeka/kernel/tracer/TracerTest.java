@@ -0,0 +1,212 @@
+package dev.dong4j.zeka.kernel.tracer;
+
+import com.alibaba.ttl.threadpool.TtlExecutors;
+import dev.dong4j.zeka.kernel.common.context.Trace;
+import dev.dong4j.zeka.kernel.tracer.export.NdjsonSpanExporter;
+import dev.dong4j.zeka.kernel.tracer.export.SpanExporter;
+import dev.dong4j.zeka.kernel.tracer.sampler.Sampler;
+import dev.dong4j.zeka.kernel.tracer.sampler.TailSampler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 1.0.0
+ */
+class TracerTest {
+
+    /** Exported */
+    private final List<SpanData> exported = new ArrayList<>();
+    /** Exporter */
+    private final SpanExporter exporter = this.exported::addAll;
+    /** Tracer */
+    private Tracer tracer;
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @AfterEach
+    void tearDown() {
+        if (this.tracer != null) {
+            this.tracer.close();
+        }
+        Trace.clear();
+    }
+
+    /**
+     * 嵌套的 span 共用链路 id, 根 span 结束后清理自己生成的链路 id
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_nested() {
+        this.tracer = Tracer.builder().exporter(this.exporter).build();
+        try (SpanScope root = this.tracer.start("root")) {
+            assertEquals(root.traceId(), Trace.context().get());
+            try (SpanScope child = this.tracer.start("child")) {
+                child.error(new IllegalStateException());
+            }
+        }
+        assertNull(Trace.context().get());
+        this.tracer.flush();
+
+        assertEquals(2, this.exported.size());
+        SpanData child = this.exported.get(0);
+        SpanData root = this.exported.get(1);
+        assertEquals("child", child.name());
+        assertEquals(root.spanId(), child.parentSpanId());
+        assertEquals(root.traceId(), child.traceId());
+        assertEquals(IllegalStateException.class.getName(), child.error());
+        assertTrue(root.isRoot());
+    }
+
+    /**
+     * 沿用已有的链路 id, 关闭外层 span 时一并结束内层 span
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_existing_trace() {
+        Trace.context().set("trace-1");
+        this.tracer = Tracer.builder().exporter(this.exporter).build();
+        SpanScope root = this.tracer.start("root");
+        this.tracer.start("unclosed");
+        root.close();
+        root.close();
+        this.tracer.flush();
+
+        assertEquals(2, this.exported.size());
+        assertTrue(this.exported.stream().allMatch(span -> "trace-1".equals(span.traceId())));
+        assertEquals("trace-1", Trace.context().get());
+    }
+
+    /**
+     * 头部未采样的链路只有出现异常时才导出
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_tail_sampling() {
+        this.tracer = Tracer.builder().exporter(this.exporter).sampler(Sampler.never()).tailSampler(TailSampler.errors()).build();
+        try (SpanScope ignored = this.tracer.start("ok")) {
+            this.tracer.start("ok.child").close();
+        }
+        try (SpanScope ignored = this.tracer.start("failed")) {
+            this.tracer.start("failed.child").error(new IllegalStateException()).close();
+        }
+        this.tracer.flush();
+
+        assertEquals(List.of("failed.child", "failed"), this.exported.stream().map(SpanData::name).toList());
+    }
+
+    /**
+     * 父 span 随 TTL 传递到线程池
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_propagation() throws Exception {
+        this.tracer = Tracer.builder().exporter(this.exporter).build();
+        ExecutorService executor = TtlExecutors.getTtlExecutorService(Executors.newSingleThreadExecutor());
+        try {
+            long rootId;
+            try (SpanScope root = this.tracer.start("root")) {
+                rootId = root.spanId();
+                executor.submit(() -> this.tracer.start("async").close()).get();
+            }
+            this.tracer.flush();
+            SpanData async = this.exported.stream().filter(span -> "async".equals(span.name())).findFirst().orElse(null);
+            assertNotNull(async);
+            assertEquals(rootId, async.parentSpanId());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 缓冲区写满时丢弃
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_overflow() {
+        this.tracer = Tracer.builder().exporter(this.exporter).ringCapacity(4).flushInterval(Duration.ofHours(1)).build();
+        for (int i = 0; i < 10; i++) {
+            this.tracer.start("span").close();
+        }
+        assertEquals(6, this.tracer.dropped());
+        this.tracer.flush();
+        assertEquals(4, this.exported.size());
+    }
+
+    /**
+     * 只有记录 span 的线程才创建缓冲区, 线程结束后读取完缓冲区即移除
+     *
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_ring_lifecycle() throws Exception {
+        this.tracer = Tracer.builder().exporter(this.exporter).sampler(Sampler.never()).flushInterval(Duration.ofHours(1)).build();
+        Thread unsampled = new Thread(() -> this.tracer.start("unsampled").close());
+        unsampled.start();
+        unsampled.join();
+        assertEquals(0, this.tracer.registeredThreads());
+        this.tracer.close();
+
+        this.tracer = Tracer.builder().exporter(this.exporter).flushInterval(Duration.ofHours(1)).build();
+        Thread sampled = new Thread(() -> this.tracer.start("sampled").close());
+        sampled.start();
+        sampled.join();
+        assertEquals(1, this.tracer.registeredThreads());
+
+        this.tracer.flush();
+        assertEquals(0, this.tracer.registeredThreads());
+        assertEquals(List.of("sampled"), this.exported.stream().map(SpanData::name).toList());
+    }
+
+    /**
+     * 导出为 NDJSON 文件
+     *
+     * @param dir dir
+     * @throws Exception exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_ndjson(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("spans.ndjson");
+        this.tracer = Tracer.builder().exporter(new NdjsonSpanExporter(file)).build();
+        try (SpanScope ignored = this.tracer.start("root")) {
+            this.tracer.start("child").close();
+        }
+        this.tracer.close();
+        this.tracer = null;
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("\"name\":\"root\""));
+    }
+}
@@ -96,8 +96,8 @@ public @interface Date {
      */
     class Validator implements ConstraintValidator<Date, String> {
 
-        /** 日期格式模式 */
-        private String pattern;
+        /** 按日期格式模式创建的格式化器, 线程安全, 可在多次校验间复用 */
+        private DateTimeFormatter formatter;
 
         /**
          * 初始化验证器，从注解中获取日期格式模式
@@ -107,7 +107,7 @@ public @interface Date {
          */
         @Override
         public void initialize(@NotNull Date constraintAnnotation) {
-            this.pattern = constraintAnnotation.pattern();
+            this.formatter = DateTimeFormatter.ofPattern(constraintAnnotation.pattern());
         }
 
         /**
@@ -129,7 +129,7 @@ public @interface Date {
             }
 
             try {
-                DateTimeFormatter.ofPattern(this.pattern).parse(value);
+                this.formatter.parse(value);
                 return true;
             } catch (DateTimeParseException e) {
                 return false;
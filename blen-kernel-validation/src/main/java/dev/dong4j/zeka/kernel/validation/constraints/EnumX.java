@@ -165,7 +165,8 @@ public @interface EnumX {
         @Override
         public boolean isValid(Object value, ConstraintValidatorContext constraintValidatorContext) {
             // 匹配业务值或枚举名称即可通过验证
-            return values.contains(String.valueOf(value)) || enumsNames.contains(String.valueOf(value));
+            String text = String.valueOf(value);
+            return values.contains(text) || enumsNames.contains(text);
         }
     }
 
@@ -7,6 +7,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.regex.Pattern;
 
 import dev.dong4j.zeka.kernel.validation.util.RegexUtils;
 import jakarta.validation.Constraint;
@@ -92,8 +93,8 @@ public @interface IPAddress {
      * @since 1.0.0
      */
     class Validator implements ConstraintValidator<IPAddress, String> {
-        /** IP地址正则表达式 */
-        private String regexp;
+        /** 已编译的IP地址正则 */
+        private Pattern pattern;
 
         /**
          * 初始化验证器，从注解中获取正则表达式
@@ -103,7 +104,7 @@ public @interface IPAddress {
          */
         @Override
         public void initialize(@NotNull IPAddress constraintAnnotation) {
-            regexp = constraintAnnotation.regexp();
+            this.pattern = RegexUtils.compile(constraintAnnotation.regexp(), Pattern.CASE_INSENSITIVE);
         }
 
         /**
@@ -123,7 +124,7 @@ public @interface IPAddress {
             if (!StringUtils.hasText(value)) {
                 return true;
             }
-            return RegexUtils.match(regexp, value);
+            return RegexUtils.match(this.pattern, value);
         }
 
     }
@@ -7,6 +7,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.regex.Pattern;
 
 import dev.dong4j.zeka.kernel.validation.util.RegexUtils;
 import jakarta.validation.Constraint;
@@ -97,8 +98,8 @@ public @interface IdCard {
      * @since 1.0.0
      */
     class Validator implements ConstraintValidator<IdCard, String> {
-        /** 身份证号码正则表达式 */
-        private String regexp;
+        /** 已编译的身份证号码正则 */
+        private Pattern pattern;
 
         /**
          * 初始化验证器，从注解中获取正则表达式
@@ -108,7 +109,7 @@ public @interface IdCard {
          */
         @Override
         public void initialize(@NotNull IdCard constraintAnnotation) {
-            this.regexp = constraintAnnotation.regexp();
+            this.pattern = RegexUtils.compile(constraintAnnotation.regexp(), Pattern.CASE_INSENSITIVE);
         }
 
         /**
@@ -128,7 +129,7 @@ public @interface IdCard {
             if (!StringUtils.hasText(value)) {
                 return true;
             }
-            return RegexUtils.match(this.regexp, value);
+            return RegexUtils.match(this.pattern, value);
         }
     }
 }
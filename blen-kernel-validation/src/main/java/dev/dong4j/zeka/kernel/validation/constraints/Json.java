@@ -6,6 +6,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import dev.dong4j.zeka.kernel.common.util.JsonChecker;
 import dev.dong4j.zeka.kernel.common.util.Jsons;
 import jakarta.validation.Constraint;
 import jakarta.validation.ConstraintValidator;
@@ -27,7 +28,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * 主要特性：
  * - 支持完整的JSON格式验证
  * - 允许空值和空字符串（应配合@NotBlank使用）
- * - 基于Jackson库的高性能解析
+ * - 基于Jackson token 流校验, 不构建 JSON 树
+ * - 可限制最大嵌套层数与最大长度
  * - 支持Bean Validation分组验证
  * <p>
  * 使用示例：
@@ -71,6 +73,22 @@ public @interface Json {
      */
     Class<? extends Payload>[] payload() default {};
 
+    /**
+     * 对象/数组的最大嵌套层数
+     *
+     * @return 最大嵌套层数, 小于 0 表示不限制
+     * @since 1.0.0
+     */
+    int maxDepth() default JsonChecker.UNLIMITED;
+
+    /**
+     * JSON 字符串的最大长度 (字符数), 超过时直接判定为不合法, 不再解析
+     *
+     * @return 最大长度, 小于 0 表示不限制
+     * @since 1.0.0
+     */
+    long maxLength() default JsonChecker.UNLIMITED;
+
     /**
      * JSON字符串验证器实现类
      * <p>
@@ -84,22 +102,27 @@ public @interface Json {
      * @since 1.0.0
      */
     class Validator implements ConstraintValidator<Json, String> {
+        /** 按注解限制创建的校验器 */
+        private JsonChecker checker;
 
         /**
-         * 初始化验证器（空实现）
+         * 初始化验证器，根据注解的限制创建 JsonChecker
          *
          * @param constraintAnnotation JSON验证注解实例
          * @since 1.0.0
          */
         @Override
         public void initialize(Json constraintAnnotation) {
+            this.checker = new JsonChecker(Jsons.getInstance().getFactory(),
+                constraintAnnotation.maxDepth(),
+                constraintAnnotation.maxLength());
         }
 
         /**
          * 执行JSON字符串验证
          * <p>
          * 对于空值和空字符串返回true（由@NotBlank处理非空验证）
-         * 使用Jsons.isJson()方法验证JSON字符串的格式正确性
+         * 使用JsonChecker逐个读取token验证JSON字符串的格式正确性
          *
          * @param value   待验证的JSON字符串
          * @param context 验证上下文
@@ -112,7 +135,7 @@ public @interface Json {
             if (!StringUtils.hasText(value)) {
                 return true;
             }
-            return Jsons.isJson(value);
+            return this.checker.isJson(value);
         }
     }
 
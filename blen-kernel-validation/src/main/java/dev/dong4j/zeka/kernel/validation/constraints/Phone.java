@@ -9,6 +9,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.util.StringUtils;
 
@@ -74,8 +75,8 @@ public @interface Phone {
      * @since 1.0.0
      */
     class Validator implements ConstraintValidator<Phone, String> {
-        /** Regexp */
-        private String regexp;
+        /** Pattern */
+        private Pattern pattern;
 
         /**
          * Initialize *
@@ -85,7 +86,7 @@ public @interface Phone {
          */
         @Override
         public void initialize(@NotNull Phone constraintAnnotation) {
-            regexp = constraintAnnotation.regexp();
+            this.pattern = RegexUtils.compile(constraintAnnotation.regexp());
         }
 
         /**
@@ -102,7 +103,7 @@ public @interface Phone {
             if (!StringUtils.hasText(value)) {
                 return true;
             }
-            return value.matches(regexp);
+            return RegexUtils.match(this.pattern, value);
         }
     }
 }
@@ -7,6 +7,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.regex.Pattern;
 
 import dev.dong4j.zeka.kernel.validation.util.RegexUtils;
 import jakarta.validation.Constraint;
@@ -94,8 +95,8 @@ public @interface VehicleNumber {
      * @since 1.0.0
      */
     class Validator implements ConstraintValidator<VehicleNumber, String> {
-        /** 车牌号码正则表达式 */
-        private String regexp;
+        /** 已编译的车牌号码正则 */
+        private Pattern pattern;
 
         /**
          * 初始化验证器，从注解中获取正则表达式
@@ -105,7 +106,7 @@ public @interface VehicleNumber {
          */
         @Override
         public void initialize(@NotNull VehicleNumber constraintAnnotation) {
-            regexp = constraintAnnotation.regexp();
+            this.pattern = RegexUtils.compile(constraintAnnotation.regexp(), Pattern.CASE_INSENSITIVE);
         }
 
         /**
@@ -125,7 +126,7 @@ public @interface VehicleNumber {
             if (!StringUtils.hasText(value)) {
                 return true;
             }
-            return RegexUtils.match(regexp, value);
+            return RegexUtils.match(this.pattern, value);
         }
     }
 }
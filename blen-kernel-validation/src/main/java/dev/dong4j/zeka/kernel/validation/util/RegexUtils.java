@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.kernel.validation.util;
 
+import dev.dong4j.zeka.kernel.common.util.LRUCache;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
@@ -21,6 +22,9 @@ import org.jetbrains.annotations.Nullable;
  * - 用户信息正则（用户名、密码等）
  * - 文件相关正则验证
  *
+ * 传入字符串正则的方法通过 {@link #compile(String, int)} 复用有界缓存中已编译的 {@link Pattern},
+ * 固定正则的调用方 (如校验器) 应在初始化时编译后调用 {@link Pattern} 重载
+ *
  * @author dong4j
  * @version 1.0.0
  * @email "mailto:dong4j@gmail.com"
@@ -167,6 +171,39 @@ public class RegexUtils {
     /** 车牌号 */
     @SuppressWarnings("checkstyle:LineLength")
     public static final String VEHICLE_NUMBER = "^([京津沪渝冀豫云辽黑湘皖鲁新苏浙赣鄂桂甘晋蒙陕吉闽贵粤青藏川宁琼使领A-Z]{1}[a-zA-Z][-]?(([DF]((?![IO])[a-zA-Z0-9](?![IO]))[0-9]{4})|([0-9]{5}[DF]))|[京津沪渝冀豫云辽黑湘皖鲁新苏浙赣鄂桂甘晋蒙陕吉闽贵粤青藏川宁琼使领A-Z]{1}[A-Z]{1}[-]?[A-Z0-9]{4}[A-Z0-9挂学警港澳]{1})$";
+    /** 缓存的已编译正则数量上限 */
+    public static final int PATTERN_CACHE_SIZE = 256;
+    /** 已编译正则缓存 */
+    private static final LRUCache<PatternKey, Pattern> PATTERN_CACHE = new LRUCache<>(PATTERN_CACHE_SIZE);
+
+    /**
+     * 从缓存中获取已编译的正则, 不存在时编译并缓存
+     *
+     * @param regex 正则
+     * @return the pattern
+     * @since 1.0.0
+     */
+    public static Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * 从缓存中获取已编译的正则, 不存在时编译并缓存
+     *
+     * @param regex 正则
+     * @param flags {@link Pattern#compile(String, int)} 的 flags
+     * @return the pattern
+     * @since 1.0.0
+     */
+    public static Pattern compile(String regex, int flags) {
+        PatternKey key = new PatternKey(regex, flags);
+        Pattern pattern = PATTERN_CACHE.get(key);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex, flags);
+            PATTERN_CACHE.put(key, pattern);
+        }
+        return pattern;
+    }
 
     /**
      * 编译传入正则表达式和字符串去匹配,忽略大小写
@@ -177,9 +214,19 @@ public class RegexUtils {
      * @since 1.0.0
      */
     public static boolean match(String regex, String beTestString) {
-        Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(beTestString);
-        return matcher.matches();
+        return match(compile(regex, Pattern.CASE_INSENSITIVE), beTestString);
+    }
+
+    /**
+     * 使用已编译的正则完整匹配
+     *
+     * @param pattern      已编译的正则
+     * @param beTestString 字符串
+     * @return {boolean}
+     * @since 1.0.0
+     */
+    public static boolean match(Pattern pattern, String beTestString) {
+        return pattern.matcher(beTestString).matches();
     }
 
     /**
@@ -191,9 +238,7 @@ public class RegexUtils {
      * @since 1.0.0
      */
     public static boolean find(String regex, String beTestString) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(beTestString);
-        return matcher.find();
+        return compile(regex).matcher(beTestString).find();
     }
 
     /**
@@ -221,12 +266,20 @@ public class RegexUtils {
      */
     @Nullable
     public static String findResult(String regex, String beFoundString, int groupIndex) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(beFoundString);
+        Matcher matcher = compile(regex).matcher(beFoundString);
         if (matcher.find()) {
             return matcher.group(groupIndex);
         }
         return null;
     }
 
+    /**
+     * 正则缓存 key, 相同正则不同 flags 编译结果不同
+     *
+     * @param regex regex
+     * @param flags flags
+     * @since 1.0.0
+     */
+    private record PatternKey(String regex, int flags) {
+    }
 }
@@ -0,0 +1,211 @@
+package dev.dong4j.zeka.kernel.validation.constraints;
+
+import dev.dong4j.zeka.kernel.validation.util.RegexUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: 模拟批量导入时逐行校验, 对比每次编译正则/格式化器与初始化时预编译的开销 </p>
+ * 1. validate_row: 通过 Bean Validation 校验一行包含 @Phone, @IdCard, @VehicleNumber, @IPAddress, @Date 的数据
+ * 2. regex_compile_per_call / regex_precompiled: 单个正则每次编译与复用已编译 Pattern
+ * 3. date_formatter_per_call / date_formatter_precompiled: 每次创建 DateTimeFormatter 与复用
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 18:00
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintsBenchmark {
+
+    /** VEHICLE_NUMBER */
+    private static final Pattern VEHICLE_NUMBER = Pattern.compile(RegexUtils.VEHICLE_NUMBER, Pattern.CASE_INSENSITIVE);
+    /** DATE_PATTERN */
+    private static final String DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    /** DATE_FORMATTER */
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+    /** Validator factory */
+    private ValidatorFactory validatorFactory;
+    /** Validator */
+    private Validator validator;
+    /** Row */
+    private final Row row = new Row("18628362906", "51010019900101123X", "川A06D4J", "192.168.1.1", "2026-10-17 18:00:00");
+
+    /**
+     * Sets up
+     *
+     * @since 1.0.0
+     */
+    @Setup
+    public void setUp() {
+        this.validatorFactory = Validation.buildDefaultValidatorFactory();
+        this.validator = this.validatorFactory.getValidator();
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 1.0.0
+     */
+    @TearDown
+    public void tearDown() {
+        this.validatorFactory.close();
+    }
+
+    /**
+     * Validate row
+     *
+     * @return the set
+     * @since 1.0.0
+     */
+    @Benchmark
+    public Set<ConstraintViolation<Row>> validate_row() {
+        return this.validator.validate(this.row);
+    }
+
+    /**
+     * Regex compile per call
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean regex_compile_per_call() {
+        return Pattern.compile(RegexUtils.VEHICLE_NUMBER, Pattern.CASE_INSENSITIVE).matcher(this.row.getPlateNo()).matches();
+    }
+
+    /**
+     * Regex precompiled
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean regex_precompiled() {
+        return RegexUtils.match(VEHICLE_NUMBER, this.row.getPlateNo());
+    }
+
+    /**
+     * Regex cached
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean regex_cached() {
+        return RegexUtils.match(RegexUtils.VEHICLE_NUMBER, this.row.getPlateNo());
+    }
+
+    /**
+     * Date formatter per call
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean date_formatter_per_call() {
+        return parse(DateTimeFormatter.ofPattern(DATE_PATTERN), this.row.getCreateTime());
+    }
+
+    /**
+     * Date formatter precompiled
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Benchmark
+    public boolean date_formatter_precompiled() {
+        return parse(DATE_FORMATTER, this.row.getCreateTime());
+    }
+
+    /**
+     * Parse
+     *
+     * @param formatter formatter
+     * @param value     value
+     * @return the boolean
+     * @since 1.0.0
+     */
+    private static boolean parse(DateTimeFormatter formatter, String value) {
+        try {
+            formatter.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ConstraintsBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+    /**
+     * <p>Description: 导入的一行数据 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:00
+     * @since 1.0.0
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Row {
+        /** Phone */
+        @Phone
+        private String phone;
+        /** Id card */
+        @IdCard
+        private String idCard;
+        /** Plate no */
+        @VehicleNumber
+        private String plateNo;
+        /** Ip */
+        @IPAddress
+        private String ip;
+        /** Create time */
+        @Date(pattern = DATE_PATTERN)
+        private String createTime;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.dong4j.zeka.kernel.web.autoconfigure.servlet;
+
+import dev.dong4j.zeka.kernel.web.filter.ServletGlobalCacheFilter;
+import dev.dong4j.zeka.kernel.web.util.InnerWebUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * Servlet 过滤器自动配置类，根据 {@link WebProperties} 注册全局缓存过滤器
+ * <p>
+ * 请求体的缓存方式由 {@link WebProperties.RequestBodyCache} 决定，开启 lazy 后只缓存业务实际读取的部分
+ * </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 11:20
+ * @since 1.0.0
+ */
+@Slf4j
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(WebProperties.class)
+public class ServletWebFilterAutoConfiguration {
+
+    /**
+     * 注册全局缓存过滤器，优先级最高
+     * <p>
+     * 需要显式开启 enable-global-cache-filter: 默认 (非 lazy) 模式会把每个请求的 body 读入内存;
+     * 已经以其他 bean 名称注册了该过滤器的应用不要开启, 否则会注册两次
+     * </p>
+     *
+     * @param properties Web配置属性，包含忽略缓存的URL与请求体缓存配置
+     * @return 过滤器注册 bean
+     * @since 1.0.0
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "servletGlobalCacheFilter")
+    @ConditionalOnProperty(prefix = WebProperties.PREFIX, name = "enable-global-cache-filter", havingValue = "true", matchIfMissing = false)
+    public FilterRegistrationBean<ServletGlobalCacheFilter> servletGlobalCacheFilter(@NotNull WebProperties properties) {
+        ServletGlobalCacheFilter filter = new ServletGlobalCacheFilter(properties.getIgnoreCacheRequestUrl(),
+                                                                       properties.getRequestBodyCache());
+        FilterRegistrationBean<ServletGlobalCacheFilter> bean = new FilterRegistrationBean<>(filter);
+        InnerWebUtils.setUrlPatterns(bean, Ordered.HIGHEST_PRECEDENCE);
+        log.debug("加载全局缓存过滤器, 请求体缓存配置: {}", properties.getRequestBodyCache());
+        return bean;
+    }
+}
@@ -21,11 +21,35 @@ public class WebProperties {
     /** 配置前缀 */
     public static final String PREFIX = ConfigKey.PREFIX + "web";
 
-    /** 启用全局缓存过滤器 */
-    private boolean enableGlobalCacheFilter = Boolean.TRUE;
+    /** 启用全局缓存过滤器, 需要显式开启 */
+    private boolean enableGlobalCacheFilter = Boolean.FALSE;
     /** 启用过滤器异常处理器 */
     private boolean enableExceptionFilter = Boolean.TRUE;
     /** 不需要缓存request的URL正则表达式 */
     private String ignoreCacheRequestUrl;
+    /** 请求体缓存配置 */
+    private RequestBodyCache requestBodyCache = new RequestBodyCache();
+
+    /**
+     * 请求体缓存配置
+     * 默认在包装 request 时一次性读取全部 body, 开启 lazy 后只缓存业务实际读取的部分, 并限制缓存大小
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 11:20
+     * @since 1.0.0
+     */
+    @Data
+    public static class RequestBodyCache {
+        /** 是否边读边缓存 body */
+        private boolean lazy = false;
+        /** 内存中最多缓存的字节数, 默认 64KB */
+        private int memoryThreshold = 64 * 1024;
+        /** 超过内存阈值后是否溢出到临时文件, 关闭时直接截断 */
+        private boolean spillToDisk = false;
+        /** 最多缓存的字节数 (包含溢出到磁盘的部分), 默认 10MB, 超过后截断 */
+        private long maxSize = 10L * 1024 * 1024;
+    }
 
 }
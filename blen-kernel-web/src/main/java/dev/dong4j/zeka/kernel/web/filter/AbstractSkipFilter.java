@@ -1,18 +1,22 @@
 package dev.dong4j.zeka.kernel.web.filter;
 
 import dev.dong4j.zeka.kernel.common.util.SecurityUtils;
+import dev.dong4j.zeka.kernel.common.util.SkipPathMatcher;
 import dev.dong4j.zeka.kernel.common.util.StringPool;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.lang.Nullable;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -21,6 +25,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * 提供灵活的URL匹配机制，支持包含和排除模式的配置
  * 子类可以继承此类来实现需要URL路径过滤的各种功能
  * 使用Ant风格的路径匹配器，支持通配符和路径参数
+ * 忽略规则会预编译为 {@link SkipPathMatcher}, 单次匹配的开销与 pattern 数量无关
  *
  * @author dong4j
  * @version 1.0.0
@@ -32,8 +37,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Data
 @EqualsAndHashCode(callSuper = true)
 public abstract class AbstractSkipFilter extends OncePerRequestFilter {
-    /** 路径匹配器，使用Ant风格的路径匹配规则 */
-    protected PathMatcher pathMatcher = new AntPathMatcher();
+    /** 路径匹配器，使用Ant风格的路径匹配规则, 默认匹配器可以使用预编译的前缀树 */
+    protected PathMatcher pathMatcher = SkipPathMatcher.DEFAULT_PATH_MATCHER;
     /** 需要执行过滤器逻辑的URL模式数组 */
     @Nullable
     protected String[] includePatterns;
@@ -42,6 +47,18 @@ public abstract class AbstractSkipFilter extends OncePerRequestFilter {
     protected String[] excludePatterns;
     /** 业务自定义需要忽略的URL，最终会合并到excludePatterns中 */
     protected String skipUrl;
+    /** 预编译的匹配器, excludePatterns 或 pathMatcher 变化后重新获取 */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile SkipPathMatcher skipPathMatcher;
+    /** 编译 skipPathMatcher 时使用的 excludePatterns */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile String[] compiledPatterns;
 
     /**
      * Abstract skip filter
@@ -100,7 +117,25 @@ public abstract class AbstractSkipFilter extends OncePerRequestFilter {
      */
     @Override
     protected boolean shouldNotFilter(@NotNull HttpServletRequest request) {
-        return SecurityUtils.matches(request.getRequestURI(), this.includePatterns, this.excludePatterns, this.pathMatcher);
+        return this.getSkipPathMatcher().matches(request.getRequestURI());
+    }
+
+    /**
+     * 获取预编译的匹配器, 相同 pattern 集合的过滤器共享同一个实例
+     *
+     * @return the skip path matcher
+     * @see SecurityUtils#matches
+     * @since 1.0.0
+     */
+    private SkipPathMatcher getSkipPathMatcher() {
+        SkipPathMatcher matcher = this.skipPathMatcher;
+        if (matcher == null || this.compiledPatterns != this.excludePatterns || matcher.getPathMatcher() != this.pathMatcher) {
+            String[] patterns = this.excludePatterns;
+            matcher = SkipPathMatcher.of(patterns, this.pathMatcher);
+            this.compiledPatterns = patterns;
+            this.skipPathMatcher = matcher;
+        }
+        return matcher;
     }
 
 }
@@ -1,7 +1,9 @@
 package dev.dong4j.zeka.kernel.web.filter;
 
+import dev.dong4j.zeka.kernel.web.autoconfigure.servlet.WebProperties;
 import dev.dong4j.zeka.kernel.web.support.CacheRequestEnhanceWrapper;
 import dev.dong4j.zeka.kernel.web.support.CacheResponseEnhanceWrapper;
+import dev.dong4j.zeka.kernel.web.support.LazyCacheRequestEnhanceWrapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,8 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
  */
 @Slf4j
 public class ServletGlobalCacheFilter extends AbstractSkipFilter {
+    /** 请求体缓存配置, 为 null 时在包装 request 时一次性读取全部 body */
+    private final WebProperties.RequestBodyCache requestBodyCache;
 
     /**
      * Servlet global cache filter
@@ -31,7 +35,19 @@ public class ServletGlobalCacheFilter extends AbstractSkipFilter {
      * @since 1.0.0
      */
     public ServletGlobalCacheFilter(String skipUrl) {
+        this(skipUrl, null);
+    }
+
+    /**
+     * Servlet global cache filter
+     *
+     * @param skipUrl          skip url
+     * @param requestBodyCache request body cache
+     * @since 1.0.0
+     */
+    public ServletGlobalCacheFilter(String skipUrl, WebProperties.RequestBodyCache requestBodyCache) {
         super(skipUrl);
+        this.requestBodyCache = requestBodyCache;
     }
 
     /**
@@ -51,8 +67,11 @@ public class ServletGlobalCacheFilter extends AbstractSkipFilter {
         CacheRequestEnhanceWrapper cacheRequest;
         CacheResponseEnhanceWrapper cacheResponse;
         // 缓存 request, 解决二次读取问题
-        if (request instanceof CacheRequestEnhanceWrapper) {
+        boolean created = !(request instanceof CacheRequestEnhanceWrapper);
+        if (!created) {
             cacheRequest = (CacheRequestEnhanceWrapper) request;
+        } else if (this.requestBodyCache != null && this.requestBodyCache.isLazy()) {
+            cacheRequest = new LazyCacheRequestEnhanceWrapper(request, this.requestBodyCache);
         } else {
             cacheRequest = new CacheRequestEnhanceWrapper(new ContentCachingRequestWrapper(request));
         }
@@ -62,7 +81,13 @@ public class ServletGlobalCacheFilter extends AbstractSkipFilter {
         } else {
             cacheResponse = new CacheResponseEnhanceWrapper(new ContentCachingResponseWrapper(response));
         }
-        chain.doFilter(cacheRequest, cacheResponse);
+        try {
+            chain.doFilter(cacheRequest, cacheResponse);
+        } finally {
+            if (created) {
+                cacheRequest.release();
+            }
+        }
         // 在 filter 执行完成后, 将 response 拷贝回去, 避免二次读取时没有数据
         cacheResponse.copyBodyToResponse();
     }
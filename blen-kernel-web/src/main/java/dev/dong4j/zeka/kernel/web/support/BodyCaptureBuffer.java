@@ -0,0 +1,247 @@
+package dev.dong4j.zeka.kernel.web.support;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.FastByteArrayOutputStream;
+
+/**
+ * <p>Description: 有界的请求体捕获缓冲区 </p>
+ * 1. 写入量不超过 memoryThreshold 时全部保存在内存中
+ * 2. 超过 memoryThreshold 后, 开启 spillToDisk 则溢出到临时文件, 否则截断
+ * 3. 总写入量超过 maxSize 后截断, 之后的数据只透传不缓存
+ * 使用完成后必须调用 {@link #close()} 删除临时文件
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:12
+ * @since 1.0.0
+ */
+@Slf4j
+public class BodyCaptureBuffer implements Closeable {
+    /** 临时文件前缀 */
+    private static final String SPILL_FILE_PREFIX = "zeka-request-body-";
+    /** 内存阈值 */
+    private final int memoryThreshold;
+    /** 最大捕获字节数 */
+    private final long maxSize;
+    /** 超过内存阈值后是否溢出到磁盘 */
+    private final boolean spillToDisk;
+    /** 内存缓冲区 */
+    private final FastByteArrayOutputStream memory = new FastByteArrayOutputStream();
+    /** 溢出文件 */
+    private Path spillFile;
+    /** 溢出文件输出流 */
+    private OutputStream spillOut;
+    /** 已捕获的字节数 */
+    @Getter
+    private long size;
+    /** 是否发生截断 */
+    @Getter
+    private boolean truncated;
+
+    /**
+     * Body capture buffer
+     *
+     * @param memoryThreshold memory threshold
+     * @param maxSize         max size
+     * @param spillToDisk     spill to disk
+     * @since 1.0.0
+     */
+    public BodyCaptureBuffer(int memoryThreshold, long maxSize, boolean spillToDisk) {
+        this.memoryThreshold = Math.max(0, memoryThreshold);
+        this.maxSize = Math.max(0, maxSize);
+        this.spillToDisk = spillToDisk;
+    }
+
+    /**
+     * 写入单个字节
+     *
+     * @param b b
+     * @since 1.0.0
+     */
+    public void write(int b) {
+        if (this.acquire(1) == 0) {
+            return;
+        }
+        try {
+            if (this.spillOut != null) {
+                this.spillOut.write(b);
+            } else {
+                this.memory.write(b);
+            }
+            this.size++;
+        } catch (IOException e) {
+            this.abort(e);
+        }
+    }
+
+    /**
+     * 写入字节数组
+     *
+     * @param b   b
+     * @param off off
+     * @param len len
+     * @since 1.0.0
+     */
+    public void write(byte[] b, int off, int len) {
+        int accepted = this.acquire(len);
+        if (accepted == 0) {
+            return;
+        }
+        try {
+            if (this.spillOut != null) {
+                this.spillOut.write(b, off, accepted);
+            } else {
+                this.memory.write(b, off, accepted);
+            }
+            this.size += accepted;
+        } catch (IOException e) {
+            this.abort(e);
+        }
+    }
+
+    /**
+     * 计算本次可以写入的字节数, 必要时溢出到磁盘或标记截断
+     *
+     * @param len len
+     * @return 可写入的字节数
+     * @since 1.0.0
+     */
+    private int acquire(int len) {
+        if (len <= 0 || this.truncated) {
+            return 0;
+        }
+        long limit = this.spillToDisk ? this.maxSize : Math.min(this.memoryThreshold, this.maxSize);
+        int accepted = (int) Math.max(0, Math.min(len, limit - this.size));
+        if (accepted < len) {
+            this.truncated = true;
+        }
+        if (accepted > 0 && this.spillOut == null && this.size + accepted > this.memoryThreshold) {
+            this.spill();
+            if (this.spillOut == null) {
+                return 0;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 将内存中的数据转移到临时文件
+     *
+     * @since 1.0.0
+     */
+    private void spill() {
+        Path file = null;
+        try {
+            file = Files.createTempFile(SPILL_FILE_PREFIX, ".tmp");
+            OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+            this.memory.writeTo(out);
+            this.memory.reset();
+            this.spillFile = file;
+            this.spillOut = out;
+        } catch (IOException e) {
+            this.abort(e);
+            if (file != null) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 溢出失败时停止捕获, 保留已捕获的数据
+     *
+     * @param e e
+     * @since 1.0.0
+     */
+    private void abort(IOException e) {
+        log.warn("请求体缓存写入失败, 后续数据将不再缓存: {}", e.getMessage());
+        this.truncated = true;
+    }
+
+    /**
+     * 是否已溢出到磁盘
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isSpilled() {
+        return this.spillFile != null;
+    }
+
+    /**
+     * 溢出文件
+     *
+     * @return 未溢出时返回 null
+     * @since 1.0.0
+     */
+    Path getSpillFile() {
+        return this.spillFile;
+    }
+
+    /**
+     * 获取已捕获的全部数据
+     *
+     * @return the byte [ ]
+     * @since 1.0.0
+     */
+    public byte[] toByteArray() {
+        if (this.spillFile == null) {
+            return this.memory.toByteArray();
+        }
+        try {
+            this.spillOut.flush();
+            return Files.readAllBytes(this.spillFile);
+        } catch (IOException e) {
+            log.warn("读取请求体缓存文件失败: {}", e.getMessage());
+            return new byte[0];
+        }
+    }
+
+    /**
+     * 获取已捕获数据的输入流, 溢出到磁盘时直接读取文件, 不会将数据全部载入内存
+     *
+     * @return the input stream
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    public InputStream getInputStream() throws IOException {
+        if (this.spillFile == null) {
+            return this.memory.getInputStream();
+        }
+        this.spillOut.flush();
+        return Files.newInputStream(this.spillFile);
+    }
+
+    /**
+     * 释放内存并删除临时文件
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        this.memory.reset();
+        if (this.spillFile == null) {
+            return;
+        }
+        try {
+            this.spillOut.close();
+        } catch (IOException ignore) {
+            // nothing to do
+        }
+        try {
+            Files.deleteIfExists(this.spillFile);
+        } catch (IOException e) {
+            log.warn("删除请求体缓存文件失败: [{}]", this.spillFile);
+        }
+        this.spillFile = null;
+        this.spillOut = null;
+    }
+}
@@ -6,6 +6,7 @@ import dev.dong4j.zeka.kernel.common.util.IoUtils;
 import dev.dong4j.zeka.kernel.common.util.WebUtils;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -19,7 +20,6 @@ import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Contract;
 import org.springframework.http.HttpHeaders;
@@ -54,10 +54,8 @@ import org.springframework.web.util.ContentCachingRequestWrapper;
 public class CacheRequestEnhanceWrapper extends HttpServletRequestWrapper {
     /** 保存 io stream */
     @Getter
-    @Setter
     protected byte[] body;
-    /** Body string */
-    @Getter
+    /** Body string, 首次调用 {@link #getBodyString()} 时才解码 */
     protected String bodyString;
     /** Content type */
     protected String contentType;
@@ -65,7 +63,7 @@ public class CacheRequestEnhanceWrapper extends HttpServletRequestWrapper {
     protected Map<String, String> headerMap = Maps.newHashMapWithExpectedSize(16);
     /** Params */
     protected Map<String, String[]> params = Maps.newHashMapWithExpectedSize(16);
-    /** Request */
+    /** Request, 按需捕获模式下为 null */
     @Getter
     protected ContentCachingRequestWrapper cachingRequestWrapper;
 
@@ -76,14 +74,7 @@ public class CacheRequestEnhanceWrapper extends HttpServletRequestWrapper {
      * @since 1.0.0
      */
     public CacheRequestEnhanceWrapper(ContentCachingRequestWrapper request) {
-        super(request);
-        try {
-            request.setCharacterEncoding(Charsets.UTF_8.name());
-        } catch (UnsupportedEncodingException ignore) {
-            // nothing to do
-        }
-        this.cachingRequestWrapper = request;
-        this.params.putAll(request.getParameterMap());
+        this(request, request);
 
         if (request.getContentAsByteArray().length == 0) {
             try (ServletInputStream inputStream = request.getInputStream()) {
@@ -94,8 +85,57 @@ public class CacheRequestEnhanceWrapper extends HttpServletRequestWrapper {
         } else {
             this.body = request.getContentAsByteArray();
         }
+    }
 
-        this.bodyString = new String(this.body, StandardCharsets.UTF_8);
+    /**
+     * 只初始化 header 和 params, 不读取 body, 由子类决定 body 的读取方式
+     *
+     * @param request               the request
+     * @param cachingRequestWrapper caching request wrapper
+     * @since 1.0.0
+     */
+    protected CacheRequestEnhanceWrapper(HttpServletRequest request, ContentCachingRequestWrapper cachingRequestWrapper) {
+        super(request);
+        try {
+            request.setCharacterEncoding(Charsets.UTF_8.name());
+        } catch (UnsupportedEncodingException ignore) {
+            // nothing to do
+        }
+        this.cachingRequestWrapper = cachingRequestWrapper;
+        this.params.putAll(request.getParameterMap());
+    }
+
+    /**
+     * 替换 body, 已解码的 body string 随之失效
+     *
+     * @param body body
+     * @since 1.0.0
+     */
+    public void setBody(byte[] body) {
+        this.body = body;
+        this.bodyString = null;
+    }
+
+    /**
+     * 获取 body string, 首次调用时才解码, 避免不关心 body 的请求多保存一份字符串
+     *
+     * @return the body string
+     * @since 1.0.0
+     */
+    public String getBodyString() {
+        if (this.bodyString == null && this.body != null) {
+            this.bodyString = new String(this.body, StandardCharsets.UTF_8);
+        }
+        return this.bodyString;
+    }
+
+    /**
+     * 释放 body 缓存占用的资源, 由创建 wrapper 的过滤器在请求结束时调用
+     *
+     * @since 1.0.0
+     */
+    public void release() {
+        // nothing to do
     }
 
     /**
@@ -367,6 +407,6 @@ public class CacheRequestEnhanceWrapper extends HttpServletRequestWrapper {
      * @since 1.0.0
      */
     private ServletRequest getOrgRequest() {
-        return this.cachingRequestWrapper.getRequest();
+        return this.cachingRequestWrapper != null ? this.cachingRequestWrapper.getRequest() : this.getRequest();
     }
 }
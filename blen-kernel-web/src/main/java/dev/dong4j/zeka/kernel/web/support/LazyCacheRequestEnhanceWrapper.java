@@ -0,0 +1,257 @@
+package dev.dong4j.zeka.kernel.web.support;
+
+import dev.dong4j.zeka.kernel.common.exception.LowestException;
+import dev.dong4j.zeka.kernel.web.autoconfigure.servlet.WebProperties;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 按需捕获 body 的 request 包装类 </p>
+ * 与 {@link CacheRequestEnhanceWrapper} 在构造时一次性读取全部 body 不同, 这里只在业务读取 input stream 时边读边缓存:
+ * 1. 没有人读取 body 的请求 (例如文件上传被容器解析为 part) 不占用额外内存
+ * 2. 缓存大小受 {@link WebProperties.RequestBodyCache} 限制, 超过阈值后溢出到磁盘或截断
+ * 3. {@link #getBodyString()} 在调用时才解码
+ * 4. body 被完整读取且没有截断时, 再次调用 {@link #getInputStream()} 会重放已缓存的数据
+ * 该模式下 {@link #getCachingRequestWrapper()} 返回 null
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:58
+ * @since 1.0.0
+ */
+@Slf4j
+@EqualsAndHashCode(callSuper = true)
+public class LazyCacheRequestEnhanceWrapper extends CacheRequestEnhanceWrapper {
+    /** Buffer */
+    private final BodyCaptureBuffer buffer;
+    /** 第一次读取时创建的边读边缓存输入流 */
+    private TeeServletInputStream teeInputStream;
+    /** 当前 bodyString 对应的捕获字节数, 捕获内容增长后需要重新解码 */
+    private long decodedSize = -1;
+
+    /**
+     * Lazy cache request enhance wrapper
+     *
+     * @param request the request
+     * @param config  config
+     * @since 1.0.0
+     */
+    public LazyCacheRequestEnhanceWrapper(HttpServletRequest request, WebProperties.RequestBodyCache config) {
+        super(request, null);
+        this.buffer = new BodyCaptureBuffer(config.getMemoryThreshold(), config.getMaxSize(), config.isSpillToDisk());
+    }
+
+    /**
+     * 第一次调用返回边读边缓存的输入流, body 读取完成后再次调用则重放缓存的数据
+     *
+     * @return the input stream
+     * @since 1.0.0
+     */
+    @Override
+    public ServletInputStream getInputStream() {
+        if (this.body != null) {
+            // 业务通过 setBody 替换了 body
+            return super.getInputStream();
+        }
+        try {
+            if (this.teeInputStream == null) {
+                this.teeInputStream = new TeeServletInputStream(this.getRequest().getInputStream(), this.buffer);
+                return this.teeInputStream;
+            }
+            if (this.teeInputStream.isFinished() && !this.buffer.isTruncated()) {
+                return new ReplayServletInputStream(this.buffer.getInputStream(), this.teeInputStream);
+            }
+            return this.teeInputStream;
+        } catch (IOException e) {
+            throw new LowestException("读取 inputStream 错误", e);
+        }
+    }
+
+    /**
+     * 获取已捕获的 body, 只包含业务已经读取的部分
+     *
+     * @return the byte [ ]
+     * @since 1.0.0
+     */
+    @Override
+    public byte[] getBody() {
+        if (this.body != null) {
+            return this.body;
+        }
+        return this.buffer.toByteArray();
+    }
+
+    /**
+     * 获取已捕获的 body string, 捕获内容没有变化时复用上一次的解码结果
+     *
+     * @return the body string
+     * @since 1.0.0
+     */
+    @Override
+    public String getBodyString() {
+        if (this.body != null) {
+            return super.getBodyString();
+        }
+        if (this.bodyString == null || this.decodedSize != this.buffer.getSize()) {
+            this.bodyString = new String(this.buffer.toByteArray(), StandardCharsets.UTF_8);
+            this.decodedSize = this.buffer.getSize();
+        }
+        return this.bodyString;
+    }
+
+    /**
+     * 捕获的 body 是否被截断
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean isTruncated() {
+        return this.buffer.isTruncated();
+    }
+
+    /**
+     * 释放内存并删除溢出的临时文件
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void release() {
+        this.buffer.close();
+        this.bodyString = null;
+        this.decodedSize = -1;
+    }
+
+    /**
+     * 重放已缓存数据的输入流, 非阻塞读取的监听器注册到容器的输入流上
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 10:58
+     * @since 1.0.0
+     */
+    private static class ReplayServletInputStream extends ServletInputStream {
+        /** Delegate */
+        private final InputStream delegate;
+        /** 容器的输入流, 已被读取完毕 */
+        private final ServletInputStream source;
+        /** Eof */
+        private volatile boolean eof;
+
+        /**
+         * Replay servlet input stream
+         *
+         * @param delegate delegate
+         * @param source   source
+         * @since 1.0.0
+         */
+        @Contract(pure = true)
+        ReplayServletInputStream(InputStream delegate, ServletInputStream source) {
+            this.delegate = delegate;
+            this.source = source;
+        }
+
+        /**
+         * Read
+         *
+         * @return the int
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public int read() throws IOException {
+            int ch = this.delegate.read();
+            this.eof = ch == -1;
+            return ch;
+        }
+
+        /**
+         * Read
+         *
+         * @param b   b
+         * @param off off
+         * @param len len
+         * @return the int
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public int read(byte @NotNull [] b, int off, int len) throws IOException {
+            int count = this.delegate.read(b, off, len);
+            this.eof = count == -1;
+            return count;
+        }
+
+        /**
+         * Is finished
+         *
+         * @return the boolean
+         * @since 1.0.0
+         */
+        @Override
+        public boolean isFinished() {
+            return this.eof;
+        }
+
+        /**
+         * Is ready
+         *
+         * @return the boolean
+         * @since 1.0.0
+         */
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * Sets read listener *
+         *
+         * @param readListener read listener
+         * @since 1.0.0
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            // 容器的输入流已读取完毕, 只会回调 onAllDataRead, 此时先让监听器读取重放的数据
+            this.source.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    if (!ReplayServletInputStream.this.eof) {
+                        readListener.onDataAvailable();
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    this.onDataAvailable();
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+
+        /**
+         * Close
+         *
+         * @throws IOException io exception
+         * @since 1.0.0
+         */
+        @Override
+        public void close() throws IOException {
+            this.delegate.close();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.dong4j.zeka.kernel.web.support;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.IOException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>Description: 边读边缓存的输入流, 业务读取多少字节就缓存多少字节 </p>
+ * 未被读取的请求体不会占用内存, 缓存上限由 {@link BodyCaptureBuffer} 控制
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:36
+ * @since 1.0.0
+ */
+public class TeeServletInputStream extends ServletInputStream {
+    /** 原始输入流 */
+    private final ServletInputStream delegate;
+    /** 缓存 */
+    private final BodyCaptureBuffer buffer;
+    /** 是否已读取到流末尾 */
+    private boolean eof;
+
+    /**
+     * Tee servlet input stream
+     *
+     * @param delegate delegate
+     * @param buffer   buffer
+     * @since 1.0.0
+     */
+    @Contract(pure = true)
+    public TeeServletInputStream(ServletInputStream delegate, BodyCaptureBuffer buffer) {
+        this.delegate = delegate;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Read
+     *
+     * @return the int
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public int read() throws IOException {
+        int ch = this.delegate.read();
+        if (ch == -1) {
+            this.eof = true;
+        } else {
+            this.buffer.write(ch);
+        }
+        return ch;
+    }
+
+    /**
+     * Read
+     *
+     * @param b   b
+     * @param off off
+     * @param len len
+     * @return the int
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public int read(byte @NotNull [] b, int off, int len) throws IOException {
+        int count = this.delegate.read(b, off, len);
+        if (count == -1) {
+            this.eof = true;
+        } else {
+            this.buffer.write(b, off, count);
+        }
+        return count;
+    }
+
+    /**
+     * Is finished
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean isFinished() {
+        return this.eof || this.delegate.isFinished();
+    }
+
+    /**
+     * Is ready
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    @Override
+    public boolean isReady() {
+        return this.delegate.isReady();
+    }
+
+    /**
+     * Sets read listener *
+     *
+     * @param readListener read listener
+     * @since 1.0.0
+     */
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        this.delegate.setReadListener(readListener);
+    }
+
+    /**
+     * Close
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+}
@@ -0,0 +1,124 @@
+package dev.dong4j.zeka.kernel.web.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:12
+ * @since 1.0.0
+ */
+class BodyCaptureBufferTest {
+
+    /**
+     * 不超过内存阈值时全部保存在内存中
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_memory() throws IOException {
+        try (BodyCaptureBuffer buffer = new BodyCaptureBuffer(8, 100, false)) {
+            buffer.write('a');
+            buffer.write(bytes("bcdefgh"), 0, 7);
+
+            assertEquals(8, buffer.getSize());
+            assertFalse(buffer.isTruncated());
+            assertFalse(buffer.isSpilled());
+            assertEquals("abcdefgh", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+            try (InputStream in = buffer.getInputStream()) {
+                assertArrayEquals(bytes("abcdefgh"), in.readAllBytes());
+            }
+        }
+    }
+
+    /**
+     * 没有开启溢出时在内存阈值处截断, 之后的写入全部忽略
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_truncate_at_memory_threshold() {
+        try (BodyCaptureBuffer buffer = new BodyCaptureBuffer(4, 100, false)) {
+            buffer.write(bytes("abcdef"), 0, 6);
+            buffer.write('g');
+            buffer.write(bytes("h"), 0, 1);
+
+            assertTrue(buffer.isTruncated());
+            assertFalse(buffer.isSpilled());
+            assertEquals(4, buffer.getSize());
+            assertEquals("abcd", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 开启溢出时超过内存阈值的数据写入临时文件, 超过 maxSize 后截断, 关闭时删除临时文件
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_spill_and_overflow() throws IOException {
+        BodyCaptureBuffer buffer = new BodyCaptureBuffer(4, 10, true);
+        buffer.write(bytes("abc"), 0, 3);
+        assertFalse(buffer.isSpilled());
+
+        buffer.write(bytes("defgh"), 0, 5);
+        assertTrue(buffer.isSpilled());
+        assertFalse(buffer.isTruncated());
+        Path spillFile = buffer.getSpillFile();
+        assertTrue(Files.exists(spillFile));
+
+        buffer.write(bytes("ijklmn"), 0, 6);
+        assertTrue(buffer.isTruncated());
+        assertEquals(10, buffer.getSize());
+        assertEquals("abcdefghij", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+        try (InputStream in = buffer.getInputStream()) {
+            assertArrayEquals(bytes("abcdefghij"), in.readAllBytes());
+        }
+
+        buffer.close();
+        assertFalse(Files.exists(spillFile));
+        assertFalse(buffer.isSpilled());
+    }
+
+    /**
+     * 按偏移量写入时只缓存指定范围
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_write_with_offset() {
+        try (BodyCaptureBuffer buffer = new BodyCaptureBuffer(16, 16, false)) {
+            buffer.write(bytes("xxabcxx"), 2, 3);
+            buffer.write(bytes("d"), 0, 0);
+
+            assertEquals("abc", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+            assertFalse(buffer.isTruncated());
+        }
+    }
+
+    /**
+     * Bytes
+     *
+     * @param value value
+     * @return the byte [ ]
+     * @since 1.0.0
+     */
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
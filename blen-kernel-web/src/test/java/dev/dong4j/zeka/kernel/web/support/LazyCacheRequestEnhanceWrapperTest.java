@@ -0,0 +1,277 @@
+package dev.dong4j.zeka.kernel.web.support;
+
+import dev.dong4j.zeka.kernel.web.autoconfigure.servlet.WebProperties;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:58
+ * @since 1.0.0
+ */
+class LazyCacheRequestEnhanceWrapperTest {
+
+    /** BODY */
+    private static final String BODY = "{\"name\":\"zeka\",\"value\":1}";
+
+    /**
+     * 没有人读取 body 时不缓存任何数据
+     *
+     * @since 1.0.0
+     */
+    @Test
+    void test_unread_body_is_not_cached() {
+        LazyCacheRequestEnhanceWrapper wrapper = new LazyCacheRequestEnhanceWrapper(request(), config(1024, false));
+
+        assertEquals(0, wrapper.getBody().length);
+        assertEquals("", wrapper.getBodyString());
+        assertFalse(wrapper.isTruncated());
+    }
+
+    /**
+     * 只缓存已读取的部分, 读取完成后可以重放, body string 随捕获内容更新
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_capture_and_replay() throws IOException {
+        LazyCacheRequestEnhanceWrapper wrapper = new LazyCacheRequestEnhanceWrapper(request(), config(1024, false));
+
+        ServletInputStream first = wrapper.getInputStream();
+        byte[] head = new byte[8];
+        assertEquals(8, first.read(head));
+        assertEquals(BODY.substring(0, 8), wrapper.getBodyString());
+        // 尚未读完时返回同一个输入流, 继续读取剩余部分
+        assertSame(first, wrapper.getInputStream());
+
+        first.readAllBytes();
+        assertEquals(BODY, wrapper.getBodyString());
+        assertEquals(BODY, new String(wrapper.getBody(), StandardCharsets.UTF_8));
+
+        try (BufferedReader reader = wrapper.getReader()) {
+            assertEquals(BODY, reader.readLine());
+        }
+        assertEquals(BODY, new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 截断后无法重放, 继续返回原始输入流
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_truncated() throws IOException {
+        LazyCacheRequestEnhanceWrapper wrapper = new LazyCacheRequestEnhanceWrapper(request(), config(4, false));
+
+        ServletInputStream first = wrapper.getInputStream();
+        assertEquals(BODY, new String(first.readAllBytes(), StandardCharsets.UTF_8));
+
+        assertTrue(wrapper.isTruncated());
+        assertEquals(BODY.substring(0, 4), wrapper.getBodyString());
+        assertSame(first, wrapper.getInputStream());
+    }
+
+    /**
+     * setBody 替换后以替换的内容为准
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_set_body() throws IOException {
+        LazyCacheRequestEnhanceWrapper wrapper = new LazyCacheRequestEnhanceWrapper(request(), config(1024, false));
+        wrapper.getInputStream().readAllBytes();
+
+        wrapper.setBody("replaced".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("replaced", wrapper.getBodyString());
+        assertEquals("replaced", new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 溢出到磁盘后 release 删除临时文件并清空缓存
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_release() throws IOException {
+        LazyCacheRequestEnhanceWrapper wrapper = new LazyCacheRequestEnhanceWrapper(request(), config(4, true));
+        wrapper.getInputStream().readAllBytes();
+        assertEquals(BODY, wrapper.getBodyString());
+
+        wrapper.release();
+
+        assertEquals("", wrapper.getBodyString());
+    }
+
+    /**
+     * 重放的输入流把 ReadListener 注册到容器的输入流上, 容器回调 onAllDataRead 前监听器先读取重放的数据
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_replay_read_listener() throws IOException {
+        ListenerServletInputStream source = new ListenerServletInputStream(BODY.getBytes(StandardCharsets.UTF_8));
+        HttpServletRequestWrapper request = new HttpServletRequestWrapper(request()) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return source;
+            }
+        };
+        LazyCacheRequestEnhanceWrapper wrapper = new LazyCacheRequestEnhanceWrapper(request, config(1024, false));
+        wrapper.getInputStream().readAllBytes();
+
+        ServletInputStream replay = wrapper.getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        replay.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (replay.isReady() && !replay.isFinished()) {
+                    int ch = replay.read();
+                    if (ch != -1) {
+                        received.write(ch);
+                    }
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+
+        assertNotNull(source.listener);
+        // 容器的输入流已读完, 只回调 onAllDataRead
+        source.listener.onAllDataRead();
+        assertTrue(allDataRead.get());
+        assertEquals(BODY, received.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Request
+     *
+     * @return the mock http servlet request
+     * @since 1.0.0
+     */
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api");
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * Config
+     *
+     * @param memoryThreshold memory threshold
+     * @param spillToDisk     spill to disk
+     * @return the web properties . request body cache
+     * @since 1.0.0
+     */
+    private static WebProperties.RequestBodyCache config(int memoryThreshold, boolean spillToDisk) {
+        WebProperties.RequestBodyCache config = new WebProperties.RequestBodyCache();
+        config.setLazy(true);
+        config.setMemoryThreshold(memoryThreshold);
+        config.setSpillToDisk(spillToDisk);
+        return config;
+    }
+
+    /**
+     * <p>Description: 记录 ReadListener 的容器输入流 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 10:58
+     * @since 1.0.0
+     */
+    private static class ListenerServletInputStream extends ServletInputStream {
+        /** Delegate */
+        private final ByteArrayInputStream delegate;
+        /** Listener */
+        private ReadListener listener;
+
+        /**
+         * Listener servlet input stream
+         *
+         * @param content content
+         * @since 1.0.0
+         */
+        ListenerServletInputStream(byte[] content) {
+            this.delegate = new ByteArrayInputStream(content);
+        }
+
+        /**
+         * Read
+         *
+         * @return the int
+         * @since 1.0.0
+         */
+        @Override
+        public int read() {
+            return this.delegate.read();
+        }
+
+        /**
+         * Is finished
+         *
+         * @return the boolean
+         * @since 1.0.0
+         */
+        @Override
+        public boolean isFinished() {
+            return this.delegate.available() == 0;
+        }
+
+        /**
+         * Is ready
+         *
+         * @return the boolean
+         * @since 1.0.0
+         */
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * Sets read listener *
+         *
+         * @param readListener read listener
+         * @since 1.0.0
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            this.listener = readListener;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.dong4j.zeka.kernel.web.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:36
+ * @since 1.0.0
+ */
+class TeeServletInputStreamTest {
+
+    /** BODY */
+    private static final String BODY = "first line\nsecond line\n";
+
+    /**
+     * 单字节与数组读取都会缓存, 读到末尾后标记完成
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_read() throws IOException {
+        BodyCaptureBuffer buffer = new BodyCaptureBuffer(1024, 1024, false);
+        TeeServletInputStream in = tee(buffer);
+
+        assertEquals('f', in.read());
+        byte[] chunk = new byte[8];
+        int count = in.read(chunk, 2, 4);
+        assertEquals(4, count);
+        assertEquals("irst", new String(chunk, 2, 4, StandardCharsets.UTF_8));
+        assertEquals("first", captured(buffer));
+        assertFalse(in.isFinished());
+
+        byte[] rest = new byte[64];
+        int total = 0;
+        int n;
+        while ((n = in.read(rest, total, rest.length - total)) != -1) {
+            total += n;
+        }
+        assertEquals(BODY.length() - 5, total);
+        assertTrue(in.isFinished());
+        assertEquals(BODY, captured(buffer));
+        // 到达末尾后继续读取不会写入缓存
+        assertEquals(-1, in.read());
+        assertEquals(BODY, captured(buffer));
+    }
+
+    /**
+     * readLine 通过单字节读取实现, 同样会缓存
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_read_line() throws IOException {
+        BodyCaptureBuffer buffer = new BodyCaptureBuffer(1024, 1024, false);
+        TeeServletInputStream in = tee(buffer);
+
+        byte[] line = new byte[64];
+        int count = in.readLine(line, 0, line.length);
+        assertEquals("first line\n", new String(line, 0, count, StandardCharsets.UTF_8));
+        assertEquals("first line\n", captured(buffer));
+
+        count = in.readLine(line, 0, line.length);
+        assertEquals("second line\n", new String(line, 0, count, StandardCharsets.UTF_8));
+        assertEquals(-1, in.readLine(line, 0, line.length));
+        assertTrue(in.isFinished());
+        assertEquals(BODY, captured(buffer));
+    }
+
+    /**
+     * 缓存截断时读取的数据不受影响
+     *
+     * @throws IOException io exception
+     * @since 1.0.0
+     */
+    @Test
+    void test_read_after_truncated() throws IOException {
+        BodyCaptureBuffer buffer = new BodyCaptureBuffer(4, 4, false);
+        TeeServletInputStream in = tee(buffer);
+
+        assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        assertTrue(in.isFinished());
+        assertTrue(buffer.isTruncated());
+        assertEquals("firs", captured(buffer));
+    }
+
+    /**
+     * Tee
+     *
+     * @param buffer buffer
+     * @return the tee servlet input stream
+     * @since 1.0.0
+     */
+    private static TeeServletInputStream tee(BodyCaptureBuffer buffer) {
+        return new TeeServletInputStream(
+            new DelegatingServletInputStream(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8))), buffer);
+    }
+
+    /**
+     * Captured
+     *
+     * @param buffer buffer
+     * @return the string
+     * @since 1.0.0
+     */
+    private static String captured(BodyCaptureBuffer buffer) {
+        return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+}